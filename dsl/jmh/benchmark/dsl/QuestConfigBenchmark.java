@@ -0,0 +1,79 @@
+package benchmark.dsl;
+
+import benchmark.Headless;
+
+import interpreter.DSLInterpreter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DSLInterpreter#getQuestConfig} for a config with tasks and a task graph.
+ *
+ * <p>Each call parses the script, runs the semantic analysis, sets up the runtime and builds the
+ * quest config, like loading a level of a quest does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestConfigBenchmark {
+
+    private static final String PROGRAM =
+            """
+            single_choice_task t1 {
+                description: "Welche Zahl ist prim?",
+                answers: ["1", "2", "4"],
+                correct_answer_index: 1
+            }
+
+            multiple_choice_task t2 {
+                description: "Welche Zahlen sind gerade?",
+                answers: ["4", "5", "6"],
+                correct_answer_index: [0, 2]
+            }
+
+            single_choice_task t3 {
+                description: "Wie viele Seiten hat ein Dreieck?",
+                answers: ["2", "3", "4"],
+                correct_answer_index: 1
+            }
+
+            graph g {
+                t1 -> t2 [type=seq]
+                t2 -> t3 [type=st_m]
+            }
+
+            dungeon_config c {
+                dependency_graph: g
+            }
+            """;
+
+    @Setup
+    public void setup() {
+        Headless.setup();
+    }
+
+    @TearDown
+    public void teardown() {
+        Headless.teardown();
+    }
+
+    @Benchmark
+    public Object getQuestConfig() {
+        return new DSLInterpreter().getQuestConfig(PROGRAM);
+    }
+}
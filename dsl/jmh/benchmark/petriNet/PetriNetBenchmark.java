@@ -0,0 +1,108 @@
+package benchmark.petriNet;
+
+import graphconverter.TaskGraphConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import task.Task;
+
+import taskdependencygraph.TaskDependencyGraph;
+import taskdependencygraph.TaskEdge;
+import taskdependencygraph.TaskNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the Petri net of a synthetic task dependency graph and solving all of its
+ * tasks.
+ *
+ * <p>The graph is a chain of tasks, each with a few mandatory and optional subtasks. The
+ * transitions are scheduled by the {@link petriNet.PetriNetEngine}, so solving the tasks does not
+ * recurse as deep as the chain and large graphs do not overflow the stack. Solving changes the
+ * states of the tasks, so each invocation gets a new graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetriNetBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "8000", "32000"})
+    public int tasks;
+
+    private final ArrayDeque<Task> processable = new ArrayDeque<>();
+    private TaskDependencyGraph graph;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        processable.clear();
+        Random random = new Random(SEED);
+        ArrayList<TaskNode> nodes = new ArrayList<>();
+        ArrayList<TaskEdge> edges = new ArrayList<>();
+        TaskNode previous = null;
+        for (int i = 0; i < tasks; i++) {
+            TaskNode node = new TaskNode(new BenchmarkTask(processable));
+            nodes.add(node);
+            if (previous == null || random.nextInt(4) != 0) {
+                if (previous != null)
+                    edges.add(new TaskEdge(TaskEdge.Type.sequence, node, previous));
+                previous = node;
+            } else {
+                TaskEdge.Type type =
+                        random.nextBoolean()
+                                ? TaskEdge.Type.subtask_mandatory
+                                : TaskEdge.Type.subtask_optional;
+                edges.add(new TaskEdge(type, previous, node));
+            }
+        }
+        graph = new TaskDependencyGraph(edges, nodes);
+    }
+
+    /** Build the Petri net and solve each task as soon as it can be processed. */
+    @Benchmark
+    public int solve() {
+        TaskGraphConverter.petriNetFor(graph);
+        int solved = 0;
+        while (!processable.isEmpty()) {
+            Task task = processable.poll();
+            // an optional subtask is deactivated, once its parent task is finished
+            if (task.state() == Task.TaskState.PROCESSING_ACTIVE) {
+                task.state(Task.TaskState.FINISHED_CORRECT);
+                solved++;
+            }
+        }
+        return solved;
+    }
+
+    private static final class BenchmarkTask extends Task {
+        private final ArrayDeque<Task> processable;
+
+        private BenchmarkTask(final ArrayDeque<Task> processable) {
+            this.processable = processable;
+        }
+
+        @Override
+        public boolean state(final TaskState state) {
+            if (state == TaskState.PROCESSING_ACTIVE) processable.add(this);
+            return super.state(state);
+        }
+    }
+}
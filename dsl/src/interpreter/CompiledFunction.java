@@ -0,0 +1,104 @@
+package interpreter;
+
+import runtime.Value;
+
+import semanticanalysis.FunctionSymbol;
+import semanticanalysis.types.IType;
+
+/**
+ * A user defined function, which was lowered by the {@link FunctionCompiler} into a tree of
+ * closures.
+ *
+ * <p>The local variables of the function (return value, parameters and declared variables) are
+ * stored in the slots of a frame array, which the semantic analysis assigned to their symbols (see
+ * {@link semanticanalysis.Symbol#getSlot()}). A call of the function does not walk the AST and
+ * does not resolve names of local variables.
+ */
+final class CompiledFunction {
+    /** Slot of the return value in the frame. */
+    static final int RETURN_SLOT = FunctionSymbol.RETURN_VALUE_SLOT;
+
+    /** A compiled statement. */
+    interface Statement {
+        /**
+         * Execute the statement.
+         *
+         * @param frame the local variables of the current call
+         * @return true, if the statement returned from the function, false otherwise
+         */
+        boolean execute(Value[] frame);
+    }
+
+    /** A compiled expression. */
+    interface Expression {
+        /**
+         * Evaluate the expression.
+         *
+         * @param frame the local variables of the current call
+         * @return the value of the expression
+         */
+        Value evaluate(Value[] frame);
+    }
+
+    private final DSLInterpreter interpreter;
+    private final FunctionSymbol symbol;
+    private final IType returnType;
+    private final IType[] parameterTypes;
+    private final int frameSize;
+    private final Statement body;
+
+    CompiledFunction(
+            DSLInterpreter interpreter,
+            FunctionSymbol symbol,
+            IType returnType,
+            IType[] parameterTypes,
+            int frameSize,
+            Statement body) {
+        this.interpreter = interpreter;
+        this.symbol = symbol;
+        this.returnType = returnType;
+        this.parameterTypes = parameterTypes;
+        this.frameSize = frameSize;
+        this.body = body;
+    }
+
+    /**
+     * @return the symbol of the compiled function
+     */
+    FunctionSymbol getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return the types of the parameters of the function, in order
+     */
+    IType[] getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * Call the function.
+     *
+     * @param arguments the evaluated arguments; if less arguments than parameters are passed, the
+     *     remaining parameters are not bound
+     * @return the return value of the function, or {@link Value#NONE}, if the function has no
+     *     return type
+     */
+    Value call(Value[] arguments) {
+        Value[] frame = new Value[frameSize];
+        if (returnType != null) {
+            frame[RETURN_SLOT] = interpreter.createDefaultValue(returnType);
+        }
+        int count = Math.min(arguments.length, parameterTypes.length);
+        for (int i = 0; i < count; i++) {
+            Value parameter = interpreter.createDefaultValue(parameterTypes[i]);
+            interpreter.setValue(parameter, arguments[i]);
+            frame[RETURN_SLOT + 1 + i] = parameter;
+        }
+        for (int i = count; i < parameterTypes.length; i++) {
+            frame[RETURN_SLOT + 1 + i] = Value.NONE;
+        }
+        body.execute(frame);
+        return returnType != null ? frame[RETURN_SLOT] : Value.NONE;
+    }
+}
@@ -13,20 +13,43 @@ import semanticanalysis.Symbol;
 import semanticanalysis.types.AggregateType;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /** AstVisitor implementation to search for quest_config definition. */
 public class DSLEntryPointFinder implements AstVisitor<Object> {
+    /** Maximum number of parsed file contents, which are kept for other finders. */
+    public static final int PARSED_CONTENTS_SIZE = 64;
+
+    // ASTs of the parsed files by the hash of their content, shared by all finders in the JVM; a
+    // file is only parsed again, if its content changed or it was not used for a long time
+    private static final Map<String, Node> PARSED_CONTENTS =
+            Collections.synchronizedMap(
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<String, Node> eldest) {
+                            return size() > PARSED_CONTENTS_SIZE;
+                        }
+                    });
+
+    private record HashedFile(String contentHash, ParsedFile file) {}
+
     private ArrayList<DSLEntryPoint> entryPoints;
     private ParsedFile parsedFile;
     private final GameEnvironment environment;
     private AggregateType questConfigDataType;
-    private final HashMap<Path, ParsedFile> parsedFiles;
+    private final HashMap<Path, HashedFile> parsedFiles;
 
     /**
      * Constructor. Creates a GameEnvironment to get the {@link semanticanalysis.types.IType} for
@@ -49,24 +72,32 @@ public class DSLEntryPointFinder implements AstVisitor<Object> {
      * Creates an AST vor the file of the passed filePath, searches it for quest_config definitions
      * and creates {@link DSLEntryPoint} instances for each one.
      *
+     * <p>If the content of the file did not change since the last call for the same file, the
+     * same {@link ParsedFile} is used again; so the {@link DSLInterpreter} only needs to analyze
+     * changed files again.
+     *
      * @param filePath the path of the file to search for quest_config definitions in
      * @return an empty optional, if reading the file caused an error or it does not contain any
      *     quest_config definitions, the list of found quest_config objects otherwise
      */
     public Optional<List<DSLEntryPoint>> getEntryPoints(Path filePath) {
         try {
-            Node programAST;
-            if (this.parsedFiles.containsKey(filePath)) {
-                this.parsedFile = this.parsedFiles.get(filePath);
-                programAST = parsedFile.rootASTNode();
-            } else {
-                String content = Files.readString(filePath);
-                programAST = DungeonASTConverter.getProgramAST(content);
-
-                ParsedFile parsedFile = new ParsedFile(filePath, programAST);
-                this.parsedFiles.put(filePath, parsedFile);
-                this.parsedFile = parsedFile;
+            String content = Files.readString(filePath);
+            String contentHash = contentHash(content);
+            HashedFile hashedFile = this.parsedFiles.get(filePath);
+            if (hashedFile == null || !hashedFile.contentHash().equals(contentHash)) {
+                if (hashedFile != null) {
+                    // the file was changed, the old content will most likely not be needed again
+                    PARSED_CONTENTS.remove(hashedFile.contentHash());
+                }
+                Node parsedAST =
+                        PARSED_CONTENTS.computeIfAbsent(
+                                contentHash, hash -> DungeonASTConverter.getProgramAST(content));
+                hashedFile = new HashedFile(contentHash, new ParsedFile(filePath, parsedAST));
+                this.parsedFiles.put(filePath, hashedFile);
             }
+            this.parsedFile = hashedFile.file();
+            Node programAST = this.parsedFile.rootASTNode();
 
             // we don't want to do the whole interpretation here...
             // we only want to know, which (well formed) entry points exist
@@ -81,6 +112,17 @@ public class DSLEntryPointFinder implements AstVisitor<Object> {
         return Optional.empty();
     }
 
+    private static String contentHash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
     private List<DSLEntryPoint> findEntryPoints(Node programAST) {
         this.entryPoints = new ArrayList<>();
         programAST.accept(this);
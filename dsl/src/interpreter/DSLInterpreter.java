@@ -5,6 +5,7 @@ import antlr.main.DungeonDSLParser;
 
 import dungeonFiles.DSLEntryPoint;
 import dungeonFiles.DungeonConfig;
+import dungeonFiles.ParsedFile;
 
 import interpreter.dot.Interpreter;
 
@@ -27,6 +28,7 @@ import semanticanalysis.types.*;
 
 import task.Quiz;
 
+import java.nio.file.Path;
 import java.util.*;
 
 // TODO: specify EXACT semantics of value copying and setting
@@ -55,7 +57,17 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
     private final ArrayDeque<Node> statementStack;
 
-    private static final String RETURN_VALUE_NAME = "$return_value$";
+    // compiled user defined functions; null, if a function can't be compiled
+    private final IdentityHashMap<FunctionSymbol, CompiledFunction> compiledFunctions;
+
+    // the environments of the analyzed files, by the path of the file
+    private record AnalyzedFile(ParsedFile file, IEvironment environment) {}
+
+    private final HashMap<Path, AnalyzedFile> analyzedFiles = new HashMap<>();
+
+    // memory space of the user defined function, which is currently interpreted on the AST; its
+    // return value, parameters and local variables are addressed by the slots of their symbols
+    private SlotMemorySpace currentFrame;
 
     /** Constructor. */
     public DSLInterpreter() {
@@ -63,6 +75,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
         instanceMemoryStack = new ArrayDeque<>();
         globalSpace = new MemorySpace();
         statementStack = new ArrayDeque<>();
+        compiledFunctions = new IdentityHashMap<>();
         memoryStack.push(globalSpace);
     }
 
@@ -74,14 +87,20 @@ public class DSLInterpreter implements AstVisitor<Object> {
      * @return the interpreted {@link DungeonConfig}.
      */
     public DungeonConfig interpretEntryPoint(DSLEntryPoint entryPoint) {
-        Node filesRootASTNode = entryPoint.file().rootASTNode();
-
-        SemanticAnalyzer symTableParser = new SemanticAnalyzer();
-        var environment = new GameEnvironment();
-        symTableParser.setup(environment);
-        var result = symTableParser.walk(filesRootASTNode);
+        ParsedFile file = entryPoint.file();
+
+        // analyze each file only once, a changed file is parsed into a new ParsedFile
+        AnalyzedFile analyzedFile = analyzedFiles.get(file.filePath());
+        if (analyzedFile == null || analyzedFile.file() != file) {
+            SemanticAnalyzer symTableParser = new SemanticAnalyzer();
+            var environment = new GameEnvironment();
+            symTableParser.setup(environment);
+            symTableParser.walk(file.rootASTNode());
+            analyzedFile = new AnalyzedFile(file, environment);
+            analyzedFiles.put(file.filePath(), analyzedFile);
+        }
 
-        initializeRuntime(environment);
+        initializeRuntime(analyzedFile.environment());
 
         return generateQuestConfig(entryPoint.configDefinitionNode());
     }
@@ -188,6 +207,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
         this.memoryStack.push(this.globalSpace);
 
         this.environment = new RuntimeEnvironment(environment, this);
+        this.compiledFunctions.clear();
 
         // bind all function definition and object definition symbols to values
         // in global memorySpace
@@ -531,7 +551,11 @@ public class DSLInterpreter implements AstVisitor<Object> {
             return new FunctionValue(
                     functionSymbol.getFunctionType().getReturnType(), functionSymbol);
         }
+        if (symbol.getSlot() != Symbol.NO_SLOT && currentFrame != null) {
+            return currentFrame.resolve(symbol.getSlot());
+        }
 
+        // global values and members of encapsulated objects are resolved by name
         return this.getCurrentMemorySpace().resolve(node.getName(), true);
     }
 
@@ -581,40 +605,61 @@ public class DSLInterpreter implements AstVisitor<Object> {
             throw new RuntimeException("Symbol for name '" + funcName + "' is not callable!");
         } else {
             // execute function call
-            var returnValue = callable.call(this, node.getParameters());
-            if (returnValue == null) {
-                return Value.NONE;
-            }
+            return toValue(callable.call(this, node.getParameters()));
+        }
+    }
 
-            if (!(returnValue instanceof Value)) {
-                // package it into value
-                var valueClass = returnValue.getClass();
+    /**
+     * Call a function or a method from compiled code.
+     *
+     * @param callable the function or method to call
+     * @param parameters the nodes of the parameters
+     * @param instanceMemorySpace the memory space of the instance for a method call, null for a
+     *     function call
+     * @return the return value of the call as {@link Value}
+     */
+    Value callFunction(
+            ICallable callable, List<Node> parameters, IMemorySpace instanceMemorySpace) {
+        if (instanceMemorySpace == null) {
+            return toValue(callable.call(this, parameters));
+        }
+        this.instanceMemoryStack.push(instanceMemorySpace);
+        try {
+            return toValue(callable.call(this, parameters));
+        } finally {
+            this.instanceMemoryStack.pop();
+        }
+    }
 
-                // try to resolve the objects type as primitive built in type
-                var dslType = this.environment.getDSLTypeForClass(valueClass);
-                if (dslType == null) {
-                    throw new RuntimeException(
-                            "No DSL Type representation for java type '" + valueClass + "'");
-                }
-                returnValue = new Value(dslType, returnValue);
+    private Value toValue(Object returnValue) {
+        if (returnValue == null) {
+            return Value.NONE;
+        }
+
+        if (!(returnValue instanceof Value)) {
+            // package it into value
+            var valueClass = returnValue.getClass();
+
+            // try to resolve the objects type as primitive built in type
+            var dslType = this.environment.getDSLTypeForClass(valueClass);
+            if (dslType == null) {
+                throw new RuntimeException(
+                        "No DSL Type representation for java type '" + valueClass + "'");
             }
-            return returnValue;
+            return new Value(dslType, returnValue);
         }
+        return (Value) returnValue;
     }
 
     @Override
     public Object visit(ReturnStmtNode node) {
         Value value = (Value) node.getInnerStmtNode().accept(this);
 
-        if (value != Value.NONE) {
-            // walk the memorystack, find the first return value
-            // and set it according to the evaluated value
-            for (var ms : this.memoryStack) {
-                Value returnValue = ms.resolve(RETURN_VALUE_NAME);
-                if (returnValue != Value.NONE) {
-                    setValue(returnValue, value);
-                    break;
-                }
+        if (value != Value.NONE && currentFrame != null) {
+            // set the return value of the current function call according to the evaluated value
+            Value returnValue = currentFrame.resolve(FunctionSymbol.RETURN_VALUE_SLOT);
+            if (returnValue != Value.NONE) {
+                setValue(returnValue, value);
             }
         }
 
@@ -724,6 +769,16 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
     @Override
     public Object visit(VarDeclNode node) {
+        if (node.getDeclType().equals(VarDeclNode.DeclType.typeDecl)) {
+            Symbol variableSymbol = symbolTable().getSymbolsForAstNode(node).get(0);
+            if (variableSymbol.getSlot() != Symbol.NO_SLOT && currentFrame != null) {
+                // create new Value in the slot of the variable (overwrite existing one)
+                Value value = createDefaultValue(variableSymbol.getDataType());
+                currentFrame.bindValue(variableSymbol.getSlot(), value);
+                return value;
+            }
+        }
+
         String variableName = ((IdNode) node.getIdentifier()).getName();
 
         // check, if the current memory space already contains a value of the same name
@@ -798,18 +853,26 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
     @Override
     public Object visit(ListDefinitionNode node) {
-        // collect evaluated Values in an ArrayList
-        ArrayList<Value> entries = new ArrayList<>(node.getEntries().size());
-        for (Node expressionNode : node.getEntries()) {
-            Value value = (Value) expressionNode.accept(this);
-            entries.add(value);
+        // collect evaluated Values in an array
+        Value[] entries = new Value[node.getEntries().size()];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = (Value) node.getEntries().get(i).accept(this);
         }
+        return createListValue(entries);
+    }
 
+    /**
+     * Create a {@link ListValue} from the evaluated entries of a list definition.
+     *
+     * @param entries the evaluated entries
+     * @return the created {@link ListValue}
+     */
+    ListValue createListValue(Value[] entries) {
         // TODO: this is a temporary solution, once Typechecking is implemented, the type would be
         //  inferred before this
         IType entryType = BuiltInType.noType;
-        if (entries.size() != 0) {
-            entryType = entries.get(0).getDataType();
+        if (entries.length != 0) {
+            entryType = entries[0].getDataType();
         }
         // create list type
         String listTypeName = ListType.getListTypeName(entryType);
@@ -829,18 +892,26 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
     @Override
     public Object visit(SetDefinitionNode node) {
-        // collect evaluated Values in an ArrayList
-        ArrayList<Value> entries = new ArrayList<>(node.getEntries().size());
-        for (Node expressionNode : node.getEntries()) {
-            Value value = (Value) expressionNode.accept(this);
-            entries.add(value);
+        // collect evaluated Values in an array
+        Value[] entries = new Value[node.getEntries().size()];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = (Value) node.getEntries().get(i).accept(this);
         }
+        return createSetValue(entries);
+    }
 
+    /**
+     * Create a {@link SetValue} from the evaluated entries of a set definition.
+     *
+     * @param entries the evaluated entries
+     * @return the created {@link SetValue}
+     */
+    SetValue createSetValue(Value[] entries) {
         // TODO: this is a temporary solution, once Typechecking is implemented, the type would be
         //  inferred before this
         IType entryType = BuiltInType.noType;
-        if (entries.size() != 0) {
-            entryType = entries.get(0).getDataType();
+        if (entries.length != 0) {
+            entryType = entries[0].getDataType();
         }
 
         // create list type
@@ -946,7 +1017,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
         return true;
     }
 
-    private boolean setValue(Value assignee, Value valueToAssign) {
+    boolean setValue(Value assignee, Value valueToAssign) {
         if (assignee == Value.NONE) {
             return false;
         }
@@ -967,6 +1038,28 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
     // region user defined function execution
 
+    /**
+     * Get the compiled version of a user defined function. The function is compiled on the first
+     * call.
+     *
+     * @param symbol The symbol corresponding to the function
+     * @return The compiled function, or null, if the function can't be compiled and has to be
+     *     interpreted on the AST
+     */
+    CompiledFunction compiledFunction(FunctionSymbol symbol) {
+        if (compiledFunctions.containsKey(symbol)) {
+            return compiledFunctions.get(symbol);
+        }
+        CompiledFunction compiledFunction;
+        try {
+            compiledFunction = FunctionCompiler.compile(this, symbolTable(), symbol);
+        } catch (FunctionCompiler.UnsupportedNodeException ex) {
+            compiledFunction = null;
+        }
+        compiledFunctions.put(symbol, compiledFunction);
+        return compiledFunction;
+    }
+
     /**
      * This implements a call to a user defined dsl-function
      *
@@ -976,14 +1069,19 @@ public class DSLInterpreter implements AstVisitor<Object> {
      */
     public Object executeUserDefinedFunctionRawParameters(
             FunctionSymbol symbol, List<Object> parameterObjects) {
-        IMemorySpace functionMemorySpace = createFunctionMemorySpace(symbol);
-        setupFunctionParametersRaw(symbol, functionMemorySpace, parameterObjects);
-
-        this.memoryStack.push(functionMemorySpace);
-        executeUserDefinedFunctionBody(symbol);
-        functionMemorySpace = memoryStack.pop();
-
-        return getReturnValueFromMemorySpace(functionMemorySpace);
+        // translate all passed parameters into DSL-Values
+        var currentMemorySpace = getCurrentMemorySpace();
+        var parameterSymbols = symbol.getSymbols();
+        Value[] parameterValues = new Value[parameterObjects.size()];
+        for (int i = 0; i < parameterValues.length; i++) {
+            parameterValues[i] =
+                    (Value)
+                            this.environment.translateRuntimeObject(
+                                    parameterObjects.get(i),
+                                    currentMemorySpace,
+                                    parameterSymbols.get(i).getDataType());
+        }
+        return executeUserDefinedFunction(symbol, parameterValues);
     }
 
     /**
@@ -994,108 +1092,87 @@ public class DSLInterpreter implements AstVisitor<Object> {
      * @return The return value of the function call
      */
     public Object executeUserDefinedFunction(FunctionSymbol symbol, List<Node> parameterNodes) {
-        IMemorySpace functionMemorySpace = createFunctionMemorySpace(symbol);
-        // can't push memory space yet! If a passed argument has the same identifier
-        // as a parameter, the name will be resolved in the new memory space and not
-        // the enclosing memory space, containing the argument
-        setupFunctionParameters(symbol, functionMemorySpace, parameterNodes);
-
-        this.memoryStack.push(functionMemorySpace);
-        executeUserDefinedFunctionBody(symbol);
-        functionMemorySpace = memoryStack.pop();
-
-        return getReturnValueFromMemorySpace(functionMemorySpace);
+        // evaluate the arguments before the memory space of the function is pushed; if a passed
+        // argument has the same identifier as a parameter, the name will be resolved in the
+        // enclosing memory space, containing the argument
+        Value[] parameterValues = new Value[parameterNodes.size()];
+        for (int i = 0; i < parameterValues.length; i++) {
+            parameterValues[i] = (Value) parameterNodes.get(i).accept(this);
+        }
+        return executeUserDefinedFunction(symbol, parameterValues);
     }
 
     /**
-     * This function translates all passed parameters into DSL-Values and binds them as parameters
-     * in the current memory space
+     * This implements a call to a user defined dsl-function with evaluated parameters.
      *
-     * @param functionSymbol The symbol corresponding to the function definition
-     * @param parameterObjects Raw objects to use as values for the function's parameters
+     * <p>The function is executed in its compiled version, if it can be compiled, otherwise it is
+     * interpreted on the AST.
+     *
+     * @param symbol The symbol corresponding to the function to call
+     * @param parameterValues The evaluated parameters of the function call
+     * @return The return value of the function call
      */
-    private void setupFunctionParametersRaw(
-            FunctionSymbol functionSymbol,
-            IMemorySpace functionsMemorySpace,
-            List<Object> parameterObjects) {
-        var currentMemorySpace = getCurrentMemorySpace();
-        // bind all parameter-symbols as values in the function's memory space and set their values
-        var parameterSymbols = functionSymbol.getSymbols();
-        for (int i = 0; i < parameterObjects.size(); i++) {
-            var parameterSymbol = parameterSymbols.get(i);
-            bindFromSymbol(parameterSymbol, functionsMemorySpace);
-
-            Object parameterObject = parameterObjects.get(i);
-            Value paramValue =
-                    (Value)
-                            this.environment.translateRuntimeObject(
-                                    parameterObject,
-                                    currentMemorySpace,
-                                    parameterSymbol.getDataType());
-            Value assigneeValue = functionsMemorySpace.resolve(parameterSymbol.getName());
-            setValue(assigneeValue, paramValue);
+    Value executeUserDefinedFunction(FunctionSymbol symbol, Value[] parameterValues) {
+        CompiledFunction compiledFunction = compiledFunction(symbol);
+        if (compiledFunction != null) {
+            return compiledFunction.call(parameterValues);
         }
+
+        SlotMemorySpace functionMemorySpace = createFunctionMemorySpace(symbol);
+        setupFunctionParameters(symbol, functionMemorySpace, parameterValues);
+
+        SlotMemorySpace callerFrame = this.currentFrame;
+        this.currentFrame = functionMemorySpace;
+        this.memoryStack.push(functionMemorySpace);
+        executeUserDefinedFunctionBody(symbol);
+        this.memoryStack.pop();
+        this.currentFrame = callerFrame;
+
+        return functionMemorySpace.resolve(FunctionSymbol.RETURN_VALUE_SLOT);
     }
 
     /**
-     * This function evaluates all passed nodes as values and binds them as parameters in the
-     * current memory space
+     * This function binds all passed values as parameters in the slots of the function's memory
+     * space
      *
      * @param functionSymbol The symbol corresponding to the function definition
-     * @param parameterNodes AST-Nodes representing the passed parameters
+     * @param functionsMemorySpace The memory space of the function call
+     * @param parameterValues Evaluated values of the passed parameters
      */
     private void setupFunctionParameters(
             FunctionSymbol functionSymbol,
-            IMemorySpace functionsMemorySpace,
-            List<Node> parameterNodes) {
+            SlotMemorySpace functionsMemorySpace,
+            Value[] parameterValues) {
         // bind all parameter-symbols as values in the function's memory space and set their values
         var parameterSymbols = functionSymbol.getSymbols();
-        for (int i = 0; i < parameterNodes.size(); i++) {
+        for (int i = 0; i < parameterValues.length; i++) {
             var parameterSymbol = parameterSymbols.get(i);
-            bindFromSymbol(parameterSymbol, functionsMemorySpace);
-
-            var paramValueNode = parameterNodes.get(i);
-            Value paramValue = (Value) paramValueNode.accept(this);
-
-            Value assigneeValue = functionsMemorySpace.resolve(parameterSymbol.getName());
-            setValue(assigneeValue, paramValue);
+            Value assigneeValue = createDefaultValue(parameterSymbol.getDataType());
+            setValue(assigneeValue, parameterValues[i]);
+            functionsMemorySpace.bindValue(parameterSymbol.getSlot(), assigneeValue);
         }
     }
 
     /**
-     * Create a new IMemorySpace for a function call and bind the return Value, if the function has
-     * a return type
+     * Create a new SlotMemorySpace for a function call and bind the return Value, if the function
+     * has a return type
      *
      * @param functionSymbol The Symbol representing the function definition
-     * @return The created IMemorySpace
+     * @return The created SlotMemorySpace
      */
-    private IMemorySpace createFunctionMemorySpace(FunctionSymbol functionSymbol) {
-        // push new memorySpace and parameters on spaceStack
-        var functionMemSpace = new MemorySpace(memoryStack.peek());
+    private SlotMemorySpace createFunctionMemorySpace(FunctionSymbol functionSymbol) {
+        var functionMemSpace =
+                new SlotMemorySpace(memoryStack.peek(), functionSymbol.getFrameSize());
 
         // create and bind the return value
         var functionType = (FunctionType) functionSymbol.getDataType();
         if (functionType.getReturnType() != BuiltInType.noType) {
             var returnValue = createDefaultValue(functionType.getReturnType());
-            functionMemSpace.bindValue(RETURN_VALUE_NAME, returnValue);
+            functionMemSpace.bindValue(FunctionSymbol.RETURN_VALUE_SLOT, returnValue);
         }
         return functionMemSpace;
     }
 
-    /**
-     * Extract a return value from a IMemorySpace
-     *
-     * @param ms The given memorySpace to resolve the return value in
-     * @return The resolved return value
-     */
-    private Value getReturnValueFromMemorySpace(IMemorySpace ms) {
-        // only lookup the return value in the current memory space,
-        // if a function does not define a return value, we don't want to
-        // walk up into other memory spaces and falsely return a return value
-        // defined by another function further up in the callstack
-        return ms.resolve(RETURN_VALUE_NAME, false);
-    }
-
     /**
      * Execute Statements in a functions body
      *
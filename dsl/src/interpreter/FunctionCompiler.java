@@ -0,0 +1,379 @@
+package interpreter;
+
+import interpreter.CompiledFunction.Expression;
+import interpreter.CompiledFunction.Statement;
+
+// importing all required classes from parser.AST will be to verbose
+// CHECKSTYLE:OFF: AvoidStarImport
+
+import parser.ast.*;
+// CHECKSTYLE:ON: AvoidStarImport
+
+import runtime.FunctionValue;
+import runtime.IMemorySpace;
+import runtime.Value;
+
+import semanticanalysis.FunctionSymbol;
+import semanticanalysis.ICallable;
+import semanticanalysis.Symbol;
+import semanticanalysis.SymbolTable;
+import semanticanalysis.types.BuiltInType;
+import semanticanalysis.types.FunctionType;
+import semanticanalysis.types.IType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lowers the body of a user defined function into a tree of closures ({@link CompiledFunction}).
+ *
+ * <p>All lookups, which only depend on the AST, are done once during compilation: the symbols of
+ * identifiers and function calls are resolved in the {@link SymbolTable}, each local variable
+ * (return value, parameters and declared variables) is addressed by the slot, which the semantic
+ * analysis assigned to its symbol, and global values are resolved by name only on their first
+ * use. Control flow is mapped to the return value of {@link Statement#execute(Value[])}, so no
+ * marker nodes are needed to unwind a return statement.
+ *
+ * <p>The closures implement the same semantics as the visit-methods of the {@link DSLInterpreter}.
+ * If a function contains a node, for which no closure exists, the compilation fails with an {@link
+ * UnsupportedNodeException} and the {@link DSLInterpreter} keeps interpreting the function on the
+ * AST.
+ */
+final class FunctionCompiler {
+    /** Signals, that a function contains a node, which can't be compiled. */
+    static final class UnsupportedNodeException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedNodeException(Node node) {
+            super("Node of type " + node.type + " can not be compiled");
+        }
+    }
+
+    private final DSLInterpreter interpreter;
+    private final SymbolTable symbolTable;
+
+    private FunctionCompiler(DSLInterpreter interpreter, SymbolTable symbolTable) {
+        this.interpreter = interpreter;
+        this.symbolTable = symbolTable;
+    }
+
+    /**
+     * Compile a user defined function.
+     *
+     * @param interpreter the {@link DSLInterpreter} executing the function
+     * @param symbolTable the {@link SymbolTable} of the semantic analysis of the function
+     * @param symbol the {@link FunctionSymbol} of the function
+     * @return the compiled function
+     * @throws UnsupportedNodeException if the function contains a node, which can't be compiled
+     */
+    static CompiledFunction compile(
+            DSLInterpreter interpreter, SymbolTable symbolTable, FunctionSymbol symbol) {
+        return new FunctionCompiler(interpreter, symbolTable).compileFunction(symbol);
+    }
+
+    private CompiledFunction compileFunction(FunctionSymbol symbol) {
+        var functionType = (FunctionType) symbol.getDataType();
+        IType returnType =
+                functionType.getReturnType() != BuiltInType.noType
+                        ? functionType.getReturnType()
+                        : null;
+
+        List<Symbol> parameters = symbol.getSymbols();
+        IType[] parameterTypes = new IType[parameters.size()];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypes[i] = parameters.get(i).getDataType();
+        }
+
+        Node stmtBlock = symbol.getAstRootNode().getStmtBlock();
+        Statement body = stmtBlock == Node.NONE ? frame -> false : statement(stmtBlock);
+        return new CompiledFunction(
+                interpreter, symbol, returnType, parameterTypes, symbol.getFrameSize(), body);
+    }
+
+    private Symbol symbolOf(Node node) {
+        var symbols = symbolTable.getSymbolsForAstNode(node);
+        return symbols.isEmpty() ? Symbol.NULL : symbols.get(0);
+    }
+
+    // region statements
+    private Statement statement(Node node) {
+        return switch (node.type) {
+            case Block -> block((StmtBlockNode) node);
+            case VarDeclNode -> variableDeclaration((VarDeclNode) node);
+            case ReturnStmt -> returnStatement((ReturnStmtNode) node);
+            case ConditionalStmtIf -> conditional((ConditionalStmtNodeIf) node);
+            case ConditionalStmtIfElse -> conditional((ConditionalStmtNodeIfElse) node);
+            default -> {
+                Expression expression = expression(node);
+                yield frame -> {
+                    expression.evaluate(frame);
+                    return false;
+                };
+            }
+        };
+    }
+
+    private Statement block(StmtBlockNode node) {
+        ArrayList<Node> stmtNodes = node.getStmts();
+        Statement[] statements = new Statement[stmtNodes.size()];
+        for (int i = 0; i < statements.length; i++) {
+            statements[i] = statement(stmtNodes.get(i));
+        }
+        return frame -> {
+            for (Statement statement : statements) {
+                if (statement.execute(frame)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private Statement variableDeclaration(VarDeclNode node) {
+        if (node.getDeclType().equals(VarDeclNode.DeclType.assignmentDecl)) {
+            return frame -> {
+                throw new UnsupportedOperationException(
+                        "Assignment declaration currently not supported");
+            };
+        }
+        Symbol variableSymbol = symbolOf(node);
+        IType variableType = variableSymbol.getDataType();
+        int slot = variableSymbol.getSlot();
+        if (slot == Symbol.NO_SLOT) {
+            throw new UnsupportedNodeException(node);
+        }
+        return frame -> {
+            frame[slot] = interpreter.createDefaultValue(variableType);
+            return false;
+        };
+    }
+
+    private Statement returnStatement(ReturnStmtNode node) {
+        Node innerNode = node.getInnerStmtNode();
+        Expression inner = innerNode == Node.NONE ? frame -> Value.NONE : expression(innerNode);
+        return frame -> {
+            Value value = inner.evaluate(frame);
+            Value returnValue = frame[CompiledFunction.RETURN_SLOT];
+            if (value != Value.NONE && returnValue != null) {
+                interpreter.setValue(returnValue, value);
+            }
+            return true;
+        };
+    }
+
+    private Statement conditional(ConditionalStmtNodeIf node) {
+        Expression condition = expression(node.getCondition());
+        Statement ifStmt = statement(node.getIfStmt());
+        return frame ->
+                DSLInterpreter.isBooleanTrue(condition.evaluate(frame)) && ifStmt.execute(frame);
+    }
+
+    private Statement conditional(ConditionalStmtNodeIfElse node) {
+        Expression condition = expression(node.getCondition());
+        Statement ifStmt = statement(node.getIfStmt());
+        Statement elseStmt = statement(node.getElseStmt());
+        return frame ->
+                DSLInterpreter.isBooleanTrue(condition.evaluate(frame))
+                        ? ifStmt.execute(frame)
+                        : elseStmt.execute(frame);
+    }
+    // endregion
+
+    // region expressions
+    private Expression expression(Node node) {
+        return switch (node.type) {
+            case Number -> {
+                int value = ((NumNode) node).getValue();
+                yield frame -> new Value(BuiltInType.intType, value);
+            }
+            case DecimalNumber -> {
+                float value = ((DecNumNode) node).getValue();
+                yield frame -> new Value(BuiltInType.floatType, value);
+            }
+            case StringLiteral -> {
+                String value = ((StringNode) node).getValue();
+                yield frame -> new Value(BuiltInType.stringType, value);
+            }
+            case Bool -> {
+                boolean value = ((BoolNode) node).getValue();
+                yield frame -> new Value(BuiltInType.boolType, value);
+            }
+            case Identifier -> identifier((IdNode) node);
+            case FuncCall -> functionCall((FuncCallNode) node);
+            case MemberAccess -> memberAccess((MemberAccessNode) node);
+            case Assignment -> assignment((AssignmentNode) node);
+            case ListDefinitionNode -> {
+                Expression[] entries = expressions(((ListDefinitionNode) node).getEntries());
+                yield frame -> interpreter.createListValue(evaluate(entries, frame));
+            }
+            case SetDefinitionNode -> {
+                Expression[] entries = expressions(((SetDefinitionNode) node).getEntries());
+                yield frame -> interpreter.createSetValue(evaluate(entries, frame));
+            }
+            default -> throw new UnsupportedNodeException(node);
+        };
+    }
+
+    private Expression[] expressions(List<Node> nodes) {
+        Expression[] expressions = new Expression[nodes.size()];
+        for (int i = 0; i < expressions.length; i++) {
+            expressions[i] = expression(nodes.get(i));
+        }
+        return expressions;
+    }
+
+    private static Value[] evaluate(Expression[] expressions, Value[] frame) {
+        Value[] values = new Value[expressions.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = expressions[i].evaluate(frame);
+        }
+        return values;
+    }
+
+    private Expression identifier(IdNode node) {
+        Symbol symbol = symbolOf(node);
+        if (symbol instanceof FunctionSymbol functionSymbol) {
+            return frame ->
+                    new FunctionValue(
+                            functionSymbol.getFunctionType().getReturnType(), functionSymbol);
+        }
+        return variable(node, symbol);
+    }
+
+    /** A local variable is read from its slot, every other name is resolved on first use. */
+    private Expression variable(IdNode node, Symbol symbol) {
+        int index = symbol.getSlot();
+        if (index != Symbol.NO_SLOT) {
+            return frame -> frame[index] != null ? frame[index] : Value.NONE;
+        }
+        String name = node.getName();
+        return new Expression() {
+            private Value global = Value.NONE;
+
+            @Override
+            public Value evaluate(Value[] frame) {
+                if (global != Value.NONE) {
+                    return global;
+                }
+                Value value = interpreter.getGlobalMemorySpace().resolve(name, false);
+                if (value == Value.NONE) {
+                    // not a global value, resolve it like the interpreter does
+                    return interpreter.getCurrentMemorySpace().resolve(name, true);
+                }
+                global = value;
+                return value;
+            }
+        };
+    }
+
+    private Expression assignment(AssignmentNode node) {
+        Expression lhs = expression(node.getLhs());
+        Expression rhs = expression(node.getRhs());
+        return frame -> {
+            Value lhsValue = lhs.evaluate(frame);
+            Value rhsValue = rhs.evaluate(frame);
+            interpreter.setValue(lhsValue, rhsValue);
+            return lhsValue;
+        };
+    }
+
+    private Expression functionCall(FuncCallNode node) {
+        return call(node, null);
+    }
+
+    /**
+     * Compile a function call.
+     *
+     * @param node the function call
+     * @param instance evaluates the memory space of the instance of a method call, null for a
+     *     function call
+     */
+    private Expression call(FuncCallNode node, InstanceExpression instance) {
+        Symbol symbol = symbolOf(node);
+        if (!(symbol instanceof ICallable callable)) {
+            String funcName = node.getIdName();
+            return frame -> {
+                throw new RuntimeException("Symbol for name '" + funcName + "' is not callable!");
+            };
+        }
+        Expression[] arguments = expressions(node.getParameters());
+        if (instance == null && callable instanceof FunctionSymbol functionSymbol) {
+            return frame ->
+                    interpreter.executeUserDefinedFunction(
+                            functionSymbol, evaluate(arguments, frame));
+        }
+        return frame -> {
+            IMemorySpace instanceMemorySpace = instance == null ? null : instance.evaluate(frame);
+            Value[] values = evaluate(arguments, frame);
+            List<Node> parameters = new ArrayList<>(values.length);
+            for (Value value : values) {
+                parameters.add(new EvaluatedNode(value));
+            }
+            return interpreter.callFunction(callable, parameters, instanceMemorySpace);
+        };
+    }
+
+    /** Evaluates the memory space of the instance of a method call. */
+    private interface InstanceExpression {
+        IMemorySpace evaluate(Value[] frame);
+    }
+
+    private Expression memberAccess(MemberAccessNode node) {
+        // the first lhs is resolved in the current memory space, all following names are
+        // resolved in the memory space of the preceding value
+        Node lhs = node.getLhs();
+        Expression value;
+        if (lhs.type.equals(Node.Type.Identifier)) {
+            value = variable((IdNode) lhs, symbolOf(lhs));
+        } else if (lhs.type.equals(Node.Type.FuncCall)) {
+            value = call((FuncCallNode) lhs, frame -> interpreter.getCurrentMemorySpace());
+        } else {
+            throw new UnsupportedNodeException(lhs);
+        }
+
+        Node rhs = node.getRhs();
+        while (rhs.type.equals(Node.Type.MemberAccess)) {
+            value = member(((MemberAccessNode) rhs).getLhs(), value, false);
+            rhs = ((MemberAccessNode) rhs).getRhs();
+        }
+        return member(rhs, value, true);
+    }
+
+    private Expression member(Node member, Expression instance, boolean last) {
+        if (member.type.equals(Node.Type.FuncCall)) {
+            return call((FuncCallNode) member, frame -> instance.evaluate(frame).getMemorySpace());
+        }
+        if (!member.type.equals(Node.Type.Identifier)) {
+            throw new UnsupportedNodeException(member);
+        }
+        // the last member is resolved like an identifier, which can also name a function
+        if (last && symbolOf(member) instanceof FunctionSymbol functionSymbol) {
+            return frame ->
+                    new FunctionValue(
+                            functionSymbol.getFunctionType().getReturnType(), functionSymbol);
+        }
+        String name = ((IdNode) member).getName();
+        return frame -> instance.evaluate(frame).getMemorySpace().resolve(name);
+    }
+    // endregion
+
+    /**
+     * Node for an evaluated argument of a native function. Native functions evaluate their
+     * arguments by visiting the passed nodes, this node returns the evaluated value instead of
+     * resolving names in the memory spaces of the interpreter.
+     */
+    private static final class EvaluatedNode extends Node {
+        private final Value value;
+
+        EvaluatedNode(Value value) {
+            super(Type.NONE);
+            this.value = value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T accept(AstVisitor<T> visitor) {
+            return (T) value;
+        }
+    }
+}
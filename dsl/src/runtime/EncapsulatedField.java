@@ -1,33 +1,32 @@
 package runtime;
 
+import semanticanalysis.types.AggregateTypeAccessors.FieldAccessor;
 import semanticanalysis.types.IType;
 
 import java.lang.reflect.Field;
 
 public class EncapsulatedField extends Value {
-    private final Field field;
+    private final FieldAccessor field;
 
     public EncapsulatedField(IType type, Field field, Object object) {
+        this(type, FieldAccessor.of(field), object);
+    }
+
+    public EncapsulatedField(IType type, FieldAccessor field, Object object) {
         super(type, object, true);
         this.field = field;
     }
 
     @Override
     public boolean setInternalValue(Object internalValue) {
-        try {
-            field.set(this.object, internalValue);
-            return true;
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
+        if (!field.set(this.object, internalValue)) {
+            throw new RuntimeException("Field " + field.getField().getName() + " is not writable");
         }
+        return true;
     }
 
     @Override
     public Object getInternalValue() {
-        try {
-            return field.get(this.object);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        return field.get(this.object);
     }
 }
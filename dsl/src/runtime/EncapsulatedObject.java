@@ -3,8 +3,8 @@ package runtime;
 import semanticanalysis.PropertySymbol;
 import semanticanalysis.Symbol;
 import semanticanalysis.types.*;
+import semanticanalysis.types.AggregateTypeAccessors.FieldAccessor;
 
-import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -14,15 +14,13 @@ public class EncapsulatedObject extends Value implements IMemorySpace {
     private AggregateType type;
     private Value thisValue = Value.NONE;
 
-    // TODO: this should be static for one aggregateType and not instanced for each new instance of
-    //  the same type;
-    //  this change is non-trivial, as it requires the central storage of the
-    //  typeMember-to-class-field information PER DATATYPE
-    private HashMap<String, Field> typeMemberToField;
+    // shared by all instances of the same type, see AggregateType::getAccessors
+    private final Map<String, FieldAccessor> typeMemberToField;
 
     // TODO: should probably abstract all that away in a TypeFactory, which
     //  handles creation of encapsulated objects and other stuff
     private IEvironment environment;
+    // created on the first resolved member
     private HashMap<String, Value> objectCache;
 
     /**
@@ -37,26 +35,7 @@ public class EncapsulatedObject extends Value implements IMemorySpace {
 
         this.type = type;
         this.environment = environment;
-        this.typeMemberToField = new HashMap<>();
-        this.objectCache = new HashMap<>();
-
-        buildFieldMap(innerObject.getClass(), type);
-    }
-
-    private void buildFieldMap(Class<?> clazz, AggregateType type) {
-        var nameMap = TypeBuilder.typeMemberNameToJavaFieldMap(clazz);
-
-        for (var member : type.getSymbols()) {
-            var fieldName = nameMap.get(member.getName());
-            if (fieldName != null) {
-                try {
-                    Field field = clazz.getDeclaredField(fieldName);
-                    typeMemberToField.put(member.getName(), field);
-                } catch (NoSuchFieldException e) {
-                    // TODO: handle
-                }
-            }
-        }
+        this.typeMemberToField = type.getAccessors().typeMemberFields(innerObject.getClass());
     }
 
     @Override
@@ -72,7 +51,7 @@ public class EncapsulatedObject extends Value implements IMemorySpace {
     @Override
     public Value resolve(String name) {
         Value returnValue = Value.NONE;
-        if (objectCache.containsKey(name)) {
+        if (objectCache != null && objectCache.containsKey(name)) {
             return objectCache.get(name);
         }
 
@@ -81,50 +60,46 @@ public class EncapsulatedObject extends Value implements IMemorySpace {
         }
 
         // lookup name
-        Field correspondingField = this.typeMemberToField.getOrDefault(name, null);
+        FieldAccessor correspondingField = this.typeMemberToField.getOrDefault(name, null);
         if (correspondingField != null) {
             // read field value
-            correspondingField.setAccessible(true);
-            try {
-                var fieldValue = correspondingField.get(this.getInternalValue());
+            var fieldValue = correspondingField.get(this.getInternalValue());
 
-                // handle null
-                if (fieldValue == null) {
-                    return Value.NONE;
-                }
+            // handle null
+            if (fieldValue == null) {
+                return Value.NONE;
+            }
 
-                // convert the read field value to a DSL 'Value'
-                // this may require recursive creation of encapsulated objects,
-                // if the field is a component for example
-                var type = this.environment.getDSLTypeForClass(fieldValue.getClass());
-                if (type != BuiltInType.noType) {
-                    switch (type.getTypeKind()) {
-                        case Basic:
-                            // create encapsulated value (because the field is a POD-field, or
-                            // "basic type") -> linking the value to the field is only required
-                            // for setting the internal value
-                            // NOTE: this behaviour differs from the default translation of the
-                            // RuntimeObjectTranslator, because we know in this case, that the
-                            // resolved name is a member of the underlying object
-                            returnValue =
-                                    new EncapsulatedField(type, correspondingField, this.object);
-                            break;
-                        case AggregateAdapted:
-                        case Aggregate:
-                            returnValue =
-                                    environment
-                                            .getRuntimeObjectTranslator()
-                                            .translateRuntimeObject(
-                                                    fieldValue, this, this.environment);
-                            break;
-                        case FunctionType:
-                            break;
-                    }
-                    // cache it
-                    this.objectCache.put(name, returnValue);
+            // convert the read field value to a DSL 'Value'
+            // this may require recursive creation of encapsulated objects,
+            // if the field is a component for example
+            var type = this.environment.getDSLTypeForClass(fieldValue.getClass());
+            if (type != BuiltInType.noType) {
+                switch (type.getTypeKind()) {
+                    case Basic:
+                        // create encapsulated value (because the field is a POD-field, or
+                        // "basic type") -> linking the value to the field is only required
+                        // for setting the internal value
+                        // NOTE: this behaviour differs from the default translation of the
+                        // RuntimeObjectTranslator, because we know in this case, that the
+                        // resolved name is a member of the underlying object
+                        returnValue = new EncapsulatedField(type, correspondingField, this.object);
+                        break;
+                    case AggregateAdapted:
+                    case Aggregate:
+                        returnValue =
+                                environment
+                                        .getRuntimeObjectTranslator()
+                                        .translateRuntimeObject(fieldValue, this, this.environment);
+                        break;
+                    case FunctionType:
+                        break;
                 }
-            } catch (IllegalAccessException e) {
-                // TODO: handle
+                // cache it
+                if (this.objectCache == null) {
+                    this.objectCache = new HashMap<>();
+                }
+                this.objectCache.put(name, returnValue);
             }
         } else {
             // it may be a property
@@ -177,16 +152,13 @@ public class EncapsulatedObject extends Value implements IMemorySpace {
             thisValue = value;
         }
 
-        Field correspondingField = this.typeMemberToField.getOrDefault(name, null);
+        FieldAccessor correspondingField = this.typeMemberToField.getOrDefault(name, null);
         if (correspondingField == null) {
             return false;
         } else {
             // TODO: this should only be possible for PODs
-            // read field value
-            correspondingField.setAccessible(true);
-            try {
-                correspondingField.set(this.getInternalValue(), value.getInternalValue());
-            } catch (IllegalAccessException e) {
+            // write field value
+            if (!correspondingField.set(this.getInternalValue(), value.getInternalValue())) {
                 // TODO: handle
                 return false;
             }
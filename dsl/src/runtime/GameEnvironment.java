@@ -53,6 +53,13 @@ public class GameEnvironment implements IEvironment {
     protected final Scope globalScope;
     protected final RuntimeObjectTranslator runtimeObjectTranslator = new RuntimeObjectTranslator();
 
+    // the built in types, properties and native functions of a GameEnvironment only depend on the
+    // java classes, so they are created once per JVM by reflection; the symbols are defined in an
+    // immutable scope and bound in the fresh global scope of each new GameEnvironment
+    private record BuiltIns(TypeBuilder typeBuilder, BuiltInScope scope) {}
+
+    private static BuiltIns builtIns;
+
     public Class<?>[] getBuiltInAggregateTypeClasses() {
         return (Class<?>[])
                 new Class[] {
@@ -87,16 +94,59 @@ public class GameEnvironment implements IEvironment {
 
     /**
      * Constructor. Creates fresh global scope and symbol table and binds built in types and native
-     * functions
+     * functions.
+     *
+     * <p>A GameEnvironment shares the built in types with all other GameEnvironments, which are
+     * created in the same JVM. The built in types are defined in an immutable scope, which is
+     * created once; the global scope of each environment only binds them, so types and functions
+     * loaded into one environment are not visible in the others. Subclasses may define other built
+     * in types, so they create their own.
      */
     public GameEnvironment() {
-        this.typeBuilder = new TypeBuilder();
         this.globalScope = new Scope();
         this.symbolTable = new SymbolTable(this.globalScope);
 
         // create built in types and native functions
         this.NATIVE_FUNCTIONS = buildNativeFunctions();
 
+        if (getClass() == GameEnvironment.class) {
+            BuiltIns shared = builtIns();
+            this.typeBuilder = new TypeBuilder(shared.typeBuilder());
+            for (Symbol symbol : shared.scope().getSymbols()) {
+                this.globalScope.bind(symbol);
+            }
+            registerDefaultRuntimeObjectTranslators();
+        } else {
+            this.typeBuilder = new TypeBuilder();
+            bindBuiltIns();
+        }
+    }
+
+    /**
+     * Constructor for the shared built ins. Binds the built in types and native functions in the
+     * given scope, which can not be changed afterwards.
+     *
+     * @param scope the scope of the built in types
+     */
+    private GameEnvironment(BuiltInScope scope) {
+        this.globalScope = scope;
+        this.symbolTable = new SymbolTable(this.globalScope);
+        this.NATIVE_FUNCTIONS = buildNativeFunctions();
+        this.typeBuilder = new TypeBuilder();
+        bindBuiltIns();
+        scope.seal();
+    }
+
+    private static synchronized BuiltIns builtIns() {
+        if (builtIns == null) {
+            BuiltInScope scope = new BuiltInScope();
+            GameEnvironment environment = new GameEnvironment(scope);
+            builtIns = new BuiltIns(environment.typeBuilder, scope);
+        }
+        return builtIns;
+    }
+
+    private void bindBuiltIns() {
         bindBuiltInTypes();
 
         registerDefaultTypeAdapters();
@@ -108,6 +158,26 @@ public class GameEnvironment implements IEvironment {
         bindNativeFunctions();
     }
 
+    /** Scope of the shared built in types, no symbols can be bound after it is sealed. */
+    private static final class BuiltInScope extends Scope {
+        private boolean sealed;
+
+        private void seal() {
+            sealed = true;
+        }
+
+        @Override
+        public boolean bind(Symbol symbol) {
+            if (sealed) {
+                throw new UnsupportedOperationException(
+                        "Can not bind '"
+                                + symbol.getName()
+                                + "' in the scope of the built in types");
+            }
+            return super.bind(symbol);
+        }
+    }
+
     protected void registerDefaultTypeAdapters() {
         typeBuilder.registerTypeAdapter(DrawComponentAdapter.class, this.globalScope);
 
@@ -0,0 +1,95 @@
+package runtime;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The memory space of a function call. The return value, the parameters and the local variables
+ * of the function are stored in an array and addressed by the slot, which the semantic analysis
+ * assigned to their symbol (see {@link semanticanalysis.Symbol#getSlot()}), so they are not
+ * resolved by name.
+ *
+ * <p>Names are resolved in the parent memory space; values bound by name (which are no local
+ * variables of the function) are stored in a {@link MemorySpace}, which is only created on the
+ * first binding.
+ */
+public class SlotMemorySpace implements IMemorySpace {
+    private final Value[] slots;
+    private final IMemorySpace parent;
+    private MemorySpace namedValues;
+
+    /**
+     * Constructor
+     *
+     * @param parent parent memory space, in which names are resolved
+     * @param size number of slots
+     */
+    public SlotMemorySpace(IMemorySpace parent, int size) {
+        this.parent = parent;
+        this.slots = new Value[size];
+    }
+
+    /**
+     * Bind a value in a slot, an already bound value will be replaced
+     *
+     * @param slot the slot to bind the value in
+     * @param value the value to bind
+     */
+    public void bindValue(int slot, Value value) {
+        slots[slot] = value;
+    }
+
+    /**
+     * Resolve the value in a slot
+     *
+     * @param slot the slot to resolve
+     * @return the value bound in the slot or Value.NONE, if no value was bound in the slot
+     */
+    public Value resolve(int slot) {
+        Value value = slots[slot];
+        return value != null ? value : Value.NONE;
+    }
+
+    @Override
+    public boolean bindValue(String name, Value value) {
+        if (namedValues == null) {
+            namedValues = new MemorySpace(MemorySpace.NONE);
+        }
+        return namedValues.bindValue(name, value);
+    }
+
+    @Override
+    public Value resolve(String name) {
+        return this.resolve(name, true);
+    }
+
+    @Override
+    public Value resolve(String name, boolean resolveInParent) {
+        Value value = namedValues != null ? namedValues.resolve(name, false) : Value.NONE;
+        if (value == Value.NONE
+                && this.parent != MemorySpace.NONE
+                && this.parent != null
+                && resolveInParent) {
+            return this.parent.resolve(name, true);
+        }
+        return value;
+    }
+
+    @Override
+    public void delete(String name) {
+        if (namedValues != null) {
+            namedValues.delete(name);
+        }
+    }
+
+    @Override
+    public boolean setValue(String name, Value value) {
+        return namedValues != null && namedValues.setValue(name, value);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Value>> getValueSet() {
+        return namedValues != null ? namedValues.getValueSet() : Collections.emptySet();
+    }
+}
@@ -11,8 +11,14 @@ import java.util.List;
 
 public class FunctionSymbol extends ScopedSymbol implements ICallable {
 
+    /** Slot of the return value in the frame of a function call. */
+    public static final int RETURN_VALUE_SLOT = 0;
+
     private final FuncDefNode astRootNode;
 
+    // return value, parameters and local variables, assigned by the SemanticAnalyzer
+    private int frameSize = RETURN_VALUE_SLOT + 1;
+
     /**
      * @param astRootNode
      */
@@ -41,4 +47,19 @@ public class FunctionSymbol extends ScopedSymbol implements ICallable {
     public FuncDefNode getAstRootNode() {
         return astRootNode;
     }
+
+    /**
+     * Getter for the number of slots in the frame of a call of this function: the return value in
+     * {@link #RETURN_VALUE_SLOT}, followed by the parameters and the local variables (see {@link
+     * Symbol#getSlot()})
+     *
+     * @return the number of slots
+     */
+    public int getFrameSize() {
+        return frameSize;
+    }
+
+    void setFrameSize(int frameSize) {
+        this.frameSize = frameSize;
+    }
 }
@@ -44,6 +44,10 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
     Stack<IScope> scopeStack = new Stack<>();
     StringBuilder errorStringBuilder = new StringBuilder();
     private boolean setup = false;
+    // the function, whose body is currently analyzed (null outside of function definitions), and
+    // the next free slot in its frame
+    private FunctionSymbol currentFunction;
+    private int nextSlot;
 
     public class Result {
         public final SymbolTable symbolTable;
@@ -369,9 +373,20 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
             FunctionSymbol funcSymbol = (FunctionSymbol) resolved;
             scopeStack.push(funcSymbol);
 
+            // the return value is stored in the first slot of the frame, the parameters follow in
+            // order, the local variables are assigned a slot on declaration
+            currentFunction = funcSymbol;
+            nextSlot = FunctionSymbol.RETURN_VALUE_SLOT + 1;
+            for (var parameterSymbol : funcSymbol.getSymbols()) {
+                parameterSymbol.setSlot(nextSlot++);
+            }
+
             // visit statements
             node.getStmtBlock().accept(this);
 
+            funcSymbol.setFrameSize(nextSlot);
+            currentFunction = null;
+
             // create symbol table entry
             symbolTable.addSymbolNodeRelation(funcSymbol, node, false);
 
@@ -649,6 +664,9 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
 
         // create variable symbol
         Symbol variableSymbol = new Symbol(name, this.currentScope(), variableType);
+        if (currentFunction != null) {
+            variableSymbol.setSlot(nextSlot++);
+        }
         this.currentScope().bind(variableSymbol);
         this.symbolTable.addSymbolNodeRelation(variableSymbol, node, true);
 
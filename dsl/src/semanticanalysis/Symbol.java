@@ -43,6 +43,12 @@ public class Symbol {
 
     private int idx;
 
+    /** Marks a symbol, which is not stored in a slot of a function frame. */
+    public static final int NO_SLOT = -1;
+
+    // slot of a local variable in the frame of its function, assigned by the SemanticAnalyzer
+    private int slot = NO_SLOT;
+
     public static Symbol NULL = new Symbol("NULL SYMBOL", null, null);
 
     /**
@@ -81,6 +87,21 @@ public class Symbol {
         return idx;
     }
 
+    /**
+     * Getter for the slot of the symbol in the frame of the function, which declares it. Only
+     * parameters and local variables of functions have a slot, all other symbols (global values,
+     * members of aggregate types, ...) are resolved by name.
+     *
+     * @return the slot of the symbol or {@link #NO_SLOT}, if it has none
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    void setSlot(int slot) {
+        this.slot = slot;
+    }
+
     /**
      * Getter for the {@link Type} of the symbol
      *
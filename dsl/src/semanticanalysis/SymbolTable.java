@@ -24,10 +24,15 @@ package semanticanalysis;
 import parser.ast.Node;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 
 /** The results of semantic analysis done by SymbolTableParser */
 public class SymbolTable {
+    private static final List<Symbol> NULL_SYMBOL_LIST = List.of(Symbol.NULL);
+
     /** The global scope of the program */
     IScope globalScope;
     /** Store all symbols in a key-value store for easy referencing by their index */
@@ -48,6 +53,12 @@ public class SymbolTable {
      */
     private final HashMap<Integer, Integer> symbolToAstNodeRelation;
 
+    /**
+     * Caches the result of {@link #getSymbolsForAstNode(Node)} for each AST node, so the
+     * interpreter can look up the symbols of a node without allocating a new list on each lookup
+     */
+    private final IdentityHashMap<Node, List<Symbol>> astNodeSymbols;
+
     /**
      * Getter for the global {@link IScope}, which is the topmost scope in the scope stack
      *
@@ -75,6 +86,8 @@ public class SymbolTable {
         // AST-Node?
         //  if not, this could be simplified
         astNodeSymbolRelation.get(nodeOfSymbol.getIdx()).add(symbol.getIdx());
+        // the symbols of the node changed, the cached list will be recreated on the next lookup
+        astNodeSymbols.remove(nodeOfSymbol);
 
         if (isNodeCreationNode) {
             setCreationAstNode(symbol, nodeOfSymbol);
@@ -93,15 +106,25 @@ public class SymbolTable {
     /**
      * Try to get the Symbol referenced by a specific AST node
      *
+     * <p>The returned list is an unmodifiable view, which is cached per AST node, so repeated
+     * lookups of the same node (e.g. by the interpreter) do not allocate.
+     *
      * @param node The AST node
      * @return The Symbol referenced by node, or Symbol.NULL, if no Symbol could be found
      */
-    public ArrayList<Symbol> getSymbolsForAstNode(Node node) {
+    public List<Symbol> getSymbolsForAstNode(Node node) {
+        var symbols = astNodeSymbols.get(node);
+        if (symbols == null) {
+            symbols = collectSymbolsForAstNode(node);
+            astNodeSymbols.put(node, symbols);
+        }
+        return symbols;
+    }
+
+    private List<Symbol> collectSymbolsForAstNode(Node node) {
         if (!astNodeSymbolRelation.containsKey(node.getIdx())) {
             // TODO: just empty list?
-            var list = new ArrayList<Symbol>();
-            list.add(Symbol.NULL);
-            return list;
+            return NULL_SYMBOL_LIST;
         }
 
         var symbolIdxs = astNodeSymbolRelation.get(node.getIdx());
@@ -116,7 +139,7 @@ public class SymbolTable {
                 returnList.add(symbol);
             }
         }
-        return returnList;
+        return Collections.unmodifiableList(returnList);
     }
 
     private void setCreationAstNode(Symbol symbol, Node creationNode) {
@@ -166,5 +189,6 @@ public class SymbolTable {
         symbolIdxToSymbol = new HashMap<>();
         astNodeIdxToAstNode = new HashMap<>();
         symbolToAstNodeRelation = new HashMap<>();
+        astNodeSymbols = new IdentityHashMap<>();
     }
 }
@@ -6,6 +6,7 @@ import semanticanalysis.ScopedSymbol;
 public class AggregateType extends ScopedSymbol implements IType {
 
     protected Class<?> originType;
+    private AggregateTypeAccessors accessors;
 
     /**
      * Constructor
@@ -42,4 +43,17 @@ public class AggregateType extends ScopedSymbol implements IType {
     public Class<?> getOriginType() {
         return this.originType;
     }
+
+    /**
+     * Get the accessors for the origin java class of this type. The accessors are created on the
+     * first call and shared by all objects of this type.
+     *
+     * @return the accessors
+     */
+    public synchronized AggregateTypeAccessors getAccessors() {
+        if (accessors == null) {
+            accessors = new AggregateTypeAccessors(this);
+        }
+        return accessors;
+    }
 }
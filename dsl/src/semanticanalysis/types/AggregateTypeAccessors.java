@@ -0,0 +1,374 @@
+package semanticanalysis.types;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accessors for the origin java class of an {@link AggregateType}.
+ *
+ * <p>The fields, the constructor and the builder method of the origin class are discovered by
+ * reflection only once per type (see {@link AggregateType#getAccessors()}) and are accessed by
+ * {@link MethodHandle}s. Wrapping an object in a {@link runtime.EncapsulatedObject} or
+ * instantiating an object with the {@link TypeInstantiator} does not need any reflective lookup.
+ */
+public final class AggregateTypeAccessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE =
+            MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** Reads and writes a field, which corresponds to a member of an {@link AggregateType}. */
+    public static final class FieldAccessor {
+        private final Field field;
+        private final String dslName;
+        private final boolean typeMember;
+        private final boolean callback;
+        private final MethodHandle getter;
+        // null, if the field can't be written (e.g. a field of a record)
+        private final MethodHandle setter;
+
+        private FieldAccessor(Field field) {
+            this.field = field;
+            this.dslName = TypeBuilder.getDSLFieldName(field);
+            this.typeMember = field.isAnnotationPresent(DSLTypeMember.class);
+            this.callback = field.isAnnotationPresent(DSLCallback.class);
+            field.setAccessible(true);
+            try {
+                this.getter = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+            MethodHandle fieldSetter;
+            try {
+                fieldSetter = LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                fieldSetter = null;
+            }
+            this.setter = fieldSetter;
+        }
+
+        /**
+         * Create an accessor for a field, which is not cached for a type.
+         *
+         * @param field the field to access
+         * @return the accessor
+         */
+        public static FieldAccessor of(Field field) {
+            return new FieldAccessor(field);
+        }
+
+        /**
+         * @return the accessed field
+         */
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * @return the name of the field in the DSL
+         */
+        public String getDSLName() {
+            return dslName;
+        }
+
+        /**
+         * @return true, if the field is marked as {@link DSLTypeMember}
+         */
+        public boolean isTypeMember() {
+            return typeMember;
+        }
+
+        /**
+         * @return true, if the field is marked as {@link DSLCallback}
+         */
+        public boolean isCallback() {
+            return callback;
+        }
+
+        /**
+         * Read the field.
+         *
+         * @param instance the object to read the field from
+         * @return the value of the field
+         */
+        public Object get(Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        /**
+         * Write the field.
+         *
+         * @param instance the object to write the field of
+         * @param value the new value of the field
+         * @return true on success, false, if the field can't be written
+         */
+        public boolean set(Object instance, Object value) {
+            if (setter == null) {
+                return false;
+            }
+            try {
+                setter.invokeExact(instance, value);
+                return true;
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+
+    /** Calls a constructor or a static method of a java class with an array of arguments. */
+    public static final class Invoker {
+        private final Parameter[] parameters;
+        private final MethodHandle handle;
+
+        private Invoker(Parameter[] parameters, MethodHandle handle) {
+            this.parameters = parameters;
+            this.handle =
+                    handle.asSpreader(Object[].class, parameters.length)
+                            .asType(MethodType.methodType(Object.class, Object[].class));
+        }
+
+        /**
+         * @return the parameters of the constructor or method
+         */
+        public Parameter[] getParameters() {
+            return parameters;
+        }
+
+        /**
+         * Call the constructor or method.
+         *
+         * @param arguments the arguments, in order of the parameters
+         * @return the created object or the return value of the method
+         */
+        public Object invoke(Object[] arguments) {
+            try {
+                return (Object) handle.invokeExact(arguments);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+
+    private final AggregateType type;
+    // fields of the members of the type, per class of the wrapped objects
+    private final ConcurrentHashMap<Class<?>, Map<String, FieldAccessor>> typeMemberFields =
+            new ConcurrentHashMap<>();
+    private List<FieldAccessor> fields;
+    private Invoker constructor;
+    private FieldAccessor[] constructorParameterFields;
+    private String[] constructorContextMemberNames;
+    private Invoker builder;
+    private String[] builderParameterNames;
+
+    AggregateTypeAccessors(AggregateType type) {
+        this.type = type;
+    }
+
+    /**
+     * Get the accessors of the fields of a class, which correspond to the members of the type.
+     *
+     * @param clazz the class of an object of the type (the origin type or a subclass of it)
+     * @return the accessors by the names of the members
+     */
+    public Map<String, FieldAccessor> typeMemberFields(Class<?> clazz) {
+        return typeMemberFields.computeIfAbsent(clazz, this::createTypeMemberFields);
+    }
+
+    private Map<String, FieldAccessor> createTypeMemberFields(Class<?> clazz) {
+        var nameMap = TypeBuilder.typeMemberNameToJavaFieldMap(clazz);
+        var accessors = new HashMap<String, FieldAccessor>();
+        for (var member : type.getSymbols()) {
+            var fieldName = nameMap.get(member.getName());
+            if (fieldName != null) {
+                try {
+                    accessors.put(
+                            member.getName(), new FieldAccessor(clazz.getDeclaredField(fieldName)));
+                } catch (NoSuchFieldException e) {
+                    throw new RuntimeException(
+                            "The member '"
+                                    + member.getName()
+                                    + "' of the type '"
+                                    + type.getName()
+                                    + "' has no field '"
+                                    + fieldName
+                                    + "' in "
+                                    + clazz.getName(),
+                            e);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(accessors);
+    }
+
+    /**
+     * Get the accessors of all fields of the origin type, which are marked as {@link
+     * DSLTypeMember} or {@link DSLCallback}.
+     *
+     * @return the accessors in order of declaration
+     */
+    public synchronized List<FieldAccessor> fields() {
+        if (fields == null) {
+            var accessors = new ArrayList<FieldAccessor>();
+            for (Field field : type.getOriginType().getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                if (field.isAnnotationPresent(DSLTypeMember.class)
+                        || field.isAnnotationPresent(DSLCallback.class)) {
+                    accessors.add(new FieldAccessor(field));
+                }
+            }
+            fields = Collections.unmodifiableList(accessors);
+        }
+        return fields;
+    }
+
+    /**
+     * Get the constructor to instantiate the origin type with: the first constructor, whose
+     * parameters are all marked as {@link DSLContextMember}, or the last declared constructor, if
+     * there is no such constructor.
+     *
+     * @return the constructor or null, if the origin type has no constructor
+     */
+    public synchronized Invoker constructor() {
+        if (constructor == null) {
+            Constructor<?> ctor = findConstructor(type.getOriginType());
+            if (ctor == null) {
+                return null;
+            }
+            ctor.setAccessible(true);
+            try {
+                constructor = new Invoker(ctor.getParameters(), LOOKUP.unreflectConstructor(ctor));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return constructor;
+    }
+
+    /**
+     * Get the accessors of the fields, which correspond to the parameters of the {@link
+     * #constructor()}, as for the canonical constructor of a record.
+     *
+     * @return the accessors in order of the parameters; null for a parameter, which has no field of
+     *     the same name
+     */
+    public synchronized FieldAccessor[] constructorParameterFields() {
+        if (constructorParameterFields == null) {
+            Parameter[] parameters = constructor().getParameters();
+            FieldAccessor[] accessors = new FieldAccessor[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                try {
+                    Field field = type.getOriginType().getDeclaredField(parameters[i].getName());
+                    accessors[i] = new FieldAccessor(field);
+                } catch (NoSuchFieldException e) {
+                    accessors[i] = null;
+                }
+            }
+            constructorParameterFields = accessors;
+        }
+        return constructorParameterFields;
+    }
+
+    /**
+     * Get the names of the context members, which are passed to the parameters of the {@link
+     * #constructor()} (see {@link DSLContextMember}).
+     *
+     * @return the names in order of the parameters; null for a parameter, which is not marked as
+     *     {@link DSLContextMember}
+     */
+    public synchronized String[] constructorContextMemberNames() {
+        if (constructorContextMemberNames == null) {
+            Parameter[] parameters = constructor().getParameters();
+            String[] names = new String[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                var annotation = parameters[i].getAnnotation(DSLContextMember.class);
+                names[i] = annotation != null ? annotation.name() : null;
+            }
+            constructorContextMemberNames = names;
+        }
+        return constructorContextMemberNames;
+    }
+
+    /**
+     * Get the builder method of an {@link AggregateTypeAdapter}.
+     *
+     * @return the builder method
+     */
+    public synchronized Invoker builder() {
+        if (builder == null) {
+            Method method = ((AggregateTypeAdapter) type).getBuilderMethod();
+            method.setAccessible(true);
+            try {
+                builder = new Invoker(method.getParameters(), LOOKUP.unreflect(method));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Get the names of the parameters of the builder method of an {@link AggregateTypeAdapter} in
+     * the DSL.
+     *
+     * @return the names in order of the parameters
+     */
+    public synchronized String[] builderParameterNames() {
+        if (builderParameterNames == null) {
+            Parameter[] parameters = builder().getParameters();
+            String[] names = new String[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                names[i] = TypeBuilder.getDSLParameterName(parameters[i]);
+            }
+            builderParameterNames = names;
+        }
+        return builderParameterNames;
+    }
+
+    private static Constructor<?> findConstructor(Class<?> originalJavaClass) {
+        Constructor<?> ctor = null;
+        for (Constructor<?> constructor : originalJavaClass.getDeclaredConstructors()) {
+            ctor = constructor;
+            boolean unmarkedCtorParameter = false;
+            for (var parameter : ctor.getParameters()) {
+                if (!parameter.isAnnotationPresent(DSLContextMember.class)) {
+                    unmarkedCtorParameter = true;
+                    break;
+                }
+            }
+
+            if (!unmarkedCtorParameter) {
+                break;
+            }
+        }
+
+        return ctor;
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof Error error) {
+            throw error;
+        }
+        if (t instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RuntimeException(t);
+    }
+}
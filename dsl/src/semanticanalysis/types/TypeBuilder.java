@@ -36,6 +36,22 @@ public class TypeBuilder {
         setupFunctionTypeBuilders();
     }
 
+    /**
+     * Copy constructor. The created TypeBuilder knows all types and type adapters of the other
+     * TypeBuilder, but types and type adapters created later are not shared between both
+     *
+     * @param other the TypeBuilder to copy
+     */
+    public TypeBuilder(TypeBuilder other) {
+        this.typeAdapters = new HashMap<>();
+        for (var entry : other.typeAdapters.entrySet()) {
+            this.typeAdapters.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        this.javaTypeToDSLType = new HashMap<>(other.javaTypeToDSLType);
+        this.currentLookedUpTypes = new HashSet<>();
+        this.functionTypeBuilders = new HashMap<>(other.functionTypeBuilders);
+    }
+
     private void setupFunctionTypeBuilders() {
         functionTypeBuilders.put(Consumer.class, ConsumerFunctionTypeBuilder.instance);
         functionTypeBuilders.put(TriConsumer.class, ConsumerFunctionTypeBuilder.instance);
@@ -9,9 +9,6 @@ import semanticanalysis.PropertySymbol;
 import semanticanalysis.types.callbackadapter.CallbackAdapter;
 import semanticanalysis.types.callbackadapter.CallbackAdapterBuilder;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -166,122 +163,112 @@ public class TypeInstantiator {
      */
     private Object convertValueToObject(Value value, IType valuesType) {
         Object convertedObject = value.getInternalValue();
-        try {
-            if (valuesType.getTypeKind().equals(IType.Kind.AggregateAdapted)) {
-                var aggregateFieldValue = (AggregateValue) value;
-                if (aggregateFieldValue.getMemorySpace() instanceof EncapsulatedObject) {
-                    // if the memoryspace of the value already encapsulates an object,
-                    // return this object
-                    convertedObject = value.getInternalValue();
-                } else {
-                    // if the value is a prototype, instantiation is handled by
-                    // DSLInterpreter::instantiateDSLValue and subsequent calls to
-                    // instantiateRuntimeValue; don't do it here
-                    if (valuesType instanceof Prototype) {
-                        return null;
-                    }
-                    // call builder -> store values from memory space in order of parameters
-                    // of builder-method
-                    var adaptedType = (AggregateTypeAdapter) valuesType;
-                    var method = adaptedType.getBuilderMethod();
-                    var parameters = new ArrayList<>(method.getParameterCount());
-                    for (var parameter : method.getParameters()) {
-                        var memberName = TypeBuilder.getDSLParameterName(parameter);
-                        var memberValue = aggregateFieldValue.getMemorySpace().resolve(memberName);
-                        var internalObject = convertValueToObject(memberValue);
-                        parameters.add(internalObject);
-                    }
+        if (valuesType.getTypeKind().equals(IType.Kind.AggregateAdapted)) {
+            var aggregateFieldValue = (AggregateValue) value;
+            if (aggregateFieldValue.getMemorySpace() instanceof EncapsulatedObject) {
+                // if the memoryspace of the value already encapsulates an object,
+                // return this object
+                convertedObject = value.getInternalValue();
+            } else {
+                // if the value is a prototype, instantiation is handled by
+                // DSLInterpreter::instantiateDSLValue and subsequent calls to
+                // instantiateRuntimeValue; don't do it here
+                if (valuesType instanceof Prototype) {
+                    return null;
+                }
+                // call builder -> store values from memory space in order of parameters
+                // of builder-method
+                var accessors = ((AggregateTypeAdapter) valuesType).getAccessors();
+                var memberNames = accessors.builderParameterNames();
+                var parameters = new Object[memberNames.length];
+                for (int i = 0; i < memberNames.length; i++) {
+                    var memberValue = aggregateFieldValue.getMemorySpace().resolve(memberNames[i]);
+                    parameters[i] = convertValueToObject(memberValue);
+                }
 
-                    convertedObject = method.invoke(null, parameters.toArray());
+                convertedObject = accessors.builder().invoke(parameters);
+            }
+        } else if (valuesType.getTypeKind().equals(IType.Kind.ListType)) {
+            convertedObject = instantiateList((ListValue) value);
+        } else if (valuesType.getTypeKind().equals(IType.Kind.SetType)) {
+            convertedObject = instantiateSet((SetValue) value);
+        } else if (valuesType.getTypeKind().equals(IType.Kind.Aggregate)) {
+            if (convertedObject == null) {
+                // if the value is a prototype, instantiation is handled by
+                // DSLInterpreter::instantiateDSLValue and subsequent calls to
+                // instantiateRuntimeValue; don't do it here
+                if (valuesType instanceof Prototype) {
+                    return null;
+                }
+                var originalJavaClass = ((AggregateType) valuesType).getOriginType();
+                if (null == originalJavaClass) {
+                    return null;
                 }
-            } else if (valuesType.getTypeKind().equals(IType.Kind.ListType)) {
-                convertedObject = instantiateList((ListValue) value);
-            } else if (valuesType.getTypeKind().equals(IType.Kind.SetType)) {
-                convertedObject = instantiateSet((SetValue) value);
-            } else if (valuesType.getTypeKind().equals(IType.Kind.Aggregate)) {
-                if (convertedObject == null) {
-                    // if the value is a prototype, instantiation is handled by
-                    // DSLInterpreter::instantiateDSLValue and subsequent calls to
-                    // instantiateRuntimeValue; don't do it here
-                    if (valuesType instanceof Prototype) {
-                        return null;
-                    }
-                    var originalJavaClass = ((AggregateType) valuesType).getOriginType();
-                    if (null == originalJavaClass) {
-                        return null;
-                    }
 
-                    if (originalJavaClass.isRecord()) {
-                        convertedObject = instantiateRecord(originalJavaClass, value);
-                    } else {
-                        convertedObject =
-                                instantiateAggregateValueAsClass(
-                                        (AggregateType) valuesType, (AggregateValue) value);
-                    }
+                if (originalJavaClass.isRecord()) {
+                    convertedObject = instantiateRecord((AggregateType) valuesType, value);
+                } else {
+                    convertedObject =
+                            instantiateAggregateValueAsClass(
+                                    (AggregateType) valuesType, (AggregateValue) value);
                 }
             }
-        } catch (InvocationTargetException | IllegalArgumentException | IllegalAccessException e) {
-            throw new RuntimeException(e);
         }
         return convertedObject;
     }
 
-    private Object instantiateRecord(Class<?> originalJavaClass, Value value) {
+    private Object instantiateRecord(AggregateType type, Value value) {
         IMemorySpace ms = value.getMemorySpace();
+        var originalJavaClass = type.getOriginType();
 
-        Constructor<?> ctor = getConstructor(originalJavaClass);
+        var accessors = type.getAccessors();
+        var ctor = accessors.constructor();
         if (null == ctor) {
             throw new RuntimeException(
                     "Could not find a suitable constructor to instantiate record "
                             + originalJavaClass.getName());
         }
 
-        try {
-            // find the corresponding record-field to the constructor-parameter, get the according
-            // value from the memory space and pass it as a parameter to the constructor
-            ArrayList<Object> parameters = new ArrayList<>(ctor.getParameters().length);
-            for (var param : ctor.getParameters()) {
-                var field = originalJavaClass.getDeclaredField(param.getName());
-                if (field.isAnnotationPresent(DSLTypeMember.class)) {
-                    String fieldName = TypeBuilder.getDSLFieldName(field);
-                    var fieldValue = ms.resolve(fieldName);
-
-                    // if a certain value is not found in the memory space,
-                    // the record cannot be instantiated -> early return
-                    if (fieldValue == null || fieldValue == Value.NONE) {
-                        throw new RuntimeException(
-                                "The name of field "
-                                        + field.getName()
-                                        + " cannot be resolved in the supplied memory space");
-                    } else {
-                        Object internalValue = convertValueToObject(fieldValue);
-                        parameters.add(internalValue);
-                    }
-                } else if (field.isAnnotationPresent(DSLCallback.class)) {
-                    String fieldName = TypeBuilder.getDSLFieldName(field);
-                    var fieldValue = ms.resolve(fieldName);
-
-                    assert fieldValue.getDataType().getTypeKind() == IType.Kind.FunctionType;
-                    assert fieldValue.getInternalValue() instanceof FunctionSymbol;
+        // find the corresponding record-field to the constructor-parameter, get the according
+        // value from the memory space and pass it as a parameter to the constructor
+        var fields = accessors.constructorParameterFields();
+        Object[] parameters = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            var field = fields[i];
+            if (field == null) {
+                throw new RuntimeException(
+                        new NoSuchFieldException(ctor.getParameters()[i].getName()));
+            }
+            if (field.isTypeMember()) {
+                var fieldValue = ms.resolve(field.getDSLName());
 
-                    CallbackAdapter adapter =
-                            callbackAdapterBuilder.buildAdapter(
-                                    (FunctionSymbol) fieldValue.getInternalValue());
-                    parameters.add(adapter);
-                } else {
+                // if a certain value is not found in the memory space,
+                // the record cannot be instantiated -> early return
+                if (fieldValue == null || fieldValue == Value.NONE) {
                     throw new RuntimeException(
-                            "Instantiating a record using the TypeInstantiator requires that all "
-                                    + "record members must be marked with @DSLTypeMember. Otherwise, no constructor invocation is possible");
+                            "The name of field "
+                                    + field.getField().getName()
+                                    + " cannot be resolved in the supplied memory space");
+                } else {
+                    parameters[i] = convertValueToObject(fieldValue);
                 }
+            } else if (field.isCallback()) {
+                var fieldValue = ms.resolve(field.getDSLName());
+
+                assert fieldValue.getDataType().getTypeKind() == IType.Kind.FunctionType;
+                assert fieldValue.getInternalValue() instanceof FunctionSymbol;
+
+                CallbackAdapter adapter =
+                        callbackAdapterBuilder.buildAdapter(
+                                (FunctionSymbol) fieldValue.getInternalValue());
+                parameters[i] = adapter;
+            } else {
+                throw new RuntimeException(
+                        "Instantiating a record using the TypeInstantiator requires that all "
+                                + "record members must be marked with @DSLTypeMember. Otherwise, no constructor invocation is possible");
             }
-            ctor.setAccessible(true);
-            return ctor.newInstance(parameters.toArray());
-        } catch (NoSuchFieldException
-                | InvocationTargetException
-                | InstantiationException
-                | IllegalAccessException e) {
-            throw new RuntimeException(e);
         }
+        return ctor.invoke(parameters);
     }
 
     private Object instantiateAggregateValueAsClass(AggregateType type, AggregateValue value) {
@@ -293,88 +280,56 @@ public class TypeInstantiator {
             throw new RuntimeException("Cannot instantiate an inner class");
         }
 
-        Constructor<?> ctor = getConstructor(originalJavaClass);
+        var accessors = type.getAccessors();
+        var ctor = accessors.constructor();
         if (null == ctor) {
             throw new RuntimeException(
                     "Could not find a suitable constructor to instantiate class "
                             + originalJavaClass.getName());
         }
 
-        Object instance;
-        try {
-            // get constructor
-            ctor.setAccessible(true);
-            ArrayList<Object> parameterValues = new ArrayList<>(ctor.getParameterCount());
-            for (var param : ctor.getParameters()) {
-                if (param.isAnnotationPresent(DSLContextMember.class)) {
-                    String contextMemberName = param.getAnnotation(DSLContextMember.class).name();
-                    Object contextMember = context.get(contextMemberName);
-                    parameterValues.add(contextMember);
-                } else {
-                    throw new RuntimeException(
-                            "Constructor parameter with name "
-                                    + param.getName()
-                                    + " is not marked as context parameter, cannot "
-                                    + "instantiate class "
-                                    + originalJavaClass.getName());
-                }
+        var contextMemberNames = accessors.constructorContextMemberNames();
+        Object[] parameterValues = new Object[contextMemberNames.length];
+        for (int i = 0; i < contextMemberNames.length; i++) {
+            if (contextMemberNames[i] != null) {
+                parameterValues[i] = context.get(contextMemberNames[i]);
+            } else {
+                throw new RuntimeException(
+                        "Constructor parameter with name "
+                                + ctor.getParameters()[i].getName()
+                                + " is not marked as context parameter, cannot "
+                                + "instantiate class "
+                                + originalJavaClass.getName());
             }
-
-            instance = ctor.newInstance(parameterValues.toArray());
-
-            // set values of the fields marked as DSLTypeMembers to corresponding values from
-            // the memory space
-            IMemorySpace ms = value.getMemorySpace();
-            for (Field field : originalJavaClass.getDeclaredFields()) {
-                String fieldName = TypeBuilder.getDSLFieldName(field);
-                var fieldValue = ms.resolve(fieldName);
-                if (field.isAnnotationPresent(DSLTypeMember.class)) {
-                    // we only should set the field value explicitly,
-                    // if it was set in the program (indicated by the dirty-flag)
-                    if (fieldValue != Value.NONE && fieldValue.isDirty()) {
-                        Object internalValue = convertValueToObject(fieldValue);
-
-                        field.setAccessible(true);
-                        field.set(instance, internalValue);
-                    }
-                }
-                if (field.isAnnotationPresent(DSLCallback.class)) {
-                    assert fieldValue.getDataType().getTypeKind() == IType.Kind.FunctionType;
-                    FunctionValue functionValue = (FunctionValue) fieldValue;
-                    if (!(functionValue.getCallable() instanceof FunctionSymbol functionSymbol)) {
-                        throw new RuntimeException(
-                                "Usage of non-FunctionSymbol callables as DSLCallback currently not supported");
-                    } else {
-                        CallbackAdapter adapter =
-                                callbackAdapterBuilder.buildAdapter(functionSymbol);
-                        field.setAccessible(true);
-                        field.set(instance, adapter);
-                    }
-                }
-            }
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
-            throw new RuntimeException(e);
         }
-        return instance;
-    }
 
-    private Constructor<?> getConstructor(Class<?> originalJavaClass) {
-        Constructor<?> ctor = null;
-        for (Constructor<?> constructor : originalJavaClass.getDeclaredConstructors()) {
-            ctor = constructor;
-            boolean unmarkedCtorParameter = false;
-            for (var parameter : ctor.getParameters()) {
-                if (!parameter.isAnnotationPresent(DSLContextMember.class)) {
-                    unmarkedCtorParameter = true;
-                    break;
+        Object instance = ctor.invoke(parameterValues);
+
+        // set values of the fields marked as DSLTypeMembers to corresponding values from
+        // the memory space
+        IMemorySpace ms = value.getMemorySpace();
+        for (var field : accessors.fields()) {
+            var fieldValue = ms.resolve(field.getDSLName());
+            if (field.isTypeMember()) {
+                // we only should set the field value explicitly,
+                // if it was set in the program (indicated by the dirty-flag)
+                if (fieldValue != Value.NONE && fieldValue.isDirty()) {
+                    Object internalValue = convertValueToObject(fieldValue);
+                    field.set(instance, internalValue);
                 }
             }
-
-            if (!unmarkedCtorParameter) {
-                break;
+            if (field.isCallback()) {
+                assert fieldValue.getDataType().getTypeKind() == IType.Kind.FunctionType;
+                FunctionValue functionValue = (FunctionValue) fieldValue;
+                if (!(functionValue.getCallable() instanceof FunctionSymbol functionSymbol)) {
+                    throw new RuntimeException(
+                            "Usage of non-FunctionSymbol callables as DSLCallback currently not supported");
+                } else {
+                    CallbackAdapter adapter = callbackAdapterBuilder.buildAdapter(functionSymbol);
+                    field.set(instance, adapter);
+                }
             }
         }
-
-        return ctor;
+        return instance;
     }
 }
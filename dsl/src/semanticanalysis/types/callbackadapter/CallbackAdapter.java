@@ -4,8 +4,6 @@ import core.utils.TriConsumer;
 
 import interpreter.DSLInterpreter;
 
-import parser.ast.FuncDefNode;
-
 import runtime.*;
 
 import semanticanalysis.FunctionSymbol;
@@ -25,24 +23,22 @@ public class CallbackAdapter implements Consumer, TriConsumer {
 
     private final RuntimeEnvironment rtEnv;
     private final FunctionType functionType;
-    private final FuncDefNode funcDefNode;
+    private final FunctionSymbol functionSymbol;
     private final DSLInterpreter interpreter;
 
     CallbackAdapter(
             RuntimeEnvironment rtEnv, FunctionSymbol functionSymbol, DSLInterpreter interpreter) {
         this.rtEnv = rtEnv;
         this.functionType = (FunctionType) functionSymbol.getDataType();
-        this.funcDefNode = functionSymbol.getAstRootNode();
+        this.functionSymbol = functionSymbol;
         this.interpreter = interpreter;
     }
 
     public Object call(Object... params) {
-        var functionSymbol = rtEnv.getSymbolTable().getSymbolsForAstNode(funcDefNode).get(0);
-
         var returnValue =
                 (Value)
                         interpreter.executeUserDefinedFunctionRawParameters(
-                                (FunctionSymbol) functionSymbol, Arrays.stream(params).toList());
+                                functionSymbol, Arrays.asList(params));
 
         return convertValueToObject(returnValue);
     }
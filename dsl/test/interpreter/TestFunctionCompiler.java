@@ -0,0 +1,100 @@
+package interpreter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import helpers.Helpers;
+
+import interpreter.mockecs.Entity;
+import interpreter.mockecs.TestComponentWithStringConsumerCallback;
+
+import org.junit.Test;
+
+import semanticanalysis.FunctionSymbol;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+public class TestFunctionCompiler {
+    private static final String PROGRAM =
+            """
+            entity_type my_type {
+                test_component_with_string_consumer_callback {
+                    on_interaction: print_twice
+                }
+            }
+
+            fn first(string text) -> string {
+                var result : string;
+                result = text;
+                if true {
+                    return result;
+                }
+                return "unreachable";
+            }
+
+            fn print_twice(string text) {
+                print(first(text));
+                var other : string;
+                other = first("world");
+                if false print("unreachable"); else {
+                    print(other);
+                }
+            }
+
+            quest_config c {
+                entity: instantiate(my_type)
+            }
+            """;
+
+    private static TestComponentWithStringConsumerCallback component(
+            DSLInterpreter interpreter) {
+        TestEnvironment env = new TestEnvironment();
+        var config =
+                (CustomQuestConfig)
+                        Helpers.generateQuestConfigWithCustomTypes(
+                                PROGRAM,
+                                env,
+                                interpreter,
+                                Entity.class,
+                                TestComponentWithStringConsumerCallback.class);
+        return (TestComponentWithStringConsumerCallback) config.entity().components.get(0);
+    }
+
+    private static FunctionSymbol function(DSLInterpreter interpreter, String name) {
+        return (FunctionSymbol)
+                interpreter.getRuntimeEnvironment().getSymbolTable().getGlobalScope().resolve(name);
+    }
+
+    @Test
+    public void callbackIsCompiled() {
+        DSLInterpreter interpreter = new DSLInterpreter();
+        var component = component(interpreter);
+
+        var outputStream = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outputStream));
+        component.executeCallbackWithText("hello");
+
+        assertNotNull(interpreter.compiledFunction(function(interpreter, "print_twice")));
+        assertNotNull(interpreter.compiledFunction(function(interpreter, "first")));
+        assertEquals(
+                "hello" + System.lineSeparator() + "world" + System.lineSeparator(),
+                outputStream.toString());
+    }
+
+    @Test
+    public void repeatedCallsUseNewFrames() {
+        DSLInterpreter interpreter = new DSLInterpreter();
+        var component = component(interpreter);
+
+        var outputStream = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outputStream));
+        component.executeCallbackWithText("one");
+        component.executeCallbackWithText("two");
+
+        String separator = System.lineSeparator();
+        assertEquals(
+                "one" + separator + "world" + separator + "two" + separator + "world" + separator,
+                outputStream.toString());
+    }
+}
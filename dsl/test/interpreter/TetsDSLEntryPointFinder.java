@@ -10,8 +10,10 @@ import task.Task;
 
 import taskdependencygraph.TaskNode;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -121,4 +123,42 @@ public class TetsDSLEntryPointFinder {
         task = taskNode.task();
         Assert.assertEquals("Kuckuck2", task.taskText());
     }
+
+    @Test
+    public void testUnchangedFileNotParsedAgain() throws URISyntaxException {
+        URL resource = getClass().getClassLoader().getResource("config1.dng");
+        assert resource != null;
+        Path path = Path.of(resource.toURI());
+
+        var firstEntryPoints = new DSLEntryPointFinder().getEntryPoints(path).get();
+        var secondEntryPoints = new DSLEntryPointFinder().getEntryPoints(path).get();
+        Assert.assertSame(
+                firstEntryPoints.get(0).file().rootASTNode(),
+                secondEntryPoints.get(0).file().rootASTNode());
+    }
+
+    @Test
+    public void testParsedContentsAreBounded() throws URISyntaxException, IOException {
+        URL resource = getClass().getClassLoader().getResource("config1.dng");
+        assert resource != null;
+        Path path = Path.of(resource.toURI());
+        String content = Files.readString(path);
+        var firstEntryPoints = new DSLEntryPointFinder().getEntryPoints(path).get();
+
+        // parse more other contents than are kept
+        Path other = Files.createTempFile("config", ".dng");
+        try {
+            for (int i = 0; i < DSLEntryPointFinder.PARSED_CONTENTS_SIZE; i++) {
+                Files.writeString(other, content + "\n// " + i);
+                new DSLEntryPointFinder().getEntryPoints(other);
+            }
+        } finally {
+            Files.delete(other);
+        }
+
+        var secondEntryPoints = new DSLEntryPointFinder().getEntryPoints(path).get();
+        Assert.assertNotSame(
+                firstEntryPoints.get(0).file().rootASTNode(),
+                secondEntryPoints.get(0).file().rootASTNode());
+    }
 }
@@ -2,9 +2,12 @@ package runtime;
 
 import interpreter.mockecs.*;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 import semanticanalysis.Scope;
+import semanticanalysis.Symbol;
+import semanticanalysis.types.BuiltInType;
 
 public class TestGameEnvironment {
     @Test(expected = RuntimeException.class)
@@ -32,4 +35,43 @@ public class TestGameEnvironment {
                                 Scope.NULL, TestComponentWithExternalType.class);
         env.loadTypes(externalComponentType, adapterType, otherAdapterType);
     }
+
+    @Test
+    public void sharedBuiltInTypes() {
+        var env = new GameEnvironment();
+        var otherEnv = new GameEnvironment();
+
+        var entityType = env.getGlobalScope().resolve("entity");
+        Assert.assertNotEquals(Symbol.NULL, entityType);
+        Assert.assertSame(entityType, otherEnv.getGlobalScope().resolve("entity"));
+        Assert.assertNotSame(env.getGlobalScope(), otherEnv.getGlobalScope());
+        Assert.assertNotSame(env.getGlobalScope(), entityType.getScope());
+
+        // types created later are not shared
+        env.getTypeBuilder().createDSLTypeForJavaTypeInScope(new Scope(), TestComponent1.class);
+        var typeMap = env.getTypeBuilder().getJavaTypeToDSLTypeMap();
+        var otherTypeMap = otherEnv.getTypeBuilder().getJavaTypeToDSLTypeMap();
+        Assert.assertTrue(typeMap.containsKey(TestComponent1.class));
+        Assert.assertFalse(otherTypeMap.containsKey(TestComponent1.class));
+    }
+
+    @Test
+    public void loadedTypesPerEnvironment() {
+        var env = new GameEnvironment();
+        var otherEnv = new GameEnvironment();
+
+        var globalScope = env.getGlobalScope();
+        var type =
+                env.getTypeBuilder()
+                        .createDSLTypeForJavaTypeInScope(globalScope, TestComponent1.class);
+        env.loadTypes(type);
+        Assert.assertSame(type, env.getGlobalScope().resolve(type.getName()));
+        Assert.assertEquals(Symbol.NULL, otherEnv.getGlobalScope().resolve(type.getName()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void builtInScopeImmutable() {
+        var entityType = new GameEnvironment().getGlobalScope().resolve("entity");
+        entityType.getScope().bind(new Symbol("test", Scope.NULL, BuiltInType.intType));
+    }
 }
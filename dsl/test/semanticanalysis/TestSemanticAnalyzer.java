@@ -428,6 +428,54 @@ public class TestSemanticAnalyzer {
         Assert.assertEquals(NativePrint.func, funcCallSymbol);
     }
 
+    /** Test, if parameters and local variables of a function are assigned a slot in its frame */
+    @Test
+    public void funcDefSlots() {
+        String program =
+                """
+            fn test_func(int param1, string param2) -> int
+            {
+                var first : int;
+                {
+                    var second : string;
+                    print(param2);
+                }
+            }
+            """;
+
+        var ast = Helpers.getASTFromString(program);
+        var result = Helpers.getSymtableForAST(ast);
+
+        FuncDefNode funcDefNode = (FuncDefNode) ast.getChild(0);
+        var funcSymbol =
+                (FunctionSymbol) result.symbolTable.getSymbolsForAstNode(funcDefNode).get(0);
+        var parameters = funcSymbol.getSymbols();
+        Assert.assertEquals(1, parameters.get(0).getSlot());
+        Assert.assertEquals(2, parameters.get(1).getSlot());
+
+        var outerStmtBlock = (StmtBlockNode) funcDefNode.getStmtBlock();
+        var firstDecl = outerStmtBlock.getStmts().get(0);
+        var firstSymbol = result.symbolTable.getSymbolsForAstNode(firstDecl).get(0);
+        Assert.assertEquals(3, firstSymbol.getSlot());
+
+        var innerStmtBlock = (StmtBlockNode) outerStmtBlock.getStmts().get(1);
+        var secondDecl = innerStmtBlock.getStmts().get(0);
+        var secondSymbol = result.symbolTable.getSymbolsForAstNode(secondDecl).get(0);
+        Assert.assertEquals(4, secondSymbol.getSlot());
+        Assert.assertEquals(5, funcSymbol.getFrameSize());
+
+        // the identifier is resolved to the parameter, the lookup is cached
+        var funcCallNode = (FuncCallNode) innerStmtBlock.getStmts().get(1);
+        var paramReference = funcCallNode.getParameters().get(0);
+        var symbols = result.symbolTable.getSymbolsForAstNode(paramReference);
+        Assert.assertEquals(parameters.get(1), symbols.get(0));
+        Assert.assertSame(symbols, result.symbolTable.getSymbolsForAstNode(paramReference));
+
+        // global symbols are resolved by name
+        Assert.assertEquals(Symbol.NO_SLOT, funcSymbol.getSlot());
+        Assert.assertEquals(Symbol.NO_SLOT, NativePrint.func.getSlot());
+    }
+
     /** Test, if a native function call is correctly resolved in nested stmt blocks */
     @Test
     public void funcDefIfElse() {
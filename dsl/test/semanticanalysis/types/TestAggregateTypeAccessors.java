@@ -0,0 +1,64 @@
+package semanticanalysis.types;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import semanticanalysis.Scope;
+
+public class TestAggregateTypeAccessors {
+    @DSLType
+    private record TestRecord(@DSLTypeMember int value, @DSLTypeMember String name) {}
+
+    @Test
+    public void testAccessorsSharedByType() {
+        TypeBuilder tb = new TypeBuilder();
+        Scope scope = new Scope();
+        var type = (AggregateType) tb.createDSLTypeForJavaTypeInScope(scope, TestClassOuter.class);
+
+        var accessors = type.getAccessors();
+        Assert.assertSame(accessors, type.getAccessors());
+
+        var fields = accessors.typeMemberFields(TestClassOuter.class);
+        Assert.assertSame(fields, accessors.typeMemberFields(TestClassOuter.class));
+        Assert.assertEquals(3, fields.size());
+        Assert.assertTrue(fields.containsKey("member1"));
+        Assert.assertTrue(fields.containsKey("member2"));
+        Assert.assertTrue(fields.containsKey("member3"));
+        Assert.assertEquals(3, accessors.fields().size());
+    }
+
+    @Test
+    public void testFieldAccessor() {
+        TypeBuilder tb = new TypeBuilder();
+        Scope scope = new Scope();
+        var type = (AggregateType) tb.createDSLTypeForJavaTypeInScope(scope, TestClassOuter.class);
+        var fields = type.getAccessors().typeMemberFields(TestClassOuter.class);
+
+        TestClassOuter instance = new TestClassOuter();
+        Assert.assertTrue(fields.get("member1").set(instance, "Hello"));
+        Assert.assertTrue(fields.get("member2").set(instance, 42));
+        Assert.assertEquals("Hello", fields.get("member1").get(instance));
+        Assert.assertEquals(42, fields.get("member2").get(instance));
+    }
+
+    @Test
+    public void testRecordConstructor() {
+        TypeBuilder tb = new TypeBuilder();
+        Scope scope = new Scope();
+        var type = (AggregateType) tb.createDSLTypeForJavaTypeInScope(scope, TestRecord.class);
+        var accessors = type.getAccessors();
+
+        var fields = accessors.constructorParameterFields();
+        Assert.assertEquals(2, fields.length);
+        Assert.assertEquals("value", fields[0].getDSLName());
+        Assert.assertEquals("name", fields[1].getDSLName());
+
+        var instance = accessors.constructor().invoke(new Object[] {3, "three"});
+        Assert.assertEquals(new TestRecord(3, "three"), instance);
+        Assert.assertEquals(3, fields[0].get(instance));
+
+        // the fields of a record are final
+        Assert.assertFalse(fields[0].set(instance, 4));
+        Assert.assertEquals(3, fields[0].get(instance));
+    }
+}
@@ -2,9 +2,11 @@ package dungeonFiles;
 
 import java.io.*;
 import java.nio.file.*;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -23,6 +25,12 @@ public class DslFileLoader {
     private static final String JAR_FILE_ENDING = ".jar";
     private static final String SCRIPT_FOLDER = "scripts/";
 
+    // DSL files in the scanned jars; a jar is scanned again, if it was changed
+    private record ScannedJar(long lastModified, long size, Set<Path> dslFiles) {}
+
+    private static final ConcurrentHashMap<String, ScannedJar> scannedJars =
+            new ConcurrentHashMap<>();
+
     /**
      * Load DSL files from the given paths.
      *
@@ -31,7 +39,8 @@ public class DslFileLoader {
      *
      * <p>If it's a DSL file, the function adds the file's path to the return set.
      *
-     * <p>If it's a jar, it loads each DSL file from the "/script" directory within the jar.
+     * <p>If it's a jar, it loads each DSL file from the "/script" directory within the jar. The
+     * content of a jar is only scanned once, as long as the jar does not change.
      *
      * <p>Non-DSL files will be ignored.
      *
@@ -49,7 +58,7 @@ public class DslFileLoader {
             if (Files.exists(path)) {
                 String fileName = path.getFileName().toString();
                 if (fileName.endsWith(JAR_FILE_ENDING)) {
-                    Set<Path> jarPaths = findDSLFilesInJar(arg);
+                    Set<Path> jarPaths = cachedDSLFilesInJar(arg, path);
                     foundPaths.addAll(jarPaths);
                 } else if (fileName.endsWith(DSL_FILE_ENDING)) {
                     foundPaths.add(path);
@@ -60,6 +69,20 @@ public class DslFileLoader {
         return foundPaths;
     }
 
+    private static Set<Path> cachedDSLFilesInJar(String jarPath, Path path) throws IOException {
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        long size = Files.size(path);
+        ScannedJar scannedJar = scannedJars.get(jarPath);
+        if (scannedJar == null
+                || scannedJar.lastModified() != lastModified
+                || scannedJar.size() != size) {
+            Set<Path> dslFiles = Collections.unmodifiableSet(findDSLFilesInJar(jarPath));
+            scannedJar = new ScannedJar(lastModified, size, dslFiles);
+            scannedJars.put(jarPath, scannedJar);
+        }
+        return scannedJar.dslFiles();
+    }
+
     /**
      * Search for files in the "/script" directory of the given jar file.
      *
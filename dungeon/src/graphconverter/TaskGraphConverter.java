@@ -1,6 +1,5 @@
 package graphconverter;
 
-import contrib.level.generator.GeneratorUtils;
 import contrib.level.generator.graphBased.LevelGraphGenerator;
 import contrib.level.generator.graphBased.RoombasedLevelGenerator;
 import contrib.level.generator.graphBased.levelGraph.Direction;
@@ -13,6 +12,7 @@ import core.level.elements.tile.DoorTile;
 import core.level.utils.DesignLabel;
 
 import petriNet.PetriNet;
+import petriNet.PetriNetEngine;
 
 import task.Task;
 import task.components.DoorComponent;
@@ -199,7 +199,8 @@ public class TaskGraphConverter {
             // for each edge to another graph, find the door and at it to the Map.
             for (Direction dir : dirs) {
                 DoorTile door =
-                        GeneratorUtils.doorAt(levelNode.level(), dir)
+                        levelNode
+                                .door(dir)
                                 .orElseThrow(
                                         () ->
                                                 new RuntimeException(
@@ -261,13 +262,12 @@ public class TaskGraphConverter {
                                         noteToNet.get(taskEdge.endNode()),
                                         taskEdge.edgeType()));
 
-        // init token
-        noteToNet
-                .values()
-                .forEach(
-                        petriNet -> {
-                            petriNet.taskNotActivated().placeToken();
-                        });
+        // init token, the transitions fire after all tokens are placed
+        PetriNetEngine.batch(
+                () ->
+                        noteToNet
+                                .values()
+                                .forEach(petriNet -> petriNet.taskNotActivated().placeToken()));
         return noteToNet;
     }
 }
@@ -0,0 +1,130 @@
+package petriNet;
+
+import java.util.ArrayDeque;
+
+/**
+ * Fires the enabled {@link Transition}s of all Petri nets.
+ *
+ * <p>If a {@link Place} changes its token count, it notifies its transitions. A Transition, whose
+ * dependency places all have a token, is added to a worklist instead of firing immediately. The
+ * worklist is processed in FIFO order, so the firing order is deterministic and long chains of
+ * transitions do not cause deep recursion. A Transition that is still enabled after it fired is
+ * added to the end of the worklist again.
+ *
+ * <p>By default, the worklist is processed until no Transition is enabled anymore, before the
+ * outermost call of {@link Place#placeToken()} or {@link Place#removeToken()} returns. Use {@link
+ * #batch(Runnable)} to change multiple places before the transitions fire, or disable {@link
+ * #autoRun(boolean)} to fire the transitions step by step with {@link #step(int)} and {@link
+ * #runToQuiescence()}.
+ *
+ * <p>Like the rest of the task system, the engine is not thread safe and should only be used from
+ * the game thread.
+ */
+public final class PetriNetEngine {
+    private static final ArrayDeque<Transition> worklist = new ArrayDeque<>();
+    private static boolean autoRun = true;
+    private static int batchDepth = 0;
+    private static boolean running = false;
+
+    private PetriNetEngine() {}
+
+    /**
+     * Add a Transition to the worklist.
+     *
+     * <p>If the engine is not already processing the worklist, the worklist will be processed
+     * until no Transition is enabled anymore, unless {@link #autoRun(boolean)} is disabled or a
+     * {@link #batch(Runnable)} is executed.
+     *
+     * @param transition Transition to fire.
+     */
+    static void schedule(final Transition transition) {
+        enqueue(transition);
+        if (autoRun && batchDepth == 0 && !running) runToQuiescence();
+    }
+
+    private static void enqueue(final Transition transition) {
+        if (!transition.scheduled) {
+            transition.scheduled = true;
+            worklist.add(transition);
+        }
+    }
+
+    /**
+     * Fire at most the given number of enabled transitions from the worklist.
+     *
+     * <p>Transitions in the worklist that are not enabled anymore (because another Transition took
+     * their tokens) are removed without firing.
+     *
+     * @param maxFirings Maximum number of transitions to fire.
+     * @return Number of fired transitions.
+     */
+    public static int step(int maxFirings) {
+        boolean wasRunning = running;
+        running = true;
+        int fired = 0;
+        try {
+            while (fired < maxFirings && !worklist.isEmpty()) {
+                Transition transition = worklist.poll();
+                transition.scheduled = false;
+                if (transition.isEnabled()) {
+                    transition.fire();
+                    fired++;
+                    if (transition.isEnabled()) enqueue(transition);
+                }
+            }
+        } finally {
+            running = wasRunning;
+        }
+        return fired;
+    }
+
+    /**
+     * Fire transitions until no Transition is enabled anymore.
+     *
+     * @return Number of fired transitions.
+     */
+    public static int runToQuiescence() {
+        return step(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Execute the given changes of the Petri nets without firing transitions in between.
+     *
+     * <p>After the changes, the transitions are fired until no Transition is enabled anymore
+     * (if {@link #autoRun(boolean)} is enabled).
+     *
+     * @param changes Changes to execute, for example placing the initial tokens.
+     */
+    public static void batch(final Runnable changes) {
+        batchDepth++;
+        try {
+            changes.run();
+        } finally {
+            batchDepth--;
+        }
+        if (autoRun && batchDepth == 0 && !running) runToQuiescence();
+    }
+
+    /**
+     * Enable or disable the automatic firing of transitions.
+     *
+     * <p>If disabled, enabled transitions are only added to the worklist and fire on {@link
+     * #step(int)} or {@link #runToQuiescence()}. Enabling it again fires all transitions in the
+     * worklist.
+     *
+     * @param enabled true to fire transitions automatically (default), false to fire them manually.
+     */
+    public static void autoRun(boolean enabled) {
+        autoRun = enabled;
+        if (autoRun && batchDepth == 0 && !running) runToQuiescence();
+    }
+
+    /**
+     * Get the number of transitions in the worklist.
+     *
+     * @return Number of transitions waiting to fire.
+     */
+    public static int pendingTransitions() {
+        return worklist.size();
+    }
+}
@@ -2,8 +2,9 @@ package petriNet;
 
 import task.Task;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -15,7 +16,8 @@ import java.util.Set;
  *
  * <p>Places can be observed by {@link Transition}. If a new token is added to a Place, it will
  * notify all observer transitions. Use {@link #register(Transition)} to register a Transition as an
- * observer.
+ * observer. Observers are notified in the order of their registration. Enabled transitions do not
+ * fire immediately, they are scheduled by the {@link PetriNetEngine}.
  *
  * <p>A Place can change the {@link task.Task.TaskState} of a {@link Task} if a token is added. Add
  * a {@link Task} whose state should be changed via {@link #changeStateOnTokenAdd(Task,
@@ -29,10 +31,16 @@ import java.util.Set;
  * possible. Transitions are not impacted by this limitation.
  */
 public class Place {
+    /** Orders places by their creation. */
+    static final Comparator<Place> CREATION_ORDER = Comparator.comparingInt(place -> place.id);
+
+    private static int nextId = 0;
+
+    private final int id = nextId++;
     private int tokenCount = 0;
-    private final Map<Task, Task.TaskState> observe = new HashMap<>();
-    private final Map<Task, Task.TaskState> changeStateOnTokenAdd = new HashMap<>();
-    private final Set<Transition> transition = new HashSet<>();
+    private final Map<Task, Task.TaskState> observe = new LinkedHashMap<>();
+    private final Map<Task, Task.TaskState> changeStateOnTokenAdd = new LinkedHashMap<>();
+    private final Set<Transition> transition = new LinkedHashSet<>();
 
     /**
      * Add a Task to observe. If the Task changes its state to the given state, this place will
@@ -1,22 +1,30 @@
 package petriNet;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 /**
  * Represents a Transition in a Petri net.
  *
  * <p>A Transition observes a Set of {@link Place}s. If each place has at least one token, the
- * Transition will fire.
+ * Transition is enabled and will be fired by the {@link PetriNetEngine}.
  *
  * <p>If a Transition fires, it will place a Token in each {@link Place} defined in the constructor.
+ *
+ * <p>The Transition counts its dependency places without a token, so a notification does not need
+ * to check all dependency places. Places are removed from and added to in the order of their
+ * creation, so the firing order does not depend on the iteration order of the passed sets.
  */
 public class Transition {
 
-    private final Map<Place, Boolean> dependencyPlaces;
-    private final Set<Place> addTokenOnFire;
+    private final Map<Place, Boolean> dependencyPlaces = new TreeMap<>(Place.CREATION_ORDER);
+    private final Set<Place> addTokenOnFire = new TreeSet<>(Place.CREATION_ORDER);
+    // number of dependency places without a token
+    private int unsatisfiedDependencies = 0;
+    // true, if this Transition is in the worklist of the PetriNetEngine
+    boolean scheduled = false;
 
     /**
      * Creates a new Transition.
@@ -29,28 +37,41 @@ public class Transition {
      *     this transition.
      */
     public Transition(final Set<Place> dependencyPlaces, final Set<Place> addTokenOnFire) {
-        this.addTokenOnFire = new HashSet<>(addTokenOnFire);
-        this.dependencyPlaces = new HashMap<>();
+        this.addTokenOnFire.addAll(addTokenOnFire);
         for (Place place : dependencyPlaces) {
-            this.dependencyPlaces.put(place, place.tokenCount() > 0);
-            place.register(this);
+            addDependency(place);
         }
     }
 
     /**
      * Notify a Transition that the given Place has increased or decreased its token count.
      *
+     * <p>If each dependency place has at least one token, the Transition will be scheduled to fire
+     * (see {@link PetriNetEngine}).
+     *
      * @param place Place that has increased its token count.
      */
     public void notify(final Place place) {
-        if (place.tokenCount() > 0) {
-            dependencyPlaces.replace(place, true);
-            // if all places have a token fire
-            if (dependencyPlaces.values().stream().allMatch(v -> v)) fire();
-        } else dependencyPlaces.replace(place, false);
+        Boolean hadToken = dependencyPlaces.get(place);
+        if (hadToken == null) return;
+        boolean hasToken = place.tokenCount() > 0;
+        if (hasToken != hadToken) {
+            dependencyPlaces.put(place, hasToken);
+            unsatisfiedDependencies += hasToken ? -1 : 1;
+        }
+        if (hasToken && unsatisfiedDependencies == 0) PetriNetEngine.schedule(this);
+    }
+
+    /**
+     * Check if this Transition can fire.
+     *
+     * @return true if each dependency place has at least one token, false if not.
+     */
+    boolean isEnabled() {
+        return unsatisfiedDependencies == 0 && !dependencyPlaces.isEmpty();
     }
 
-    private void fire() {
+    void fire() {
         dependencyPlaces.keySet().forEach(Place::removeToken);
         addTokenOnFire.forEach(Place::placeToken);
     }
@@ -61,7 +82,10 @@ public class Transition {
      * @param place place to add
      */
     public void addDependency(final Place place) {
-        this.dependencyPlaces.put(place, place.tokenCount() > 0);
+        boolean hasToken = place.tokenCount() > 0;
+        Boolean hadToken = this.dependencyPlaces.put(place, hasToken);
+        if (hadToken != null && !hadToken) unsatisfiedDependencies--;
+        if (!hasToken) unsatisfiedDependencies++;
         place.register(this);
     }
 
@@ -59,8 +59,7 @@ public class Starter {
                 @Override
                 public void accept(Entity entity) {
                     StringBuilder questlogBuilder = new StringBuilder();
-                    Task.allTasks()
-                            .filter(t -> t.state() == Task.TaskState.ACTIVE)
+                    Task.allTasks(Task.TaskState.ACTIVE)
                             .forEach(
                                     task ->
                                             questlogBuilder
@@ -182,7 +181,8 @@ public class Starter {
         Game.loadConfig(
                 "dungeon_config.json",
                 contrib.configuration.KeyboardConfig.class,
-                core.configuration.KeyboardConfig.class);
+                core.configuration.KeyboardConfig.class,
+                core.configuration.LoggingConfig.class);
         Crafting.loadRecipes();
     }
 
@@ -11,7 +11,6 @@ import task.components.TaskContentComponent;
 
 import java.util.*;
 import java.util.function.BiFunction;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -31,19 +30,33 @@ import java.util.stream.Stream;
  *
  * <p>Using {@link #registerPlace(Place)}, {@link Place}s can be registered to this task. If the
  * task state changes, each registered place will be notified.
+ *
+ * <p>All tasks are registered by their state with weak references, so {@link
+ * #allTasks(TaskState)} only visits the tasks in the requested state, and tasks of finished
+ * dungeons can be garbage collected.
  */
 @DSLType
 public abstract class Task {
 
-    private static final Set<Task> ALL_TASKS = new HashSet<>();
+    // weak sets of all tasks by their state
+    private static final EnumMap<TaskState, Set<Task>> TASKS_BY_STATE =
+            new EnumMap<>(TaskState.class);
+
+    static {
+        for (TaskState state : TaskState.values())
+            TASKS_BY_STATE.put(state, Collections.newSetFromMap(new WeakHashMap<>()));
+    }
+
     private static final String DEFAULT_TASK_TEXT = "No task description provided";
     private static final TaskState DEFAULT_TASK_STATE = TaskState.INACTIVE;
     private TaskState state;
     private String taskText;
-    private final Set<Place> observer = new HashSet<>();
+    private final Set<Place> observer = new LinkedHashSet<>();
     private Entity managementEntity;
 
     private Set<Set<Entity>> entitySets = new HashSet<>();
+    // entities of the entity sets by their task content, see find(TaskContent)
+    private Map<TaskContent, Entity> contentIndex;
 
     protected List<TaskContent> content;
     protected BiFunction<Task, Set<TaskContent>, Float> scoringFunction;
@@ -53,8 +66,8 @@ public abstract class Task {
      * with an empty content-collection and without an {@link TaskComponent}.
      */
     public Task() {
-        ALL_TASKS.add(this);
         state = DEFAULT_TASK_STATE;
+        TASKS_BY_STATE.get(state).add(this);
         taskText = DEFAULT_TASK_TEXT;
         content = new LinkedList<>();
     }
@@ -89,7 +102,9 @@ public abstract class Task {
      */
     public boolean state(final TaskState state) {
         if (this.state == state) return false;
+        TASKS_BY_STATE.get(this.state).remove(this);
         this.state = state;
+        TASKS_BY_STATE.get(state).add(this);
         observer.forEach(place -> place.notify(this, state));
 
         if (state == TaskState.ACTIVE && managementEntity != null)
@@ -161,6 +176,7 @@ public abstract class Task {
      */
     public void entitieSets(Set<Set<Entity>> entitySets) {
         this.entitySets = entitySets;
+        this.contentIndex = null;
     }
 
     /**
@@ -193,35 +209,65 @@ public abstract class Task {
     /**
      * Get a stream of all Task-Objects that exist.
      *
-     * @return Stream of all Task-Objects that ever exist.
+     * @return Stream of all Task-Objects that exist and are not garbage collected.
      */
     public static Stream<Task> allTasks() {
-        return new HashSet<>(ALL_TASKS).stream();
+        List<Task> tasks = new ArrayList<>();
+        TASKS_BY_STATE.values().forEach(tasks::addAll);
+        return tasks.stream();
+    }
+
+    /**
+     * Get a stream of all Task-Objects in the given state.
+     *
+     * <p>Only the tasks in the given state are visited.
+     *
+     * @param state State of the tasks.
+     * @return Stream of all Task-Objects in the given state.
+     */
+    public static Stream<Task> allTasks(final TaskState state) {
+        return new ArrayList<>(TASKS_BY_STATE.get(state)).stream();
     }
 
     /**
      * Finds the entity that implements the TaskContentComponent linked to the given TaskContent.
      *
+     * <p>The entities of the entity sets are indexed by their content. The index is checked on
+     * each call and built again, if the entity does not represent the content anymore (for
+     * example, because its {@link TaskContentComponent} was replaced) or if the content is not
+     * indexed.
+     *
      * @param content The task content to find the entity for.
      * @return The entity that implements the TaskContentComponent linked to the given content.
      */
     public Entity find(TaskContent content) {
-        final Entity[] found = {null};
-        entitySets.forEach(
-                set ->
-                        set.forEach(
-                                entity ->
-                                        entity.fetch(TaskContentComponent.class)
-                                                .ifPresent(
-                                                        taskContentComponent -> {
-                                                            if (taskContentComponent.stream()
-                                                                    .collect(Collectors.toSet())
-                                                                    .contains(content)) {
-                                                                found[0] = entity;
-                                                            }
-                                                        })));
-
-        return found[0];
+        if (contentIndex != null) {
+            Entity entity = contentIndex.get(content);
+            if (entity != null && represents(entity, content)) return entity;
+        }
+        contentIndex = buildContentIndex();
+        return contentIndex.get(content);
+    }
+
+    private boolean represents(final Entity entity, final TaskContent content) {
+        boolean hasContent =
+                entity.fetch(TaskContentComponent.class)
+                        .map(component -> component.contains(content))
+                        .orElse(false);
+        return hasContent && entitySets.stream().anyMatch(set -> set.contains(entity));
+    }
+
+    private Map<TaskContent, Entity> buildContentIndex() {
+        Map<TaskContent, Entity> index = new HashMap<>();
+        for (Set<Entity> set : entitySets) {
+            for (Entity entity : set) {
+                entity.fetch(TaskContentComponent.class)
+                        .ifPresent(
+                                component ->
+                                        component.stream().forEach(c -> index.put(c, entity)));
+            }
+        }
+        return index;
     }
 
     /**
@@ -16,7 +16,8 @@ import java.util.stream.Stream;
  * <p>Using this component, a connection can be made between the in-game entity and the elements
  * from the task description.
  *
- * <p>The collection can be queried as a stream using {@link #stream()}
+ * <p>The collection can be queried as a stream using {@link #stream()}, use {@link
+ * #contains(TaskContent)} to check for a single content.
  */
 public final class TaskContentComponent implements Component {
 
@@ -49,4 +50,14 @@ public final class TaskContentComponent implements Component {
     public Stream<TaskContent> stream() {
         return content.stream();
     }
+
+    /**
+     * Check if the given {@link TaskContent} is represented by this component.
+     *
+     * @param content content to check for
+     * @return true if the content is represented by this component, false if not
+     */
+    public boolean contains(final TaskContent content) {
+        return this.content.contains(content);
+    }
 }
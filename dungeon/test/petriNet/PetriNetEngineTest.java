@@ -0,0 +1,94 @@
+package petriNet;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Set;
+
+public class PetriNetEngineTest {
+
+    @After
+    public void cleanup() {
+        PetriNetEngine.autoRun(true);
+    }
+
+    @Test
+    public void longChain_noRecursion() {
+        Place first = new Place();
+        Place last = first;
+        for (int i = 0; i < 100_000; i++) {
+            Place next = new Place();
+            new Transition(Set.of(last), Set.of(next));
+            last = next;
+        }
+        first.placeToken();
+        assertEquals(0, first.tokenCount());
+        assertEquals(1, last.tokenCount());
+    }
+
+    @Test
+    public void step() {
+        Place a = new Place();
+        Place b = new Place();
+        Place c = new Place();
+        new Transition(Set.of(a), Set.of(b));
+        new Transition(Set.of(b), Set.of(c));
+        PetriNetEngine.autoRun(false);
+        a.placeToken();
+        assertEquals(1, PetriNetEngine.pendingTransitions());
+        assertEquals(1, a.tokenCount());
+
+        assertEquals(1, PetriNetEngine.step(1));
+        assertEquals(0, a.tokenCount());
+        assertEquals(1, b.tokenCount());
+        assertEquals(0, c.tokenCount());
+
+        assertEquals(1, PetriNetEngine.runToQuiescence());
+        assertEquals(1, c.tokenCount());
+        assertEquals(0, PetriNetEngine.pendingTransitions());
+    }
+
+    @Test
+    public void batch() {
+        Place a = new Place();
+        Place b = new Place();
+        Place end = new Place();
+        new Transition(Set.of(a, b), Set.of(end));
+        PetriNetEngine.batch(
+                () -> {
+                    a.placeToken();
+                    b.placeToken();
+                    assertEquals("Transition should not fire yet.", 0, end.tokenCount());
+                });
+        assertEquals(1, end.tokenCount());
+    }
+
+    @Test
+    public void conflict_firstRegisteredFires() {
+        Place shared = new Place();
+        Place first = new Place();
+        Place second = new Place();
+        new Transition(Set.of(shared), Set.of(first));
+        new Transition(Set.of(shared), Set.of(second));
+        shared.placeToken();
+        assertEquals(1, first.tokenCount());
+        assertEquals(0, second.tokenCount());
+    }
+
+    @Test
+    public void fireUntilDisabled() {
+        Place a = new Place();
+        Place b = new Place();
+        new Transition(Set.of(a), Set.of(b));
+        PetriNetEngine.batch(
+                () -> {
+                    a.placeToken();
+                    a.placeToken();
+                    a.placeToken();
+                });
+        assertEquals(0, a.tokenCount());
+        assertEquals(3, b.tokenCount());
+    }
+}
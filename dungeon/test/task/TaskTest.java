@@ -3,6 +3,7 @@ package task;
 import static junit.framework.TestCase.assertEquals;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import core.Entity;
@@ -14,8 +15,10 @@ import org.mockito.Mockito;
 import petriNet.Place;
 
 import task.components.TaskComponent;
+import task.components.TaskContentComponent;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiFunction;
 
 public class TaskTest {
@@ -117,5 +120,43 @@ public class TaskTest {
         assertEquals(scoring, task.scoringFunction());
     }
 
+    @Test
+    public void allTasks_byState() {
+        assertTrue(Task.allTasks(Task.TaskState.INACTIVE).toList().contains(task));
+        assertFalse(Task.allTasks(Task.TaskState.ACTIVE).toList().contains(task));
+        task.state(Task.TaskState.ACTIVE);
+        assertFalse(Task.allTasks(Task.TaskState.INACTIVE).toList().contains(task));
+        assertTrue(Task.allTasks(Task.TaskState.ACTIVE).toList().contains(task));
+        assertTrue(Task.allTasks().toList().contains(task));
+    }
+
+    @Test
+    public void find() {
+        TaskContent a = new DummyContent(task);
+        TaskContent b = new DummyContent(task);
+        TaskContent c = new DummyContent(task);
+        Entity entityA = new Entity();
+        entityA.addComponent(new TaskContentComponent(Set.of(a, b)));
+        Entity entityC = new Entity();
+        entityC.addComponent(new TaskContentComponent(c));
+        task.entitieSets(Set.of(Set.of(entityA), Set.of(entityC)));
+
+        assertEquals(entityA, task.find(a));
+        assertEquals(entityA, task.find(b));
+        assertEquals(entityC, task.find(c));
+
+        // the index follows a changed component
+        entityA.addComponent(new TaskContentComponent(a));
+        entityC.addComponent(new TaskContentComponent(Set.of(b, c)));
+        assertEquals(entityC, task.find(b));
+        assertNull(task.find(new DummyContent(task)));
+    }
+
     private static class DummyTask extends Task {}
+
+    private static class DummyContent extends TaskContent {
+        private DummyContent(Task task) {
+            super(task);
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package benchmark;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+
+import org.mockito.Mockito;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Prepares a benchmark to run without a window.
+ *
+ * <p>Like the tests, the benchmarks do not start a libGDX application. {@link Gdx#graphics} is
+ * replaced by a mock that reports a fixed frame time, and the logging is turned off, so the
+ * benchmarks measure the code and not the log handler.
+ */
+public final class Headless {
+    /** Frame time reported by the stubbed {@link Gdx#graphics}. */
+    public static final float DELTA_TIME = 1f / 30;
+
+    private Headless() {}
+
+    /** Stub {@link Gdx#graphics} and turn off the logging. */
+    public static void setup() {
+        Graphics graphics = Mockito.mock(Graphics.class);
+        Mockito.when(graphics.getDeltaTime()).thenReturn(DELTA_TIME);
+        Mockito.when(graphics.getWidth()).thenReturn(640);
+        Mockito.when(graphics.getHeight()).thenReturn(480);
+        Gdx.graphics = graphics;
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    /** Remove the stub of {@link Gdx#graphics}. */
+    public static void teardown() {
+        Gdx.graphics = null;
+    }
+}
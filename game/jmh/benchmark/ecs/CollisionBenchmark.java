@@ -0,0 +1,87 @@
+package benchmark.ecs;
+
+import benchmark.Headless;
+
+import contrib.components.CollideComponent;
+import contrib.systems.CollisionSystem;
+
+import core.Entity;
+import core.Game;
+import core.components.PositionComponent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one execution of the {@link CollisionSystem}.
+ *
+ * <p>The entities are spread over a square with about four tiles per entity, so some of the
+ * hitboxes overlap. Each execution moves the entities back and forth by a fraction of a tile,
+ * like a frame of the game would, so the collisions begin and end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    private static final long SEED = 42;
+    private static final float STEP = 0.1f;
+
+    @Param({"100", "1000", "5000"})
+    public int entities;
+
+    private CollisionSystem system;
+    private PositionComponent[] positions;
+    private int frame;
+
+    @Setup
+    public void setup() {
+        Headless.setup();
+        system = new CollisionSystem();
+        Game.add(system);
+        Random random = new Random(SEED);
+        float side = (float) Math.sqrt(entities * 4.0);
+        positions = new PositionComponent[entities];
+        for (int i = 0; i < entities; i++) {
+            Entity entity = new Entity();
+            positions[i] =
+                    new PositionComponent(random.nextFloat() * side, random.nextFloat() * side);
+            entity.addComponent(positions[i]);
+            entity.addComponent(new CollideComponent());
+            Game.add(entity);
+        }
+    }
+
+    @TearDown
+    public void teardown() {
+        Game.removeAllEntities();
+        Game.removeAllSystems();
+        Headless.teardown();
+    }
+
+    @Benchmark
+    public void execute() {
+        float step = (frame++ & 1) == 0 ? STEP : -STEP;
+        for (int i = 0; i < positions.length; i++) {
+            // every second entity moves the other way, so the entities pass each other
+            positions[i].position().x += (i & 1) == 0 ? step : -step;
+        }
+        system.execute();
+    }
+}
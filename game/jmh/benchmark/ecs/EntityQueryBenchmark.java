@@ -0,0 +1,89 @@
+package benchmark.ecs;
+
+import benchmark.Headless;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.System;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one frame of a system that queries its entities several times per frame.
+ *
+ * <p>The query handles are cached, so a query does not copy the entity set and the allocation per
+ * frame should stay (nearly) constant for all entity counts. Run with "-prof gc" to see the
+ * allocated bytes per frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityQueryBenchmark {
+
+    private static final int QUERIES_PER_FRAME = 50;
+
+    @Param({"1000", "4000", "16000"})
+    public int entities;
+
+    private QuerySystem system;
+
+    @Setup
+    public void setup() {
+        Headless.setup();
+        system = new QuerySystem();
+        Game.add(system);
+        for (int i = 0; i < entities; i++) {
+            Entity entity = new Entity();
+            entity.addComponent(new CountingComponent());
+            Game.add(entity);
+        }
+    }
+
+    @TearDown
+    public void teardown() {
+        Game.removeAllEntities();
+        Game.removeAllSystems();
+        Headless.teardown();
+    }
+
+    @Benchmark
+    public long frame() {
+        system.execute();
+        return system.counter;
+    }
+
+    private static final class CountingComponent implements Component {
+        private int value;
+    }
+
+    private static final class QuerySystem extends System {
+        private long counter;
+
+        private QuerySystem() {
+            super(CountingComponent.class);
+        }
+
+        @Override
+        public void execute() {
+            for (int i = 0; i < QUERIES_PER_FRAME; i++) counter += entityStream().count();
+            forEachEntity(CountingComponent.class, (e, cc) -> cc.value++);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package benchmark.ecs;
+
+import benchmark.Headless;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.System;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the entity queries of {@link Game#entityStream}.
+ *
+ * <p>All entities have a {@link PositionComponent}, every second entity also has a {@link
+ * VelocityComponent}. The queries are measured for all entities, for a component filter and for
+ * the entities of a system.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityStreamBenchmark {
+
+    private static final Set<Class<? extends Component>> FILTER = Set.of(VelocityComponent.class);
+
+    @Param({"100", "1000", "10000"})
+    public int entities;
+
+    private MovingSystem system;
+
+    @Setup
+    public void setup() {
+        Headless.setup();
+        system = new MovingSystem();
+        Game.add(system);
+        for (int i = 0; i < entities; i++) {
+            Entity entity = new Entity();
+            entity.addComponent(new PositionComponent(i, i));
+            if (i % 2 == 0) entity.addComponent(new VelocityComponent());
+            Game.add(entity);
+        }
+    }
+
+    @TearDown
+    public void teardown() {
+        Game.removeAllEntities();
+        Game.removeAllSystems();
+        Headless.teardown();
+    }
+
+    @Benchmark
+    public long allEntities() {
+        return Game.entityStream().count();
+    }
+
+    @Benchmark
+    public long filteredEntities() {
+        return Game.entityStream(FILTER).count();
+    }
+
+    @Benchmark
+    public long systemEntities() {
+        return Game.entityStream(system).count();
+    }
+
+    private static final class MovingSystem extends System {
+        private MovingSystem() {
+            super(VelocityComponent.class);
+        }
+
+        @Override
+        public void execute() {}
+    }
+}
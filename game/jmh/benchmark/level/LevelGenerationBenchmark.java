@@ -0,0 +1,77 @@
+package benchmark.level;
+
+import benchmark.Headless;
+
+import contrib.level.generator.perlinNoise.PerlinNoiseGenerator;
+
+import core.level.TileLevel;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.level.utils.LevelSize;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation of the level layouts and the construction of a {@link TileLevel}.
+ *
+ * <p>The generators use a fixed seed, so each run measures the same layouts. The {@link TileLevel}
+ * is built from a layout that is generated once in the setup, so its construction (tiles,
+ * navigation graph and tile lists) is measured without the generator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelGenerationBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public LevelSize size;
+
+    private final RandomWalkGenerator randomWalk = new RandomWalkGenerator();
+    private final PerlinNoiseGenerator perlinNoise = new PerlinNoiseGenerator();
+    private LevelElement[][] layout;
+
+    @Setup
+    public void setup() {
+        Headless.setup();
+        layout = randomWalk.layout(size, SEED);
+    }
+
+    @TearDown
+    public void teardown() {
+        Headless.teardown();
+    }
+
+    @Benchmark
+    public LevelElement[][] randomWalkLayout() {
+        return randomWalk.layout(size, SEED);
+    }
+
+    @Benchmark
+    public LevelElement[][] perlinNoiseLayout() {
+        return perlinNoise.layout(size, SEED);
+    }
+
+    @Benchmark
+    public TileLevel tileLevel() {
+        return new TileLevel(layout, DesignLabel.DEFAULT);
+    }
+}
@@ -0,0 +1,90 @@
+package benchmark.level;
+
+import benchmark.Headless;
+
+import com.badlogic.gdx.ai.pfa.GraphPath;
+
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.elements.IPathable;
+import core.level.elements.astar.PathfindingService;
+import core.level.elements.tile.FloorTile;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelSize;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link IPathable#findPath} on a level of the {@link RandomWalkGenerator}.
+ *
+ * <p>The floor of a random walk is connected, so there is a path between each pair of floor tiles.
+ * {@link #findPath()} cycles through twice as many random pairs as the {@link PathfindingService}
+ * caches, so each call is a search. {@link #findCachedPath()} cycles through a few pairs, which
+ * are answered from the cache after the warmup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathfindingBenchmark {
+
+    private static final long SEED = 42;
+    private static final int PAIRS = 2 * PathfindingService.CACHE_SIZE;
+    private static final int CACHED_PAIRS = 64;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public LevelSize size;
+
+    private TileLevel level;
+    private final Tile[] starts = new Tile[PAIRS];
+    private final Tile[] ends = new Tile[PAIRS];
+    private int next;
+    private int nextCached;
+
+    @Setup
+    public void setup() {
+        Headless.setup();
+        level = new TileLevel(new RandomWalkGenerator().layout(size, SEED), DesignLabel.DEFAULT);
+        List<FloorTile> floor = level.floorTiles();
+        Random random = new Random(SEED);
+        for (int i = 0; i < PAIRS; i++) {
+            starts[i] = floor.get(random.nextInt(floor.size()));
+            ends[i] = floor.get(random.nextInt(floor.size()));
+        }
+    }
+
+    @TearDown
+    public void teardown() {
+        Headless.teardown();
+    }
+
+    @Benchmark
+    public GraphPath<Tile> findPath() {
+        int pair = next++ % PAIRS;
+        return level.findPath(starts[pair], ends[pair]);
+    }
+
+    @Benchmark
+    public GraphPath<Tile> findCachedPath() {
+        int pair = nextCached++ % CACHED_PAIRS;
+        return level.findPath(starts[pair], ends[pair]);
+    }
+}
@@ -0,0 +1,94 @@
+package benchmark.level;
+
+import benchmark.Headless;
+
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.generator.postGeneration.WallGenerator;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.level.utils.LevelSize;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the change of a tile of a large level.
+ *
+ * <p>Changing a tile only reads and re-textures the neighbourhood of the tile. For comparison, the
+ * copy of the whole layout that each change needed before is measured too. {@link #changeTile()}
+ * makes two changes, so it should take less than two copies and no longer grow with the level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TileChangeBenchmark {
+
+    private static final long SEED = 42;
+    private static final int POSITIONS = 10_000;
+
+    private ILevel level;
+    private Coordinate[] positions;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Headless.setup();
+        level =
+                new WallGenerator(new RandomWalkGenerator())
+                        .level(DesignLabel.DEFAULT, LevelSize.LARGE);
+        // the level changes its floor tiles, so pick the positions first
+        Random random = new Random(SEED);
+        List<Tile> tiles = new ArrayList<>(level.floorTiles());
+        positions = new Coordinate[POSITIONS];
+        for (int i = 0; i < POSITIONS; i++)
+            positions[i] = tiles.get(random.nextInt(tiles.size())).coordinate();
+    }
+
+    @TearDown
+    public void teardown() {
+        Headless.teardown();
+    }
+
+    /** Change a floor tile into a wall and back into a floor. */
+    @Benchmark
+    public Tile changeTile() {
+        Coordinate position = positions[next];
+        next = (next + 1) % POSITIONS;
+        level.changeTileElementType(level.tileAt(position), LevelElement.WALL);
+        level.changeTileElementType(level.tileAt(position), LevelElement.FLOOR);
+        return level.tileAt(position);
+    }
+
+    /** What each tile change did before: convert the whole layout. */
+    @Benchmark
+    public LevelElement[][] copyLayout() {
+        Tile[][] layout = level.layout();
+        LevelElement[][] elementLayout = new LevelElement[layout.length][layout[0].length];
+        for (int x = 0; x < layout[0].length; x++) {
+            for (int y = 0; y < layout.length; y++) {
+                elementLayout[y][x] = layout[y][x].levelElement();
+            }
+        }
+        return elementLayout;
+    }
+}
@@ -0,0 +1,102 @@
+package benchmark.logging;
+
+import benchmark.Headless;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.utils.logging.AsyncLogHandler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Measures the spawn of entities while the logging is on.
+ *
+ * <p>Each spawn creates an entity, adds two components and adds the entity to the game, which logs
+ * several records. The benchmark compares a synchronous {@link FileHandler} with the {@link
+ * AsyncLogHandler}, and the async handler with the root level set to WARNING, where the messages
+ * of the spawns are not even built. If the writer thread of the async handler can not keep up,
+ * records are dropped instead of slowing down the spawns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final int ENTITIES = 1000;
+    private static final int CAPACITY = 8192;
+
+    @Param({"FILE", "ASYNC", "ASYNC_WARNING"})
+    public String handler;
+
+    private Path file;
+    private Handler logHandler;
+    private Handler[] rootHandlers;
+
+    @Setup
+    public void setup() throws IOException {
+        Headless.setup();
+        Logger root = Logger.getLogger("");
+        rootHandlers = root.getHandlers();
+        for (Handler rootHandler : rootHandlers) root.removeHandler(rootHandler);
+        file = Files.createTempFile("logging-benchmark", ".log");
+        if (handler.equals("FILE")) {
+            logHandler = new FileHandler(file.toString());
+            logHandler.setFormatter(new SimpleFormatter());
+        } else {
+            logHandler = new AsyncLogHandler(file, CAPACITY);
+        }
+        root.addHandler(logHandler);
+        root.setLevel(handler.equals("ASYNC_WARNING") ? Level.WARNING : Level.ALL);
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        Game.removeAllEntities();
+        Logger root = Logger.getLogger("");
+        root.removeHandler(logHandler);
+        logHandler.close();
+        for (Handler rootHandler : rootHandlers) root.addHandler(rootHandler);
+        Files.deleteIfExists(file);
+        Headless.teardown();
+    }
+
+    @Benchmark
+    public void spawn() {
+        for (int i = 0; i < ENTITIES; i++) {
+            Entity entity = new Entity();
+            entity.addComponent(new FirstComponent());
+            entity.addComponent(new SecondComponent());
+            Game.add(entity);
+        }
+        Game.removeAllEntities();
+    }
+
+    private static final class FirstComponent implements Component {}
+
+    private static final class SecondComponent implements Component {}
+}
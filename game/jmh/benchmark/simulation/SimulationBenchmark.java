@@ -0,0 +1,79 @@
+package benchmark.simulation;
+
+import benchmark.Headless;
+
+import contrib.entities.EntityFactory;
+import contrib.systems.AISystem;
+import contrib.systems.CollisionSystem;
+import contrib.systems.HealthSystem;
+import contrib.systems.ProjectileSystem;
+
+import core.Game;
+import core.HeadlessGame;
+import core.systems.LevelSystem;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one tick of a {@link HeadlessGame} with many monsters.
+ *
+ * <p>The game runs the collision, the AI, the health and the projectiles of a hero and the given
+ * number of random monsters, without a window and without a GPU.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationBenchmark {
+
+    @Param({"1000", "10000"})
+    public int monsters;
+
+    private HeadlessGame game;
+
+    @Setup
+    public void setup() throws IOException {
+        Headless.setup();
+        game = HeadlessGame.start();
+        Game.add(new CollisionSystem());
+        Game.add(new AISystem());
+        Game.add(new HealthSystem());
+        Game.add(new ProjectileSystem());
+        Game.hero(EntityFactory.newHero());
+        Game.add(Game.hero().orElseThrow());
+        for (int i = 0; i < monsters; i++) Game.add(EntityFactory.randomMonster());
+    }
+
+    @TearDown
+    public void teardown() {
+        Game.removeAllEntities();
+        Game.removeAllSystems();
+        // reset the level without the level load callback of the headless game
+        Game.add(new LevelSystem(null, null, () -> {}));
+        Game.currentLevel(null);
+        Game.removeAllSystems();
+        Headless.teardown();
+    }
+
+    @Benchmark
+    public long tick() {
+        game.simulate(1);
+        return game.ticks();
+    }
+}
@@ -179,6 +179,24 @@ public final class CollideComponent implements Component {
                 pc.position().x + offset.x + size.x / 2, pc.position().y + offset.y + size.y / 2);
     }
 
+    /**
+     * Get the offset of the hitbox to the position of the associated entity.
+     *
+     * @return the offset of the hitbox
+     */
+    public Point offset() {
+        return offset;
+    }
+
+    /**
+     * Get the size of the hitbox.
+     *
+     * @return the size of the hitbox
+     */
+    public Point size() {
+        return size;
+    }
+
     /**
      * Set function to execute at start of a collision.
      *
@@ -1,6 +1,7 @@
 package contrib.components;
 
 import core.Component;
+import core.Entity;
 import core.utils.Point;
 
 /**
@@ -21,14 +22,17 @@ import core.utils.Point;
  * arrows.
  *
  * <p>The {@link #goalLocation()} method retrieves the goal position of the projectile. The {@link
- * #startPosition()} method retrieves the start position of the projectile.
+ * #startPosition()} method retrieves the start position of the projectile. The {@link #owner()}
+ * method retrieves the entity that shot the projectile. The positions and the owner can be changed,
+ * so the component can be reused for the next shot of a recycled projectile.
  *
  * @see contrib.utils.components.skill.DamageProjectile
  */
 public final class ProjectileComponent implements Component {
 
-    private final Point goalLocation;
-    private final Point startPosition;
+    private Point goalLocation;
+    private Point startPosition;
+    private Entity owner;
 
     /**
      * Create a new ProjectileComponent.
@@ -58,4 +62,33 @@ public final class ProjectileComponent implements Component {
     public Point startPosition() {
         return startPosition;
     }
+
+    /**
+     * Set the start and the goal position for the next flight of the projectile.
+     *
+     * @param startPosition The point from which to start the calculation to the goal location.
+     * @param goalLocation The point where the projectile should fly to.
+     */
+    public void path(final Point startPosition, final Point goalLocation) {
+        this.startPosition = startPosition;
+        this.goalLocation = goalLocation;
+    }
+
+    /**
+     * Get the entity that shot the projectile.
+     *
+     * @return The entity that shot the projectile, or null if it is not known.
+     */
+    public Entity owner() {
+        return owner;
+    }
+
+    /**
+     * Set the entity that shot the projectile.
+     *
+     * @param owner The entity that shot the projectile, or null to forget it.
+     */
+    public void owner(final Entity owner) {
+        this.owner = owner;
+    }
 }
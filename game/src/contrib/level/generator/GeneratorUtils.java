@@ -5,6 +5,7 @@ import contrib.level.generator.graphBased.levelGraph.Direction;
 import core.level.Tile;
 import core.level.elements.ILevel;
 import core.level.elements.tile.DoorTile;
+import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
 import core.level.utils.TileTextureFactory;
 
@@ -39,10 +40,20 @@ public class GeneratorUtils {
      * @return the direction of the door
      */
     public static Direction doorDirection(ILevel level, DoorTile door) {
-        LevelElement[][] layout = parseToElementLayout(level.layout());
-        if (TileTextureFactory.isTopWall(door.coordinate(), layout)) return Direction.NORTH;
-        if (TileTextureFactory.isRightWall(door.coordinate(), layout)) return Direction.EAST;
-        if (TileTextureFactory.isBottomWall(door.coordinate(), layout)) return Direction.SOUTH;
+        return doorDirection(parseToElementLayout(level.layout()), door.coordinate());
+    }
+
+    /**
+     * Get the direction where a door is placed
+     *
+     * @param layout Layout of the room that contains the door.
+     * @param door coordinate of the door
+     * @return the direction of the door
+     */
+    public static Direction doorDirection(LevelElement[][] layout, Coordinate door) {
+        if (TileTextureFactory.isTopWall(door, layout)) return Direction.NORTH;
+        if (TileTextureFactory.isRightWall(door, layout)) return Direction.EAST;
+        if (TileTextureFactory.isBottomWall(door, layout)) return Direction.SOUTH;
         return Direction.WEST;
     }
 
@@ -53,6 +53,20 @@ public class RoomGenerator {
         return generateRoom(size, RANDOM.nextLong(), doors);
     }
 
+    /**
+     * Generates a room layout with the given parameters.
+     *
+     * <p>The same seed, size and doors give the same layout.
+     *
+     * @param size Size of the room
+     * @param seed Seed to initialize the random number generator
+     * @param doors Array of DoorDirections to specify where doors should be generated
+     * @return The generated room layout
+     */
+    public LevelElement[][] layout(LevelSize size, long seed, LevelNode[] doors) {
+        return generateRoom(size, seed, doors);
+    }
+
     /**
      * Generates a room layout with the given parameters.
      *
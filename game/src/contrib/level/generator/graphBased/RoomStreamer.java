@@ -0,0 +1,439 @@
+package contrib.level.generator.graphBased;
+
+import contrib.level.generator.GeneratorUtils;
+import contrib.level.generator.graphBased.levelGraph.Direction;
+import contrib.level.generator.graphBased.levelGraph.LevelGraph;
+import contrib.level.generator.graphBased.levelGraph.LevelNode;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.elements.ILevel;
+import core.level.elements.tile.DoorTile;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.level.utils.LevelSize;
+import core.level.utils.TileTextureFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Streams the rooms of a room-based level.
+ *
+ * <p>Only the room the player is in and the rooms behind its doors exist as {@link TileLevel}. The
+ * neighbours of the current room are built in the background, while the player is in the room.
+ * Rooms that are more than {@link #keepDistance()} doors away from the current room are unloaded:
+ * the level of the room is released and only its layout is kept, with a byte per tile. The
+ * entities of the room are taken out of the game (see {@link Game#unloadLevel(ILevel)}), but they
+ * are kept as they are, so they still use the same memory. If the player comes back, the room is
+ * built again from the layout and the same entities are added again, with the components they had
+ * when the room was unloaded.
+ *
+ * <p>The layout of each room is generated when the streamer is created, from a seed per room. The
+ * {@link DoorTile}s of the rooms are created at the same time and are reused each time a room is
+ * built, so the doors can be configured (e.g. closed by a task) before their room is built and
+ * keep their state if the room is unloaded. Use {@link LevelNode#door(Direction)} to get them.
+ * The background builds do not touch the doors; a door is put into its room on the game thread,
+ * when the player enters the room or one of its neighbours.
+ *
+ * <p>A room is entered by a door of a neighbour room, so the streamer follows the player by the
+ * doors and does not need to be called by the game.
+ *
+ * <p>The level of a node ({@link LevelNode#level()}) is only set while the room is built. It is
+ * null for a room that was never entered or was unloaded.
+ */
+public final class RoomStreamer {
+    /** Rooms further away from the current room than this will be unloaded by default. */
+    public static final int DEFAULT_KEEP_DISTANCE = 2;
+
+    private static final Logger LOGGER = Logger.getLogger(RoomStreamer.class.getName());
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final LevelElement[] ELEMENTS = LevelElement.values();
+
+    private final LevelGraph graph;
+    private final DesignLabel designLabel;
+    private final int keepDistance;
+    private final Map<LevelNode, Room> rooms = new HashMap<>();
+    // one worker only, so the builds of a room (and of its doors) never overlap
+    private final ThreadPoolExecutor worker;
+
+    /**
+     * Create a new streamer for the given level graph.
+     *
+     * <p>Generates the layouts and the doors of all rooms, but does not build any room. Use {@link
+     * #start()} to build the first room.
+     *
+     * @param graph Level graph to stream the rooms of.
+     * @param designLabel Design of the rooms.
+     * @param sizeFor Size of the room of each node.
+     * @param seed Seed for the layouts of the rooms.
+     * @param keepDistance Rooms that are more doors away from the current room will be unloaded.
+     *     Must be at least 1, because the room the player leaves is needed until the next room is
+     *     loaded.
+     */
+    public RoomStreamer(
+            final LevelGraph graph,
+            final DesignLabel designLabel,
+            final Function<LevelNode, LevelSize> sizeFor,
+            long seed,
+            int keepDistance) {
+        if (keepDistance < 1)
+            throw new IllegalArgumentException("The keep distance has to be at least 1.");
+        this.graph = graph;
+        this.designLabel = designLabel;
+        this.keepDistance = keepDistance;
+        this.worker =
+                new ThreadPoolExecutor(
+                        0,
+                        1,
+                        10,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "room-streamer-" + THREAD_COUNT.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+
+        RoomGenerator roomG = new RoomGenerator();
+        Random seeds = new Random(seed);
+        for (LevelNode node : graph.nodes()) {
+            LevelElement[][] layout =
+                    roomG.layout(sizeFor.apply(node), seeds.nextLong(), node.neighbours());
+            rooms.put(node, new Room(node, layout));
+        }
+        // connect each door with the corresponding door in the neighbour room
+        for (LevelNode node : graph.nodes()) {
+            for (Direction direction : Direction.values()) {
+                LevelNode neighbour = node.neighbours()[direction.value()];
+                if (neighbour == null) continue;
+                node.door(direction)
+                        .ifPresent(
+                                door ->
+                                        door.setOtherDoor(
+                                                neighbour
+                                                        .door(Direction.opposite(direction))
+                                                        .orElse(null)));
+            }
+        }
+    }
+
+    /**
+     * Create a new streamer for the given level graph, with random layouts.
+     *
+     * @param graph Level graph to stream the rooms of.
+     * @param designLabel Design of the rooms.
+     * @param sizeFor Size of the room of each node.
+     * @param keepDistance Rooms that are more doors away from the current room will be unloaded.
+     */
+    public RoomStreamer(
+            final LevelGraph graph,
+            final DesignLabel designLabel,
+            final Function<LevelNode, LevelSize> sizeFor,
+            int keepDistance) {
+        this(graph, designLabel, sizeFor, ILevel.RANDOM.nextLong(), keepDistance);
+    }
+
+    /**
+     * Build the room of the root node of the graph.
+     *
+     * <p>The neighbours of the root room will be built in the background.
+     *
+     * @return The level of the root room, to be set as the current level.
+     */
+    public ILevel start() {
+        return enter(graph.root());
+    }
+
+    /**
+     * Enter the room of the given node.
+     *
+     * <p>Builds the room, if it is not built yet (or waits for the background build), starts to
+     * build the neighbours of the room and unloads the rooms that are too far away.
+     *
+     * <p>This is called by the doors of the rooms, before the player is moved to the other room.
+     *
+     * @param node Node of the room to enter.
+     * @return The level of the room.
+     */
+    public ILevel enter(final LevelNode node) {
+        Room room = room(node);
+        TileLevel level = room.materialize();
+
+        Map<LevelNode, Integer> distances = distances(node);
+        for (LevelNode neighbour : node.neighbours())
+            if (neighbour != null) room(neighbour).prefetch();
+        for (Room other : rooms.values()) {
+            Integer distance = distances.get(other.node);
+            if (distance == null || distance > keepDistance) other.unload();
+        }
+        return level;
+    }
+
+    /**
+     * Check if the room of the given node is built.
+     *
+     * @param node Node of the room.
+     * @return true if the room exists as level, false if it is unloaded or was never built.
+     */
+    public boolean materialized(final LevelNode node) {
+        return room(node).level != null;
+    }
+
+    /**
+     * Check if the room of the given node is built or is being built in the background.
+     *
+     * @param node Node of the room.
+     * @return true if the room is built or the build has started, false if not.
+     */
+    public boolean loaded(final LevelNode node) {
+        Room room = room(node);
+        return room.level != null || room.pending != null;
+    }
+
+    /**
+     * Get the distance (in doors) from the current room at which rooms are unloaded.
+     *
+     * @return The distance.
+     */
+    public int keepDistance() {
+        return keepDistance;
+    }
+
+    /** Cancel the background builds and stop the worker thread. */
+    public void shutdown() {
+        rooms.values().forEach(Room::cancel);
+        worker.shutdownNow();
+    }
+
+    private Room room(final LevelNode node) {
+        Room room = rooms.get(node);
+        if (room == null)
+            throw new IllegalArgumentException("The node is not part of the streamed graph.");
+        return room;
+    }
+
+    private static Map<LevelNode, Integer> distances(final LevelNode start) {
+        Map<LevelNode, Integer> distances = new HashMap<>();
+        Deque<LevelNode> queue = new ArrayDeque<>();
+        distances.put(start, 0);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            LevelNode node = queue.poll();
+            int distance = distances.get(node) + 1;
+            for (LevelNode neighbour : node.neighbours())
+                if (neighbour != null && !distances.containsKey(neighbour)) {
+                    distances.put(neighbour, distance);
+                    queue.add(neighbour);
+                }
+        }
+        return distances;
+    }
+
+    /** A room of the level, which is either built, being built or unloaded. */
+    private final class Room {
+        private final LevelNode node;
+        private final int width;
+        // one LevelElement ordinal per tile, row by row
+        private byte[] layout;
+        // the entities to add if the room is loaded the next time, null if the room was not visited
+        private List<StoredEntity> entities;
+        private Future<TileLevel> pending;
+        private TileLevel level;
+        // true if the entities of the room were added to the game
+        private boolean visited;
+
+        private Room(final LevelNode node, final LevelElement[][] layout) {
+            this.node = node;
+            this.width = layout[0].length;
+            this.layout = pack(layout);
+            createDoors(layout);
+        }
+
+        private void createDoors(final LevelElement[][] layout) {
+            for (int y = 0; y < layout.length; y++)
+                for (int x = 0; x < width; x++) {
+                    if (layout[y][x] != LevelElement.DOOR) continue;
+                    Coordinate coordinate = new Coordinate(x, y);
+                    Direction direction = GeneratorUtils.doorDirection(layout, coordinate);
+                    String texturePath =
+                            TileTextureFactory.findTexturePath(
+                                    new TileTextureFactory.LevelPart(
+                                            LevelElement.DOOR, designLabel, layout, coordinate));
+                    node.door(
+                            direction,
+                            new StreamedDoorTile(
+                                    texturePath,
+                                    coordinate,
+                                    node.neighbours()[direction.value()]));
+                }
+        }
+
+        private void prefetch() {
+            if (level != null || pending != null) return;
+            final byte[] packed = layout;
+            pending = worker.submit(() -> build(unpack(packed, width)));
+        }
+
+        private TileLevel materialize() {
+            if (level != null) return level;
+            prefetch();
+            try {
+                level = pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a room.", e);
+            } catch (ExecutionException | CancellationException e) {
+                throw new IllegalStateException("The room could not be built.", e);
+            } finally {
+                pending = null;
+            }
+            for (Direction direction : Direction.values())
+                node.door(direction).ifPresent(door -> placeDoor(level, door, direction));
+            final List<StoredEntity> content = entities;
+            level.onFirstLoad(
+                    () -> {
+                        visited = true;
+                        if (content == null)
+                            new LinkedHashSet<>(node.entities()).forEach(Game::add);
+                        else content.forEach(stored -> Game.add(stored.restore()));
+                    });
+            node.level(level);
+            return level;
+        }
+
+        private void cancel() {
+            if (pending != null) pending.cancel(false);
+            pending = null;
+        }
+
+        private void unload() {
+            cancel();
+            if (level == null) return;
+            layout = pack(GeneratorUtils.parseToElementLayout(level.layout()));
+            Set<Entity> stored = Game.unloadLevel(level);
+            if (visited) entities = stored.stream().map(StoredEntity::new).toList();
+            visited = false;
+            for (Direction direction : Direction.values())
+                node.door(direction).ifPresent(door -> door.level(null));
+            node.level(null);
+            level = null;
+            LOGGER.fine(
+                    "Unloaded room with "
+                            + (entities == null ? 0 : entities.size())
+                            + " entities.");
+        }
+
+        /**
+         * Build the level of the room.
+         *
+         * <p>Runs on the worker thread, so it must not touch the shared state of the room: the
+         * level gets its own door tiles, which are replaced by the doors of the node in {@link
+         * #materialize()}.
+         */
+        private TileLevel build(final LevelElement[][] layout) {
+            TileLevel built = new TileLevel(layout, designLabel);
+            // remove trapdoor exit, in rooms we only use doors
+            List<Tile> exits = new ArrayList<>(built.exitTiles());
+            exits.forEach(exit -> built.changeTileElementType(exit, LevelElement.FLOOR));
+            return built;
+        }
+    }
+
+    /**
+     * Replace the door tile at the position of the given door with the door, and set the doorstep
+     * of the door, so you will not spawn on the door after you have entered it.
+     */
+    private static void placeDoor(
+            final TileLevel level, final DoorTile door, final Direction direction) {
+        Coordinate coordinate = door.coordinate();
+        level.removeTile(level.tileAt(coordinate));
+        level.layout()[coordinate.y][coordinate.x] = door;
+        level.addTile(door);
+        Coordinate doorstep =
+                switch (direction) {
+                    case NORTH -> new Coordinate(coordinate.x, coordinate.y - 1);
+                    case EAST -> new Coordinate(coordinate.x - 1, coordinate.y);
+                    case SOUTH -> new Coordinate(coordinate.x, coordinate.y + 1);
+                    case WEST -> new Coordinate(coordinate.x + 1, coordinate.y);
+                };
+        door.setDoorstep(level.tileAt(doorstep));
+    }
+
+    /** An entity of an unloaded room and the components it had when the room was unloaded. */
+    private record StoredEntity(Entity entity, List<Component> components) {
+        private StoredEntity(final Entity entity) {
+            this(entity, entity.componentStream().toList());
+        }
+
+        /**
+         * Give the entity the stored components again.
+         *
+         * @return The entity.
+         */
+        private Entity restore() {
+            entity.componentStream()
+                    .filter(component -> !components.contains(component))
+                    .toList()
+                    .forEach(component -> entity.removeComponent(component.getClass()));
+            for (Component component : components)
+                if (entity.fetch(component.getClass()).orElse(null) != component)
+                    entity.addComponent(component);
+            return entity;
+        }
+    }
+
+    private static byte[] pack(final LevelElement[][] layout) {
+        byte[] packed = new byte[layout.length * layout[0].length];
+        int i = 0;
+        for (LevelElement[] row : layout)
+            for (LevelElement element : row) packed[i++] = (byte) element.ordinal();
+        return packed;
+    }
+
+    private static LevelElement[][] unpack(final byte[] packed, int width) {
+        LevelElement[][] layout = new LevelElement[packed.length / width][width];
+        for (int i = 0; i < packed.length; i++) layout[i / width][i % width] = ELEMENTS[packed[i]];
+        return layout;
+    }
+
+    /** A door of a streamed room, which enters the room behind it before it is passed. */
+    private final class StreamedDoorTile extends DoorTile {
+        private final LevelNode target;
+
+        private StreamedDoorTile(
+                final String texturePath, final Coordinate coordinate, final LevelNode target) {
+            super(texturePath, coordinate, RoomStreamer.this.designLabel, null);
+            this.target = target;
+        }
+
+        @Override
+        public void onEntering(Entity element) {
+            enter(target);
+            super.onEntering(element);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package contrib.level.generator.graphBased;
 
-import contrib.level.generator.GeneratorUtils;
-import contrib.level.generator.graphBased.levelGraph.Direction;
 import contrib.level.generator.graphBased.levelGraph.LevelGraph;
 import contrib.level.generator.graphBased.levelGraph.LevelNode;
 
@@ -9,15 +7,10 @@ import core.Entity;
 import core.Game;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
-import core.level.Tile;
-import core.level.TileLevel;
 import core.level.elements.ILevel;
-import core.level.elements.tile.DoorTile;
 import core.level.utils.*;
 import core.utils.IVoidFunction;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
@@ -41,6 +34,9 @@ import java.util.logging.Logger;
  * #level(Set, DesignLabel)} method and use {@link Game#currentLevel(ILevel)} to set the generated
  * level.
  *
+ * <p>The rooms are streamed by a {@link RoomStreamer}: only the rooms around the player are built,
+ * rooms far away are unloaded and built again if the player comes back.
+ *
  * <p>Now you can get a dot representation of the level graph in the log.
  */
 public class RoombasedLevelGenerator {
@@ -76,26 +72,13 @@ public class RoombasedLevelGenerator {
      * @return The generated level.
      */
     public static ILevel level(final LevelGraph graph, DesignLabel designLabel) {
-        RoomGenerator roomG = new RoomGenerator();
         LOGGER.info(graph.toDot());
-        // generate TileLevel for each Node
-        graph.nodes()
-                .forEach(
-                        node ->
-                                node.level(
-                                        new TileLevel(
-                                                roomG.layout(sizeFor(node), node.neighbours()),
-                                                designLabel)));
-
-        for (LevelNode node : graph.nodes()) {
-            ILevel level = node.level();
-            // remove trapdoor exit, in rooms we only use doors
-            List<Tile> exits = new ArrayList<>(level.exitTiles());
-            exits.forEach(exit -> level.changeTileElementType(exit, LevelElement.FLOOR));
-            configureDoors(node);
-            node.level().onFirstLoad(() -> node.entities().forEach(Game::add));
-        }
-        return graph.root().level();
+        return new RoomStreamer(
+                        graph,
+                        designLabel,
+                        RoombasedLevelGenerator::sizeFor,
+                        RoomStreamer.DEFAULT_KEEP_DISTANCE)
+                .start();
     }
 
     private static LevelSize sizeFor(LevelNode node) {
@@ -111,55 +94,4 @@ public class RoombasedLevelGenerator {
         else if (count.get() >= MIN_ENTITIES_FOR_BIG_ROOM) return LevelSize.LARGE;
         else return LevelSize.MEDIUM;
     }
-
-    /**
-     * Find each door in each room and connect it to the corresponding door in the other room.
-     *
-     * <p>Will also set the doorstep coordinate, so you will not spawn on the door after you have
-     * entered it.
-     *
-     * @param node Node to configure the doors for.
-     */
-    private static void configureDoors(LevelNode node) {
-        for (DoorTile door : node.level().doorTiles()) {
-            Direction doorDirection = GeneratorUtils.doorDirection(node.level(), door);
-
-            // find neighbour door
-            LevelNode neighbour = node.neighbours()[doorDirection.value()];
-            DoorTile neighbourDoor = null;
-            for (DoorTile doorTile : neighbour.level().doorTiles())
-                if (Direction.opposite(doorDirection)
-                        == GeneratorUtils.doorDirection(neighbour.level(), doorTile)) {
-                    neighbourDoor = doorTile;
-                    break;
-                }
-            door.setOtherDoor(neighbourDoor);
-
-            // place door steps
-            Tile doorStep = null;
-            switch (doorDirection) {
-                case NORTH -> doorStep =
-                        door.level()
-                                .tileAt(
-                                        new Coordinate(
-                                                door.coordinate().x, door.coordinate().y - 1));
-                case EAST -> doorStep =
-                        door.level()
-                                .tileAt(
-                                        new Coordinate(
-                                                door.coordinate().x - 1, door.coordinate().y));
-                case SOUTH -> doorStep =
-                        door.level()
-                                .tileAt(
-                                        new Coordinate(
-                                                door.coordinate().x, door.coordinate().y + 1));
-                case WEST -> doorStep =
-                        door.level()
-                                .tileAt(
-                                        new Coordinate(
-                                                door.coordinate().x + 1, door.coordinate().y));
-            }
-            door.setDoorstep(doorStep);
-        }
-    }
 }
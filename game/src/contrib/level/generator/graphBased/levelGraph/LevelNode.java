@@ -2,6 +2,7 @@ package contrib.level.generator.graphBased.levelGraph;
 
 import core.Entity;
 import core.level.elements.ILevel;
+import core.level.elements.tile.DoorTile;
 
 import java.util.*;
 
@@ -28,6 +29,7 @@ public class LevelNode {
     protected static final int MAX_NEIGHBOURS = Direction.values().length;
     private final Set<Entity> entities;
     private final LevelNode[] neighbours = new LevelNode[MAX_NEIGHBOURS];
+    private final DoorTile[] doors = new DoorTile[MAX_NEIGHBOURS];
     private final LevelGraph originGraph;
     private ILevel level;
 
@@ -146,6 +148,30 @@ public class LevelNode {
         return level;
     }
 
+    /**
+     * Set the door of the room that leads to the neighbour in the given direction.
+     *
+     * @param direction The direction of the door.
+     * @param door The door.
+     */
+    public void door(final Direction direction, final DoorTile door) {
+        doors[direction.value()] = door;
+    }
+
+    /**
+     * Get the door of the room that leads to the neighbour in the given direction.
+     *
+     * <p>The doors of a room exist as long as the graph, even if the level of the room is not
+     * generated yet or was unloaded (see {@link
+     * contrib.level.generator.graphBased.RoomStreamer}).
+     *
+     * @param direction The direction of the door.
+     * @return An Optional containing the door, or empty if there is no door in that direction.
+     */
+    public Optional<DoorTile> door(final Direction direction) {
+        return Optional.ofNullable(doors[direction.value()]);
+    }
+
     /**
      * Get the origin graph of the node.
      *
@@ -1,11 +1,8 @@
 package contrib.level.generator.perlinNoise;
 
-import core.level.utils.Coordinate;
-
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
 
 /** area providing some methods to get areas from perlin noise */
 public class NoiseArea {
@@ -31,6 +28,19 @@ public class NoiseArea {
         }
         size = i;
     }
+
+    /**
+     * generates a new area with a known size
+     *
+     * @param contains two dimensional boolean array containing true for every field in the area
+     * @param size number of fields in the area
+     */
+    NoiseArea(final boolean[][] contains, final int size) {
+        width = contains.length;
+        height = contains[0].length;
+        area = contains;
+        this.size = size;
+    }
     /**
      * checks whether the given coordinates are in the area
      *
@@ -119,59 +129,9 @@ public class NoiseArea {
      *
      * @param values the NoiseAreaValues
      * @return all found areas
+     * @see NoiseAreaLabels
      */
     public static NoiseArea[] areas(final NoiseAreaValues values) {
-        final ArrayList<NoiseArea> alRes = new ArrayList<>();
-        for (int x = 0; x < values.noiseValues.length; x++) {
-            allPixel:
-            for (int y = 0; y < values.noiseValues[x].length; y++) {
-                for (final NoiseArea f : alRes) {
-                    if (f.contains(x, y)) continue allPixel;
-                }
-                if (checkBound(values.noiseValues[x][y], values)) {
-                    final boolean[][] isContained =
-                            floodFill(
-                                    new NoiseAreaValues(
-                                            values.min,
-                                            values.max,
-                                            values.noiseValues,
-                                            new Coordinate(x, y),
-                                            values.outerBound));
-                    alRes.add(new NoiseArea(isContained));
-                }
-            }
-        }
-        return alRes.toArray(new NoiseArea[0]);
-    }
-
-    @SuppressWarnings("checkstyle:cyclomaticcomplexity")
-    private static boolean[][] floodFill(final NoiseAreaValues values) {
-        final boolean[][] res =
-                new boolean[values.noiseValues.length][values.noiseValues[0].length];
-        final ArrayList<Coordinate> queue = new ArrayList<>();
-        queue.add(values.startField);
-
-        while (!queue.isEmpty()) {
-            final Coordinate aktFeld = queue.remove(0);
-            final int x = aktFeld.x;
-            final int y = aktFeld.y;
-
-            if (checkBound(values.noiseValues[x][y], values) && !res[x][y]) {
-                res[x][y] = true;
-
-                if (x > 0) queue.add(new Coordinate(x - 1, y));
-                if (x < values.noiseValues.length - 1) queue.add(new Coordinate(x + 1, y));
-                if (y > 0) queue.add(new Coordinate(x, y - 1));
-                if (y < values.noiseValues[x].length - 1) queue.add(new Coordinate(x, y + 1));
-            }
-        }
-        return res;
-    }
-
-    private static boolean checkBound(final double value, final NoiseAreaValues values) {
-        if (values.outerBound) {
-            return (value <= values.min || value >= values.max);
-        }
-        return (value >= values.min && value <= values.max);
+        return NoiseAreaLabels.of(values).areas();
     }
 }
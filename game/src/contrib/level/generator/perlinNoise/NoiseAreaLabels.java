@@ -0,0 +1,176 @@
+package contrib.level.generator.perlinNoise;
+
+import java.util.Arrays;
+
+/**
+ * labels the connected areas of perlin noise in one sweep
+ *
+ * <p>Every field inside the bounds of the {@link NoiseAreaValues} gets the label of its area, the
+ * other fields get the label 0. The areas are labeled with a two-pass scanline labelling: the first
+ * pass gives each field the label of its left or upper neighbour and joins two labels in a
+ * union-find structure if both neighbours are in the area, the second pass replaces each label with
+ * the final label of its area and counts the size of the areas.
+ *
+ * <p>The areas are labeled from 1 in the order of their first field (x first, then y), which is the
+ * order of {@link NoiseArea#areas(NoiseAreaValues)}.
+ */
+public class NoiseAreaLabels {
+    private final int width;
+    private final int height;
+    private final int[] labels;
+    private final int[] sizes;
+
+    private NoiseAreaLabels(
+            final int width, final int height, final int[] labels, final int[] sizes) {
+        this.width = width;
+        this.height = height;
+        this.labels = labels;
+        this.sizes = sizes;
+    }
+
+    /**
+     * labels the areas of the given perlin noise
+     *
+     * @param values the NoiseAreaValues
+     * @return the labels of all areas
+     */
+    public static NoiseAreaLabels of(final NoiseAreaValues values) {
+        final double[][] noise = values.noiseValues;
+        final int width = noise.length;
+        final int height = noise[0].length;
+        // label of field (x, y) is at index x * height + y, 0 means not in an area
+        final int[] labels = new int[width * height];
+        int[] parent = new int[64];
+        int count = 0;
+
+        // first pass: provisional labels, joined in the union-find structure
+        for (int x = 0; x < width; x++) {
+            final double[] column = noise[x];
+            for (int y = 0; y < height; y++) {
+                if (!checkBound(column[y], values)) continue;
+                final int i = x * height + y;
+                final int left = x > 0 ? labels[i - height] : 0;
+                final int up = y > 0 ? labels[i - 1] : 0;
+                if (left == 0 && up == 0) {
+                    if (count == parent.length) parent = Arrays.copyOf(parent, count * 2);
+                    parent[count] = count;
+                    labels[i] = ++count;
+                } else if (left == 0) {
+                    labels[i] = up;
+                } else {
+                    labels[i] = left;
+                    if (up != 0 && up != left) union(parent, left - 1, up - 1);
+                }
+            }
+        }
+
+        // second pass: final labels in the order of the first field of each area
+        final int[] finalLabel = new int[count];
+        int[] sizes = new int[count + 1];
+        int areas = 0;
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i] == 0) continue;
+            final int root = find(parent, labels[i] - 1);
+            if (finalLabel[root] == 0) finalLabel[root] = ++areas;
+            labels[i] = finalLabel[root];
+            sizes[labels[i]]++;
+        }
+        return new NoiseAreaLabels(width, height, labels, Arrays.copyOf(sizes, areas + 1));
+    }
+
+    private static int find(final int[] parent, int label) {
+        while (parent[label] != label) {
+            parent[label] = parent[parent[label]];
+            label = parent[label];
+        }
+        return label;
+    }
+
+    private static void union(final int[] parent, final int a, final int b) {
+        final int rootA = find(parent, a);
+        final int rootB = find(parent, b);
+        if (rootA < rootB) parent[rootB] = rootA;
+        else parent[rootA] = rootB;
+    }
+
+    private static boolean checkBound(final double value, final NoiseAreaValues values) {
+        if (values.outerBound) {
+            return (value <= values.min || value >= values.max);
+        }
+        return (value >= values.min && value <= values.max);
+    }
+
+    /**
+     * returns the number of areas
+     *
+     * @return the number of areas
+     */
+    public int count() {
+        return sizes.length - 1;
+    }
+
+    /**
+     * returns the label of the given field
+     *
+     * @param x X-coordinate
+     * @param y Y-coordinate
+     * @return the label of the area containing the field, 0 if the field is in no area
+     */
+    public int label(final int x, final int y) {
+        return labels[x * height + y];
+    }
+
+    /**
+     * returns the size of an area
+     *
+     * @param label label of the area, from 1 to {@link #count()}
+     * @return the size of the area
+     */
+    public int size(final int label) {
+        return sizes[label];
+    }
+
+    /**
+     * returns the label of the largest area
+     *
+     * <p>If more than one area has the largest size, the first one is returned.
+     *
+     * @return the label of the largest area, 0 if there is no area
+     */
+    public int largest() {
+        int largest = 0;
+        for (int label = 1; label < sizes.length; label++) {
+            if (largest == 0 || sizes[label] > sizes[largest]) largest = label;
+        }
+        return largest;
+    }
+
+    /**
+     * returns an area
+     *
+     * @param label label of the area, from 1 to {@link #count()}
+     * @return the area
+     */
+    public NoiseArea area(final int label) {
+        if (label < 1 || label > count())
+            throw new IllegalArgumentException("There is no area with label " + label);
+        final boolean[][] contains = new boolean[width][height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                contains[x][y] = labels[x * height + y] == label;
+            }
+        }
+        return new NoiseArea(contains, sizes[label]);
+    }
+
+    /**
+     * returns all areas
+     *
+     * @return all areas, ordered by label
+     */
+    public NoiseArea[] areas() {
+        final NoiseArea[] areas = new NoiseArea[count()];
+        for (int label = 1; label <= areas.length; label++) areas[label - 1] = area(label);
+        return areas;
+    }
+}
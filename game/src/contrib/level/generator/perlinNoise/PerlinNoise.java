@@ -1,6 +1,7 @@
 package contrib.level.generator.perlinNoise;
 
 import java.util.Random;
+import java.util.stream.IntStream;
 
 /**
  * Class generating a perlin noise array
@@ -123,6 +124,9 @@ public class PerlinNoise {
     /**
      * get the noise for all points
      *
+     * <p>The octaves are calculated in parallel, the result is the same as calculating them one
+     * after the other.
+     *
      * @param zoom zoom determines to skip / repeat some values
      * @return all noise values
      */
@@ -132,9 +136,16 @@ public class PerlinNoise {
         double fScaleAcc = 0;
         double fScale = 1;
 
-        // every octave
+        // the octaves only read the permutation, so they can be calculated at the same time
+        final double[][][] octavesNoise =
+                IntStream.range(0, octaves.length)
+                        .parallel()
+                        .mapToObj(this::calculateOctaveNoise)
+                        .toArray(double[][][]::new);
+
+        // every octave, in order, so the sum does not depend on the threads
         for (int o = 0; o < octaves.length; o++) {
-            final double[][] octaveNoise = calculateOctaveNoise(o);
+            final double[][] octaveNoise = octavesNoise[o];
             // apply noise to overall noise
             for (int y = 0; y < noise.length; y++) {
                 for (int x = 0; x < noise[0].length; x++) {
@@ -34,6 +34,11 @@ public class PerlinNoiseGenerator implements IGenerator {
         return layout(size, new Random());
     }
 
+    @Override
+    public LevelElement[][] layout(LevelSize size, long seed) {
+        return layout(size, new Random(seed));
+    }
+
     /**
      * generates a new level based on the seed
      *
@@ -92,14 +97,9 @@ public class PerlinNoiseGenerator implements IGenerator {
                         randomGenerator);
         final double[][] noise = pNoise.noiseAll(1);
 
-        final NoiseArea[] areas = NoiseArea.areas(new NoiseAreaValues(0.4, 0.6, noise, false));
-        NoiseArea area = areas[0];
-        for (final NoiseArea f : areas) {
-            if (area.size() < f.size()) {
-                area = f;
-            }
-        }
-        return area;
+        final NoiseAreaLabels areas =
+                NoiseAreaLabels.of(new NoiseAreaValues(0.4, 0.6, noise, false));
+        return areas.area(areas.largest());
     }
 
     private static LevelElement[][] toLevelElementArray(NoiseArea playingArea, Random random) {
@@ -1,15 +1,19 @@
 package contrib.systems;
 
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
+
 import contrib.components.CollideComponent;
 
 import core.Entity;
 import core.System;
+import core.components.PositionComponent;
 import core.level.Tile;
+import core.utils.Point;
 import core.utils.components.MissingComponentException;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Stream;
+import java.util.Arrays;
 
 /**
  * System to check for collisions between two entities.
@@ -22,13 +26,42 @@ import java.util.stream.Stream;
  * <p>Each CollideComponent should only be informed when a collision begins or ends. For this a map
  * with all currently active collisions is stored and allows informing the entities when a collision
  * ended.
+ *
+ * <p>To avoid testing every entity against every other entity, the system uses a sort-and-sweep
+ * broad-phase: At the beginning of each execution the hitboxes of all entities are calculated once
+ * and sorted by their left edge. Only pairs whose hitboxes overlap on the x-axis are tested for a
+ * collision. The sort order of the last execution is reused, so if the entities only move a little
+ * between two executions, the sorting is close to linear.
  */
 public final class CollisionSystem extends System {
 
-    private final Map<CollisionKey, CollisionData> collisions = new HashMap<>();
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Active collisions, keyed by the ids of the two entities (lower id first). */
+    private final LongMap<Contact> collisions = new LongMap<>();
+    /** Maps the id of each entity to its index in the hitbox arrays of the current execution. */
+    private final IntIntMap indices = new IntIntMap();
+
+    private final LongArray endedCollisions = new LongArray();
+    private final LongArray forgottenCollisions = new LongArray();
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private CollideComponent[] hitboxes = new CollideComponent[INITIAL_CAPACITY];
+    private float[] minX = new float[INITIAL_CAPACITY];
+    private float[] minY = new float[INITIAL_CAPACITY];
+    private float[] maxX = new float[INITIAL_CAPACITY];
+    private float[] maxY = new float[INITIAL_CAPACITY];
+    private float[] centerX = new float[INITIAL_CAPACITY];
+    private float[] centerY = new float[INITIAL_CAPACITY];
+    /** Indices of the hitboxes, sorted by their left edge. */
+    private int[] order = new int[INITIAL_CAPACITY];
+
+    private int count;
+    private int lastCount;
+    private int execution;
 
     public CollisionSystem() {
         super(CollideComponent.class);
+        onEntityRemove = this::forgetCollisions;
     }
 
     /**
@@ -39,88 +72,169 @@ public final class CollisionSystem extends System {
      */
     @Override
     public void execute() {
-        entityStream().flatMap(this::createDataPairs).forEach(this::onEnterLeaveCheck);
+        execution++;
+        count = 0;
+        indices.clear();
+        forEachEntity(CollideComponent.class, this::collectHitbox);
+        sortByLeftEdge();
+        sweep();
+        checkForEndedCollisions();
     }
 
     /**
-     * Create a stream of pairs of entities.
+     * Calculate the hitbox of the given entity for this execution.
      *
-     * <p>Pair a given entity with every other entity with a higher id.
-     *
-     * @param a Entity which is the lower id partner
-     * @return the stream which contains every valid pair of Entities
+     * <p>The corners are calculated the same way as {@link CollideComponent#bottomLeft}, {@link
+     * CollideComponent#topRight} and {@link CollideComponent#center} do.
      */
-    private Stream<CollisionData> createDataPairs(Entity a) {
-        return entityStream().filter(b -> isSmallerThen(a, b)).map(b -> newDataPair(a, b));
+    private void collectHitbox(Entity entity, CollideComponent hitbox) {
+        Point position =
+                entity.fetch(PositionComponent.class)
+                        .orElseThrow(
+                                () ->
+                                        MissingComponentException.build(
+                                                entity, PositionComponent.class))
+                        .position();
+        if (count == entities.length) grow();
+        Point offset = hitbox.offset();
+        Point size = hitbox.size();
+        entities[count] = entity;
+        hitboxes[count] = hitbox;
+        minX[count] = position.x + offset.x;
+        minY[count] = position.y + offset.y;
+        maxX[count] = position.x + offset.x + size.x;
+        maxY[count] = position.y + offset.y + size.y;
+        centerX[count] = position.x + offset.x + size.x / 2;
+        centerY[count] = position.y + offset.y + size.y / 2;
+        indices.put(entity.id(), count);
+        count++;
     }
 
     /**
-     * Compare the entities.
-     *
-     * <p>This comparison is applied in the {@link #createDataPairs(Entity a) createDataPairs}
-     * method to create only tuples with entities with higher ID. This avoids performing a collision
-     * check twice for a pair of entities, first for (a,b) and second for (b,a).
+     * Sort the hitboxes by their left edge.
      *
-     * @param a first Entity
-     * @param b second Entity
-     * @return true when the comparison between a and b is less than zero, otherwise false
+     * <p>The entities are collected in the same order in each execution as long as no entity is
+     * added or removed, so the order of the last execution is a good starting point and the
+     * insertion sort only has to fix the entities that passed each other.
      */
-    private boolean isSmallerThen(Entity a, Entity b) {
-        return a.compareTo(b) < 0;
+    private void sortByLeftEdge() {
+        if (count != lastCount) for (int i = 0; i < count; i++) order[i] = i;
+        lastCount = count;
+        for (int i = 1; i < count; i++) {
+            int current = order[i];
+            float key = minX[current];
+            int j = i - 1;
+            while (j >= 0 && minX[order[j]] > key) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = current;
+        }
+    }
+
+    /** Test each pair of hitboxes that overlap on the x-axis. */
+    private void sweep() {
+        for (int i = 0; i < count; i++) {
+            int a = order[i];
+            for (int j = i + 1; j < count && minX[order[j]] < maxX[a]; j++) {
+                int b = order[j];
+                if (minY[a] < maxY[b] && maxY[a] > minY[b] && maxX[b] > minX[a]) {
+                    if (entities[a].compareTo(entities[b]) < 0) onCollision(a, b);
+                    else onCollision(b, a);
+                }
+            }
+        }
     }
 
     /**
-     * Create a pair of CollideComponents which is the used to check whether a collision is
-     * happening and to store in the internal map. Which allows informing the CollideComponents
-     * about an ended Collision
+     * Handle a collision that is currently happening.
+     *
+     * <p>Only allows a new collision to call the onEnter of the hitboxes. An ongoing collision is
+     * not calling the onEnter of the hitboxes.
      *
-     * @param a The first Entity
-     * @param b the second Entity
-     * @return the pair of CollideComponents
+     * @param a index of the entity with the lower id
+     * @param b index of the entity with the higher id
      */
-    private CollisionData newDataPair(Entity a, Entity b) {
-        CollideComponent cca =
-                a.fetch(CollideComponent.class)
-                        .orElseThrow(
-                                () -> MissingComponentException.build(a, CollideComponent.class));
-        CollideComponent ccb =
-                b.fetch(CollideComponent.class)
-                        .orElseThrow(
-                                () -> MissingComponentException.build(b, CollideComponent.class));
-
-        return new CollisionData(a, cca, b, ccb);
+    private void onCollision(int a, int b) {
+        long key = key(entities[a], entities[b]);
+        Contact contact = collisions.get(key);
+        if (contact != null) {
+            contact.execution = execution;
+            return;
+        }
+        // a new collision should call the onEnter on both entities
+        collisions.put(key, new Contact(entities[a], entities[b], execution));
+        Tile.Direction d = direction(a, b);
+        hitboxes[a].onEnter(entities[a], entities[b], d);
+        hitboxes[b].onEnter(entities[b], entities[a], inverse(d));
     }
 
     /**
-     * Check whether a new collision is happening or whether a collision has ended.
+     * Call onLeave for each stored collision that did not happen in this execution.
      *
-     * <p>Only allows a new collision to call the onEnter of the hitboxes. An ongoing collision is
-     * not calling the onEnter of the hitboxes. When a previous collision existed and no longer is
-     * an active collision the onLeave is called. The onLeave is only called once.
-     *
-     * @param cdata the CollisionData where a collision change may happen
+     * <p>A stored collision is only checked if both entities are still processed by this system.
+     * The onLeave is only called once.
      */
-    private void onEnterLeaveCheck(CollisionData cdata) {
-        CollisionKey key = new CollisionKey(cdata.ea.id(), cdata.eb.id());
-
-        if (checkForCollision(cdata.ea, cdata.a, cdata.eb, cdata.b)) {
-            // a collision is currently happening
-            if (!collisions.containsKey(key)) {
-                // a new collision should call the onEnter on both entities
-                collisions.put(key, cdata);
-                Tile.Direction d = checkDirectionOfCollision(cdata.ea, cdata.a, cdata.eb, cdata.b);
-                cdata.a.onEnter(cdata.ea, cdata.eb, d);
-                cdata.b.onEnter(cdata.eb, cdata.ea, inverse(d));
-            }
-        } else if (collisions.remove(key) != null) {
+    private void checkForEndedCollisions() {
+        endedCollisions.clear();
+        for (LongMap.Entry<Contact> entry : collisions.entries()) {
+            Contact contact = entry.value;
+            if (contact.execution != execution
+                    && indices.containsKey(contact.a.id())
+                    && indices.containsKey(contact.b.id())) endedCollisions.add(entry.key);
+        }
+        for (int i = 0; i < endedCollisions.size; i++) {
+            Contact contact = collisions.remove(endedCollisions.get(i));
+            // forgotten, because an entity was removed by an earlier onLeave call
+            if (contact == null) continue;
+            int a = indices.get(contact.a.id(), -1);
+            int b = indices.get(contact.b.id(), -1);
             // a collision was happening and the two entities are no longer colliding on Leave
             // called once
-            Tile.Direction d = checkDirectionOfCollision(cdata.ea, cdata.a, cdata.eb, cdata.b);
-            cdata.a.onLeave(cdata.ea, cdata.eb, d);
-            cdata.b.onLeave(cdata.eb, cdata.ea, inverse(d));
+            Tile.Direction d = direction(a, b);
+            hitboxes[a].onLeave(entities[a], entities[b], d);
+            hitboxes[b].onLeave(entities[b], entities[a], inverse(d));
         }
     }
 
+    /**
+     * Forget the stored collisions of a removed entity.
+     *
+     * <p>onLeave is not called for them. Without this, the collisions would be stored forever, and
+     * an entity that is recycled with the same id (see {@link core.EntityPool}) would not be
+     * informed about the start of the same collision again.
+     */
+    private void forgetCollisions(Entity entity) {
+        // not endedCollisions, an entity can be removed by an onLeave call
+        forgottenCollisions.clear();
+        for (LongMap.Entry<Contact> entry : collisions.entries())
+            if (entry.value.a == entity || entry.value.b == entity)
+                forgottenCollisions.add(entry.key);
+        for (int i = 0; i < forgottenCollisions.size; i++)
+            collisions.remove(forgottenCollisions.get(i));
+    }
+
+    private Tile.Direction direction(int a, int b) {
+        return direction(centerX[b] - centerX[a], centerY[b] - centerY[a]);
+    }
+
+    private static long key(Entity a, Entity b) {
+        return ((long) a.id() << 32) | (b.id() & 0xFFFFFFFFL);
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        hitboxes = Arrays.copyOf(hitboxes, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        centerX = Arrays.copyOf(centerX, capacity);
+        centerY = Arrays.copyOf(centerY, capacity);
+        order = Arrays.copyOf(order, capacity);
+    }
+
     /**
      * Simple Direction inversion
      *
@@ -162,6 +276,10 @@ public final class CollisionSystem extends System {
             Entity h1, CollideComponent hitbox1, Entity h2, CollideComponent hitbox2) {
         float y = hitbox2.center(h2).y - hitbox1.center(h1).y;
         float x = hitbox2.center(h2).x - hitbox1.center(h1).x;
+        return direction(x, y);
+    }
+
+    private static Tile.Direction direction(float x, float y) {
         float rads = (float) Math.atan2(y, x);
         double piQuarter = Math.PI / 4;
         if (rads < 3 * -piQuarter) {
@@ -177,7 +295,16 @@ public final class CollisionSystem extends System {
         }
     }
 
-    private record CollisionKey(int a, int b) {}
+    /** A stored collision and the last execution in which it was detected. */
+    private static final class Contact {
+        private final Entity a;
+        private final Entity b;
+        private int execution;
 
-    protected record CollisionData(Entity ea, CollideComponent a, Entity eb, CollideComponent b) {}
+        private Contact(Entity a, Entity b, int execution) {
+            this.a = a;
+            this.b = b;
+            this.execution = execution;
+        }
+    }
 }
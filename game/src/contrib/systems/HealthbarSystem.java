@@ -73,6 +73,11 @@ public final class HealthbarSystem extends System {
         entityStream().map(this::buildDataObject).forEach(this::update);
     }
 
+    @Override
+    public Phase phase() {
+        return Phase.PRESENTATION;
+    }
+
     private void update(EnemyData ed) {
         if (ed.hc.currentHealthpoints() <= 0) ed.pb.remove();
         // set visible only if entity lost health
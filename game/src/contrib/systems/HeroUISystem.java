@@ -39,6 +39,11 @@ public final class HeroUISystem extends System {
         entityStream().forEach(this::update);
     }
 
+    @Override
+    public Phase phase() {
+        return Phase.PRESENTATION;
+    }
+
     private void update(Entity entity) {
         XPComponent xc =
                 entity.fetch(XPComponent.class)
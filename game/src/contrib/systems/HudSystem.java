@@ -84,6 +84,11 @@ public final class HudSystem extends System {
         else unpauseGame();
     }
 
+    @Override
+    public Phase phase() {
+        return Phase.PRESENTATION;
+    }
+
     private boolean pausesGame(Entity x) {
         Optional<UIComponent> uiComponent = x.fetch(UIComponent.class);
         return uiComponent
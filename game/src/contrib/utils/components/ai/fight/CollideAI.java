@@ -13,7 +13,7 @@ import java.util.function.Consumer;
 
 public class CollideAI implements Consumer<Entity> {
     private final float rushRange;
-    private final int delay = Game.frameRate();
+    private final int delay = Game.tickRate();
     private int timeSinceLastUpdate = delay;
     private GraphPath<Tile> path;
 
@@ -57,7 +57,7 @@ public class PatrolWalk implements Consumer<Entity> {
             final float radius, final int numberCheckpoints, final int pauseTime, final MODE mode) {
         this.radius = radius;
         this.numberCheckpoints = numberCheckpoints;
-        this.pauseFrames = pauseTime / (1000 / Game.frameRate());
+        this.pauseFrames = pauseTime / (1000 / Game.tickRate());
         this.mode = mode;
     }
 
@@ -84,8 +84,8 @@ public class PatrolWalk implements Consumer<Entity> {
 
         int maxTries = 0;
         while (this.checkpoints.size() < numberCheckpoints
-                || accessibleTiles.size() == this.checkpoints.size()
-                || maxTries >= 1000) {
+                && this.checkpoints.size() < accessibleTiles.size()
+                && maxTries < 1000) {
             Tile t = accessibleTiles.get(random.nextInt(accessibleTiles.size()));
             if (!this.checkpoints.contains(t)) {
                 this.checkpoints.add(t);
@@ -26,7 +26,7 @@ public class RadiusWalk implements Consumer<Entity> {
      */
     public RadiusWalk(final float radius, final int breakTimeInSeconds) {
         this.radius = radius;
-        this.breakTime = breakTimeInSeconds * Game.frameRate();
+        this.breakTime = breakTimeInSeconds * Game.tickRate();
     }
 
     @Override
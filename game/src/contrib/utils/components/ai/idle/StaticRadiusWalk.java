@@ -33,7 +33,7 @@ public class StaticRadiusWalk implements Consumer<Entity> {
      */
     public StaticRadiusWalk(final float radius, final int breakTimeInSeconds) {
         this.radius = radius;
-        this.breakTime = breakTimeInSeconds * Game.frameRate();
+        this.breakTime = breakTimeInSeconds * Game.tickRate();
     }
 
     @Override
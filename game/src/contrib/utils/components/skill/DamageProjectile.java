@@ -7,14 +7,15 @@ import contrib.utils.components.health.Damage;
 import contrib.utils.components.health.DamageType;
 
 import core.Entity;
+import core.EntityPool;
 import core.Game;
 import core.components.*;
 import core.level.Tile;
 import core.utils.Point;
-import core.utils.TriConsumer;
 import core.utils.components.MissingComponentException;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
@@ -26,6 +27,7 @@ import java.util.logging.Logger;
  */
 public abstract class DamageProjectile implements Consumer<Entity> {
     private static final Logger LOGGER = Logger.getLogger(DamageProjectile.class.getName());
+    private static final int PROJECTILE_POOL_CAPACITY = 32;
     private String pathToTexturesOfProjectile;
     private float projectileSpeed;
 
@@ -37,6 +39,14 @@ public abstract class DamageProjectile implements Consumer<Entity> {
 
     private Supplier<Point> selectionFunction;
 
+    /** Recycles the projectiles, so each shot does not create new entities and components. */
+    private final EntityPool projectiles =
+            new EntityPool(
+                    "Projectile",
+                    this::buildProjectile,
+                    DamageProjectile::clearProjectile,
+                    PROJECTILE_POOL_CAPACITY);
+
     /**
      * The DamageProjectile constructor sets the path to the textures of the projectile, the speed
      * of the projectile, the damage amount and type to be dealt, the size of the projectile's
@@ -84,7 +94,7 @@ public abstract class DamageProjectile implements Consumer<Entity> {
      */
     @Override
     public void accept(Entity entity) {
-        Entity projectile = new Entity("Projectile");
+        Entity projectile = projectiles.obtain();
         // Get the PositionComponent of the entity
         PositionComponent epc =
                 entity.fetch(PositionComponent.class)
@@ -92,18 +102,6 @@ public abstract class DamageProjectile implements Consumer<Entity> {
                                 () ->
                                         MissingComponentException.build(
                                                 entity, PositionComponent.class));
-        projectile.addComponent(new PositionComponent(epc.position()));
-
-        try {
-            projectile.addComponent(new DrawComponent(pathToTexturesOfProjectile));
-        } catch (IOException e) {
-            LOGGER.warning(
-                    "The DrawComponent for the projectile "
-                            + entity.toString()
-                            + " cant be created. "
-                            + e.getMessage());
-            throw new RuntimeException();
-        }
 
         // Get the target point based on the selection function and projectile range
         Point aimedOn = selectionFunction.get();
@@ -113,34 +111,101 @@ public abstract class DamageProjectile implements Consumer<Entity> {
         // Calculate the velocity of the projectile
         Point velocity = SkillTools.calculateVelocity(epc.position(), targetPoint, projectileSpeed);
 
-        // Add the VelocityComponent to the projectile
-        VelocityComponent vc = new VelocityComponent(velocity.x, velocity.y);
-        projectile.addComponent(vc);
-
-        // Add the ProjectileComponent with the initial and target positions to the projectile
-        projectile.addComponent(new ProjectileComponent(epc.position(), targetPoint));
-
-        // Create a collision handler for the projectile
-        TriConsumer<Entity, Entity, Tile.Direction> collide =
-                (a, b, from) -> {
-                    if (b != entity) {
-                        b.fetch(HealthComponent.class)
-                                .ifPresent(
-                                        hc -> {
-                                            // Apply the projectile damage to the collided entity
-                                            hc.receiveHit(
-                                                    new Damage(damageAmount, damageType, entity));
-
-                                            // Remove the projectile entity from the game
-                                            Game.remove(projectile);
-                                        });
-                    }
-                };
-
-        // Add the CollideComponent with the appropriate hitbox size and collision handler to the
-        // projectile
-        projectile.addComponent(
-                new CollideComponent(new Point(0.25f, 0.25f), projectileHitboxSize, collide, null));
+        // Reset the recycled components of the projectile for this shot
+        VelocityComponent vc =
+                projectile
+                        .fetch(VelocityComponent.class)
+                        .orElseThrow(
+                                () ->
+                                        MissingComponentException.build(
+                                                projectile, VelocityComponent.class));
+        vc.currentXVelocity(0);
+        vc.currentYVelocity(0);
+        vc.xVelocity(velocity.x);
+        vc.yVelocity(velocity.y);
+        projectile
+                .fetch(PositionComponent.class)
+                .orElseThrow(
+                        () -> MissingComponentException.build(projectile, PositionComponent.class))
+                .place(epc.position());
+        ProjectileComponent pc =
+                projectile
+                        .fetch(ProjectileComponent.class)
+                        .orElseThrow(
+                                () ->
+                                        MissingComponentException.build(
+                                                projectile, ProjectileComponent.class));
+        pc.path(epc.position(), targetPoint);
+        pc.owner(entity);
         Game.add(projectile);
     }
+
+    /**
+     * Handle the collision of a projectile with another entity.
+     *
+     * <p>If the other entity is not the entity that shot the projectile and it can take damage, the
+     * damage of this skill is applied and the projectile is removed from the game.
+     *
+     * @param projectile The projectile.
+     * @param other The entity the projectile collided with.
+     * @param from The direction of the collision.
+     */
+    private void onHit(Entity projectile, Entity other, Tile.Direction from) {
+        Entity owner =
+                projectile
+                        .fetch(ProjectileComponent.class)
+                        .map(ProjectileComponent::owner)
+                        .orElse(null);
+        if (other == owner) return;
+        Optional<HealthComponent> hc = other.fetch(HealthComponent.class);
+        if (hc.isEmpty()) return;
+        // Apply the projectile damage to the collided entity
+        hc.get().receiveHit(new Damage(damageAmount, damageType, owner));
+        // Remove the projectile entity from the game
+        Game.remove(projectile);
+    }
+
+    /**
+     * Add the components of a projectile of this skill to a new projectile.
+     *
+     * <p>The components are recycled with the projectile, see {@link EntityPool}. The state of each
+     * shot is set in {@link #accept(Entity)}.
+     *
+     * @param projectile The new projectile.
+     */
+    private void buildProjectile(Entity projectile) {
+        DrawComponent draw;
+        try {
+            draw = new DrawComponent(pathToTexturesOfProjectile);
+        } catch (IOException e) {
+            LOGGER.warning(
+                    "The DrawComponent for the projectile "
+                            + projectile.toString()
+                            + " cant be created. "
+                            + e.getMessage());
+            throw new RuntimeException();
+        }
+        // Add the CollideComponent with the appropriate hitbox size, the collision handler reads
+        // the owner of each shot from the ProjectileComponent
+        projectile.addComponents(
+                draw,
+                new VelocityComponent(),
+                new PositionComponent(PositionComponent.ILLEGAL_POSITION),
+                new ProjectileComponent(
+                        PositionComponent.ILLEGAL_POSITION, PositionComponent.ILLEGAL_POSITION),
+                new CollideComponent(
+                        new Point(0.25f, 0.25f),
+                        projectileHitboxSize,
+                        this::onHit,
+                        CollideComponent.DEFAULT_COLLIDER));
+    }
+
+    /**
+     * Forget the entity that shot a removed projectile, so the pool does not keep it alive.
+     *
+     * @param projectile The removed projectile.
+     */
+    private static void clearProjectile(Entity projectile) {
+        projectile.fetch(ProjectileComponent.class).ifPresent(pc -> pc.owner(null));
+    }
 }
@@ -0,0 +1,44 @@
+package core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns each {@link Component} class a small, dense index.
+ *
+ * <p>The {@link Entity} uses this index to store its components in a plain array instead of a hash
+ * map. Looking up a component is therefore a {@link ClassValue} lookup (which is cached on the
+ * class itself) followed by an array access.
+ *
+ * <p>Indices are assigned lazily, the first time a class is seen, and are stable for the lifetime
+ * of the JVM.
+ */
+final class ComponentIndex {
+
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+    private static final ClassValue<Integer> INDEX =
+            new ClassValue<>() {
+                @Override
+                protected Integer computeValue(final Class<?> type) {
+                    return NEXT_INDEX.getAndIncrement();
+                }
+            };
+
+    private ComponentIndex() {}
+
+    /**
+     * Get the index of the given component class.
+     *
+     * @param klass the component class
+     * @return the index of the given class
+     */
+    static int of(final Class<?> klass) {
+        return INDEX.get(klass);
+    }
+
+    /**
+     * @return the number of component classes that got an index so far
+     */
+    static int count() {
+        return NEXT_INDEX.get();
+    }
+}
@@ -3,7 +3,8 @@ package core;
 import semanticanalysis.types.DSLContextPush;
 import semanticanalysis.types.DSLType;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -27,6 +28,14 @@ import java.util.stream.Stream;
  *
  * <p>With {@link #fetch}, you can check if the entity has a component of the given class.
  *
+ * <p>Internally, the components are stored in an array indexed by a per-class index (see {@link
+ * ComponentIndex}), so {@link #fetch} and {@link #isPresent} do not need a hash lookup. Systems
+ * that need several components of each entity should use {@link System#forEachEntity} instead,
+ * which iterates the packed component columns of the {@link core.utils.EntitySystemMapper}.
+ *
+ * <p>Entities that are created and removed often (e.g. projectiles) can be recycled by an {@link
+ * EntityPool}.
+ *
  * @see Component
  * @see System
  * @see Optional
@@ -38,7 +47,11 @@ public final class Entity implements Comparable<Entity> {
     private static int nextId = 0;
     private final int id;
     private final String name;
-    private final HashMap<Class<? extends Component>, Component> components;
+    private Component[] components;
+    /** The pool the entity is recycled by, if it was obtained from a pool. */
+    final EntityPool pool;
+    /** True while the entity is waiting in its pool to be obtained again. */
+    boolean free;
 
     /**
      * Create a new Entity you have to register it in {@link Game} using {@link Game#add}.
@@ -46,10 +59,15 @@ public final class Entity implements Comparable<Entity> {
      * @param name the name of the entity, used for better logging and debugging
      */
     public Entity(final String name) {
+        this(name, null);
+    }
+
+    Entity(final String name, final EntityPool pool) {
         id = nextId++;
-        components = new HashMap<>();
+        components = new Component[ComponentIndex.count()];
         this.name = name;
-        LOGGER.info("The entity '" + name + "' was created.");
+        this.pool = pool;
+        LOGGER.info(() -> "The entity '" + name + "' was created.");
     }
 
     /**
@@ -73,9 +91,31 @@ public final class Entity implements Comparable<Entity> {
      * @param component The component to add
      */
     public void addComponent(final Component component) {
-        components.put(component.getClass(), component);
+        put(component);
         Game.informAboutChanges(this);
-        LOGGER.info(component.getClass().getName() + " Components from " + this + " was added.");
+        LOGGER.info(
+                () -> component.getClass().getName() + " Components from " + this + " was added.");
+    }
+
+    /**
+     * Add several components to this entity at once.
+     *
+     * <p>Works like {@link #addComponent} for each component, but {@link Game#informAboutChanges}
+     * is only called once, after all components were added.
+     *
+     * @param components The components to add
+     */
+    public void addComponents(final Component... components) {
+        for (Component component : components) put(component);
+        Game.informAboutChanges(this);
+        LOGGER.info(() -> components.length + " Components from " + this + " were added.");
+    }
+
+    private void put(final Component component) {
+        int index = ComponentIndex.of(component.getClass());
+        if (index >= components.length)
+            components = Arrays.copyOf(components, Math.max(index + 1, ComponentIndex.count()));
+        components[index] = component;
     }
 
     /**
@@ -87,9 +127,11 @@ public final class Entity implements Comparable<Entity> {
      * @param klass the Class of the component
      */
     public void removeComponent(final Class<? extends Component> klass) {
-        if (components.remove(klass) != null) {
+        int index = ComponentIndex.of(klass);
+        if (index < components.length && components[index] != null) {
+            components[index] = null;
             Game.informAboutChanges(this);
-            LOGGER.info(klass.getName() + " from " + name + " was removed.");
+            LOGGER.info(() -> klass.getName() + " from " + name + " was removed.");
         }
     }
 
@@ -101,7 +143,7 @@ public final class Entity implements Comparable<Entity> {
      * @see Optional
      */
     public <T extends Component> Optional<T> fetch(final Class<T> klass) {
-        return Optional.ofNullable(klass.cast(components.get(klass)));
+        return Optional.ofNullable(klass.cast(component(klass)));
     }
 
     /**
@@ -111,7 +153,13 @@ public final class Entity implements Comparable<Entity> {
      * @return true if the component is present in the entity, false if not
      */
     public boolean isPresent(final Class<? extends Component> klass) {
-        return components.containsKey(klass);
+        return component(klass) != null;
+    }
+
+    private Component component(final Class<? extends Component> klass) {
+        int index = ComponentIndex.of(klass);
+        if (index < components.length) return components[index];
+        return null;
     }
 
     /**
@@ -138,6 +186,6 @@ public final class Entity implements Comparable<Entity> {
      * @return Stream of components.
      */
     public Stream<Component> componentStream() {
-        return components.values().stream();
+        return Arrays.stream(components).filter(Objects::nonNull);
     }
 }
@@ -0,0 +1,113 @@
+package core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * Recycles the entities of one archetype, e.g. the projectiles of a skill.
+ *
+ * <p>Each new entity of the pool is built by the prefab of the pool, which adds the components
+ * that all entities of the archetype share (e.g. the {@link core.components.DrawComponent}). If
+ * an entity of the pool is removed from the game with {@link Game#remove}, it is given back to the
+ * pool at the end of the tick, with its id and its components. The next call of {@link #obtain()}
+ * returns the recycled entity instead of creating a new one, so the caller only needs to set the
+ * state of the new use (e.g. the position). The optional clear function of the pool is called when
+ * an entity is given back, to drop the references of the components to other objects (e.g. the
+ * entity that shot a projectile), so the pool does not keep them alive.
+ *
+ * <p>A removed entity of a pool must not be used anymore, because it may already be in use again.
+ * If more than the capacity of the pool is removed, the surplus entities are not recycled.
+ */
+public final class EntityPool {
+    private final String name;
+    private final Consumer<Entity> prefab;
+    private final Consumer<Entity> clear;
+    private final int capacity;
+    private final Deque<Entity> free = new ArrayDeque<>();
+    private int created;
+
+    /**
+     * Create a new pool.
+     *
+     * @param name Name of the entities of the pool.
+     * @param prefab Adds the components of the archetype to a new entity.
+     * @param capacity Maximum number of removed entities kept for recycling.
+     */
+    public EntityPool(final String name, final Consumer<Entity> prefab, int capacity) {
+        this(name, prefab, entity -> {}, capacity);
+    }
+
+    /**
+     * Create a new pool.
+     *
+     * @param name Name of the entities of the pool.
+     * @param prefab Adds the components of the archetype to a new entity.
+     * @param clear Clears the components of a removed entity, before it is kept for recycling.
+     * @param capacity Maximum number of removed entities kept for recycling.
+     */
+    public EntityPool(
+            final String name,
+            final Consumer<Entity> prefab,
+            final Consumer<Entity> clear,
+            int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The capacity can not be negative.");
+        this.name = name;
+        this.prefab = prefab;
+        this.clear = clear;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Get an entity of the archetype.
+     *
+     * <p>Returns a recycled entity if one is available, otherwise a new entity is created and
+     * built by the prefab. The entity is not added to the game.
+     *
+     * @return The entity.
+     */
+    public Entity obtain() {
+        Entity entity = free.poll();
+        if (entity != null) {
+            entity.free = false;
+            return entity;
+        }
+        entity = new Entity(name, this);
+        created++;
+        prefab.accept(entity);
+        return entity;
+    }
+
+    /**
+     * Give a removed entity back to the pool.
+     *
+     * <p>An entity that is already in the pool is ignored, so an entity can be removed twice. The
+     * entity is cleared with the clear function of the pool.
+     *
+     * @param entity The removed entity.
+     */
+    void free(final Entity entity) {
+        if (entity.free || free.size() >= capacity) return;
+        clear.accept(entity);
+        entity.free = true;
+        free.push(entity);
+    }
+
+    /**
+     * Get the number of entities waiting in the pool to be recycled.
+     *
+     * @return The number of free entities.
+     */
+    public int size() {
+        return free.size();
+    }
+
+    /**
+     * Get the number of entities the pool has created.
+     *
+     * @return The number of created entities.
+     */
+    public int created() {
+        return created;
+    }
+}
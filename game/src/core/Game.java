@@ -10,6 +10,7 @@ import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.ScalingViewport;
 
@@ -25,9 +26,13 @@ import core.level.utils.LevelSize;
 import core.systems.*;
 import core.utils.Constants;
 import core.utils.EntitySystemMapper;
+import core.utils.FixedTimestep;
 import core.utils.IVoidFunction;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
+import core.utils.components.draw.Painter;
+import core.utils.components.draw.TextureAtlasBuilder;
+import core.utils.components.draw.TextureMap;
 import core.utils.logging.LoggerConfig;
 
 import java.io.IOException;
@@ -46,14 +51,22 @@ public final class Game extends ScreenAdapter {
      */
     private static final Map<Class<? extends System>, System> systems = new LinkedHashMap<>();
     /** Maps the level with the different {@link EntitySystemMapper} for that level. */
-    private static final Map<ILevel, Set<EntitySystemMapper>> levelStorageMap = new HashMap<>();
+    private static final Map<ILevel, Map<Set<Class<? extends Component>>, EntitySystemMapper>>
+            levelStorageMap = new HashMap<>();
+    /** Filter rules of the {@link EntitySystemMapper} that contains each entity in the game. */
+    private static final Set<Class<? extends Component>> NO_FILTER = Set.of();
+    /** Removed entities of {@link EntityPool}s, they are given back at the end of the tick. */
+    private static final Set<Entity> removedPooledEntities = new LinkedHashSet<>();
 
     private static final Logger LOGGER = Logger.getLogger("Game");
     /**
      * Collection of {@link EntitySystemMapper} that maps the exisiting entities to the systems. The
      * {@link EntitySystemMapper} with no filter-rules will contain each entity in the game
+     *
+     * <p>The key of each {@link EntitySystemMapper} is its set of filter rules.
      */
-    private static Set<EntitySystemMapper> activeEntityStorage = new HashSet<>();
+    private static Map<Set<Class<? extends Component>>, EntitySystemMapper> activeEntityStorage =
+            new HashMap<>();
     /**
      * The width of the game window in pixels.
      *
@@ -73,6 +86,15 @@ public final class Game extends ScreenAdapter {
      */
     private static int FRAME_RATE = 30;
 
+    /**
+     * The simulation of the game. Systems of the {@link System.Phase#SIMULATION} phase are
+     * executed {@link FixedTimestep#tickRate()} times per second, independent of the frame rate.
+     */
+    private static final FixedTimestep TIMESTEP = new FixedTimestep(30);
+
+    /** Number of ticks since the start of the game. */
+    private static long tickCount = 0;
+
     /**
      * Part of the pre-run configuration. If this value is true, the game will be started in full
      * screen mode.
@@ -81,6 +103,22 @@ public final class Game extends ScreenAdapter {
      */
     private static boolean FULL_SCREEN = false;
 
+    /**
+     * Part of the pre-run configuration. How many levels are generated in the background, before
+     * they are loaded. Use 0 to generate each level when it is loaded (default).
+     *
+     * <p>Manipulating this value will only result in changes before {@link Game#run} was executed.
+     */
+    private static int PREGENERATED_LEVELS = 0;
+
+    /**
+     * Part of the pre-run configuration. The seed of the sequence of generated levels. The same
+     * seed gives the same levels.
+     *
+     * <p>Manipulating this value will only result in changes before {@link Game#run} was executed.
+     */
+    private static long LEVEL_SEED = new Random().nextLong();
+
     /**
      * Part of the pre-run configuration. The title of the Game-Window.
      *
@@ -133,7 +171,7 @@ public final class Game extends ScreenAdapter {
     private static Stage stage;
     private boolean doSetup = true;
     private boolean uiDebugFlag = false;
-    private boolean newLevelWasLoadedInThisLoop = false;
+    private static boolean newLevelWasLoadedInThisLoop = false;
     /**
      * Sets {@link #currentLevel} to the new level and changes the currently active entity storage.
      *
@@ -153,7 +191,10 @@ public final class Game extends ScreenAdapter {
                 Map<Class<? extends System>, System> s = Game.systems();
                 removeAllSystems();
                 activeEntityStorage =
-                        levelStorageMap.computeIfAbsent(currentLevel(), k -> new HashSet<>());
+                        levelStorageMap.computeIfAbsent(currentLevel(), k -> new HashMap<>());
+                // the mapper without filter rules stores each entity of the level, even entities
+                // that no system processes
+                entitySystemMapper(NO_FILTER);
                 // Readd the systems so that each triggerOnAdd(entity) will be called (basically
                 // setup). This will also create new EntitySystemMapper if needed.
                 s.values().forEach(Game::add);
@@ -221,6 +262,49 @@ public final class Game extends ScreenAdapter {
         return FRAME_RATE;
     }
 
+    /**
+     * Get the number of ticks per second.
+     *
+     * <p>Use this value to convert seconds into ticks, e.g. for cool downs of systems in the
+     * {@link System.Phase#SIMULATION} phase.
+     *
+     * @return number of ticks per second
+     */
+    public static int tickRate() {
+        return TIMESTEP.tickRate();
+    }
+
+    /**
+     * Get the length of one tick.
+     *
+     * @return length of one tick in seconds
+     */
+    public static float timeStep() {
+        return TIMESTEP.timeStep();
+    }
+
+    /**
+     * Get the number of ticks since the start of the game.
+     *
+     * @return number of executed ticks
+     */
+    public static long tickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Get the part of a tick that passed since the last tick.
+     *
+     * <p>Systems of the {@link System.Phase#PRESENTATION} phase use this value to draw the
+     * entities between their positions of the last two ticks.
+     *
+     * @return value between 0 (inclusive) and 1 (exclusive)
+     * @see PositionComponent#interpolatedPosition(float)
+     */
+    public static float interpolationAlpha() {
+        return TIMESTEP.alpha();
+    }
+
     /**
      * Get if the game is currently in full screen mode
      *
@@ -268,9 +352,12 @@ public final class Game extends ScreenAdapter {
     }
 
     /**
-     * The frames per second of the game. The FPS determine in which interval the update cycle of
-     * the systems is triggered. Each system is updated once per frame. With an FPS of 30, each
-     * system is updated 30 times per second.
+     * The frames per second of the game. The FPS determine how often the game is drawn. Systems
+     * of the {@link System.Phase#PRESENTATION} phase are executed once per frame. With an FPS of
+     * 30, these systems are updated 30 times per second.
+     *
+     * <p>The systems of the {@link System.Phase#SIMULATION} phase do not depend on the FPS, see
+     * {@link #tickRate(int)}.
      *
      * <p>Part of the pre-run configuration: Manipulating this value will only result in changes
      * before {@link Game#run} was executed.
@@ -281,6 +368,16 @@ public final class Game extends ScreenAdapter {
         FRAME_RATE = frameRate;
     }
 
+    /**
+     * Set the number of ticks per second. Systems of the {@link System.Phase#SIMULATION} phase are
+     * executed once per tick.
+     *
+     * @param tickRate the new number of ticks per second, has to be positive
+     */
+    public static void tickRate(int tickRate) {
+        TIMESTEP.tickRate(tickRate);
+    }
+
     /**
      * Set the window to fullscreen mode or windowed mode.
      *
@@ -323,6 +420,33 @@ public final class Game extends ScreenAdapter {
         LevelSystem.levelSize(levelSize);
     }
 
+    /**
+     * Set how many levels are generated in the background, before they are loaded.
+     *
+     * <p>The pregeneration is disabled by default. It is paused while a level set with {@link
+     * #currentLevel(ILevel)} is played, and resumed when the next generated level is loaded.
+     *
+     * <p>Part of the pre-run configuration: Manipulating this value will only result in changes
+     * before {@link Game#run} was executed.
+     *
+     * @param count Number of pregenerated levels. Use 0 to generate each level when it is loaded.
+     */
+    public static void pregeneratedLevels(int count) {
+        PREGENERATED_LEVELS = count;
+    }
+
+    /**
+     * Set the seed of the sequence of generated levels.
+     *
+     * <p>Part of the pre-run configuration: Manipulating this value will only result in changes
+     * before {@link Game#run} was executed.
+     *
+     * @param seed Seed of the levels. The same seed gives the same levels.
+     */
+    public static void levelSeed(long seed) {
+        LEVEL_SEED = seed;
+    }
+
     /**
      * Set the function that will be executed at each frame.
      * <p> Use this, if you want to execute some logic outside of a system.</p>
@@ -394,9 +518,9 @@ public final class Game extends ScreenAdapter {
      * @param entity the entity that has changes in its Component Collection.
      */
     public static void informAboutChanges(Entity entity) {
-        if (entityStream().anyMatch(entity1 -> entity1.equals(entity))) {
-            activeEntityStorage.forEach(f -> f.update(entity));
-            LOGGER.info("Entity: " + entity + " informed the Game about component changes.");
+        if (entitySystemMapper(NO_FILTER).contains(entity)) {
+            activeEntityStorage.values().forEach(f -> f.update(entity));
+            LOGGER.info(() -> "Entity: " + entity + " informed the Game about component changes.");
         }
     }
 
@@ -411,8 +535,10 @@ public final class Game extends ScreenAdapter {
      * @param entity the entity to add.
      */
     public static void add(Entity entity) {
-        activeEntityStorage.forEach(f -> f.add(entity));
-        LOGGER.info("Entity: " + entity + " will be added to the Game.");
+        // the mapper without filter rules has to exist, it stores each entity of the game
+        entitySystemMapper(NO_FILTER);
+        activeEntityStorage.values().forEach(f -> f.add(entity));
+        LOGGER.info(() -> "Entity: " + entity + " will be added to the Game.");
     }
 
     /**
@@ -420,11 +546,31 @@ public final class Game extends ScreenAdapter {
      *
      * <p>If necessary, the {@link System}s will trigger {@link System#triggerOnAdd(Entity)} .
      *
+     * <p>If the entity was obtained from an {@link EntityPool}, it is given back to the pool at the
+     * end of the tick, when all {@link EntitySystemMapper}s removed it, and must not be used
+     * anymore. So removing the entity twice in the same tick does not remove another use of it.
+     *
      * @param entity the entity to remove
      */
     public static void remove(Entity entity) {
-        activeEntityStorage.forEach(f -> f.remove(entity));
-        LOGGER.info("Entity: " + entity + " will be removed from the Game.");
+        activeEntityStorage.values().forEach(f -> f.remove(entity));
+        LOGGER.info(() -> "Entity: " + entity + " will be removed from the Game.");
+        if (entity.pool != null) removedPooledEntities.add(entity);
+    }
+
+    /**
+     * Give the entities removed in this tick back to their {@link EntityPool}.
+     *
+     * <p>Called at the end of each tick, when no system iterates its entities, so the removal was
+     * applied by all {@link EntitySystemMapper}s. An entity that was added to the game again is
+     * not given back.
+     */
+    private static void freeRemovedEntities() {
+        if (removedPooledEntities.isEmpty()) return;
+        EntitySystemMapper entities = entitySystemMapper(NO_FILTER);
+        for (Entity entity : removedPooledEntities)
+            if (!entities.contains(entity)) entity.pool.free(entity);
+        removedPooledEntities.clear();
     }
 
     /**
@@ -433,7 +579,7 @@ public final class Game extends ScreenAdapter {
      * @return a stream of all entities currently in the game
      */
     public static Stream<Entity> entityStream() {
-        return entityStream(new HashSet<>());
+        return entityStream(NO_FILTER);
     }
 
     /**
@@ -444,7 +590,7 @@ public final class Game extends ScreenAdapter {
      *     system.
      */
     public static Stream<Entity> entityStream(System system) {
-        return entityStream(system.filterRules());
+        return system.entityStream();
     }
 
     /**
@@ -453,15 +599,22 @@ public final class Game extends ScreenAdapter {
      * @return a stream of all entities currently in the game that contains the given components.
      */
     public static Stream<Entity> entityStream(Set<Class<? extends Component>> filter) {
-        Stream<Entity> returnStream;
-        Optional<EntitySystemMapper> rf =
-                activeEntityStorage.stream().filter(f -> f.equals(filter)).findFirst();
+        return entitySystemMapper(filter).stream();
+    }
 
-        if (rf.isEmpty()) {
-            EntitySystemMapper newMapper = createNewEntitySystemMapper(filter);
-            returnStream = newMapper.stream();
-        } else returnStream = rf.get().stream();
-        return returnStream;
+    /**
+     * Get the {@link EntitySystemMapper} of the currently active level that uses the given filter
+     * rules.
+     *
+     * <p>If no such {@link EntitySystemMapper} exists, a new one will be created.
+     *
+     * @param filter Set of Component classes that define the filter rules.
+     * @return the {@link EntitySystemMapper} with the given filter rules.
+     */
+    static EntitySystemMapper entitySystemMapper(Set<Class<? extends Component>> filter) {
+        EntitySystemMapper mapper = activeEntityStorage.get(filter);
+        if (mapper == null) mapper = createNewEntitySystemMapper(filter);
+        return mapper;
     }
 
     /**
@@ -481,8 +634,9 @@ public final class Game extends ScreenAdapter {
      */
     private static EntitySystemMapper createNewEntitySystemMapper(
             Set<Class<? extends Component>> filter) {
-        EntitySystemMapper mapper = new EntitySystemMapper(filter);
-        activeEntityStorage.add(mapper);
+        Set<Class<? extends Component>> rules = Set.copyOf(filter);
+        EntitySystemMapper mapper = new EntitySystemMapper(rules);
+        activeEntityStorage.put(rules, mapper);
         entityStream().forEach(mapper::add);
         return mapper;
     }
@@ -510,12 +664,16 @@ public final class Game extends ScreenAdapter {
      * Load the configuration from the given path. If the configuration has already been loaded, the
      * cached version will be used.
      *
+     * <p>The levels of the loggers are set from the {@link core.configuration.LoggingConfig}
+     * afterwards, so pass it as one of the classes to configure the logging in the file.
+     *
      * @param pathAsString the path to the config file as a string
      * @param klass the class where the ConfigKey fields are located
      * @throws IOException if the file could not be read
      */
     public static void loadConfig(String pathAsString, Class<?>... klass) throws IOException {
         Configuration.loadAndGetConfiguration(pathAsString, klass);
+        LoggerConfig.applyLevels();
     }
 
     /** Starts the dungeon and requires a {@link Game}. */
@@ -569,14 +727,10 @@ public final class Game extends ScreenAdapter {
         System currentSystem = systems.get(system.getClass());
         systems.put(system.getClass(), system);
         // add to existing filter or create new filter if no matching exists
-        Optional<EntitySystemMapper> filter =
-                activeEntityStorage.stream()
-                        .filter(f -> f.equals(system.filterRules()))
-                        .findFirst();
-        filter.ifPresentOrElse(
-                f -> f.add(system),
-                () -> createNewEntitySystemMapper(system.filterRules()).add(system));
-        LOGGER.info("A new " + system.getClass().getName() + " was added to the game");
+        EntitySystemMapper mapper = entitySystemMapper(system.filterRules());
+        mapper.add(system);
+        system.entitySystemMapper(mapper);
+        LOGGER.info(() -> "A new " + system.getClass().getName() + " was added to the game");
         return Optional.ofNullable(currentSystem);
     }
 
@@ -589,7 +743,34 @@ public final class Game extends ScreenAdapter {
      */
     public static void remove(Class<? extends System> system) {
         System systemInstance = systems.remove(system);
-        if (systemInstance != null) activeEntityStorage.forEach(f -> f.remove(systemInstance));
+        if (systemInstance != null) {
+            activeEntityStorage.values().forEach(f -> f.remove(systemInstance));
+            systemInstance.entitySystemMapper(null);
+        }
+    }
+
+    /**
+     * Remove the entity storage of the given level.
+     *
+     * <p>Use this to release the memory of a level that is not played at the moment. If the level
+     * is loaded again, it will be loaded like a new level, so the returned entities have to be
+     * added again.
+     *
+     * <p>The returned entities are all entities of the level, including the entities that are not
+     * processed by any system.
+     *
+     * @param level the level to unload, must not be the current level.
+     * @return the entities that were stored for the level, empty if the level was never loaded.
+     */
+    public static Set<Entity> unloadLevel(ILevel level) {
+        if (level == currentLevel())
+            throw new IllegalArgumentException("The current level can not be unloaded.");
+        Set<Entity> entities = new LinkedHashSet<>();
+        Map<Set<Class<? extends Component>>, EntitySystemMapper> storage =
+                levelStorageMap.remove(level);
+        if (storage != null && storage.containsKey(NO_FILTER))
+            storage.get(NO_FILTER).stream().forEach(entities::add);
+        return entities;
     }
 
     /**
@@ -747,26 +928,104 @@ public final class Game extends ScreenAdapter {
      * <p>Redraws the dungeon, updates the entity sets, and triggers the execution of the systems.
      * Will call {@link #onFrame}.
      *
+     * <p>The time of the frame is converted into a number of ticks with a fixed length, see {@link
+     * FixedTimestep}. First the systems of the {@link System.Phase#SIMULATION} phase are executed
+     * once for each tick, then the systems of the {@link System.Phase#PRESENTATION} phase are
+     * executed once.
+     *
      * @param delta the time since the last loop
      */
     @Override
     public void render(float delta) {
         if (doSetup) onSetup();
         DrawSystem.batch().setProjectionMatrix(CameraSystem.camera().combined);
+        DrawSystem.painter().resetCounters();
         onFrame();
         clearScreen();
 
-        for (System system : systems().values()) {
-            // if a new level was loaded, stop this loop-run
-            if (newLevelWasLoadedInThisLoop) break;
-            if (system.isRunning()) system.execute();
-        }
+        int ticks = TIMESTEP.advance(delta);
+        for (int i = 0; i < ticks && !newLevelWasLoadedInThisLoop; i++) tick();
+        // the ticks of a new level start without the time of the old level
+        if (newLevelWasLoadedInThisLoop) TIMESTEP.reset();
+        execute(System.Phase.PRESENTATION);
+        freeRemovedEntities();
+        // draw everything that was not drawn by the DrawSystem
+        DrawSystem.painter().flush(false);
         newLevelWasLoadedInThisLoop = false;
         CameraSystem.camera().update();
         // stage logic
         Game.stage().ifPresent(Game::updateStage);
     }
 
+    /**
+     * Execute the given number of ticks as fast as possible, without drawing the game.
+     *
+     * <p>Only the systems of the {@link System.Phase#SIMULATION} phase are executed. Use this to
+     * run the game headless, e.g. for tests or batch runs. Use a {@link HeadlessGame} to run the
+     * systems of the game without a window and to measure the time of each system.
+     *
+     * @param ticks number of ticks to execute
+     */
+    public static void simulate(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick();
+            newLevelWasLoadedInThisLoop = false;
+        }
+    }
+
+    /**
+     * Set up the game without a window and without a graphics context, see {@link HeadlessGame}.
+     *
+     * <p>Creates the systems of {@link #createSystems()} that neither draw nor read the input, and
+     * loads the first level.
+     */
+    static void setupHeadless() {
+        Game game = new Game();
+        game.doSetup = false;
+        game.createHeadlessSystems();
+        ((LevelSystem) systems.get(LevelSystem.class)).loadLevel();
+        newLevelWasLoadedInThisLoop = false;
+    }
+
+    /**
+     * Execute one tick of a {@link HeadlessGame}.
+     *
+     * <p>Executes the systems of the {@link System.Phase#SIMULATION} phase, then the {@link
+     * LevelSystem}, which loads the next level if the hero reached the exit. The other systems of
+     * the {@link System.Phase#PRESENTATION} phase only show the game, they are skipped.
+     *
+     * @param executor Executes a system, e.g. measures the time of its execution.
+     */
+    static void headlessTick(final Consumer<System> executor) {
+        execute(System.Phase.SIMULATION, executor);
+        tickCount++;
+        execute(
+                System.Phase.PRESENTATION,
+                system -> {
+                    if (system instanceof LevelSystem) executor.accept(system);
+                });
+        freeRemovedEntities();
+        newLevelWasLoadedInThisLoop = false;
+    }
+
+    private static void tick() {
+        execute(System.Phase.SIMULATION);
+        freeRemovedEntities();
+        tickCount++;
+    }
+
+    private static void execute(System.Phase phase) {
+        execute(phase, System::execute);
+    }
+
+    private static void execute(System.Phase phase, Consumer<System> executor) {
+        for (System system : systems().values()) {
+            // if a new level was loaded, stop this loop-run
+            if (newLevelWasLoadedInThisLoop) break;
+            if (system.phase() == phase && system.isRunning()) executor.accept(system);
+        }
+    }
+
     /**
      * Called once at the beginning of the game.
      *
@@ -775,11 +1034,32 @@ public final class Game extends ScreenAdapter {
     private void onSetup() {
         doSetup = false;
         CameraSystem.camera().zoom = Constants.DEFAULT_ZOOM_FACTOR;
+        loadTextureAtlas();
         createSystems();
         setupStage();
         userOnSetup.execute();
     }
 
+    /**
+     * Pack the textures into a texture atlas, or load the atlas packed on an earlier start.
+     *
+     * <p>If the atlas can not be created, each texture is loaded on its own.
+     *
+     * @see TextureAtlasBuilder
+     */
+    private void loadTextureAtlas() {
+        try {
+            TextureMap.instance()
+                    .atlas(
+                            TextureAtlasBuilder.loadOrPack(
+                                    TextureAtlasBuilder.cacheFile(
+                                            Constants.TEXTURE_ATLAS_CACHE),
+                                    Constants.TEXTURE_ATLAS_DIRECTORIES));
+        } catch (IOException | GdxRuntimeException e) {
+            LOGGER.warning("Could not load the texture atlas: " + e.getMessage());
+        }
+    }
+
     /**
      * Called at the beginning of each frame, before the entities are updated and the systems are
      * executed.
@@ -841,18 +1121,31 @@ public final class Game extends ScreenAdapter {
 
     /** Create the systems. */
     private void createSystems() {
+        add(new PlayerActionSystem());
         add(new PositionSystem());
+        add(new AnimationSystem());
         add(new CameraSystem());
-        add(
-                new LevelSystem(
-                        DrawSystem.painter(),
-                        new WallGenerator(new RandomWalkGenerator()),
-                        onLevelLoad));
+        add(createLevelSystem(DrawSystem.painter()));
         add(new DrawSystem());
         add(new VelocitySystem());
         add(new PlayerSystem());
     }
 
+    /** Create the systems of {@link #createSystems()} that neither draw nor read the input. */
+    private void createHeadlessSystems() {
+        add(new PositionSystem());
+        add(new AnimationSystem());
+        add(createLevelSystem(null));
+        add(new VelocitySystem());
+    }
+
+    private LevelSystem createLevelSystem(Painter painter) {
+        LevelSystem levelSystem =
+                new LevelSystem(painter, new WallGenerator(new RandomWalkGenerator()), onLevelLoad);
+        levelSystem.pregenerate(PREGENERATED_LEVELS, LEVEL_SEED);
+        return levelSystem;
+    }
+
     @Override
     public void resize(int width, int height) {
         super.resize(width, height);
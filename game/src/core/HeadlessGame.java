@@ -0,0 +1,165 @@
+package core;
+
+import core.systems.LevelSystem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Runs the game loop without a window, e.g. for load tests on machines without a GPU.
+ *
+ * <p>{@link #start()} sets up the systems of the game that do not need a graphics context and
+ * loads the first level. The systems that only draw the game or read the input (e.g. the {@link
+ * core.systems.DrawSystem} and the {@link core.systems.PlayerSystem}) are not created. Add the
+ * other systems (e.g. the AI or the collision) and the entities with {@link Game#add} as usual;
+ * use {@link Game#currentLevel(core.level.elements.ILevel)} to play a given level.
+ *
+ * <p>{@link #simulate(int)} executes the ticks as fast as possible. Each tick executes the systems
+ * of the {@link System.Phase#SIMULATION} phase and the {@link LevelSystem}, which loads the next
+ * level if the hero reaches the exit, see {@link Game#headlessTick}. The time of each execution of
+ * each system is measured, see {@link #timings()} and {@link #report()}.
+ *
+ * <p>The game has only one set of systems and entities, so there can only be one headless game
+ * at a time, and it can not run next to a game with a window.
+ */
+public final class HeadlessGame {
+    private static final Logger LOGGER = Logger.getLogger(HeadlessGame.class.getName());
+
+    private final Map<Class<? extends System>, Counter> counters = new LinkedHashMap<>();
+    private long ticks;
+    private long nanos;
+
+    private HeadlessGame() {}
+
+    /**
+     * Set up the game without a window and load the first level.
+     *
+     * @return The headless game.
+     */
+    public static HeadlessGame start() {
+        Game.setupHeadless();
+        LOGGER.info("A headless game was started.");
+        return new HeadlessGame();
+    }
+
+    /**
+     * Execute the given number of ticks as fast as possible.
+     *
+     * @param ticks Number of ticks to execute.
+     */
+    public void simulate(int ticks) {
+        long start = java.lang.System.nanoTime();
+        for (int i = 0; i < ticks; i++) Game.headlessTick(this::execute);
+        nanos += java.lang.System.nanoTime() - start;
+        this.ticks += ticks;
+    }
+
+    private void execute(final System system) {
+        long start = java.lang.System.nanoTime();
+        system.execute();
+        long time = java.lang.System.nanoTime() - start;
+        counters.computeIfAbsent(system.getClass(), k -> new Counter()).add(time);
+    }
+
+    /**
+     * Get the number of executed ticks since the start or the last {@link #resetTimings()}.
+     *
+     * @return The number of executed ticks.
+     */
+    public long ticks() {
+        return ticks;
+    }
+
+    /**
+     * Get the time of each system since the start or the last {@link #resetTimings()}.
+     *
+     * @return The timings of the systems, in the order of their first execution.
+     */
+    public Map<Class<? extends System>, Timing> timings() {
+        Map<Class<? extends System>, Timing> timings = new LinkedHashMap<>();
+        counters.forEach((k, counter) -> timings.put(k, counter.timing()));
+        return Collections.unmodifiableMap(timings);
+    }
+
+    /** Forget the measured ticks and timings, e.g. after a warmup. */
+    public void resetTimings() {
+        counters.clear();
+        ticks = 0;
+        nanos = 0;
+    }
+
+    /**
+     * Create a table of the timings of the systems, sorted by their total time.
+     *
+     * @return The table, one line per system.
+     */
+    public String report() {
+        List<Map.Entry<Class<? extends System>, Timing>> entries =
+                new ArrayList<>(timings().entrySet());
+        entries.sort(
+                Comparator.comparingLong(
+                                (Map.Entry<Class<? extends System>, Timing> e) ->
+                                        e.getValue().nanos())
+                        .reversed());
+        StringBuilder report = new StringBuilder();
+        report.append(
+                String.format(
+                        "%d ticks in %.1f ms (%.3f ms per tick)%n",
+                        ticks, nanos / 1e6, ticks == 0 ? 0 : nanos / 1e6 / ticks));
+        report.append(
+                String.format(
+                        "%-24s %10s %12s %12s %12s%n",
+                        "system", "executions", "total ms", "mean us", "max us"));
+        for (Map.Entry<Class<? extends System>, Timing> entry : entries) {
+            Timing timing = entry.getValue();
+            report.append(
+                    String.format(
+                            "%-24s %10d %12.1f %12.1f %12.1f%n",
+                            entry.getKey().getSimpleName(),
+                            timing.executions(),
+                            timing.nanos() / 1e6,
+                            timing.meanNanos() / 1e3,
+                            timing.maxNanos() / 1e3));
+        }
+        return report.toString();
+    }
+
+    /**
+     * The measured time of a system.
+     *
+     * @param executions Number of executions of the system.
+     * @param nanos Total time of the executions in nanoseconds.
+     * @param maxNanos Time of the longest execution in nanoseconds.
+     */
+    public record Timing(long executions, long nanos, long maxNanos) {
+        /**
+         * Get the mean time of an execution.
+         *
+         * @return The mean time in nanoseconds, 0 if the system was not executed.
+         */
+        public double meanNanos() {
+            return executions == 0 ? 0 : (double) nanos / executions;
+        }
+    }
+
+    private static final class Counter {
+        private long executions;
+        private long nanos;
+        private long maxNanos;
+
+        private void add(long time) {
+            executions++;
+            nanos += time;
+            maxNanos = Math.max(maxNanos, time);
+        }
+
+        private Timing timing() {
+            return new Timing(executions, nanos, maxNanos);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package core;
 
 import core.utils.EntitySystemMapper;
+import core.utils.QuadConsumer;
+import core.utils.TriConsumer;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -24,6 +27,8 @@ import java.util.stream.Stream;
  * <p>The {@link Game} will add the System to a corresponding {@link EntitySystemMapper} or will
  * create a {@link EntitySystemMapper}.
  *
+ * <p>Each system is executed in one {@link Phase} of the game loop, see {@link #phase()}.
+ *
  * <p>If an Entity gets added or removed from a {@link EntitySystemMapper}, the {@link
  * #triggerOnAdd(Entity)} or {@link #triggerOnRemove(Entity)} will be called by the {@link
  * EntitySystemMapper}. Set the {@link #onEntityAdd} or {@link #onEntityRemove} attributes in the
@@ -33,6 +38,12 @@ public abstract class System {
     protected static Logger LOGGER = Logger.getLogger(System.class.getName());
     private final Set<Class<? extends Component>> filterRules;
     protected boolean run;
+    /**
+     * The {@link EntitySystemMapper} this system is registered in. Set by the {@link Game} when the
+     * system is added, so the entities of the system can be queried without searching the mapper
+     * again.
+     */
+    private EntitySystemMapper entitySystemMapper;
 
     /**
      * Will be called after an entity was added to the corresponding {@link EntitySystemMapper}.
@@ -61,16 +72,36 @@ public abstract class System {
      * @param filterRules Needed Component-Classes. Entities need the components to be processed by
      *     this system.
      */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
     public System(Class<? extends Component>... filterRules) {
         if (filterRules != null) this.filterRules = Set.of(filterRules);
         else this.filterRules = new HashSet<>();
         run = true;
-        LOGGER.info("A new " + this.getClass().getName() + " was created");
+        LOGGER.info(() -> "A new " + this.getClass().getName() + " was created");
     }
 
     /** Implements the functionality of the system. */
     public abstract void execute();
 
+    /**
+     * Get the phase of the game loop in which this system is executed.
+     *
+     * <p>Systems that change the state of the game (e.g. movement, AI or health) belong to the
+     * {@link Phase#SIMULATION} phase. They are executed once per tick, with a fixed time step that
+     * does not depend on the frame rate.
+     *
+     * <p>Systems that only show the state of the game or read the input of the player belong to
+     * the {@link Phase#PRESENTATION} phase. They are executed once per rendered frame.
+     *
+     * <p>The default implementation returns {@link Phase#SIMULATION}.
+     *
+     * @return the phase of this system
+     */
+    public Phase phase() {
+        return Phase.SIMULATION;
+    }
+
     /**
      * Triggers the action associated with adding an Entity to this System's corresponding {@link
      * EntitySystemMapper}. This method calls the {@code onEntityAdd} Consumer, executing the logic
@@ -128,7 +159,7 @@ public abstract class System {
      * <p>A running system will be executed.
      */
     public void run() {
-        if (!run) LOGGER.info(this.getClass().getName() + " is running");
+        if (!run) LOGGER.info(() -> this.getClass().getName() + " is running");
         run = true;
     }
 
@@ -141,7 +172,7 @@ public abstract class System {
      * processed when the system is running.
      */
     public void stop() {
-        if (run) LOGGER.info(this.getClass().getName() + " is paused");
+        if (run) LOGGER.info(() -> this.getClass().getName() + " is paused");
         run = false;
     }
 
@@ -156,9 +187,95 @@ public abstract class System {
      * Use this Stream to iterate over all active entities for this system in the {@link #execute}
      * method.
      *
+     * <p>The stream contains the entities at the time this method was called. Entities that are
+     * added or removed while the stream is processed will not change the stream.
+     *
      * @return a stream of active entities that will be processed by the system
      */
     public final Stream<Entity> entityStream() {
-        return Game.entityStream(this);
+        return entitySystemMapper().stream();
+    }
+
+    /**
+     * Use this to iterate over all active entities for this system and the given component in the
+     * {@link #execute} method.
+     *
+     * <p>In contrast to {@link #entityStream()}, this will neither copy the entity collection nor
+     * fetch the component from each entity. Adding or removing entities during the iteration will
+     * take effect after the iteration.
+     *
+     * @param a the component class, needs to be one of the filter rules of this system
+     * @param action the action to perform for each entity
+     * @param <A> the type of the component
+     */
+    protected final <A extends Component> void forEachEntity(
+            final Class<A> a, final BiConsumer<Entity, A> action) {
+        entitySystemMapper().forEach(a, action);
+    }
+
+    /**
+     * Use this to iterate over all active entities for this system and the given components in the
+     * {@link #execute} method.
+     *
+     * @param a the first component class, needs to be one of the filter rules of this system
+     * @param b the second component class, needs to be one of the filter rules of this system
+     * @param action the action to perform for each entity
+     * @param <A> the type of the first component
+     * @param <B> the type of the second component
+     * @see #forEachEntity(Class, BiConsumer)
+     */
+    protected final <A extends Component, B extends Component> void forEachEntity(
+            final Class<A> a, final Class<B> b, final TriConsumer<Entity, A, B> action) {
+        entitySystemMapper().forEach(a, b, action);
+    }
+
+    /**
+     * Use this to iterate over all active entities for this system and the given components in the
+     * {@link #execute} method.
+     *
+     * @param a the first component class, needs to be one of the filter rules of this system
+     * @param b the second component class, needs to be one of the filter rules of this system
+     * @param c the third component class, needs to be one of the filter rules of this system
+     * @param action the action to perform for each entity
+     * @param <A> the type of the first component
+     * @param <B> the type of the second component
+     * @param <C> the type of the third component
+     * @see #forEachEntity(Class, BiConsumer)
+     */
+    protected final <A extends Component, B extends Component, C extends Component>
+            void forEachEntity(
+                    final Class<A> a,
+                    final Class<B> b,
+                    final Class<C> c,
+                    final QuadConsumer<Entity, A, B, C> action) {
+        entitySystemMapper().forEach(a, b, c, action);
+    }
+
+    /**
+     * Set the {@link EntitySystemMapper} this system is registered in.
+     *
+     * <p>This is called by the {@link Game} if the system is added or removed.
+     *
+     * @param entitySystemMapper the mapper of this system, or null if the system is not registered
+     */
+    void entitySystemMapper(final EntitySystemMapper entitySystemMapper) {
+        this.entitySystemMapper = entitySystemMapper;
+    }
+
+    private EntitySystemMapper entitySystemMapper() {
+        if (entitySystemMapper != null) return entitySystemMapper;
+        return Game.entitySystemMapper(filterRules);
+    }
+
+    /**
+     * The phases of the game loop.
+     *
+     * @see Game#render(float)
+     */
+    public enum Phase {
+        /** Executed once per tick, zero or more times per frame. */
+        SIMULATION,
+        /** Executed once per frame, after the ticks of the frame. */
+        PRESENTATION
     }
 }
@@ -6,25 +6,21 @@ import core.Component;
 import core.Entity;
 import core.systems.VelocitySystem;
 import core.utils.components.draw.Animation;
+import core.utils.components.draw.AnimationCache;
 import core.utils.components.draw.CoreAnimations;
 import core.utils.components.draw.IPath;
 
-import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.URISyntaxException;
-import java.net.URL;
 import java.util.*;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Store all {@link Animation}s for an entity.
  *
  * <p>At creation, the component will read in each subdirectory in the given path and create an
- * animation for each subdirectory.
+ * animation for each subdirectory. The subdirectories are only read for the first component of a
+ * path; the frames are stored in the {@link AnimationCache} and shared by all components of the
+ * path. Each component only gets its own {@link Animation}s to play the frames.
  *
  * <p>Each Animation will be created with default settings. If you want to change these settings,
  * use the methods from {@link Animation}.
@@ -74,25 +70,21 @@ public final class DrawComponent implements Component {
      * @see Animation
      */
     public DrawComponent(final String path) throws IOException {
-        // fetch available animations
-        try {
-            loadAnimationsFromDirectory(path);
-            currentAnimation(
-                    CoreAnimations.IDLE_DOWN,
-                    CoreAnimations.IDLE_LEFT,
-                    CoreAnimations.IDLE_RIGHT,
-                    CoreAnimations.IDLE_UP,
-                    CoreAnimations.IDLE);
-
-            // if no idle animation exists, set the missing texture animation as idle
-            if (currentAnimation == null) {
-                animationMap.put(CoreAnimations.IDLE.pathString(), Animation.defaultAnimation());
-                currentAnimation(CoreAnimations.IDLE);
-            }
-        } catch (NullPointerException np) {
-            // We convert the "NullPointerException" to a "FileNotFoundException" because the only
-            // reason for a NullPointerException is if the directory does not exist.
-            throw new FileNotFoundException("Path " + path + " not found.");
+        // the frames of the animations are shared, each entity only plays them
+        Map<String, List<String>> animations = AnimationCache.animations(path);
+        animationMap = new HashMap<>();
+        animations.forEach((name, frames) -> animationMap.put(name, new Animation(frames)));
+        currentAnimation(
+                CoreAnimations.IDLE_DOWN,
+                CoreAnimations.IDLE_LEFT,
+                CoreAnimations.IDLE_RIGHT,
+                CoreAnimations.IDLE_UP,
+                CoreAnimations.IDLE);
+
+        // if no idle animation exists, set the missing texture animation as idle
+        if (currentAnimation == null) {
+            animationMap.put(CoreAnimations.IDLE.pathString(), Animation.defaultAnimation());
+            currentAnimation(CoreAnimations.IDLE);
         }
     }
 
@@ -204,98 +196,4 @@ public final class DrawComponent implements Component {
     public boolean isCurrentAnimationFinished() {
         return currentAnimation.isFinished();
     }
-
-    private void loadAnimationsFromDirectory(String path) throws IOException {
-        File jarFile =
-                new File(getClass().getProtectionDomain().getCodeSource().getLocation().getPath());
-        if (jarFile.isFile()) loadAnimationsFromJar(path, jarFile);
-        else loadAnimationsFromIDE(path);
-    }
-
-    private void loadAnimationsFromJar(String path, File jarFile) throws IOException {
-        // This function will create a map of directories (String) and the files
-        // (LinkedList<String>) inside these directories.
-        // The map will be filled with the directories inside the given path (e.g.,
-        // "character/knight").
-        // Ultimately, this function will manually create an Animation for each entry within this
-        // map.
-
-        JarFile jar = new JarFile(jarFile);
-        Enumeration<JarEntry> entries = jar.entries(); // gives ALL entries in jar
-
-        // This will be used to map the directory names (e.g., "idle") and the texture files.
-        // Ultimately, we will create animations out of this by using the
-        // Animation(LinkedList<String>) constructor.
-
-        HashMap<String, List<String>> storage = new HashMap<>();
-        animationMap = new HashMap<>();
-
-        // Iterate over each file and directory in the JAR.
-
-        while (entries.hasMoreElements()) {
-            // example: character/knight/idle_down/idle_down_knight_1.png
-            // but also: character/knight/idle/
-            // and: character/knight/
-            String fileName = entries.nextElement().getName();
-
-            // If the entry starts with the path name (character/knight/idle),
-            // this is true for entries like (character/knight/idle_down/idle_down_knight_1.png) and
-            // (character/knight/idle/).
-            if (fileName.startsWith(path + "/")) {
-
-                // Get the index of the last FileSeparator; every character after that separator is
-                // part of the filename.
-                int lastSlashIndex = fileName.lastIndexOf("/");
-
-                // Ignore directories, so we only work with strings like
-                // (character/knight/idle_down/idle_down_knight_1.png).
-                if (lastSlashIndex != fileName.length() - 1) {
-                    // Get the index of the second-to-last part of the string.
-                    // For example, in "character/knight/idle_down/idle_down_knight_1.png", this
-                    // would
-                    // be the
-                    // index of the slash in "/idle".
-
-                    int secondLastSlashIndex = fileName.lastIndexOf("/", lastSlashIndex - 1);
-
-                    // Get the name of the directory. The directory name is between the
-                    // second-to-last and the last separator index.
-                    // The directory name serves as the key of the animation in the animation map
-                    // (similar to what the IPATh values are for them).
-                    // For example: "idle"
-
-                    String lastDir = fileName.substring(secondLastSlashIndex + 1, lastSlashIndex);
-
-                    // add animation-files to new or existing storage map
-                    if (storage.containsKey(lastDir)) storage.get(lastDir).add(fileName);
-                    else {
-                        LinkedList<String> list = new LinkedList<>();
-                        list.add(fileName);
-                        storage.put(lastDir, list);
-                    }
-                }
-            }
-        }
-
-        // sort the files in lexicographic order (like the most os)
-        // animations will be played in order
-        storage.values().forEach(Collections::sort);
-        // create animations
-        storage.forEach((name, textureSet) -> animationMap.put(name, new Animation(textureSet)));
-        jar.close();
-    }
-
-    private void loadAnimationsFromIDE(String path) {
-        URL url = DrawComponent.class.getResource("/" + path);
-        if (url != null) {
-            try {
-                File apps = new File(url.toURI());
-                animationMap =
-                        Arrays.stream(Objects.requireNonNull(apps.listFiles()))
-                                .filter(File::isDirectory)
-                                .collect(Collectors.toMap(File::getName, Animation::of));
-            } catch (URISyntaxException ignored) {
-            }
-        }
-    }
 }
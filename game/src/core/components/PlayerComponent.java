@@ -6,7 +6,9 @@ import com.badlogic.gdx.Input;
 import core.Component;
 import core.Entity;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -18,12 +20,16 @@ import java.util.function.Consumer;
  * mappings can be added or changed via {@link #registerCallback} and deleted via {@link
  * #removeCallback}. The codes for the buttons originate from {@link Input.Keys}
  *
- * <p>The {@link core.systems.PlayerSystem} invokes the {@link #execute} method of this component,
- * which invokes for each stored tuple the associated callback if the corresponding button was
- * pressed.
+ * <p>The input is read once per frame, but the callbacks are executed once per tick: The {@link
+ * core.systems.PlayerSystem} invokes the {@link #sample} method of this component, which stores the
+ * callbacks of the pressed buttons. The {@link core.systems.PlayerActionSystem} invokes the {@link
+ * #execute} method at the start of each tick, which invokes the stored callbacks. So a held button
+ * (e.g. to move the hero) has the same effect in each tick, independent of the number of ticks in
+ * a frame. The callbacks of buttons that are not repeated are only invoked in the next tick.
  *
  * @see Input.Keys
  * @see core.systems.PlayerSystem
+ * @see core.systems.PlayerActionSystem
  */
 public final class PlayerComponent implements Component {
 
@@ -34,6 +40,8 @@ public final class PlayerComponent implements Component {
     }
 
     private final Map<Integer, InputData> callbacks;
+    private final List<InputData> held = new ArrayList<>();
+    private final List<InputData> pressed = new ArrayList<>();
 
     /** Create a new PlayerComponent and add it to the associated entity. */
     public PlayerComponent() {
@@ -113,27 +121,41 @@ public final class PlayerComponent implements Component {
     }
 
     /**
-     * Execute the callback function registered to a key when it is pressed.
+     * Store the callbacks of the keys that are pressed, to execute them with {@link #execute}.
      *
-     * <p>The callbacks are executed only if the game is not paused or if the callback is not
+     * <p>The callbacks of repeated keys are stored until the next call of this method. The
+     * callbacks of keys that are not repeated are stored until they are executed once, so a key
+     * press is not lost if a frame has no tick.
+     *
+     * <p>The callbacks are stored only if the game is not paused or if the callback is not
      * pausable.
      *
-     * @param entity associated entity of this component.
      * @param paused if the game is paused or not.
      */
-    public void execute(final Entity entity, boolean paused) {
+    public void sample(boolean paused) {
+        held.clear();
         this.callbacks.forEach(
                 (key, value) -> {
-                    if (!paused || !value.pausable) {
-                        this.execute(entity, key, value);
-                    }
+                    if (paused && value.pausable()) return;
+                    if (value.repeat() && Gdx.input.isKeyPressed(key)) held.add(value);
+                    else if (!value.repeat() && Gdx.input.isKeyJustPressed(key))
+                        pressed.add(value);
                 });
     }
 
-    private void execute(Entity entity, int key, final InputData data) {
-        if ((!data.repeat() && Gdx.input.isKeyJustPressed(key))
-                || (data.repeat() && Gdx.input.isKeyPressed(key))) {
-            data.callback().accept(entity);
-        }
+    /**
+     * Execute the callbacks stored by {@link #sample}.
+     *
+     * <p>The callbacks are executed only if the game is not paused or if the callback is not
+     * pausable.
+     *
+     * @param entity associated entity of this component.
+     * @param paused if the game is paused or not.
+     */
+    public void execute(final Entity entity, boolean paused) {
+        for (InputData data : held) if (!paused || !data.pausable()) data.callback().accept(entity);
+        for (InputData data : pressed)
+            if (!paused || !data.pausable()) data.callback().accept(entity);
+        pressed.clear();
     }
 }
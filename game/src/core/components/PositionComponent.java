@@ -27,6 +27,10 @@ public final class PositionComponent implements Component {
     public static final Point ILLEGAL_POSITION = new Point(-100, -100);
     private final Logger LOGGER = Logger.getLogger(this.getClass().getName());
     private Point position;
+    /** Position before the first change in the tick {@link #changedInTick}. */
+    private Point previousPosition;
+
+    private long changedInTick = -1;
 
     /**
      * Create a new PositionComponent with given position.
@@ -83,7 +87,45 @@ public final class PositionComponent implements Component {
      * @param position new Position of the associated entity
      */
     public void position(final Point position) {
+        long tick = Game.tickCount();
+        if (changedInTick != tick) {
+            previousPosition = this.position;
+            changedInTick = tick;
+        }
+        this.position = position;
+    }
+
+    /**
+     * Place the associated entity at the given position, without a movement from its old position.
+     *
+     * <p>Use this instead of {@link #position(Point)} if the entity does not move to the position,
+     * e.g. if a recycled entity is placed again, so it is not drawn between its old and its new
+     * position.
+     *
+     * @param position new Position of the associated entity
+     */
+    public void place(final Point position) {
         this.position = position;
+        previousPosition = null;
+        changedInTick = Game.tickCount();
+    }
+
+    /**
+     * Get the position of the associated entity between its positions of the last two ticks.
+     *
+     * <p>The game is drawn more often than the entities move, so an entity that is drawn at its
+     * position would stutter. Use the interpolated position to draw the entity instead.
+     *
+     * @param alpha Part of the tick that passed since the last tick, see {@link
+     *     Game#interpolationAlpha()}.
+     * @return The interpolated position, or the position if the entity did not move in the last
+     *     tick.
+     */
+    public Point interpolatedPosition(float alpha) {
+        if (changedInTick != Game.tickCount() - 1 || previousPosition == null) return position;
+        return new Point(
+                previousPosition.x + (position.x - previousPosition.x) * alpha,
+                previousPosition.y + (position.y - previousPosition.y) * alpha);
     }
 
     /**
@@ -17,7 +17,7 @@ import java.util.logging.Logger;
  * by the {@link core.systems.VelocitySystem} to move the entity at the given speed.
  *
  * <p>The current movement speed can be set by other Systems like the {@link
- * core.systems.PlayerSystem}.
+ * core.systems.PlayerActionSystem}.
  *
  * <p>Note that a positive velocity means that the entity is moving right or up, and a negative
  * velocity means that the entity is moving left/down. If the current x and y velocity is 0, that
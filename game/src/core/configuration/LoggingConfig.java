@@ -0,0 +1,22 @@
+package core.configuration;
+
+import core.configuration.values.ConfigStringValue;
+
+/**
+ * Configuration of the logging, see {@link core.utils.logging.LoggerConfig}.
+ *
+ * <p>The levels are names of {@link java.util.logging.Level}s (e.g. "INFO") or of {@link
+ * core.utils.logging.CustomLogLevel}s. The levels of single loggers are given as a list of
+ * "logger=LEVEL" pairs, separated by commas, e.g. "core.Entity=WARNING, core.Game=FINE". The level
+ * of a logger also applies to the loggers below it, e.g. "contrib=WARNING" for all contrib classes.
+ */
+@ConfigMap(path = {"logging"})
+public class LoggingConfig {
+    /** Level of the root logger. */
+    public static final ConfigKey<String> LEVEL =
+            new ConfigKey<>(new String[] {"level"}, new ConfigStringValue("ALL"));
+
+    /** Levels of single loggers. */
+    public static final ConfigKey<String> LOGGER_LEVELS =
+            new ConfigKey<>(new String[] {"loggers"}, new ConfigStringValue(""));
+}
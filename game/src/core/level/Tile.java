@@ -5,7 +5,6 @@ import com.badlogic.gdx.utils.Array;
 
 import core.Entity;
 import core.level.elements.ILevel;
-import core.level.elements.astar.TileConnection;
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
@@ -27,7 +26,6 @@ public abstract class Tile {
 
     protected ILevel level;
     protected LevelElement levelElement;
-    protected transient Array<Connection<Tile>> connections = new Array<>();
     protected int index;
     private final float friction;
 
@@ -86,6 +84,7 @@ public abstract class Tile {
      */
     public void texturePath(String texture) {
         this.texturePath = texture;
+        changed();
     }
 
     /**
@@ -123,6 +122,12 @@ public abstract class Tile {
      */
     public void levelElement(LevelElement newLevelElement) {
         this.levelElement = newLevelElement;
+        changed();
+    }
+
+    /** Inform the level of this tile that the tile has changed. */
+    protected void changed() {
+        if (level != null) level.tileChanged(this);
     }
 
     /**
@@ -168,26 +173,17 @@ public abstract class Tile {
         return this.friction;
     }
 
-    /**
-     * connects to tile together. this mean you can go from one tile to another. Connections are
-     * needed to calculate a path through the dungeon.
-     *
-     * @param to Tile to connect with.
-     */
-    public void addConnection(Tile to) {
-        if (connections == null) {
-            connections = new Array<>();
-        }
-        connections.add(new TileConnection(this, to));
-    }
-
     /**
      * Used by libGDX pathfinding
      *
-     * @return all connections to other tile
+     * <p>The connections are stored in the {@link core.level.elements.astar.NavigationGraph} of the
+     * level. The returned array is shared and must not be modified.
+     *
+     * @return all connections to other tile, empty if the tile is not part of a level
      */
     public Array<Connection<Tile>> connections() {
-        return connections;
+        if (level == null) return new Array<>(0);
+        return level.getConnections(this);
     }
 
     /**
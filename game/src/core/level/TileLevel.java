@@ -1,7 +1,11 @@
 package core.level;
 
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+
 import core.level.elements.ILevel;
-import core.level.elements.astar.TileConnection;
+import core.level.elements.astar.NavigationGraph;
+import core.level.elements.astar.PathfindingService;
 import core.level.elements.astar.TileHeuristic;
 import core.level.elements.tile.*;
 import core.level.utils.Coordinate;
@@ -11,8 +15,9 @@ import core.level.utils.TileTextureFactory;
 import core.utils.IVoidFunction;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * A level is a 2D-Array of Tiles.
@@ -21,12 +26,10 @@ import java.util.List;
  */
 public class TileLevel implements ILevel {
 
-    private static final Coordinate[] CONNECTION_OFFSETS = {
-        new Coordinate(0, 1), new Coordinate(0, -1), new Coordinate(1, 0), new Coordinate(-1, 0),
-    };
     protected final TileHeuristic tileHeuristic = new TileHeuristic();
+    protected final PathfindingService pathfinding = new PathfindingService(this);
     protected Tile startTile;
-    protected int nodeCount = 0;
+    protected final NavigationGraph navigationGraph;
     protected Tile[][] layout;
     protected ArrayList<FloorTile> floorTiles = new ArrayList<>();
     protected ArrayList<WallTile> wallTiles = new ArrayList<>();
@@ -35,6 +38,9 @@ public class TileLevel implements ILevel {
     protected ArrayList<ExitTile> exitTiles = new ArrayList<>();
     protected ArrayList<SkipTile> skipTiles = new ArrayList<>();
     private IVoidFunction onFirstLoad = () -> {};
+    private Consumer<Tile> onTileChanged = tile -> {};
+    /** Accessibility of the tiles, by their index, as it is known to the navigation graph. */
+    private final BitSet accessible = new BitSet();
 
     private boolean wasLoaded = false;
 
@@ -45,6 +51,7 @@ public class TileLevel implements ILevel {
      */
     public TileLevel(Tile[][] layout) {
         this.layout = layout;
+        navigationGraph = new NavigationGraph(layout);
         putTilesInLists();
         if (startTile == null) randomStart();
         if (exitTiles.size() == 0) randomEnd();
@@ -67,7 +74,7 @@ public class TileLevel implements ILevel {
      * @param designLabel The selected Design for the Tiles
      * @return The converted Tile[][]
      */
-    private static Tile[][] convertLevelElementToTile(
+    public static Tile[][] convertLevelElementToTile(
             LevelElement[][] layout, DesignLabel designLabel) {
         Tile[][] tileLayout = new Tile[layout.length][layout[0].length];
         for (int y = 0; y < layout.length; y++) {
@@ -94,7 +101,17 @@ public class TileLevel implements ILevel {
 
     @Override
     public int getNodeCount() {
-        return nodeCount;
+        return navigationGraph.nodeCount();
+    }
+
+    @Override
+    public Array<Connection<Tile>> getConnections(Tile fromNode) {
+        return navigationGraph.connections(fromNode);
+    }
+
+    @Override
+    public NavigationGraph navigationGraph() {
+        return navigationGraph;
     }
 
     @Override
@@ -102,22 +119,18 @@ public class TileLevel implements ILevel {
         return tileHeuristic;
     }
 
+    @Override
+    public PathfindingService pathfinding() {
+        return pathfinding;
+    }
+
     /**
-     * Check each tile around the tile, if it is accessible add it to the connectionList.
+     * Connect the tile with each accessible tile around it, in both directions.
      *
      * @param checkTile Tile to check for.
      */
     public void addConnectionsToNeighbours(Tile checkTile) {
-        for (Coordinate v : CONNECTION_OFFSETS) {
-            Coordinate c =
-                    new Coordinate(checkTile.coordinate().x + v.x, checkTile.coordinate().y + v.y);
-            Tile t = tileAt(c);
-            if (t != null
-                    && t.isAccessible()
-                    && !checkTile.connections().contains(new TileConnection(checkTile, t), false)) {
-                checkTile.addConnection(t);
-            }
-        }
+        navigationGraph.connect(checkTile);
     }
 
     @Override
@@ -133,6 +146,30 @@ public class TileLevel implements ILevel {
         }
     }
 
+    @Override
+    public void onTileChanged(Consumer<Tile> function) {
+        this.onTileChanged = function;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The paths of the level are only invalidated if the accessibility of the tile changed
+     * (e.g. by {@link Tile#levelElement(LevelElement)}). A new texture or color of a tile does not
+     * change the paths.
+     */
+    @Override
+    public void tileChanged(Tile tile) {
+        boolean isAccessible = tile.isAccessible();
+        if (tile.level() == this && accessible.get(tile.index()) != isAccessible) {
+            accessible.set(tile.index(), isAccessible);
+            if (isAccessible) navigationGraph.connect(tile);
+            else navigationGraph.disconnect(tile);
+            pathfinding.invalidate(tile);
+        }
+        onTileChanged.accept(tile);
+    }
+
     @Override
     public void addFloorTile(FloorTile tile) {
         floorTiles.add(tile);
@@ -207,21 +244,9 @@ public class TileLevel implements ILevel {
             case EXIT -> exitTiles.remove(tile);
         }
 
-        tile.connections()
-                .forEach(
-                        x ->
-                                x.getToNode()
-                                        .connections()
-                                        .removeValue(
-                                                new TileConnection(x.getToNode(), tile), false));
-        if (tile.isAccessible()) removeIndex(tile.index());
-    }
-
-    private void removeIndex(int index) {
-        Arrays.stream(layout)
-                .flatMap(x -> Arrays.stream(x).filter(y -> y.index() > index))
-                .forEach(x -> x.index(x.index() - 1));
-        nodeCount--;
+        if (tile.isAccessible()) navigationGraph.disconnect(tile);
+        accessible.clear(tile.index());
+        pathfinding.invalidate(tile);
     }
 
     @Override
@@ -234,19 +259,11 @@ public class TileLevel implements ILevel {
             case EXIT -> addExitTile((ExitTile) tile);
             case DOOR -> addDoorTile((DoorTile) tile);
         }
-        if (tile.isAccessible()) {
-            this.addConnectionsToNeighbours(tile);
-            tile.connections()
-                    .forEach(
-                            x -> {
-                                if (!x.getToNode()
-                                        .connections()
-                                        .contains(new TileConnection(x.getToNode(), tile), false))
-                                    x.getToNode().addConnection(tile);
-                            });
-            tile.index(nodeCount++);
-        }
+        tile.index(navigationGraph.index(tile.coordinate()));
+        if (tile.isAccessible()) addConnectionsToNeighbours(tile);
+        accessible.set(tile.index(), tile.isAccessible());
         tile.level(this);
+        pathfinding.invalidate(tile);
     }
 
     @Override
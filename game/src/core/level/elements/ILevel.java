@@ -7,6 +7,7 @@ import core.level.utils.TileTextureFactory;
 import core.utils.IVoidFunction;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ILevel extends ITileable {
 
@@ -162,6 +163,9 @@ public interface ILevel extends ITileable {
     /**
      * Change the type of tile (including changing texture)
      *
+     * <p>The textures of the neighbouring tiles are updated too, the rest of the level is not
+     * touched.
+     *
      * @param tile The Tile you want to change
      * @param changeInto The LevelElement to change the Tile into.
      */
@@ -179,6 +183,8 @@ public interface ILevel extends ITileable {
                         tile.designLabel());
         level.layout()[tile.coordinate().y][tile.coordinate().x] = newTile;
         level.addTile(newTile);
+        TileTextureFactory.updateNeighbourTextures(newTile.coordinate(), level.layout());
+        level.tileChanged(newTile);
     }
 
     @Override
@@ -227,4 +233,24 @@ public interface ILevel extends ITileable {
      * registered function from {@link #onFirstLoad(IVoidFunction)}.
      */
     void onLoad();
+
+    /**
+     * Set the function that should be executed if a tile of this level changes its appearance.
+     *
+     * <p>This is used to redraw cached parts of the level, see {@link #tileChanged(Tile)}.
+     *
+     * @param function The function to be executed with the changed tile.
+     */
+    void onTileChanged(Consumer<Tile> function);
+
+    /**
+     * Notify the level that the given tile changed its texture or its type, or that it was replaced
+     * in the layout.
+     *
+     * <p>This function should execute the registered function from {@link
+     * #onTileChanged(Consumer)}.
+     *
+     * @param tile The changed tile.
+     */
+    void tileChanged(Tile tile);
 }
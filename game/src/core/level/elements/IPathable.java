@@ -1,15 +1,13 @@
 package core.level.elements;
 
-import com.badlogic.gdx.ai.pfa.Connection;
-import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
-import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
 import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
-import com.badlogic.gdx.utils.Array;
 
 import core.Entity;
 import core.components.PositionComponent;
 import core.level.Tile;
+import core.level.elements.astar.NavigationGraph;
+import core.level.elements.astar.PathfindingService;
 import core.level.elements.astar.TileHeuristic;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
@@ -28,31 +26,50 @@ public interface IPathable extends IndexedGraph<Tile> {
      *
      * <p>Throws an IllegalArgumentException if start or end is non-accessible.
      *
+     * <p>The returned path can be shared with other callers and must not be modified.
+     *
      * @param start Start tile
      * @param end End tile
      * @return Generated path
+     * @see PathfindingService#findPath(Tile, Tile)
      */
     default GraphPath<Tile> findPath(Tile start, Tile end) {
-        if (!start.isAccessible())
-            throw new IllegalArgumentException(
-                    "Can not calculate Path because the start point is non-accessible.");
-        if (!end.isAccessible())
-            throw new IllegalArgumentException(
-                    "Can not calculate Path because the end point is non-accessible.");
-        GraphPath<Tile> path = new DefaultGraphPath<>();
-        new IndexedAStarPathFinder<>(this).searchNodePath(start, end, tileHeuristic(), path);
-        return path;
+        return pathfinding().findPath(start, end);
+    }
+
+    /**
+     * Returns a path to a goal that many entities are searching a path to, like the hero.
+     *
+     * <p>Instead of a search for each start tile, the path is read from a flow field towards the
+     * goal, which is only calculated again if the goal or the level changes.
+     *
+     * <p>Throws an IllegalArgumentException if start or goal is non-accessible.
+     *
+     * <p>The returned path can be shared with other callers and must not be modified.
+     *
+     * @param start Start tile
+     * @param goal Goal tile
+     * @return Generated path
+     * @see PathfindingService#findPathWithFlowField(Tile, Tile)
+     */
+    default GraphPath<Tile> findPathWithFlowField(Tile start, Tile goal) {
+        return pathfinding().findPathWithFlowField(start, goal);
     }
 
+    /**
+     * @return the PathfindingService for the Level
+     */
+    PathfindingService pathfinding();
+
     @Override
     default int getIndex(Tile tile) {
         return tile.index();
     }
 
-    @Override
-    default Array<Connection<Tile>> getConnections(Tile fromNode) {
-        return fromNode.connections();
-    }
+    /**
+     * @return the NavigationGraph with the connections between the tiles of the Level
+     */
+    NavigationGraph navigationGraph();
 
     /**
      * @return the TileHeuristic for the Level
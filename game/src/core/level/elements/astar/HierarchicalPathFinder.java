@@ -0,0 +1,555 @@
+package core.level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.utils.IntArray;
+
+import core.level.Tile;
+import core.level.elements.ITileable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hierarchical path finder (HPA*) for large levels.
+ *
+ * <p>The level is split into quadratic clusters of {@link #CLUSTER_SIZE} tiles. Where two clusters
+ * are connected by accessible tiles, an entrance is placed on both sides of the border. The
+ * entrances are the nodes of an abstract graph. Two entrances of the same cluster are connected by
+ * an edge that stores the shortest path between them inside the cluster, two entrances on both
+ * sides of a border are connected by a single step.
+ *
+ * <p>To find a path, the start and the goal tile are connected to the entrances of their clusters
+ * with a search inside these two clusters. Then A* searches the abstract graph, which has only a
+ * few nodes per cluster. The found path is refined by joining the stored paths of the used edges,
+ * so no tile outside the start and the goal cluster is searched.
+ *
+ * <p>The found paths are close to the shortest path, but not always the shortest path.
+ *
+ * <p>The abstract graph is built on the first search. Call {@link #invalidate(Tile)} if a tile of
+ * the level changes: Only the cluster of the tile is marked, and on the next search the entrances
+ * on the borders of the marked clusters and the paths inside the clusters whose entrances changed
+ * are built again. The rest of the graph is kept. {@link #invalidate()} discards the whole graph.
+ */
+public final class HierarchicalPathFinder {
+    /** Width and height of a cluster in tiles. */
+    public static final int CLUSTER_SIZE = 16;
+
+    /** Entrances that are wider than this get an abstract node at both ends instead of one. */
+    private static final int MAX_SINGLE_TRANSITION_WIDTH = 6;
+
+    private static final int CLUSTER_TILES = CLUSTER_SIZE * CLUSTER_SIZE;
+
+    private final ITileable level;
+    private final TileHeuristic heuristic = new TileHeuristic();
+
+    private boolean built;
+    private int width;
+    private int clustersX;
+    /** Abstract node of each tile (index y * width + x), or -1. */
+    private int[] nodeAt = new int[0];
+
+    /** Tiles of the abstract nodes, null for a removed node. */
+    private final List<Tile> nodes = new ArrayList<>();
+    /** Removed nodes, whose ids can be used again. */
+    private final IntArray freeNodes = new IntArray();
+    /** Edges between the entrances of the same cluster. */
+    private final List<List<Edge>> edges = new ArrayList<>();
+    /** Edges over a border between two clusters. */
+    private final List<List<Edge>> transitions = new ArrayList<>();
+    private IntArray[] clusterNodes = new IntArray[0];
+    /** Node pairs of the transitions on the left border of each cluster. */
+    private IntArray[] verticalBorders = new IntArray[0];
+    /** Node pairs of the transitions on the bottom border of each cluster. */
+    private IntArray[] horizontalBorders = new IntArray[0];
+    /** Clusters whose paths between the entrances have to be built again. */
+    private boolean[] dirty = new boolean[0];
+    private boolean anyDirty;
+
+    // search inside a cluster
+    private final float[] localDistances = new float[CLUSTER_TILES];
+    private final Tile[] localPrevious = new Tile[CLUSTER_TILES];
+    private final Tile[] localTiles = new Tile[CLUSTER_TILES];
+    private int localMinX;
+    private int localMinY;
+
+    // search in the abstract graph
+    private float[] costs = new float[0];
+    private int[] parents = new int[0];
+    private Tile[][] parentPaths = new Tile[0][];
+    private float[] goalCosts = new float[0];
+    private Tile[][] goalPaths = new Tile[0][];
+    private final List<Edge> startEdges = new ArrayList<>();
+    private long[] queue = new long[16];
+
+    /**
+     * Create a new path finder for the given level.
+     *
+     * @param level The level to find paths in.
+     */
+    public HierarchicalPathFinder(ITileable level) {
+        this.level = level;
+    }
+
+    /**
+     * Find a path from the start to the goal tile.
+     *
+     * @param start Start tile, has to be accessible
+     * @param goal Goal tile, has to be accessible
+     * @return Found path, empty if there is no path, or null if the start and the goal are in the
+     *     same cluster. For tiles in the same cluster, a simple A* search is faster and finds the
+     *     shortest path.
+     */
+    public synchronized GraphPath<Tile> findPath(Tile start, Tile goal) {
+        if (!built) build();
+        else if (anyDirty) update();
+        int startCluster = cluster(start);
+        int goalCluster = cluster(goal);
+        if (startCluster == goalCluster) return null;
+
+        int nodeCount = nodes.size();
+        int startNode = nodeCount;
+        int goalNode = nodeCount + 1;
+        prepareSearch(nodeCount + 2);
+
+        // connect the start and the goal to the entrances of their clusters
+        startEdges.clear();
+        searchCluster(start);
+        for (int i = 0; i < clusterNodes[startCluster].size; i++) {
+            int node = clusterNodes[startCluster].get(i);
+            Tile tile = nodes.get(node);
+            if (reached(tile))
+                startEdges.add(new Edge(node, localDistance(tile), localPathTo(tile)));
+        }
+        searchCluster(goal);
+        for (int i = 0; i < clusterNodes[goalCluster].size; i++) {
+            int node = clusterNodes[goalCluster].get(i);
+            Tile tile = nodes.get(node);
+            if (reached(tile)) {
+                goalCosts[node] = localDistance(tile);
+                goalPaths[node] = reverse(localPathTo(tile), goal);
+            }
+        }
+
+        // A* over the abstract graph
+        int size = push(0, heuristic.estimate(start, goal), startNode);
+        costs[startNode] = 0;
+        while (size > 0) {
+            long entry = queue[0];
+            size = pop(size);
+            int node = (int) entry;
+            if (node == goalNode) break;
+            Tile tile = node == startNode ? start : nodes.get(node);
+            float estimate = Float.intBitsToFloat((int) (entry >>> 32));
+            if (estimate > costs[node] + heuristic.estimate(tile, goal)) continue;
+
+            for (Edge edge : node == startNode ? startEdges : edges.get(node))
+                size = relax(size, node, edge.to, costs[node] + edge.cost, edge.path, goal);
+            if (node < nodeCount)
+                for (Edge edge : transitions.get(node))
+                    size = relax(size, node, edge.to, costs[node] + edge.cost, edge.path, goal);
+            if (node < nodeCount && !Float.isInfinite(goalCosts[node]))
+                size =
+                        relax(
+                                size,
+                                node,
+                                goalNode,
+                                costs[node] + goalCosts[node],
+                                goalPaths[node],
+                                goal);
+        }
+
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+        if (Float.isInfinite(costs[goalNode])) return path;
+        List<Tile[]> segments = new ArrayList<>();
+        for (int node = goalNode; node != startNode; node = parents[node])
+            segments.add(parentPaths[node]);
+        path.add(start);
+        for (int i = segments.size() - 1; i >= 0; i--)
+            for (Tile tile : segments.get(i)) path.add(tile);
+        return path;
+    }
+
+    /** Discard the abstract graph, it will be built again on the next search. */
+    public synchronized void invalidate() {
+        built = false;
+    }
+
+    /**
+     * Mark the cluster of the given tile as changed.
+     *
+     * <p>On the next search, the entrances on the borders of the cluster and the paths inside the
+     * clusters whose entrances changed are built again.
+     *
+     * @param tile The changed tile.
+     */
+    public synchronized void invalidate(Tile tile) {
+        if (!built) return;
+        int x = tile.coordinate().x;
+        int y = tile.coordinate().y;
+        if (x < 0 || y < 0 || x >= width || y * width + x >= nodeAt.length) return;
+        dirty[cluster(tile)] = true;
+        anyDirty = true;
+    }
+
+    private int relax(int size, int from, int to, float cost, Tile[] path, Tile goal) {
+        if (cost >= costs[to]) return size;
+        costs[to] = cost;
+        parents[to] = from;
+        parentPaths[to] = path;
+        Tile tile = to < nodes.size() ? nodes.get(to) : goal;
+        return push(size, cost + heuristic.estimate(tile, goal), to);
+    }
+
+    private void prepareSearch(int count) {
+        if (costs.length < count) {
+            costs = new float[count];
+            parents = new int[count];
+            parentPaths = new Tile[count][];
+            goalCosts = new float[count];
+            goalPaths = new Tile[count][];
+        }
+        Arrays.fill(costs, Float.POSITIVE_INFINITY);
+        Arrays.fill(goalCosts, Float.POSITIVE_INFINITY);
+        Arrays.fill(parentPaths, null);
+        Arrays.fill(goalPaths, null);
+    }
+
+    /** Build the abstract graph. */
+    private void build() {
+        Tile[][] layout = level.layout();
+        int height = layout.length;
+        width = height == 0 ? 0 : layout[0].length;
+        clustersX = (width + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        int clustersY = (height + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        int clusters = clustersX * clustersY;
+        nodeAt = new int[width * height];
+        Arrays.fill(nodeAt, -1);
+        nodes.clear();
+        freeNodes.clear();
+        edges.clear();
+        transitions.clear();
+        clusterNodes = new IntArray[clusters];
+        verticalBorders = new IntArray[clusters];
+        horizontalBorders = new IntArray[clusters];
+        for (int i = 0; i < clusters; i++) {
+            clusterNodes[i] = new IntArray();
+            verticalBorders[i] = new IntArray();
+            horizontalBorders[i] = new IntArray();
+        }
+        dirty = new boolean[clusters];
+
+        for (int cluster = 0; cluster < clusters; cluster++) {
+            buildVerticalBorder(layout, cluster);
+            buildHorizontalBorder(layout, cluster);
+        }
+        for (int cluster = 0; cluster < clusters; cluster++) connectCluster(cluster);
+        Arrays.fill(dirty, false);
+        anyDirty = false;
+        built = true;
+    }
+
+    /**
+     * Build the changed parts of the abstract graph again.
+     *
+     * <p>The transitions on the borders of the changed clusters are built again. Nodes without a
+     * transition are removed. The paths inside each cluster that changed, or whose entrances
+     * changed, are searched again.
+     */
+    private void update() {
+        Tile[][] layout = level.layout();
+        int clusters = dirty.length;
+        boolean[] verticals = new boolean[clusters];
+        boolean[] horizontals = new boolean[clusters];
+        for (int cluster = 0; cluster < clusters; cluster++) {
+            if (!dirty[cluster]) continue;
+            int cx = cluster % clustersX;
+            verticals[cluster] = true;
+            if (cx + 1 < clustersX) verticals[cluster + 1] = true;
+            horizontals[cluster] = true;
+            if (cluster + clustersX < clusters) horizontals[cluster + clustersX] = true;
+        }
+
+        IntArray candidates = new IntArray();
+        for (int cluster = 0; cluster < clusters; cluster++) {
+            if (verticals[cluster]) {
+                removeTransitions(verticalBorders[cluster], candidates);
+                buildVerticalBorder(layout, cluster);
+            }
+            if (horizontals[cluster]) {
+                removeTransitions(horizontalBorders[cluster], candidates);
+                buildHorizontalBorder(layout, cluster);
+            }
+        }
+        for (int i = 0; i < candidates.size; i++) {
+            int node = candidates.get(i);
+            if (nodes.get(node) != null && transitions.get(node).isEmpty()) removeNode(node);
+        }
+
+        for (int cluster = 0; cluster < clusters; cluster++) {
+            if (!dirty[cluster]) continue;
+            connectCluster(cluster);
+            dirty[cluster] = false;
+        }
+        anyDirty = false;
+    }
+
+    /** Remove the transitions of a border, their nodes are added to the candidates. */
+    private void removeTransitions(IntArray border, IntArray candidates) {
+        for (int i = 0; i < border.size; i += 2) {
+            int a = border.get(i);
+            int b = border.get(i + 1);
+            transitions.get(a).removeIf(edge -> edge.to == b);
+            transitions.get(b).removeIf(edge -> edge.to == a);
+            candidates.add(a);
+            candidates.add(b);
+        }
+        border.clear();
+    }
+
+    private void removeNode(int node) {
+        Tile tile = nodes.get(node);
+        int cluster = cluster(tile);
+        clusterNodes[cluster].removeValue(node);
+        dirty[cluster] = true;
+        nodeAt[tile.coordinate().y * width + tile.coordinate().x] = -1;
+        nodes.set(node, null);
+        edges.get(node).clear();
+        freeNodes.add(node);
+    }
+
+    /** Add the entrances on the left border of the cluster. */
+    private void buildVerticalBorder(Tile[][] layout, int cluster) {
+        int x = cluster % clustersX * CLUSTER_SIZE;
+        if (x == 0) return;
+        int minY = cluster / clustersX * CLUSTER_SIZE;
+        int maxY = Math.min(minY + CLUSTER_SIZE, layout.length);
+        int runStart = -1;
+        for (int y = minY; y <= maxY; y++) {
+            boolean open = y < maxY && connected(layout[y][x - 1], layout[y][x]);
+            if (open && runStart < 0) runStart = y;
+            else if (!open && runStart >= 0) {
+                addEntrances(layout, runStart, y - 1, x, true, verticalBorders[cluster]);
+                runStart = -1;
+            }
+        }
+    }
+
+    /** Add the entrances on the bottom border of the cluster. */
+    private void buildHorizontalBorder(Tile[][] layout, int cluster) {
+        int y = cluster / clustersX * CLUSTER_SIZE;
+        if (y == 0) return;
+        int minX = cluster % clustersX * CLUSTER_SIZE;
+        int maxX = Math.min(minX + CLUSTER_SIZE, width);
+        int runStart = -1;
+        for (int x = minX; x <= maxX; x++) {
+            boolean open = x < maxX && connected(layout[y - 1][x], layout[y][x]);
+            if (open && runStart < 0) runStart = x;
+            else if (!open && runStart >= 0) {
+                addEntrances(layout, runStart, x - 1, y, false, horizontalBorders[cluster]);
+                runStart = -1;
+            }
+        }
+    }
+
+    /** Search the paths between the entrances of the cluster. */
+    private void connectCluster(int cluster) {
+        IntArray entrances = clusterNodes[cluster];
+        for (int i = 0; i < entrances.size; i++) {
+            int from = entrances.get(i);
+            List<Edge> fromEdges = edges.get(from);
+            fromEdges.clear();
+            searchCluster(nodes.get(from));
+            for (int j = 0; j < entrances.size; j++) {
+                int to = entrances.get(j);
+                Tile tile = nodes.get(to);
+                if (to != from && reached(tile))
+                    fromEdges.add(new Edge(to, localDistance(tile), localPathTo(tile)));
+            }
+        }
+    }
+
+    /**
+     * Add the abstract nodes for an entrance between two clusters.
+     *
+     * @param first first position of the entrance along the border
+     * @param last last position of the entrance along the border
+     * @param border x-coordinate of the first column right of a vertical border, or y-coordinate
+     *     of the first row above a horizontal border
+     * @param vertical true if the border is vertical
+     * @param pairs Node pairs of the transitions of the border
+     */
+    private void addEntrances(
+            Tile[][] layout, int first, int last, int border, boolean vertical, IntArray pairs) {
+        if (last - first + 1 <= MAX_SINGLE_TRANSITION_WIDTH) {
+            addTransition(layout, (first + last) / 2, border, vertical, pairs);
+        } else {
+            addTransition(layout, first, border, vertical, pairs);
+            addTransition(layout, last, border, vertical, pairs);
+        }
+    }
+
+    private void addTransition(
+            Tile[][] layout, int position, int border, boolean vertical, IntArray pairs) {
+        Tile a = vertical ? layout[position][border - 1] : layout[border - 1][position];
+        Tile b = vertical ? layout[position][border] : layout[border][position];
+        int nodeA = node(a);
+        int nodeB = node(b);
+        float cost = heuristic.estimate(a, b);
+        transitions.get(nodeA).add(new Edge(nodeB, cost, new Tile[] {b}));
+        transitions.get(nodeB).add(new Edge(nodeA, cost, new Tile[] {a}));
+        pairs.add(nodeA, nodeB);
+    }
+
+    /**
+     * Get the abstract node of the tile, a new node is added if the tile has none.
+     *
+     * <p>A new node, or a node whose tile was replaced in the layout, marks its cluster as dirty.
+     */
+    private int node(Tile tile) {
+        int cell = tile.coordinate().y * width + tile.coordinate().x;
+        int node = nodeAt[cell];
+        if (node < 0) {
+            if (freeNodes.size > 0) {
+                node = freeNodes.pop();
+                nodes.set(node, tile);
+            } else {
+                node = nodes.size();
+                nodes.add(tile);
+                edges.add(new ArrayList<>());
+                transitions.add(new ArrayList<>());
+            }
+            nodeAt[cell] = node;
+            clusterNodes[cluster(tile)].add(node);
+            dirty[cluster(tile)] = true;
+        } else if (nodes.get(node) != tile) {
+            nodes.set(node, tile);
+            dirty[cluster(tile)] = true;
+        }
+        return node;
+    }
+
+    private int cluster(Tile tile) {
+        return tile.coordinate().y / CLUSTER_SIZE * clustersX + tile.coordinate().x / CLUSTER_SIZE;
+    }
+
+    private boolean connected(Tile from, Tile to) {
+        return from.isAccessible()
+                && to.isAccessible()
+                && level.navigationGraph().isConnected(from.index(), to.index());
+    }
+
+    /** Dijkstra from the given tile, limited to the cluster of the tile. */
+    private void searchCluster(Tile source) {
+        localMinX = source.coordinate().x / CLUSTER_SIZE * CLUSTER_SIZE;
+        localMinY = source.coordinate().y / CLUSTER_SIZE * CLUSTER_SIZE;
+        Arrays.fill(localDistances, Float.POSITIVE_INFINITY);
+        Arrays.fill(localPrevious, null);
+        int sourceIndex = localIndex(source);
+        localDistances[sourceIndex] = 0;
+        localTiles[sourceIndex] = source;
+        int size = push(0, 0, sourceIndex);
+        while (size > 0) {
+            long entry = queue[0];
+            size = pop(size);
+            int index = (int) entry;
+            float distance = Float.intBitsToFloat((int) (entry >>> 32));
+            if (distance > localDistances[index]) continue;
+            Tile current = localTiles[index];
+            NavigationGraph graph = level.navigationGraph();
+            int node = current.index();
+            for (int i = 0; i < graph.degree(node); i++) {
+                Tile neighbour = graph.node(graph.neighbour(node, i));
+                int neighbourIndex = localIndex(neighbour);
+                if (neighbourIndex < 0) continue;
+                float newDistance = distance + graph.cost(node, i);
+                if (newDistance < localDistances[neighbourIndex]) {
+                    localDistances[neighbourIndex] = newDistance;
+                    localPrevious[neighbourIndex] = current;
+                    localTiles[neighbourIndex] = neighbour;
+                    size = push(size, newDistance, neighbourIndex);
+                }
+            }
+        }
+    }
+
+    /** Index of the tile in the cluster of the last search, or -1 if it is outside. */
+    private int localIndex(Tile tile) {
+        int x = tile.coordinate().x - localMinX;
+        int y = tile.coordinate().y - localMinY;
+        if (x < 0 || y < 0 || x >= CLUSTER_SIZE || y >= CLUSTER_SIZE) return -1;
+        return y * CLUSTER_SIZE + x;
+    }
+
+    private boolean reached(Tile tile) {
+        int index = localIndex(tile);
+        return index >= 0 && !Float.isInfinite(localDistances[index]);
+    }
+
+    private float localDistance(Tile tile) {
+        return localDistances[localIndex(tile)];
+    }
+
+    /** Path from the source of the last cluster search to the tile, without the source. */
+    private Tile[] localPathTo(Tile tile) {
+        int length = 0;
+        for (Tile t = tile; localPrevious[localIndex(t)] != null; t = localPrevious[localIndex(t)])
+            length++;
+        Tile[] path = new Tile[length];
+        Tile t = tile;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = t;
+            t = localPrevious[localIndex(t)];
+        }
+        return path;
+    }
+
+    /**
+     * Reverse a path from the goal to an entrance (without the goal) into a path from the entrance
+     * to the goal (without the entrance).
+     */
+    private static Tile[] reverse(Tile[] path, Tile goal) {
+        if (path.length == 0) return path;
+        Tile[] reversed = new Tile[path.length];
+        for (int i = 0; i < path.length - 1; i++) reversed[i] = path[path.length - 2 - i];
+        reversed[path.length - 1] = goal;
+        return reversed;
+    }
+
+    /**
+     * Add an entry to the binary min-heap.
+     *
+     * <p>The priority is stored in the upper half of the entry. Priorities are never negative, so
+     * the order of the entries is the order of the priorities.
+     */
+    private int push(int size, float priority, int index) {
+        if (size == queue.length) queue = Arrays.copyOf(queue, size * 2);
+        long entry = ((long) Float.floatToIntBits(priority) << 32) | index;
+        int i = size;
+        while (i > 0 && queue[(i - 1) / 2] > entry) {
+            queue[i] = queue[(i - 1) / 2];
+            i = (i - 1) / 2;
+        }
+        queue[i] = entry;
+        return size + 1;
+    }
+
+    /** Remove the smallest entry from the binary min-heap. */
+    private int pop(int size) {
+        long last = queue[--size];
+        int i = 0;
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && queue[child + 1] < queue[child]) child++;
+            if (queue[child] >= last) break;
+            queue[i] = queue[child];
+            i = child;
+        }
+        queue[i] = last;
+        return size;
+    }
+
+    /** Edge of the abstract graph with the tiles of the path, without the start of the edge. */
+    private record Edge(int to, float cost, Tile[] path) {}
+}
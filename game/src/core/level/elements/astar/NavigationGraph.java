@@ -0,0 +1,220 @@
+package core.level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+
+import core.level.Tile;
+import core.level.utils.Coordinate;
+
+/**
+ * The connections between the accessible tiles of a level, stored in primitive arrays.
+ *
+ * <p>Each tile of the layout is a node, its index is its position in the layout ({@code y * width
+ * + x}). The index never changes, so no tile has to be renumbered if a tile is added or removed.
+ *
+ * <p>The graph is stored in compressed sparse row form. A tile has at most {@link #MAX_DEGREE}
+ * neighbours, so the row of each node has a fixed capacity and starts at {@code index *
+ * MAX_DEGREE}; the number of used entries of each row is stored separately. For each connection,
+ * the index of the neighbour and the cost are stored. Use {@link #degree}, {@link #neighbour} and
+ * {@link #cost} to walk through the neighbours of a node without any allocation.
+ *
+ * <p>If a tile becomes accessible or non-accessible, only the rows of the tile and its neighbours
+ * are patched, see {@link #connect} and {@link #disconnect}.
+ *
+ * <p>The libGDX path finders need the connections as {@link Connection} objects. These are created
+ * on the first request for each tile and kept until the row of the tile changes, see {@link
+ * #connections}.
+ */
+public final class NavigationGraph {
+    /** Maximum number of neighbours of a node. */
+    public static final int MAX_DEGREE = 4;
+
+    private static final int[] OFFSETS_X = {-1, 1, 0, 0};
+    private static final int[] OFFSETS_Y = {0, 0, -1, 1};
+
+    private final Tile[][] layout;
+    private final int width;
+    private final int height;
+    private final byte[] degrees;
+    private final int[] neighbours;
+    private final float[] costs;
+    private final Array<Connection<Tile>>[] connections;
+
+    /**
+     * Create a new graph without connections for the given layout.
+     *
+     * <p>The graph reads the tiles from the layout, so the layout has to be updated before a tile
+     * is connected.
+     *
+     * @param layout The layout of the level.
+     */
+    @SuppressWarnings("unchecked")
+    public NavigationGraph(Tile[][] layout) {
+        this.layout = layout;
+        height = layout.length;
+        width = height == 0 ? 0 : layout[0].length;
+        int nodes = width * height;
+        degrees = new byte[nodes];
+        neighbours = new int[nodes * MAX_DEGREE];
+        costs = new float[nodes * MAX_DEGREE];
+        connections = (Array<Connection<Tile>>[]) new Array<?>[nodes];
+    }
+
+    /**
+     * Get the number of nodes, which is the number of tiles in the layout.
+     *
+     * @return number of nodes
+     */
+    public int nodeCount() {
+        return degrees.length;
+    }
+
+    /**
+     * Get the index of the node at the given coordinate.
+     *
+     * @param coordinate Coordinate of the tile
+     * @return index of the node, or -1 if the coordinate is outside the layout
+     */
+    public int index(Coordinate coordinate) {
+        return index(coordinate.x, coordinate.y);
+    }
+
+    private int index(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return -1;
+        return y * width + x;
+    }
+
+    /**
+     * Get the tile of the given node.
+     *
+     * @param index Index of the node
+     * @return the tile at the position of the node in the layout
+     */
+    public Tile node(int index) {
+        return layout[index / width][index % width];
+    }
+
+    /**
+     * Get the number of neighbours of the given node.
+     *
+     * @param index Index of the node
+     * @return number of neighbours
+     */
+    public int degree(int index) {
+        return degrees[index];
+    }
+
+    /**
+     * Get a neighbour of the given node.
+     *
+     * @param index Index of the node
+     * @param i Number of the neighbour, between 0 and {@link #degree} (exclusive)
+     * @return index of the neighbour
+     */
+    public int neighbour(int index, int i) {
+        return neighbours[index * MAX_DEGREE + i];
+    }
+
+    /**
+     * Get the cost to walk to a neighbour of the given node.
+     *
+     * @param index Index of the node
+     * @param i Number of the neighbour, between 0 and {@link #degree} (exclusive)
+     * @return cost of the connection
+     */
+    public float cost(int index, int i) {
+        return costs[index * MAX_DEGREE + i];
+    }
+
+    /**
+     * Check if there is a connection between two nodes.
+     *
+     * @param from Index of the start node
+     * @param to Index of the end node
+     * @return true if there is a connection from the start to the end node
+     */
+    public boolean isConnected(int from, int to) {
+        int row = from * MAX_DEGREE;
+        for (int i = 0; i < degrees[from]; i++) if (neighbours[row + i] == to) return true;
+        return false;
+    }
+
+    /**
+     * Connect the given tile with each accessible neighbour, in both directions.
+     *
+     * <p>Existing connections are not added twice.
+     *
+     * @param tile The tile to connect, has to be in the layout.
+     */
+    public void connect(Tile tile) {
+        int x = tile.coordinate().x;
+        int y = tile.coordinate().y;
+        int index = index(x, y);
+        if (index < 0) return;
+        for (int i = 0; i < MAX_DEGREE; i++) {
+            int neighbour = index(x + OFFSETS_X[i], y + OFFSETS_Y[i]);
+            if (neighbour < 0 || !node(neighbour).isAccessible()) continue;
+            // the cost of a step to a direct neighbour
+            addEdge(index, neighbour, 1f);
+            addEdge(neighbour, index, 1f);
+        }
+    }
+
+    /**
+     * Remove all connections of the given tile, in both directions.
+     *
+     * @param tile The tile to disconnect.
+     */
+    public void disconnect(Tile tile) {
+        int index = index(tile.coordinate());
+        if (index < 0) return;
+        int row = index * MAX_DEGREE;
+        for (int i = 0; i < degrees[index]; i++) removeEdge(neighbours[row + i], index);
+        degrees[index] = 0;
+        connections[index] = null;
+    }
+
+    /**
+     * Get the connections of the given tile, for the libGDX path finders.
+     *
+     * <p>The returned array is shared and must not be modified.
+     *
+     * @param tile The tile to get the connections for.
+     * @return the connections of the tile, empty if the tile is not in the layout.
+     */
+    public Array<Connection<Tile>> connections(Tile tile) {
+        int index = index(tile.coordinate());
+        if (index < 0 || node(index) != tile) return new Array<>(0);
+        Array<Connection<Tile>> result = connections[index];
+        if (result == null) {
+            int degree = degrees[index];
+            result = new Array<>(degree);
+            for (int i = 0; i < degree; i++)
+                result.add(new TileConnection(tile, node(neighbour(index, i))));
+            connections[index] = result;
+        }
+        return result;
+    }
+
+    private void addEdge(int from, int to, float cost) {
+        if (isConnected(from, to)) return;
+        int slot = from * MAX_DEGREE + degrees[from]++;
+        neighbours[slot] = to;
+        costs[slot] = cost;
+        connections[from] = null;
+    }
+
+    private void removeEdge(int from, int to) {
+        int row = from * MAX_DEGREE;
+        int degree = degrees[from];
+        for (int i = 0; i < degree; i++) {
+            if (neighbours[row + i] != to) continue;
+            // keep the order of the remaining neighbours
+            System.arraycopy(neighbours, row + i + 1, neighbours, row + i, degree - i - 1);
+            System.arraycopy(costs, row + i + 1, costs, row + i, degree - i - 1);
+            degrees[from]--;
+            connections[from] = null;
+            return;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package core.level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+
+import core.level.Tile;
+import core.level.elements.ITileable;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Finds paths in one level.
+ *
+ * <p>Creating an {@link IndexedAStarPathFinder} allocates memory for each node of the level, so
+ * the service keeps a pool of finders and reuses them for each search.
+ *
+ * <p>Long paths in different parts of the level are searched with the {@link
+ * HierarchicalPathFinder}, which does not search the tiles between the start and the end. Such
+ * paths are close to the shortest path, but not always the shortest path.
+ *
+ * <p>Found paths are cached by their start and end tile. Many entities search the same path again
+ * and again (e.g. an entity that did not leave its tile), so most searches are answered from the
+ * cache. The cache is cleared by {@link #invalidate()}, which the level calls each time a tile
+ * changes.
+ *
+ * <p>For a goal that many entities walk to, like the hero, {@link #findPathWithFlowField} uses a
+ * flow field instead of a search for each entity: The distance of each tile to the goal is
+ * calculated once with Dijkstra's algorithm, and each tile stores its next step towards the goal.
+ * The flow field is only calculated again if the goal changes or the level changes. Use {@link
+ * #nextStep} to read the next step of a tile in constant time.
+ *
+ * <p>The returned paths are shared between the callers and must not be modified.
+ */
+public final class PathfindingService {
+    /** Maximum number of cached paths. */
+    public static final int CACHE_SIZE = 1024;
+
+    /** Searches longer than this (Manhattan distance) use the {@link HierarchicalPathFinder}. */
+    public static final int HIERARCHICAL_DISTANCE = HierarchicalPathFinder.CLUSTER_SIZE;
+
+    private final ITileable level;
+    private final HierarchicalPathFinder hierarchical;
+    private final Deque<IndexedAStarPathFinder<Tile>> finders = new ArrayDeque<>();
+    private final Map<Long, GraphPath<Tile>> cache =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, GraphPath<Tile>> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            };
+
+    /** Node count of the level the pooled finders were created for. */
+    private int finderNodeCount = -1;
+
+    private Tile flowFieldGoal;
+    private float[] distances = new float[0];
+    private Tile[] nextSteps = new Tile[0];
+    private long[] queue = new long[16];
+
+    /**
+     * Create a new service for the given level.
+     *
+     * @param level The level to find paths in.
+     */
+    public PathfindingService(ITileable level) {
+        this.level = level;
+        hierarchical = new HierarchicalPathFinder(level);
+    }
+
+    /**
+     * Find the path from the start to the end tile with the indexed A* algorithm.
+     *
+     * <p>If the Manhattan distance between the tiles is greater than {@link
+     * #HIERARCHICAL_DISTANCE} and the tiles are in different clusters, the path is searched with
+     * the {@link HierarchicalPathFinder} instead.
+     *
+     * <p>If the path was found before and the level did not change since, the cached path is
+     * returned.
+     *
+     * <p>Throws an IllegalArgumentException if start or end is non-accessible.
+     *
+     * @param start Start tile
+     * @param end End tile
+     * @return Found path, empty if there is no path
+     */
+    public GraphPath<Tile> findPath(Tile start, Tile end) {
+        checkAccessible(start, end);
+        long key = key(start, end);
+        GraphPath<Tile> path;
+        synchronized (this) {
+            path = cache.get(key);
+        }
+        if (path != null) return path;
+
+        if (level.tileHeuristic().estimate(start, end) > HIERARCHICAL_DISTANCE)
+            path = hierarchical.findPath(start, end);
+        if (path == null) {
+            path = new DefaultGraphPath<>();
+            IndexedAStarPathFinder<Tile> finder = obtainFinder();
+            finder.searchNodePath(start, end, level.tileHeuristic(), path);
+            freeFinder(finder);
+        }
+        synchronized (this) {
+            cache.put(key, path);
+        }
+        return path;
+    }
+
+    /**
+     * Find the path from the start to the goal tile with the flow field towards the goal.
+     *
+     * <p>If the goal is not the goal of the current flow field, the flow field is calculated for
+     * the new goal first.
+     *
+     * <p>Throws an IllegalArgumentException if start or goal is non-accessible.
+     *
+     * @param start Start tile
+     * @param goal Goal tile
+     * @return Found path, empty if there is no path
+     */
+    public synchronized GraphPath<Tile> findPathWithFlowField(Tile start, Tile goal) {
+        checkAccessible(start, goal);
+        long key = key(start, goal);
+        GraphPath<Tile> path = cache.get(key);
+        if (path != null) return path;
+
+        flowField(goal);
+        path = new DefaultGraphPath<>();
+        if (start == goal || nextStep(start) != null) {
+            for (Tile tile = start; tile != null; tile = nextStep(tile)) path.add(tile);
+        }
+        cache.put(key, path);
+        return path;
+    }
+
+    /**
+     * Get the next step from the given tile towards the goal of the flow field.
+     *
+     * @param tile Current tile
+     * @return The next tile on the shortest path to the goal, or null if the tile is the goal, the
+     *     goal is not reachable or no flow field was calculated.
+     * @see #flowField(Tile)
+     */
+    public synchronized Tile nextStep(Tile tile) {
+        int index = tile.index();
+        if (flowFieldGoal == null || !tile.isAccessible() || index >= nextSteps.length)
+            return null;
+        return nextSteps[index];
+    }
+
+    /**
+     * Calculate the flow field towards the given goal, if it is not already calculated.
+     *
+     * @param goal Goal of the flow field
+     */
+    public synchronized void flowField(Tile goal) {
+        if (goal == flowFieldGoal) return;
+        NavigationGraph graph = level.navigationGraph();
+        int nodeCount = graph.nodeCount();
+        if (distances.length < nodeCount) {
+            distances = new float[nodeCount];
+            nextSteps = new Tile[nodeCount];
+        }
+        Arrays.fill(distances, Float.POSITIVE_INFINITY);
+        Arrays.fill(nextSteps, null);
+        flowFieldGoal = goal;
+
+        // Dijkstra from the goal. The connections of the level are symmetric, so the distance
+        // from the goal to a tile is also the distance from the tile to the goal.
+        int size = 0;
+        distances[goal.index()] = 0;
+        size = push(size, 0, goal.index());
+        while (size > 0) {
+            long entry = queue[0];
+            size = pop(size);
+            int index = (int) entry;
+            float distance = Float.intBitsToFloat((int) (entry >>> 32));
+            if (distance > distances[index]) continue;
+            for (int i = 0; i < graph.degree(index); i++) {
+                int neighbour = graph.neighbour(index, i);
+                float newDistance = distance + graph.cost(index, i);
+                if (newDistance < distances[neighbour]) {
+                    distances[neighbour] = newDistance;
+                    nextSteps[neighbour] = graph.node(index);
+                    size = push(size, newDistance, neighbour);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clear the cached paths, the flow field and the graph of the hierarchical path finder.
+     *
+     * <p>Has to be called each time a tile of the level changes.
+     */
+    public synchronized void invalidate() {
+        cache.clear();
+        hierarchical.invalidate();
+        flowFieldGoal = null;
+    }
+
+    /**
+     * Clear the cached paths and the flow field, and mark the cluster of the given tile in the
+     * graph of the hierarchical path finder as changed.
+     *
+     * <p>Has to be called each time the accessibility or the connections of a tile change. Only
+     * the changed part of the hierarchical graph is built again.
+     *
+     * @param tile The changed tile.
+     */
+    public synchronized void invalidate(Tile tile) {
+        cache.clear();
+        hierarchical.invalidate(tile);
+        flowFieldGoal = null;
+    }
+
+    private synchronized IndexedAStarPathFinder<Tile> obtainFinder() {
+        int nodeCount = level.getNodeCount();
+        if (nodeCount != finderNodeCount) {
+            // the finders can only be used for graphs with the same number of nodes
+            finders.clear();
+            finderNodeCount = nodeCount;
+        }
+        IndexedAStarPathFinder<Tile> finder = finders.poll();
+        return finder != null ? finder : new IndexedAStarPathFinder<>(level);
+    }
+
+    private synchronized void freeFinder(IndexedAStarPathFinder<Tile> finder) {
+        if (level.getNodeCount() == finderNodeCount) finders.push(finder);
+    }
+
+    private static void checkAccessible(Tile start, Tile end) {
+        if (!start.isAccessible())
+            throw new IllegalArgumentException(
+                    "Can not calculate Path because the start point is non-accessible.");
+        if (!end.isAccessible())
+            throw new IllegalArgumentException(
+                    "Can not calculate Path because the end point is non-accessible.");
+    }
+
+    private static long key(Tile start, Tile end) {
+        return ((long) start.coordinate().x << 48)
+                | ((long) (start.coordinate().y & 0xFFFF) << 32)
+                | ((long) (end.coordinate().x & 0xFFFF) << 16)
+                | (end.coordinate().y & 0xFFFF);
+    }
+
+    /**
+     * Add an entry to the binary min-heap of the Dijkstra search.
+     *
+     * <p>The distance is stored in the upper half of the entry. Distances are never negative, so
+     * the order of the entries is the order of the distances.
+     */
+    private int push(int size, float distance, int index) {
+        if (size == queue.length) queue = Arrays.copyOf(queue, size * 2);
+        long entry = ((long) Float.floatToIntBits(distance) << 32) | index;
+        int i = size;
+        while (i > 0 && queue[(i - 1) / 2] > entry) {
+            queue[i] = queue[(i - 1) / 2];
+            i = (i - 1) / 2;
+        }
+        queue[i] = entry;
+        return size + 1;
+    }
+
+    /** Remove the smallest entry from the binary min-heap of the Dijkstra search. */
+    private int pop(int size) {
+        long last = queue[--size];
+        int i = 0;
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && queue[child + 1] < queue[child]) child++;
+            if (queue[child] >= last) break;
+            queue[i] = queue[child];
+            i = child;
+        }
+        queue[i] = last;
+        return size;
+    }
+}
@@ -1,7 +1,6 @@
 package core.level.elements.astar;
 
 import com.badlogic.gdx.ai.pfa.Heuristic;
-import com.badlogic.gdx.math.Vector2;
 
 import core.level.Tile;
 
@@ -13,16 +12,17 @@ public class TileHeuristic implements Heuristic<Tile> {
     /**
      * Heuristic used by the pathfinding algorithm
      *
+     * <p>Tiles are only connected to their four direct neighbours, so the Manhattan distance is
+     * the shortest possible path between two tiles. It never overestimates the real distance,
+     * which is needed for A* to find the shortest path.
+     *
      * @param start From
      * @param goal To
      * @return Distance between from and to tile
      */
     @Override
     public float estimate(Tile start, Tile goal) {
-        return Vector2.dst2(
-                start.coordinate().x,
-                start.coordinate().y,
-                goal.coordinate().x,
-                goal.coordinate().y);
+        return Math.abs(start.coordinate().x - goal.coordinate().x)
+                + Math.abs(start.coordinate().y - goal.coordinate().y);
     }
 }
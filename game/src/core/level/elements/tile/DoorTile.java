@@ -105,6 +105,7 @@ public class DoorTile extends Tile {
                 }
             }
             texturePath = textureBuilder.toString();
+            changed();
         } // TODO else { error }
     }
 
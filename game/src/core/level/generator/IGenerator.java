@@ -1,5 +1,6 @@
 package core.level.generator;
 
+import core.level.TileLevel;
 import core.level.elements.ILevel;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
@@ -51,4 +52,30 @@ public interface IGenerator {
      * @return The layout
      */
     LevelElement[][] layout(LevelSize size);
+
+    /**
+     * Get a level with the given configuration, generated from the given seed.
+     *
+     * <p>The same seed gives the same layout. Generators have to support calls from different
+     * threads at the same time, see {@link LevelPregenerator}.
+     *
+     * @param designLabel Design of the level
+     * @param size Size of the level
+     * @param seed Seed for the random numbers of the generator
+     * @return The level
+     */
+    default ILevel level(DesignLabel designLabel, LevelSize size, long seed) {
+        return new TileLevel(layout(size, seed), designLabel);
+    }
+
+    /**
+     * Get a level layout with the given configuration, generated from the given seed.
+     *
+     * <p>The same seed gives the same layout.
+     *
+     * @param size Size of the level
+     * @param seed Seed for the random numbers of the generator
+     * @return The layout
+     */
+    LevelElement[][] layout(LevelSize size, long seed);
 }
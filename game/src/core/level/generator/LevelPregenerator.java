@@ -0,0 +1,197 @@
+package core.level.generator;
+
+import core.level.elements.ILevel;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelSize;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Generates the next levels in the background, while the current level is played.
+ *
+ * <p>The pregenerator keeps a queue of the next levels. Each level is generated by an {@link
+ * IGenerator} on a pool of worker threads, including the layout, the walls, the textures and the
+ * navigation graph of the level. Use {@link #next(LevelSize)} to take the next level out of the
+ * queue. If the level is already generated, it will be returned at once; otherwise the call waits
+ * until the worker has finished it. The queue is filled up again after each call.
+ *
+ * <p>Each level is generated from its own seed, and the seeds (and the designs) of the levels are
+ * taken from a random sequence started with the seed of the pregenerator. So the same seed gives
+ * the same sequence of level layouts, independent of the number of worker threads.
+ *
+ * <p>The generation starts with the first call of {@link #next(LevelSize)}, because the size of the
+ * levels is not known before. If the size changes, the queued levels are discarded. Use {@link
+ * #pause()} to stop the generation while levels from another source are played.
+ *
+ * @see core.systems.LevelSystem#pregenerate(int, long)
+ */
+public final class LevelPregenerator {
+    private static final Logger LOGGER = Logger.getLogger(LevelPregenerator.class.getName());
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private record PendingLevel(
+            LevelSize size, DesignLabel design, long seed, Future<ILevel> level) {}
+
+    private final Deque<PendingLevel> queue = new ArrayDeque<>();
+    private final Random seeds;
+    private final int count;
+    private final ExecutorService workers;
+    private IGenerator generator;
+    private boolean paused;
+
+    /**
+     * Create a new pregenerator.
+     *
+     * @param generator Generator to use to generate the levels.
+     * @param count How many levels should be generated in advance? Also the maximum number of
+     *     worker threads.
+     * @param seed Seed of the sequence of levels.
+     */
+    public LevelPregenerator(IGenerator generator, int count, long seed) {
+        if (count <= 0)
+            throw new IllegalArgumentException("The count of levels has to be positive.");
+        this.generator = generator;
+        this.count = count;
+        this.seeds = new Random(seed);
+        int threads = Math.max(1, Math.min(count, Runtime.getRuntime().availableProcessors() - 1));
+        this.workers =
+                Executors.newFixedThreadPool(
+                        threads,
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "level-pregenerator-"
+                                                    + THREAD_COUNT.incrementAndGet());
+                            thread.setDaemon(true);
+                            thread.setPriority(Thread.MIN_PRIORITY);
+                            return thread;
+                        });
+    }
+
+    /**
+     * Get the next level of the sequence.
+     *
+     * <p>Waits if the level is not generated yet. Use {@link #ready(LevelSize)} to check if the
+     * next level is ready.
+     *
+     * @param size Size of the level.
+     * @return The next level.
+     */
+    public ILevel next(LevelSize size) {
+        PendingLevel pending;
+        synchronized (this) {
+            fill(size);
+            pending = queue.poll();
+            fill(size);
+        }
+        try {
+            return pending.level().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the next level.", e);
+        } catch (ExecutionException | CancellationException e) {
+            LOGGER.warning("Level with seed " + pending.seed() + " could not be generated: " + e);
+            throw new IllegalStateException("The next level could not be generated.", e);
+        }
+    }
+
+    /**
+     * Check if the next level is generated.
+     *
+     * @param size Size of the level.
+     * @return true if {@link #next(LevelSize)} will return without waiting, false if not.
+     */
+    public synchronized boolean ready(LevelSize size) {
+        if (paused) return false;
+        PendingLevel pending = queue.peek();
+        return pending != null && pending.size() == size && pending.level().isDone();
+    }
+
+    /**
+     * Set the generator for the next levels.
+     *
+     * <p>The queued levels are discarded and generated again with the new generator, with the same
+     * seeds.
+     *
+     * @param generator The new generator.
+     */
+    public synchronized void generator(IGenerator generator) {
+        this.generator = generator;
+        if (!paused) resubmit();
+    }
+
+    /**
+     * Stop the generation until the next call of {@link #next(LevelSize)}.
+     *
+     * <p>The queued levels are discarded and generated again with the same seeds, when the
+     * generation is resumed. So pausing does not change the sequence of levels.
+     */
+    public synchronized void pause() {
+        paused = true;
+        queue.forEach(pending -> pending.level().cancel(false));
+    }
+
+    /**
+     * Check if the generation is paused.
+     *
+     * @return true if {@link #pause()} was called and the generation is not resumed yet.
+     */
+    public synchronized boolean paused() {
+        return paused;
+    }
+
+    /**
+     * Get the number of levels that are generated in advance.
+     *
+     * @return The number of levels.
+     */
+    public int count() {
+        return count;
+    }
+
+    /** Discard the queued levels and stop the worker threads. */
+    public synchronized void shutdown() {
+        queue.forEach(pending -> pending.level().cancel(false));
+        queue.clear();
+        workers.shutdownNow();
+    }
+
+    private void fill(LevelSize size) {
+        if (paused) {
+            paused = false;
+            resubmit();
+        }
+        if (!queue.isEmpty() && queue.peek().size() != size) {
+            LOGGER.info("Level size changed, discard the pregenerated levels.");
+            queue.forEach(pending -> pending.level().cancel(false));
+            queue.clear();
+        }
+        while (queue.size() < count)
+            queue.add(submit(size, DesignLabel.randomDesign(seeds), seeds.nextLong()));
+    }
+
+    private void resubmit() {
+        Deque<PendingLevel> discarded = new ArrayDeque<>(queue);
+        queue.clear();
+        for (PendingLevel pending : discarded) {
+            pending.level().cancel(false);
+            queue.add(submit(pending.size(), pending.design(), pending.seed()));
+        }
+    }
+
+    private PendingLevel submit(LevelSize size, DesignLabel design, long seed) {
+        IGenerator levelGenerator = generator;
+        return new PendingLevel(
+                size, design, seed, workers.submit(() -> levelGenerator.level(design, size, seed)));
+    }
+}
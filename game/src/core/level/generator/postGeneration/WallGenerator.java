@@ -16,10 +16,12 @@ import core.level.utils.LevelSize;
  *
  * <p>Replaces SKIP tiles with holes when they are next to a FLOOR tile and there is no space for a
  * wall.
+ *
+ * <p>The generator keeps no layout between two calls, so it can generate several levels at the same
+ * time if the preceding generator can.
  */
 public class WallGenerator implements IGenerator {
     private final IGenerator preGenerator;
-    private LevelElement[][] layout;
 
     /**
      * Constructs a new WallGenerator using the layout from the passed IGenerator.
@@ -32,44 +34,49 @@ public class WallGenerator implements IGenerator {
 
     @Override
     public ILevel level(DesignLabel designLabel, LevelSize size) {
-        runPreGeneration(size);
-        placeWalls();
-        return new TileLevel(layout, designLabel);
+        return new TileLevel(layout(size), designLabel);
     }
 
     @Override
     public LevelElement[][] layout(LevelSize size) {
-        runPreGeneration(size);
-        placeWalls();
+        LevelElement[][] layout = surround(preGenerator.layout(size));
+        placeWalls(layout);
+        return layout;
+    }
+
+    @Override
+    public LevelElement[][] layout(LevelSize size, long seed) {
+        LevelElement[][] layout = surround(preGenerator.layout(size, seed));
+        placeWalls(layout);
         return layout;
     }
 
-    private void runPreGeneration(LevelSize size) {
-        LevelElement[][] preLayout = preGenerator.layout(size);
+    private static LevelElement[][] surround(LevelElement[][] preLayout) {
         // Surround layout with 2 layers of LevelElement.SKIP
-        this.layout = new LevelElement[preLayout.length + 4][preLayout[0].length + 4];
-        for (int i = 0; i < this.layout.length; i++) {
-            for (int j = 0; j < this.layout[0].length; j++) {
-                this.layout[i][j] = LevelElement.SKIP;
+        LevelElement[][] layout = new LevelElement[preLayout.length + 4][preLayout[0].length + 4];
+        for (int i = 0; i < layout.length; i++) {
+            for (int j = 0; j < layout[0].length; j++) {
+                layout[i][j] = LevelElement.SKIP;
             }
         }
-        for (int i = 2; i < this.layout.length - 2; i++) {
-            if (this.layout[0].length - 4 >= 0)
-                System.arraycopy(preLayout[i - 2], 0, this.layout[i], 2, this.layout[0].length - 4);
+        for (int i = 2; i < layout.length - 2; i++) {
+            if (layout[0].length - 4 >= 0)
+                System.arraycopy(preLayout[i - 2], 0, layout[i], 2, layout[0].length - 4);
         }
+        return layout;
     }
 
-    private void placeWalls() {
+    private static void placeWalls(LevelElement[][] layout) {
         for (int y = 1; y < layout.length - 1; y++) {
             for (int x = 1; x < layout[0].length - 1; x++) {
-                if (layout[y][x] == LevelElement.SKIP && accessibleTileIsAdjacent(y, x)) {
-                    if (bottomLeftCornerIsEmpty(y, x)) {
+                if (layout[y][x] == LevelElement.SKIP && accessibleTileIsAdjacent(layout, y, x)) {
+                    if (bottomLeftCornerIsEmpty(layout, y, x)) {
                         layout[y][x] = LevelElement.WALL;
-                    } else if (upperLeftCornerIsEmpty(y, x)) {
+                    } else if (upperLeftCornerIsEmpty(layout, y, x)) {
                         layout[y][x] = LevelElement.WALL;
-                    } else if (bottomRightCornerIsEmpty(y, x)) {
+                    } else if (bottomRightCornerIsEmpty(layout, y, x)) {
                         layout[y][x] = LevelElement.WALL;
-                    } else if (upperRightCornerIsEmpty(y, x)) {
+                    } else if (upperRightCornerIsEmpty(layout, y, x)) {
                         layout[y][x] = LevelElement.WALL;
                     } else {
                         layout[y][x] = LevelElement.HOLE;
@@ -79,25 +86,25 @@ public class WallGenerator implements IGenerator {
         }
     }
 
-    private boolean upperRightCornerIsEmpty(int y, int x) {
+    private static boolean upperRightCornerIsEmpty(LevelElement[][] layout, int y, int x) {
         return !layout[y + 1][x].value()
                 && !layout[y][x + 1].value()
                 && !layout[y + 1][x + 1].value();
     }
 
-    private boolean bottomRightCornerIsEmpty(int y, int x) {
+    private static boolean bottomRightCornerIsEmpty(LevelElement[][] layout, int y, int x) {
         return !layout[y - 1][x].value()
                 && !layout[y - 1][x + 1].value()
                 && !layout[y][x + 1].value();
     }
 
-    private boolean upperLeftCornerIsEmpty(int y, int x) {
+    private static boolean upperLeftCornerIsEmpty(LevelElement[][] layout, int y, int x) {
         return !layout[y][x - 1].value()
                 && !layout[y + 1][x - 1].value()
                 && !layout[y + 1][x].value();
     }
 
-    private boolean bottomLeftCornerIsEmpty(int y, int x) {
+    private static boolean bottomLeftCornerIsEmpty(LevelElement[][] layout, int y, int x) {
         return !layout[y - 1][x - 1].value()
                 && !layout[y][x - 1].value()
                 && !layout[y - 1][x].value();
@@ -109,7 +116,7 @@ public class WallGenerator implements IGenerator {
      * @return true if at least one tile (including corner tiles) surrounding this tile is
      *     accessible
      */
-    private boolean accessibleTileIsAdjacent(int y, int x) {
+    private static boolean accessibleTileIsAdjacent(LevelElement[][] layout, int y, int x) {
         if (layout[y - 1][x - 1].value()) return true;
         if (layout[y - 1][x].value()) return true;
         if (layout[y - 1][x + 1].value()) return true;
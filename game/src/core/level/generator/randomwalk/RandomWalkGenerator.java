@@ -9,11 +9,17 @@ import core.level.utils.LevelElement;
 import core.level.utils.LevelSize;
 
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Generates the floor layout of a level with a random walk.
+ *
+ * <p>The generator has no state, so it can generate several levels at the same time. Use {@link
+ * #layout(LevelSize, long)} to get the same layout for the same seed.
+ */
 public class RandomWalkGenerator implements IGenerator {
     private record MinMaxValue(int min, int max) {}
 
-    private static final Random RANDOM = new Random();
     private static final int SMALL_MIN_X_SIZE = 10;
     private static final int SMALL_MIN_Y_SIZE = 10;
     private static final int SMALL_MAX_X_SIZE = 30;
@@ -41,22 +47,32 @@ public class RandomWalkGenerator implements IGenerator {
      * @return layout of the level
      */
     public LevelElement[][] layout(LevelSize size) {
+        return layout(size, ThreadLocalRandom.current().nextLong());
+    }
+
+    @Override
+    public LevelElement[][] layout(LevelSize size, long seed) {
+        Random random = new Random(seed);
         return switch (size) {
             case SMALL -> drunkWalk(
+                    random,
                     new MinMaxValue(SMALL_MIN_X_SIZE, SMALL_MAX_X_SIZE),
                     new MinMaxValue(SMALL_MIN_Y_SIZE, SMALL_MAX_Y_SIZE));
             case LARGE -> drunkWalk(
+                    random,
                     new MinMaxValue(BIG_MIN_X_SIZE, BIG_MAX_X_SIZE),
                     new MinMaxValue(BIG_MIN_Y_SIZE, BIG_MAX_Y_SIZE));
             default -> drunkWalk(
+                    random,
                     new MinMaxValue(MEDIUM_MIN_X_SIZE, MEDIUM_MAX_X_SIZE),
                     new MinMaxValue(MEDIUM_MIN_Y_SIZE, MEDIUM_MAX_Y_SIZE));
         };
     }
 
-    private LevelElement[][] drunkWalk(MinMaxValue minMaxValueX, MinMaxValue minMaxValueY) {
-        int xSize = RANDOM.nextInt(minMaxValueX.min(), minMaxValueX.max());
-        int ySize = RANDOM.nextInt(minMaxValueY.min(), minMaxValueY.max());
+    private LevelElement[][] drunkWalk(
+            Random random, MinMaxValue minMaxValueX, MinMaxValue minMaxValueY) {
+        int xSize = random.nextInt(minMaxValueX.min(), minMaxValueX.max());
+        int ySize = random.nextInt(minMaxValueY.min(), minMaxValueY.max());
         LevelElement[][] layout = new LevelElement[ySize][xSize];
         for (int y = 0; y < ySize; y++) {
             for (int x = 0; x < xSize; x++) {
@@ -64,21 +80,21 @@ public class RandomWalkGenerator implements IGenerator {
             }
         }
 
-        Coordinate position = new Coordinate(RANDOM.nextInt(0, xSize), RANDOM.nextInt(0, ySize));
+        Coordinate position = new Coordinate(random.nextInt(0, xSize), random.nextInt(0, ySize));
         int steps =
-                RANDOM.nextInt(
+                random.nextInt(
                         (xSize * ySize) / MIN_STEPS_FACTOR, (xSize * ySize) / MAX_STEPS_FACTOR);
         for (; steps > 0; steps--) {
             layout[position.y][position.x] = LevelElement.FLOOR;
 
-            if (RANDOM.nextBoolean()) {
-                if (RANDOM.nextBoolean()) {
+            if (random.nextBoolean()) {
+                if (random.nextBoolean()) {
                     position.x = Math.min(position.x + 1, xSize - 1);
                 } else {
                     position.x = Math.max(position.x - 1, 0);
                 }
             } else {
-                if (RANDOM.nextBoolean()) {
+                if (random.nextBoolean()) {
                     position.y = Math.min(position.y + 1, ySize - 1);
                 } else {
                     position.y = Math.max(position.y - 1, 0);
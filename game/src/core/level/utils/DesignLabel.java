@@ -36,6 +36,14 @@ public enum DesignLabel {
      * @return A random enum-value based on chances
      */
     public static DesignLabel randomDesign() {
-        return VALUES.get(RANDOM.nextInt(0, VALUES.size()));
+        return randomDesign(RANDOM);
+    }
+
+    /**
+     * @param random Random object used to select the label
+     * @return A random enum-value based on chances
+     */
+    public static DesignLabel randomDesign(Random random) {
+        return VALUES.get(random.nextInt(0, VALUES.size()));
     }
 }
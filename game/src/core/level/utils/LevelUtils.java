@@ -115,6 +115,9 @@ public class LevelUtils {
      * <p>If no hero exist in the game, the path will be calculated from the given entity to the
      * given entity.
      *
+     * <p>All entities share one flow field towards the hero, which is only calculated again if the
+     * hero enters another tile, see {@link core.level.elements.IPathable#findPathWithFlowField}.
+     *
      * <p>Throws an IllegalArgumentException if one of the entities position is non-accessible.
      *
      * @param entity Entity from which the path to the hero is calculated.
@@ -123,7 +126,11 @@ public class LevelUtils {
      */
     public static GraphPath<Tile> calculatePathToHero(final Entity entity) {
         Optional<Entity> hero = Game.hero();
-        if (hero.isPresent()) return calculatePath(entity, hero.get());
+        if (hero.isPresent())
+            return Game.currentLevel()
+                    .findPathWithFlowField(
+                            Game.tileAT(Game.positionOf(entity)),
+                            Game.tileAT(Game.positionOf(hero.get())));
         else return calculatePath(entity, entity);
     }
 
@@ -1,6 +1,7 @@
 package core.level.utils;
 
 import core.level.Tile;
+import core.level.elements.tile.DoorTile;
 
 public class TileTextureFactory {
     /**
@@ -69,22 +70,57 @@ public class TileTextureFactory {
     /**
      * Checks which texture must be used for the passed tile based on the surrounding tiles.
      *
+     * <p>The texture only depends on the tile and its eight neighbours, so only this 3x3 window of
+     * the layout is read.
+     *
      * @param element Tile to check for
      * @param layout The level
      * @param elementType The type ot the tile if different than the attribute
      * @return Path to texture
      */
     public static String findTexturePath(Tile element, Tile[][] layout, LevelElement elementType) {
-        LevelElement[][] elementLayout = new LevelElement[layout.length][layout[0].length];
-        for (int x = 0; x < layout[0].length; x++) {
-            for (int y = 0; y < layout.length; y++) {
-                elementLayout[y][x] = layout[y][x].levelElement();
+        Coordinate c = element.coordinate();
+        // the window ends at the border of the level, like the level itself
+        int minX = Math.max(c.x - 1, 0);
+        int maxX = Math.min(c.x + 1, layout[0].length - 1);
+        int minY = Math.max(c.y - 1, 0);
+        int maxY = Math.min(c.y + 1, layout.length - 1);
+        LevelElement[][] window = new LevelElement[maxY - minY + 1][maxX - minX + 1];
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                window[y - minY][x - minX] = layout[y][x].levelElement();
             }
         }
-        elementLayout[element.coordinate().y][element.coordinate().x] = elementType;
+        Coordinate position = new Coordinate(c.x - minX, c.y - minY);
+        window[position.y][position.x] = elementType;
         return findTexturePath(
-                new LevelPart(
-                        elementType, element.designLabel(), elementLayout, element.coordinate()));
+                new LevelPart(elementType, element.designLabel(), window, position));
+    }
+
+    /**
+     * Find the texture of each of the eight tiles around the given coordinate again.
+     *
+     * <p>The texture of a tile depends on its neighbours, so after a tile changed, the textures of
+     * its neighbours may have to change too. The texture of a neighbour is only set if it is
+     * different from its current texture. Doors keep their texture, because it contains the
+     * colour of the door (see {@link DoorTile#setColor}).
+     *
+     * @param coordinate Coordinate of the changed tile
+     * @param layout The level
+     */
+    public static void updateNeighbourTextures(Coordinate coordinate, Tile[][] layout) {
+        for (int y = coordinate.y - 1; y <= coordinate.y + 1; y++) {
+            for (int x = coordinate.x - 1; x <= coordinate.x + 1; x++) {
+                if (y < 0 || y >= layout.length || x < 0 || x >= layout[0].length) continue;
+                if (x == coordinate.x && y == coordinate.y) continue;
+                Tile neighbour = layout[y][x];
+                if (neighbour instanceof DoorTile) continue;
+                String texturePath = findTexturePath(neighbour, layout);
+                if (!texturePath.equals(neighbour.texturePath())) {
+                    neighbour.texturePath(texturePath);
+                }
+            }
+        }
     }
 
     private static String findTexturePathFloor(LevelPart levelPart) {
@@ -0,0 +1,40 @@
+package core.systems;
+
+import core.Entity;
+import core.System;
+import core.components.DrawComponent;
+import core.utils.components.draw.Animation;
+
+/**
+ * The AnimationSystem plays the animations of the entities.
+ *
+ * <p>Each entity with a {@link DrawComponent} will be processed by this system. The current {@link
+ * Animation} of the entity counts one frame per tick, so animations run with the same speed
+ * independent of the frame rate. The {@link DrawSystem} only draws the current animation step.
+ *
+ * <p>The AnimationSystem can't be paused, like the {@link DrawSystem}.
+ *
+ * @see Animation#update()
+ */
+public final class AnimationSystem extends System {
+
+    /** Create a new AnimationSystem. */
+    public AnimationSystem() {
+        super(DrawComponent.class);
+    }
+
+    @Override
+    public void execute() {
+        forEachEntity(DrawComponent.class, this::update);
+    }
+
+    private void update(Entity e, DrawComponent dc) {
+        dc.currentAnimation().update();
+    }
+
+    /** AnimationSystem cant be paused */
+    @Override
+    public void stop() {
+        run = true;
+    }
+}
@@ -2,8 +2,6 @@ package core.systems;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.math.collision.BoundingBox;
 
 import core.Entity;
 import core.Game;
@@ -49,6 +47,11 @@ public final class CameraSystem extends System {
         CAMERA.update();
     }
 
+    @Override
+    public Phase phase() {
+        return Phase.PRESENTATION;
+    }
+
     private void focus() {
         Point focusPoint;
         if (Game.currentLevel() == null) focusPoint = new Point(0, 0);
@@ -63,7 +66,7 @@ public final class CameraSystem extends System {
                                 () ->
                                         MissingComponentException.build(
                                                 entity, PositionComponent.class));
-        focus(pc.position());
+        focus(pc.interpolatedPosition(Game.interpolationAlpha()));
     }
 
     private void focus(Point point) {
@@ -76,11 +79,20 @@ public final class CameraSystem extends System {
      */
     public static boolean isPointInFrustum(float x, float y) {
         final float OFFSET = 1f;
-        BoundingBox bounds =
-                new BoundingBox(
-                        new Vector3(x - OFFSET, y - OFFSET, 0),
-                        new Vector3(x + OFFSET, y + OFFSET, 0));
-        return CAMERA.frustum.boundsInFrustum(bounds);
+        return isAreaInFrustum(x, y, OFFSET, OFFSET);
+    }
+
+    /**
+     * Checks if the rectangle with the given center and half size is probably visible on screen.
+     *
+     * @param x x-coordinate of the center of the area
+     * @param y y-coordinate of the center of the area
+     * @param halfWidth half of the width of the area
+     * @param halfHeight half of the height of the area
+     * @return true if the area is at least partly visible, false if not
+     */
+    public static boolean isAreaInFrustum(float x, float y, float halfWidth, float halfHeight) {
+        return CAMERA.frustum.boundsInFrustum(x, y, 0, halfWidth, halfHeight, 0);
     }
 
     /**
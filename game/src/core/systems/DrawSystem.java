@@ -3,10 +3,10 @@ package core.systems;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 import core.Entity;
+import core.Game;
 import core.System;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
-import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Animation;
 import core.utils.components.draw.Painter;
 import core.utils.components.draw.PainterConfig;
@@ -20,12 +20,22 @@ import java.util.Map;
  * <p>Each entity with a {@link DrawComponent} and a {@link PositionComponent} will be drawn on the
  * screen.
  *
- * <p>The system will get the current animation from the {@link DrawComponent} and will get the next
- * animation frame from the {@link Animation}, and then draw it on the current position stored in
- * the {@link PositionComponent}.
+ * <p>The system will get the current animation from the {@link DrawComponent} and will get the
+ * current animation frame from the {@link Animation}, and then draw it on the current position
+ * stored in the {@link PositionComponent}. The animations are played by the {@link
+ * AnimationSystem}.
+ *
+ * <p>The DrawSystem is executed once per frame, but the entities move once per tick. To move the
+ * entities smoothly, each entity is drawn between its position of the last two ticks, see {@link
+ * PositionComponent#interpolatedPosition(float)}.
  *
  * <p>This system will not set the current animation. This must be done by other systems.
  *
+ * <p>The {@link Painter} queues everything that is drawn. Before the entities are drawn, this
+ * system flushes the textures that were queued by other systems so far (e.g. the level drawn by the
+ * {@link LevelSystem}) sorted by texture. The entities are flushed afterward in the order they were
+ * drawn, so overlapping entities do not change their drawing order if their animation changes.
+ *
  * <p>The DrawSystem can't be paused.
  *
  * @see DrawComponent
@@ -62,28 +72,26 @@ public final class DrawSystem extends System {
      */
     @Override
     public void execute() {
-        entityStream().map(this::buildDataObject).forEach(this::draw);
+        painter.flush(true);
+        forEachEntity(DrawComponent.class, PositionComponent.class, this::draw);
+        painter.flush(false);
+    }
+
+    @Override
+    public Phase phase() {
+        return Phase.PRESENTATION;
     }
 
-    private void draw(DSData dsd) {
-        final Animation animation = dsd.ac.currentAnimation();
-        String currentAnimationTexture = animation.nextAnimationTexturePath();
+    private void draw(Entity e, DrawComponent dc, PositionComponent pc) {
+        final Animation animation = dc.currentAnimation();
+        String currentAnimationTexture = animation.currentAnimationTexturePath();
         if (!configs.containsKey(currentAnimationTexture)) {
             configs.put(currentAnimationTexture, new PainterConfig(currentAnimationTexture));
         }
         painter.draw(
-                dsd.pc.position(), currentAnimationTexture, configs.get(currentAnimationTexture));
-    }
-
-    private DSData buildDataObject(Entity e) {
-        DrawComponent dc =
-                e.fetch(DrawComponent.class)
-                        .orElseThrow(() -> MissingComponentException.build(e, DrawComponent.class));
-        PositionComponent pc =
-                e.fetch(PositionComponent.class)
-                        .orElseThrow(
-                                () -> MissingComponentException.build(e, PositionComponent.class));
-        return new DSData(e, dc, pc);
+                pc.interpolatedPosition(Game.interpolationAlpha()),
+                currentAnimationTexture,
+                configs.get(currentAnimationTexture));
     }
 
     /** DrawSystem cant be paused */
@@ -93,8 +101,6 @@ public final class DrawSystem extends System {
         run = true;
     }
 
-    private record DSData(Entity e, DrawComponent ac, PositionComponent pc) {}
-
     /**
      * @return the {@link #painter} of the Drawsystem
      */
@@ -9,16 +9,14 @@ import core.level.Tile;
 import core.level.elements.ILevel;
 import core.level.elements.tile.DoorTile;
 import core.level.generator.IGenerator;
+import core.level.generator.LevelPregenerator;
 import core.level.utils.DesignLabel;
-import core.level.utils.LevelElement;
 import core.level.utils.LevelSize;
 import core.utils.IVoidFunction;
 import core.utils.components.MissingComponentException;
+import core.utils.components.draw.LevelChunkCache;
 import core.utils.components.draw.Painter;
-import core.utils.components.draw.PainterConfig;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -29,11 +27,14 @@ import java.util.logging.Logger;
  *
  * <p>The system uses the configured {@link IGenerator} to generate levels in the configured {@link
  * LevelSize}. Use {@link #generator(IGenerator)} to change the used level generator. Use {@link
- * #levelSize(LevelSize)} to set the size of the next levels that get loaded.
+ * #levelSize(LevelSize)} to set the size of the next levels that get loaded. Use {@link
+ * #pregenerate(int, long)} to generate the next levels in the background, so loading a level
+ * doesn't have to wait for the generator.
  *
- * <p>Each frame, this system will draw the level on the screen. The system will also check if one
- * of the entities managed by this system is positioned on the end tile of the level. If so, the
- * next level will be loaded.
+ * <p>Each frame, this system will draw the level on the screen. The tiles of the level are cached
+ * in chunks by a {@link LevelChunkCache}, so only the visible chunks are drawn and the level is not
+ * walked through each frame. The system will also check if one of the entities managed by this
+ * system is positioned on the end tile of the level. If so, the next level will be loaded.
  *
  * <p>If a new level is loaded, the system will trigger the onLevelLoad callback given in the
  * constructor of this system.
@@ -57,9 +58,10 @@ public final class LevelSystem extends System {
     private static ILevel currentLevel;
 
     private final IVoidFunction onLevelLoad;
-    private final Painter painter;
+    private final LevelChunkCache chunks;
     private final Logger levelAPI_logger = Logger.getLogger(this.getClass().getName());
     private IGenerator gen;
+    private LevelPregenerator pregenerator;
 
     /**
      * Create a new {@link LevelSize} and register it at the game.
@@ -68,7 +70,8 @@ public final class LevelSystem extends System {
      * DesignLabel)} if you want to trigger the load of a level manually, otherwise the first level
      * will be loaded if this system {@link #execute()} is executed.
      *
-     * @param painter The {@link Painter} to use to draw the level.
+     * @param painter The {@link Painter} to use to draw the level, or null to not draw the level
+     *     (e.g. in a {@link core.HeadlessGame}).
      * @param generator Level generator to use to generate level.
      * @param onLevelLoad Callback-function that is called if a new level was loaded.
      */
@@ -76,7 +79,7 @@ public final class LevelSystem extends System {
         super(PlayerComponent.class, PositionComponent.class);
         this.gen = generator;
         this.onLevelLoad = onLevelLoad;
-        this.painter = painter;
+        this.chunks = painter == null ? null : new LevelChunkCache(painter);
     }
 
     /**
@@ -109,76 +112,84 @@ public final class LevelSystem extends System {
     /**
      * Set the current level to the given level.
      *
-     * <p>Will trigger the onLevelLoad callback.
+     * <p>Will trigger the onLevelLoad callback. Pauses the pregeneration of the next levels until
+     * {@link #loadLevel(LevelSize)} is called again.
      *
      * @param level The level to be set.
      */
     public void loadLevel(ILevel level) {
-        currentLevel = level;
-        onLevelLoad.execute();
+        if (pregenerator != null) pregenerator.pause();
+        setLevel(level);
     }
 
     /**
      * Load a new level.
      *
-     * <p>Will trigger the onLevelLoad callback.
+     * <p>Will trigger the onLevelLoad callback. Pauses the pregeneration of the next levels until
+     * {@link #loadLevel(LevelSize)} is called again.
      *
      * @param size The wanted size of the new level.
      * @param label The wanted design of the new level.
      */
     public void loadLevel(LevelSize size, DesignLabel label) {
-        currentLevel = gen.level(label, size);
-        onLevelLoad.execute();
+        if (pregenerator != null) pregenerator.pause();
+        setLevel(gen.level(label, size));
         levelAPI_logger.info("A new level was loaded.");
     }
 
     /**
-     * Load a new level with the configured size and the given design.
+     * Load the next level with the given size.
+     *
+     * <p>If the next levels are pregenerated, the next pregenerated level is loaded; otherwise a
+     * new level with a random design is generated.
      *
      * <p>Will trigger the onLevelLoad callback.
      *
-     * @param designLabel Wanted level design.
+     * @param size Wanted size of the level.
+     * @see #pregenerate(int, long)
      */
-    public void loadLevel(DesignLabel designLabel) {
-        loadLevel(levelSize, designLabel);
+    public void loadLevel(LevelSize size) {
+        if (pregenerator == null) {
+            loadLevel(size, DesignLabel.randomDesign());
+            return;
+        }
+        if (!pregenerator.ready(size))
+            levelAPI_logger.info("Waiting for the next pregenerated level.");
+        setLevel(pregenerator.next(size));
+        levelAPI_logger.info("A pregenerated level was loaded.");
+    }
+
+    private void setLevel(ILevel level) {
+        currentLevel = level;
+        onLevelLoad.execute();
     }
 
     /**
-     * Load a new level with the given size and a random design. *
+     * Load a new level with the configured size and the given design.
      *
      * <p>Will trigger the onLevelLoad callback.
      *
-     * @param size Wanted size of the level.
+     * @param designLabel Wanted level design.
      */
-    public void loadLevel(LevelSize size) {
-        loadLevel(size, DesignLabel.randomDesign());
+    public void loadLevel(DesignLabel designLabel) {
+        loadLevel(levelSize, designLabel);
     }
 
     /**
-     * Load a new level with the configured size and random design. *
+     * Load the next level with the configured size.
      *
      * <p>Will trigger the onLevelLoad callback.
+     *
+     * @see #loadLevel(LevelSize)
      */
     public void loadLevel() {
-        loadLevel(levelSize(), DesignLabel.randomDesign());
+        loadLevel(levelSize());
     }
 
     private void drawLevel() {
-        Map<String, PainterConfig> mapping = new HashMap<>();
-
-        Tile[][] layout = currentLevel.layout();
-        for (Tile[] tiles : layout) {
-            for (int x = 0; x < layout[0].length; x++) {
-                Tile t = tiles[x];
-                if (t.levelElement() != LevelElement.SKIP) {
-                    String texturePath = t.texturePath();
-                    if (!mapping.containsKey(texturePath)) {
-                        mapping.put(texturePath, new PainterConfig(texturePath));
-                    }
-                    painter.draw(t.position(), texturePath, mapping.get(texturePath));
-                }
-            }
-        }
+        if (chunks == null) return;
+        if (chunks.level() != currentLevel) chunks.level(currentLevel);
+        chunks.draw();
     }
 
     /**
@@ -197,6 +208,25 @@ public final class LevelSystem extends System {
      */
     public void generator(IGenerator generator) {
         gen = generator;
+        if (pregenerator != null) pregenerator.generator(generator);
+    }
+
+    /**
+     * Generate the next levels in the background.
+     *
+     * <p>The levels are generated with the configured generator on worker threads, while the
+     * current level is played. The levels are generated from a sequence of seeds started with the
+     * given seed, so the same seed gives the same levels. {@link #loadLevel(LevelSize)} will load
+     * the next pregenerated level. The pregeneration is paused while a level from another source
+     * is played.
+     *
+     * @param count How many levels should be generated in advance? Use 0 to stop the
+     *     pregeneration.
+     * @param seed Seed of the sequence of levels.
+     */
+    public void pregenerate(int count, long seed) {
+        if (pregenerator != null) pregenerator.shutdown();
+        pregenerator = count > 0 ? new LevelPregenerator(gen, count, seed) : null;
     }
 
     /**
@@ -241,7 +271,7 @@ public final class LevelSystem extends System {
      * <p>Will load a new level if no level exists or one of the managed entities are on the end
      * tile.
      *
-     * <p>Will draw the level.
+     * <p>Will draw the level, if the system has a painter.
      */
     @Override
     public void execute() {
@@ -251,6 +281,15 @@ public final class LevelSystem extends System {
         drawLevel();
     }
 
+    /**
+     * The level has to be drawn in each frame, so the LevelSystem is executed once per frame. It
+     * checks if a new level has to be loaded after the ticks of the frame.
+     */
+    @Override
+    public Phase phase() {
+        return Phase.PRESENTATION;
+    }
+
     /** LevelSystem can't be paused. If it is paused, the level will not be shown anymore. */
     @Override
     public void stop() {
@@ -0,0 +1,46 @@
+package core.systems;
+
+import core.Entity;
+import core.System;
+import core.components.PlayerComponent;
+import core.utils.components.MissingComponentException;
+
+/**
+ * The PlayerActionSystem executes the input of the player at the start of each tick. It will
+ * trigger the {@link PlayerComponent#execute(Entity, boolean)}-Method to execute the Functions of
+ * the Keys that were pressed in the last frame, see {@link PlayerSystem}.
+ *
+ * <p>Add this system before the other systems of the {@link Phase#SIMULATION} phase, so the input
+ * is applied before the entities are moved.
+ */
+public final class PlayerActionSystem extends System {
+
+    private boolean running = true;
+
+    public PlayerActionSystem() {
+        super(PlayerComponent.class);
+    }
+
+    @Override
+    public void execute() {
+        entityStream().forEach(this::execute);
+    }
+
+    private void execute(Entity entity) {
+        entity.fetch(PlayerComponent.class)
+                .orElseThrow(() -> MissingComponentException.build(entity, PlayerComponent.class))
+                .execute(entity, !this.running);
+    }
+
+    @Override
+    public void stop() {
+        this.run = true; // This system can not be stopped.
+        this.running = false;
+    }
+
+    @Override
+    public void run() {
+        this.run = true;
+        this.running = true;
+    }
+}
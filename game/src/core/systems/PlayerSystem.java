@@ -7,7 +7,10 @@ import core.utils.components.MissingComponentException;
 
 /**
  * The PlayerSystem is used to control the player, it will trigger the {@link
- * PlayerComponent#execute(Entity, boolean)}-Method to execute the Functions registered to Keys.
+ * PlayerComponent#sample(boolean)}-Method to read the Keys once per frame.
+ *
+ * <p>The Functions registered to the pressed Keys are executed in each tick of the next frame by
+ * the {@link PlayerActionSystem}.
  */
 public final class PlayerSystem extends System {
 
@@ -22,10 +25,15 @@ public final class PlayerSystem extends System {
         entityStream().forEach(this::execute);
     }
 
+    @Override
+    public Phase phase() {
+        return Phase.PRESENTATION;
+    }
+
     private void execute(Entity entity) {
         entity.fetch(PlayerComponent.class)
                 .orElseThrow(() -> MissingComponentException.build(entity, PlayerComponent.class))
-                .execute(entity, !this.running);
+                .sample(!this.running);
     }
 
     @Override
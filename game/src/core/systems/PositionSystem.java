@@ -5,7 +5,6 @@ import core.Game;
 import core.System;
 import core.components.PositionComponent;
 import core.level.utils.LevelElement;
-import core.utils.components.MissingComponentException;
 
 /**
  * The {@link PositionSystem} checks if an entity has an illegal position and then changes the
@@ -29,25 +28,11 @@ public class PositionSystem extends System {
 
     @Override
     public void execute() {
-        entityStream()
-                .map(this::buildDataObject)
-                .filter(data -> data.pc.position().equals(PositionComponent.ILLEGAL_POSITION))
-                .forEach(this::randomPosition);
+        forEachEntity(PositionComponent.class, this::randomPosition);
     }
 
-    private void randomPosition(PSData data) {
-        if (Game.currentLevel() != null) data.pc.position(Game.randomTile(LevelElement.FLOOR));
+    private void randomPosition(Entity e, PositionComponent pc) {
+        if (!pc.position().equals(PositionComponent.ILLEGAL_POSITION)) return;
+        if (Game.currentLevel() != null) pc.position(Game.randomTile(LevelElement.FLOOR));
     }
-
-    private PSData buildDataObject(Entity e) {
-
-        PositionComponent pc =
-                e.fetch(PositionComponent.class)
-                        .orElseThrow(
-                                () -> MissingComponentException.build(e, PositionComponent.class));
-
-        return new PSData(e, pc);
-    }
-
-    private record PSData(Entity e, PositionComponent pc) {}
 }
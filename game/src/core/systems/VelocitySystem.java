@@ -1,6 +1,5 @@
 package core.systems;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 
 import contrib.components.HealthComponent;
@@ -13,7 +12,6 @@ import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
 import core.utils.Point;
-import core.utils.components.MissingComponentException;
 import core.utils.components.draw.CoreAnimations;
 
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -53,81 +51,66 @@ public final class VelocitySystem extends System {
     /** Updates the position of all entities based on their velocity */
     @Override
     public void execute() {
-        entityStream().map(this::buildDataObject).forEach(this::updatePosition);
+        forEachEntity(
+                VelocityComponent.class,
+                PositionComponent.class,
+                DrawComponent.class,
+                this::updatePosition);
     }
 
-    private void updatePosition(VSData vsd) {
-        Vector2 velocity = new Vector2(vsd.vc.currentXVelocity(), vsd.vc.currentYVelocity());
-        float maxSpeed = Math.max(Math.abs(vsd.vc.xVelocity()), Math.abs(vsd.vc.yVelocity()));
+    private void updatePosition(
+            Entity e, VelocityComponent vc, PositionComponent pc, DrawComponent dc) {
+        Vector2 velocity = new Vector2(vc.currentXVelocity(), vc.currentYVelocity());
+        float maxSpeed = Math.max(Math.abs(vc.xVelocity()), Math.abs(vc.yVelocity()));
         // Limit velocity to maxSpeed (primarily for diagonal movement)
         if (velocity.len() > maxSpeed) {
             velocity.nor();
             velocity.scl(maxSpeed);
         }
-        if (Gdx.graphics != null) {
-            velocity.scl(Gdx.graphics.getDeltaTime());
-        }
+        // the velocity is given in tiles per second, the system moves the entity once per tick
+        velocity.scl(Game.timeStep());
 
-        float newX = vsd.pc.position().x + velocity.x;
-        float newY = vsd.pc.position().y + velocity.y;
+        float newX = pc.position().x + velocity.x;
+        float newY = pc.position().y + velocity.y;
         boolean hitwall = false;
         if (Game.tileAT(new Point(newX, newY)).isAccessible()) {
             // no change in direction
-            vsd.pc.position(new Point(newX, newY));
-            this.movementAnimation(vsd);
-        } else if (Game.tileAT(new Point(newX, vsd.pc.position().y)).isAccessible()) {
+            pc.position(new Point(newX, newY));
+            this.movementAnimation(e, vc, dc);
+        } else if (Game.tileAT(new Point(newX, pc.position().y)).isAccessible()) {
             // redirect not moving along y
             hitwall = true;
-            vsd.pc.position(new Point(newX, vsd.pc.position().y));
-            this.movementAnimation(vsd);
-            vsd.vc.currentYVelocity(0.0f);
-        } else if (Game.tileAT(new Point(vsd.pc.position().x, newY)).isAccessible()) {
+            pc.position(new Point(newX, pc.position().y));
+            this.movementAnimation(e, vc, dc);
+            vc.currentYVelocity(0.0f);
+        } else if (Game.tileAT(new Point(pc.position().x, newY)).isAccessible()) {
             // redirect not moving along x
             hitwall = true;
-            vsd.pc.position(new Point(vsd.pc.position().x, newY));
-            this.movementAnimation(vsd);
-            vsd.vc.currentXVelocity(0.0f);
+            pc.position(new Point(pc.position().x, newY));
+            this.movementAnimation(e, vc, dc);
+            vc.currentXVelocity(0.0f);
         } else {
             hitwall = true;
         }
 
         // remove projectiles that hit the wall or other non-accessible
         // tiles
-        if (vsd.e.fetch(ProjectileComponent.class).isPresent() && hitwall) Game.remove(vsd.e);
+        if (e.isPresent(ProjectileComponent.class) && hitwall) Game.remove(e);
 
-        float friction = Game.tileAT(vsd.pc.position()).friction();
-        float newVX = vsd.vc.currentXVelocity() * (Math.min(1.0f, 1.0f - friction));
+        float friction = Game.tileAT(pc.position()).friction();
+        float newVX = vc.currentXVelocity() * (Math.min(1.0f, 1.0f - friction));
         if (Math.abs(newVX) < 0.01f) newVX = 0.0f;
-        float newVY = vsd.vc.currentYVelocity() * (Math.min(1.0f, 1.0f - friction));
+        float newVY = vc.currentYVelocity() * (Math.min(1.0f, 1.0f - friction));
         if (Math.abs(newVY) < 0.01f) newVY = 0.0f;
 
-        vsd.vc.currentYVelocity(newVY);
-        vsd.vc.currentXVelocity(newVX);
+        vc.currentYVelocity(newVY);
+        vc.currentXVelocity(newVX);
     }
 
-    private VSData buildDataObject(Entity e) {
-        VelocityComponent vc =
-                e.fetch(VelocityComponent.class)
-                        .orElseThrow(
-                                () -> MissingComponentException.build(e, VelocityComponent.class));
-
-        PositionComponent pc =
-                e.fetch(PositionComponent.class)
-                        .orElseThrow(
-                                () -> MissingComponentException.build(e, PositionComponent.class));
-
-        DrawComponent dc =
-                e.fetch(DrawComponent.class)
-                        .orElseThrow(() -> MissingComponentException.build(e, DrawComponent.class));
-
-        return new VSData(e, vc, pc, dc);
-    }
-
-    private void movementAnimation(VSData vsd) {
+    private void movementAnimation(Entity e, VelocityComponent vc, DrawComponent dc) {
 
         AtomicBoolean isDead = new AtomicBoolean(false);
-        vsd.e
-                .fetch(HealthComponent.class)
+        e.fetch(HealthComponent.class)
                 .ifPresent(
                         component -> {
                             isDead.set(component.isDead());
@@ -137,41 +120,41 @@ public final class VelocitySystem extends System {
             return;
         }
 
-        float x = vsd.vc.currentXVelocity();
-        float y = vsd.vc.currentYVelocity();
-        if (x > 0) vsd.dc.currentAnimation(CoreAnimations.RUN_RIGHT, CoreAnimations.RUN);
-        else if (x < 0) vsd.dc.currentAnimation(CoreAnimations.RUN_LEFT, CoreAnimations.RUN);
-        else if (y > 0) vsd.dc.currentAnimation(CoreAnimations.RUN_UP, CoreAnimations.RUN);
-        else if (y < 0) vsd.dc.currentAnimation(CoreAnimations.RUN_DOWN, CoreAnimations.RUN);
+        float x = vc.currentXVelocity();
+        float y = vc.currentYVelocity();
+        if (x > 0) dc.currentAnimation(CoreAnimations.RUN_RIGHT, CoreAnimations.RUN);
+        else if (x < 0) dc.currentAnimation(CoreAnimations.RUN_LEFT, CoreAnimations.RUN);
+        else if (y > 0) dc.currentAnimation(CoreAnimations.RUN_UP, CoreAnimations.RUN);
+        else if (y < 0) dc.currentAnimation(CoreAnimations.RUN_DOWN, CoreAnimations.RUN);
         // idle
         else {
             // each drawComponent has an idle animation, so no check is needed
-            if (vsd.dc.isCurrentAnimation(CoreAnimations.IDLE_LEFT)
-                    || vsd.dc.isCurrentAnimation(CoreAnimations.RUN_LEFT))
-                vsd.dc.currentAnimation(
+            if (dc.isCurrentAnimation(CoreAnimations.IDLE_LEFT)
+                    || dc.isCurrentAnimation(CoreAnimations.RUN_LEFT))
+                dc.currentAnimation(
                         CoreAnimations.IDLE_LEFT,
                         CoreAnimations.IDLE,
                         CoreAnimations.IDLE_RIGHT,
                         CoreAnimations.IDLE_DOWN,
                         CoreAnimations.IDLE_UP);
-            else if (vsd.dc.isCurrentAnimation(CoreAnimations.IDLE_RIGHT)
-                    || vsd.dc.isCurrentAnimation(CoreAnimations.RUN_RIGHT))
-                vsd.dc.currentAnimation(
+            else if (dc.isCurrentAnimation(CoreAnimations.IDLE_RIGHT)
+                    || dc.isCurrentAnimation(CoreAnimations.RUN_RIGHT))
+                dc.currentAnimation(
                         CoreAnimations.IDLE_RIGHT,
                         CoreAnimations.IDLE,
                         CoreAnimations.IDLE_LEFT,
                         CoreAnimations.IDLE_DOWN,
                         CoreAnimations.IDLE_UP);
-            else if (vsd.dc.isCurrentAnimation(CoreAnimations.IDLE_UP)
-                    || vsd.dc.isCurrentAnimation(CoreAnimations.RUN_UP))
-                vsd.dc.currentAnimation(
+            else if (dc.isCurrentAnimation(CoreAnimations.IDLE_UP)
+                    || dc.isCurrentAnimation(CoreAnimations.RUN_UP))
+                dc.currentAnimation(
                         CoreAnimations.IDLE_UP,
                         CoreAnimations.IDLE,
                         CoreAnimations.IDLE_DOWN,
                         CoreAnimations.IDLE_LEFT,
                         CoreAnimations.IDLE_RIGHT);
             else
-                vsd.dc.currentAnimation(
+                dc.currentAnimation(
                         CoreAnimations.IDLE_DOWN,
                         CoreAnimations.IDLE,
                         CoreAnimations.IDLE_UP,
@@ -179,6 +162,4 @@ public final class VelocitySystem extends System {
                         CoreAnimations.IDLE_RIGHT);
         }
     }
-
-    private record VSData(Entity e, VelocityComponent vc, PositionComponent pc, DrawComponent dc) {}
 }
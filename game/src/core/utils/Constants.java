@@ -36,6 +36,18 @@ public final class Constants {
     /** Value for LevelElements that are not accessible */
     public static final boolean LEVELELEMENT_IS_NOT_ACCESSIBLE = false;
 
+    /**
+     * Path to the cached texture atlas, relative to the cache directory of the game.
+     *
+     * @see core.utils.components.draw.TextureAtlasBuilder#cacheFile(String)
+     */
+    public static final String TEXTURE_ATLAS_CACHE = "texture-atlas/textures.atlas";
+
+    /** Asset directories that are packed into the texture atlas. */
+    public static final String[] TEXTURE_ATLAS_DIRECTORIES = {
+        "animation", "character", "dungeon", "items", "objects", "skills"
+    };
+
     /** set Path to libgdx default Skins */
     public static final String SKIN_FOR_DIALOG = "skin/uiskin.json";
 
@@ -1,11 +1,17 @@
 package core.utils;
 
+import com.badlogic.gdx.utils.IntIntMap;
+
 import core.Component;
 import core.Entity;
 import core.System;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 /**
@@ -31,16 +37,38 @@ import java.util.stream.Stream;
  * <p>Systems can be added using {@link #add(System)} or removed using {@link #remove(System)}. When
  * a system is added, {@link System#triggerOnAdd(Entity)} is called for each stored entity.
  *
- * <p>You can query the stored entities as a stream using {@link #stream()}.
+ * <p>You can query the stored entities as a stream using {@link #stream()}. The stream is backed by
+ * a snapshot of the stored entities that is only recreated after the entities have changed, so
+ * repeated calls between two changes do not copy the entities again.
+ *
+ * <p>The entities are stored densely in an array. For each component class of the filter rules,
+ * the mapper additionally keeps a column that holds the component of each stored entity at the
+ * same index. The {@code forEach} methods iterate these columns directly, so a system can process
+ * the matching tuples without any {@link java.util.Optional}, hash lookup or data-object
+ * allocation. Adding, removing or updating an entity while the mapper is iterated over with {@code
+ * forEach} is deferred until the outermost iteration has finished.
  *
  * <p>The {@link #equals(Object)} and {@link #equals(Set)} methods return true if the filter rules
  * are identical.
  */
 public final class EntitySystemMapper {
 
+    private static final int INITIAL_CAPACITY = 16;
+
     private final Set<Class<? extends Component>> filterRules;
-    private final Set<Entity> entities;
+    private final Class<? extends Component>[] columnTypes;
     private final Set<System> systems;
+    /** Maps the id of each stored entity to its index in {@link #entities}. */
+    private final IntIntMap indices;
+
+    private final Queue<PendingChange> pendingChanges;
+    private Entity[] entities;
+    /** Copy of the stored entities used by {@link #stream()}, null if the entities changed. */
+    private Entity[] snapshot;
+
+    private Component[][] columns;
+    private int size;
+    private int iterations;
 
     /**
      * Creates a new EntitySystemMapper with the given filter rules.
@@ -48,17 +76,20 @@ public final class EntitySystemMapper {
      * @param filterRules The Set of Component classes that define the filter rules for the
      *     EntitySystemMapper.
      */
+    @SuppressWarnings("unchecked")
     public EntitySystemMapper(final Set<Class<? extends Component>> filterRules) {
         this.filterRules = filterRules;
-        entities = new HashSet<>();
+        columnTypes = (Class<? extends Component>[]) filterRules.toArray(new Class<?>[0]);
         systems = new HashSet<>();
+        indices = new IntIntMap();
+        pendingChanges = new ArrayDeque<>();
+        entities = new Entity[INITIAL_CAPACITY];
+        columns = new Component[columnTypes.length][INITIAL_CAPACITY];
     }
 
     /** Creates a new EntitySystemMapper with no filter rules. */
     public EntitySystemMapper() {
-        filterRules = new HashSet<>();
-        entities = new HashSet<>();
-        systems = new HashSet<>();
+        this(new HashSet<>());
     }
 
     /**
@@ -75,7 +106,7 @@ public final class EntitySystemMapper {
      */
     public boolean add(final System system) {
         if (systems.add(system)) {
-            entities.forEach(entity -> system.triggerOnAdd(entity));
+            for (int k = 0; k < size; k++) system.triggerOnAdd(entities[k]);
             return true;
         }
         return false;
@@ -95,7 +126,7 @@ public final class EntitySystemMapper {
      */
     public boolean remove(final System system) {
         if (systems.remove(system)) {
-            entities.forEach(entity -> system.triggerOnRemove(entity));
+            for (int k = 0; k < size; k++) system.triggerOnRemove(entities[k]);
             return true;
         }
         return false;
@@ -109,17 +140,21 @@ public final class EntitySystemMapper {
      * added, the {@link System#triggerOnAdd(Entity)} method of each associated System will be
      * called with the newly added Entity as the parameter.
      *
+     * <p>If the mapper is currently iterated, the Entity will be added after the iteration.
+     *
      * @param entity The Entity to be added to the EntitySystemMapper.
-     * @return true if the Entity was added successfully, false if the Entity was already present or
-     *     does not fulfill the filter rules.
+     * @return true if the Entity was (or will be) added successfully, false if the Entity was
+     *     already present or does not fulfill the filter rules.
      */
     public boolean add(final Entity entity) {
-        if (!entities.contains(entity) && accept(entity)) {
-            entities.add(entity);
-            systems.forEach(system -> system.triggerOnAdd(entity));
-            return true;
+        if (iterations > 0) {
+            pendingChanges.add(new PendingChange(entity, ChangeType.ADD));
+            return accept(entity);
         }
-        return false;
+        if (contains(entity) || !accept(entity)) return false;
+        insert(entity);
+        systems.forEach(system -> system.triggerOnAdd(entity));
+        return true;
     }
 
     /**
@@ -129,17 +164,21 @@ public final class EntitySystemMapper {
      * removal. If the Entity is successfully removed, the {@link System#triggerOnRemove(Entity)}
      * method of each associated System will be called with the removed Entity as the parameter.
      *
+     * <p>If the mapper is currently iterated, the Entity will be removed after the iteration.
+     *
      * @param entity The Entity to be removed from the EntitySystemMapper.
-     * @return true if the Entity was removed successfully, false if the Entity was not present in
-     *     the EntitySystemMapper and no removal was performed.
+     * @return true if the Entity was (or will be) removed successfully, false if the Entity was not
+     *     present in the EntitySystemMapper and no removal was performed.
      */
     public boolean remove(final Entity entity) {
-        if (entities.contains(entity)) {
-            entities.remove(entity);
-            systems.forEach(system -> system.triggerOnRemove(entity));
-            return true;
+        if (iterations > 0) {
+            pendingChanges.add(new PendingChange(entity, ChangeType.REMOVE));
+            return contains(entity);
         }
-        return false;
+        if (!contains(entity)) return false;
+        delete(entity);
+        systems.forEach(system -> system.triggerOnRemove(entity));
+        return true;
     }
 
     /**
@@ -148,22 +187,117 @@ public final class EntitySystemMapper {
      * <p>The method checks if the given Entity fulfills the filter rules defined in the
      * EntitySystemMapper. If the Entity fulfills the filter rules and is not already present in the
      * EntitySystemMapper, it will be added. If the Entity does not fulfill the filter rules and is
-     * currently present in the EntitySystemMapper, it will be removed.
+     * currently present in the EntitySystemMapper, it will be removed. If the Entity stays in the
+     * EntitySystemMapper, its stored components will be refreshed.
      *
      * @param entity The Entity to update in the EntitySystemMapper.
      */
     public void update(final Entity entity) {
-        if (accept(entity)) add(entity);
-        else remove(entity);
+        if (iterations > 0) pendingChanges.add(new PendingChange(entity, ChangeType.UPDATE));
+        else if (!accept(entity)) remove(entity);
+        else if (contains(entity)) copyComponents(entity, indices.get(entity.id(), -1));
+        else add(entity);
     }
 
     /**
      * Returns a Stream of the Entities in the EntitySystemMapper.
      *
+     * <p>The Stream contains the Entities at the time this method was called. Adding or removing
+     * Entities while the Stream is processed will not change the Stream.
+     *
      * @return A Stream of Entities currently present in the EntitySystemMapper.
      */
     public Stream<Entity> stream() {
-        return new HashSet<>(entities).stream();
+        if (snapshot == null) snapshot = Arrays.copyOf(entities, size);
+        return Arrays.stream(snapshot);
+    }
+
+    /**
+     * Calls the given action for each stored Entity and its component of the given class.
+     *
+     * @param a the first component class, needs to be part of the filter rules
+     * @param action the action to perform for each entity
+     * @param <A> the type of the first component
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Component> void forEach(
+            final Class<A> a, final BiConsumer<Entity, A> action) {
+        Component[] columnA = column(a);
+        iterations++;
+        try {
+            for (int i = 0; i < size; i++) action.accept(entities[i], (A) columnA[i]);
+        } finally {
+            finishIteration();
+        }
+    }
+
+    /**
+     * Calls the given action for each stored Entity and its components of the given classes.
+     *
+     * @param a the first component class, needs to be part of the filter rules
+     * @param b the second component class, needs to be part of the filter rules
+     * @param action the action to perform for each entity
+     * @param <A> the type of the first component
+     * @param <B> the type of the second component
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Component, B extends Component> void forEach(
+            final Class<A> a, final Class<B> b, final TriConsumer<Entity, A, B> action) {
+        Component[] columnA = column(a);
+        Component[] columnB = column(b);
+        iterations++;
+        try {
+            for (int i = 0; i < size; i++)
+                action.accept(entities[i], (A) columnA[i], (B) columnB[i]);
+        } finally {
+            finishIteration();
+        }
+    }
+
+    /**
+     * Calls the given action for each stored Entity and its components of the given classes.
+     *
+     * @param a the first component class, needs to be part of the filter rules
+     * @param b the second component class, needs to be part of the filter rules
+     * @param c the third component class, needs to be part of the filter rules
+     * @param action the action to perform for each entity
+     * @param <A> the type of the first component
+     * @param <B> the type of the second component
+     * @param <C> the type of the third component
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Component, B extends Component, C extends Component> void forEach(
+            final Class<A> a,
+            final Class<B> b,
+            final Class<C> c,
+            final QuadConsumer<Entity, A, B, C> action) {
+        Component[] columnA = column(a);
+        Component[] columnB = column(b);
+        Component[] columnC = column(c);
+        iterations++;
+        try {
+            for (int i = 0; i < size; i++)
+                action.accept(entities[i], (A) columnA[i], (B) columnB[i], (C) columnC[i]);
+        } finally {
+            finishIteration();
+        }
+    }
+
+    /**
+     * @return the number of entities currently present in the EntitySystemMapper.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the given Entity is present in the EntitySystemMapper.
+     *
+     * @param entity The Entity to check for.
+     * @return true if the Entity is present, false otherwise.
+     */
+    public boolean contains(final Entity entity) {
+        return indices.containsKey(entity.id());
     }
 
     /**
@@ -221,4 +355,65 @@ public final class EntitySystemMapper {
     public boolean has(final System system) {
         return systems.contains(system);
     }
+
+    private Component[] column(final Class<? extends Component> klass) {
+        for (int i = 0; i < columnTypes.length; i++) {
+            if (columnTypes[i] == klass) return columns[i];
+        }
+        throw new IllegalArgumentException(
+                klass.getName() + " is not part of the filter rules " + filterRules);
+    }
+
+    private void insert(final Entity entity) {
+        if (size == entities.length) grow();
+        entities[size] = entity;
+        copyComponents(entity, size);
+        indices.put(entity.id(), size);
+        size++;
+        snapshot = null;
+    }
+
+    private void delete(final Entity entity) {
+        int index = indices.remove(entity.id(), -1);
+        int last = --size;
+        if (index != last) {
+            entities[index] = entities[last];
+            for (Component[] column : columns) column[index] = column[last];
+            indices.put(entities[index].id(), index);
+        }
+        entities[last] = null;
+        for (Component[] column : columns) column[last] = null;
+        snapshot = null;
+    }
+
+    private void copyComponents(final Entity entity, int index) {
+        for (int i = 0; i < columnTypes.length; i++)
+            columns[i][index] = entity.fetch(columnTypes[i]).orElse(null);
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        for (int i = 0; i < columns.length; i++) columns[i] = Arrays.copyOf(columns[i], capacity);
+    }
+
+    private void finishIteration() {
+        if (--iterations > 0) return;
+        while (!pendingChanges.isEmpty()) {
+            PendingChange change = pendingChanges.poll();
+            switch (change.type) {
+                case ADD -> add(change.entity);
+                case REMOVE -> remove(change.entity);
+                case UPDATE -> update(change.entity);
+            }
+        }
+    }
+
+    private enum ChangeType {
+        ADD,
+        REMOVE,
+        UPDATE
+    }
+
+    private record PendingChange(Entity entity, ChangeType type) {}
 }
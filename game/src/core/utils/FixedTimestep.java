@@ -0,0 +1,98 @@
+package core.utils;
+
+/**
+ * Turns the variable time between two rendered frames into a number of simulation ticks with a
+ * fixed length.
+ *
+ * <p>The time of each frame is added to an accumulator. For each full time step in the
+ * accumulator, one tick is executed. The rest stays in the accumulator for the next frame, so on
+ * average the simulation runs with exactly {@link #tickRate()} ticks per second, independent of
+ * the frame rate.
+ *
+ * <p>The rest is also used to draw the entities between their positions of the last two ticks,
+ * see {@link #alpha()}.
+ *
+ * <p>After a long frame (e.g. while the window is dragged), the simulation would have to catch up
+ * many ticks, which would make the next frame long too. So at most {@link #MAX_TICKS_PER_FRAME}
+ * ticks are executed per frame; the remaining time is dropped and the game slows down instead.
+ */
+public final class FixedTimestep {
+    /** Maximum number of ticks that are executed for one frame. */
+    public static final int MAX_TICKS_PER_FRAME = 5;
+
+    private int tickRate;
+    private float timeStep;
+    private float accumulator;
+
+    /**
+     * Create a new time step.
+     *
+     * @param tickRate Number of ticks per second.
+     */
+    public FixedTimestep(int tickRate) {
+        tickRate(tickRate);
+    }
+
+    /**
+     * Get the number of ticks per second.
+     *
+     * @return number of ticks per second
+     */
+    public int tickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Set the number of ticks per second.
+     *
+     * @param tickRate Number of ticks per second, has to be positive.
+     */
+    public void tickRate(int tickRate) {
+        if (tickRate <= 0)
+            throw new IllegalArgumentException("The tick rate has to be positive: " + tickRate);
+        this.tickRate = tickRate;
+        timeStep = 1f / tickRate;
+    }
+
+    /**
+     * Get the length of one tick.
+     *
+     * @return length of one tick in seconds
+     */
+    public float timeStep() {
+        return timeStep;
+    }
+
+    /**
+     * Add the time of a frame and get the number of ticks to execute in this frame.
+     *
+     * @param delta Time since the last frame in seconds.
+     * @return Number of ticks to execute, between 0 and {@link #MAX_TICKS_PER_FRAME}.
+     */
+    public int advance(float delta) {
+        accumulator += Math.max(delta, 0);
+        int ticks = (int) (accumulator / timeStep);
+        if (ticks > MAX_TICKS_PER_FRAME) {
+            accumulator = 0;
+            return MAX_TICKS_PER_FRAME;
+        }
+        accumulator -= ticks * timeStep;
+        return ticks;
+    }
+
+    /**
+     * Get the part of a tick that passed since the last executed tick.
+     *
+     * <p>Used to interpolate between the state of the last two ticks when drawing.
+     *
+     * @return value between 0 (inclusive) and 1 (exclusive)
+     */
+    public float alpha() {
+        return Math.min(accumulator / timeStep, 1f);
+    }
+
+    /** Drop the time in the accumulator. */
+    public void reset() {
+        accumulator = 0;
+    }
+}
@@ -0,0 +1,7 @@
+package core.utils;
+
+@FunctionalInterface
+public interface QuadConsumer<T, U, R, S> {
+
+    void accept(T t, U u, R r, S s);
+}
@@ -7,7 +7,8 @@ import java.util.stream.Collectors;
 /**
  * An Animation is what you see when a {@link core.Entity} is drawn on the screen.
  *
- * <p>An Animation is basically just a list of different Image files.
+ * <p>An Animation is basically just a list of different Image files, and the position of the entity
+ * in this list. Animations can share the same list, see {@link AnimationCache}.
  *
  * <p>Animations are stored inside the {@link core.components.DrawComponent}.
  *
@@ -57,8 +58,9 @@ public final class Animation {
     public Animation(Collection<String> animationFrames, int frameTime, boolean looping) {
         assert (animationFrames != null && !animationFrames.isEmpty());
         assert (frameTime > 0);
-        this.animationFrames = new ArrayList<>(animationFrames);
-        frames = animationFrames.size();
+        // an immutable list (e.g. from the AnimationCache) is shared, not copied
+        this.animationFrames = List.copyOf(animationFrames);
+        frames = this.animationFrames.size();
         this.timeBetweenFrames = frameTime;
         this.looping = looping;
     }
@@ -165,15 +167,33 @@ public final class Animation {
      * @return The texture of the next animation step (draw this).
      */
     public String nextAnimationTexturePath() {
-        if (isFinished()) {
-            return animationFrames.get(currentFrameIndex);
-        }
-        String stringToReturn = animationFrames.get(currentFrameIndex);
+        String stringToReturn = currentAnimationTexturePath();
+        update();
+        return stringToReturn;
+    }
+
+    /**
+     * Get the texture of the current animation step, without switching to the next step.
+     *
+     * @return The texture of the current animation step (draw this).
+     */
+    public String currentAnimationTexturePath() {
+        return animationFrames.get(currentFrameIndex);
+    }
+
+    /**
+     * Count one frame of the current animation step and switch to the next step if the time
+     * between two frames is over.
+     *
+     * <p>The game calls this once per tick for the animations of the entities, see {@link
+     * core.systems.AnimationSystem}.
+     */
+    public void update() {
+        if (isFinished()) return;
         frameTimeCounter = (frameTimeCounter + 1) % timeBetweenFrames;
         if (frameTimeCounter == 0) {
             currentFrameIndex = (currentFrameIndex + 1) % frames;
         }
-        return stringToReturn;
     }
 
     /**
@@ -193,7 +213,7 @@ public final class Animation {
     /**
      * Get the List of animation frames.
      *
-     * @return List containing the paths of the single frames of the animation.
+     * @return Immutable list containing the paths of the single frames of the animation.
      */
     public List<String> getAnimationFrames() {
         return animationFrames;
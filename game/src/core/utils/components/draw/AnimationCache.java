@@ -0,0 +1,154 @@
+package core.utils.components.draw;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Stores the animation frames of the asset directories, so each directory is only searched once.
+ *
+ * <p>An animation directory (e.g. "character/knight") contains a subdirectory for each animation
+ * (e.g. "idle_left"), and each subdirectory contains the frames of the animation. Use {@link
+ * #animations(String)} to get the frames of all animations in a directory. The result is immutable
+ * and shared by all callers, so the {@link core.components.DrawComponent}s created for the same
+ * directory only create their own {@link Animation}s to play the shared frames.
+ *
+ * <p>If the game runs from a jar, the jar is read once, at the first request, and all animation
+ * directories of the jar are indexed. Otherwise, each directory is listed at the first request for
+ * it.
+ *
+ * <p>The frames are always stored with their path relative to the assets folder (e.g.
+ * "character/knight/idle_left/knight_idle_left_1.png"), like the regions of the {@link
+ * TextureAtlasBuilder}.
+ */
+public final class AnimationCache {
+    private static final Map<String, Map<String, List<String>>> ANIMATIONS =
+            new ConcurrentHashMap<>();
+    // null if the game does not run from a jar
+    private static final File JAR =
+            jarFile(AnimationCache.class.getProtectionDomain().getCodeSource().getLocation());
+    private static Map<String, Map<String, List<String>>> jarIndex;
+
+    private AnimationCache() {}
+
+    /**
+     * Get the frames of each animation in the given directory.
+     *
+     * <p>The frames of each animation are sorted in lexicographic order (like the most os), this is
+     * the order in which they will be played.
+     *
+     * @param path Path to the directory in the assets folder where the subdirectories containing
+     *     the animation files are stored. Example: "character/knight".
+     * @return Immutable map with the name of each subdirectory (e.g. "idle_left") as key and the
+     *     frames of the animation as value.
+     * @throws IOException if the given path does not exist or the jar could not be read
+     */
+    public static Map<String, List<String>> animations(final String path) throws IOException {
+        Map<String, List<String>> animations = ANIMATIONS.get(path);
+        if (animations == null) {
+            animations = JAR != null ? fromJar(path) : fromDirectory(path);
+            Map<String, List<String>> present = ANIMATIONS.putIfAbsent(path, animations);
+            if (present != null) animations = present;
+        }
+        return animations;
+    }
+
+    /** Forget the stored animations, e.g. if the assets were changed. */
+    public static synchronized void clear() {
+        ANIMATIONS.clear();
+        jarIndex = null;
+    }
+
+    private static Map<String, List<String>> fromJar(final String path) throws IOException {
+        Map<String, List<String>> animations = jarIndex().get(path);
+        if (animations == null) throw new FileNotFoundException("Path " + path + " not found.");
+        return animations;
+    }
+
+    private static synchronized Map<String, Map<String, List<String>>> jarIndex()
+            throws IOException {
+        if (jarIndex == null) jarIndex = readJar(JAR);
+        return jarIndex;
+    }
+
+    /**
+     * Index the files in the jar by their directory and the parent of their directory.
+     *
+     * <p>Example: "character/knight/idle_down/idle_down_knight_1.png" is stored as frame of the
+     * animation "idle_down" in the directory "character/knight".
+     */
+    private static Map<String, Map<String, List<String>>> readJar(final File file)
+            throws IOException {
+        Map<String, Map<String, List<String>>> index = new HashMap<>();
+        try (JarFile jar = new JarFile(file)) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String fileName = entries.nextElement().getName();
+                int lastSlashIndex = fileName.lastIndexOf('/');
+                // ignore directories and files in the root of the jar
+                if (lastSlashIndex <= 0 || lastSlashIndex == fileName.length() - 1) continue;
+                int secondLastSlashIndex = fileName.lastIndexOf('/', lastSlashIndex - 1);
+                String parent =
+                        secondLastSlashIndex < 0 ? "" : fileName.substring(0, secondLastSlashIndex);
+                String animation = fileName.substring(secondLastSlashIndex + 1, lastSlashIndex);
+                index.computeIfAbsent(parent, p -> new HashMap<>())
+                        .computeIfAbsent(animation, a -> new ArrayList<>())
+                        .add(fileName);
+            }
+        }
+        Map<String, Map<String, List<String>>> immutable = new HashMap<>();
+        index.forEach((parent, animations) -> immutable.put(parent, freeze(animations)));
+        return immutable;
+    }
+
+    private static Map<String, List<String>> fromDirectory(final String path) throws IOException {
+        URL url = AnimationCache.class.getResource("/" + path);
+        if (url == null) throw new FileNotFoundException("Path " + path + " not found.");
+        File[] subDirs;
+        try {
+            subDirs = new File(url.toURI()).listFiles(File::isDirectory);
+        } catch (URISyntaxException e) {
+            throw new FileNotFoundException("Path " + path + " not found.");
+        }
+        if (subDirs == null) throw new FileNotFoundException("Path " + path + " not found.");
+
+        String parent = path.endsWith("/") ? path : path + "/";
+        Map<String, List<String>> animations = new HashMap<>();
+        for (File subDir : subDirs) {
+            File[] files = subDir.listFiles(File::isFile);
+            if (files == null || files.length == 0) continue;
+            List<String> frames = new ArrayList<>(files.length);
+            // the same path as in a jar, independent of the location of the assets folder
+            for (File file : files)
+                frames.add(parent + subDir.getName() + "/" + file.getName());
+            animations.put(subDir.getName(), frames);
+        }
+        return freeze(animations);
+    }
+
+    private static Map<String, List<String>> freeze(final Map<String, List<String>> animations) {
+        Map<String, List<String>> frozen = new HashMap<>();
+        animations.forEach(
+                (name, frames) -> {
+                    Collections.sort(frames);
+                    frozen.put(name, List.copyOf(frames));
+                });
+        return Collections.unmodifiableMap(frozen);
+    }
+
+    private static File jarFile(final URL location) {
+        File file = new File(location.getPath());
+        return file.isFile() ? file : null;
+    }
+}
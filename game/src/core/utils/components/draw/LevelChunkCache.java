@@ -0,0 +1,229 @@
+package core.utils.components.draw;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.LevelElement;
+import core.systems.CameraSystem;
+import core.utils.Point;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches the tiles of a level, so the level does not have to be walked through each frame.
+ *
+ * <p>The level is split into quadratic chunks of {@link #CHUNK_SIZE} tiles. Each chunk stores the
+ * position, texture and {@link PainterConfig} of its tiles. If a graphics context exists, the tiles
+ * of each chunk are also uploaded to the GPU once with a {@link SpriteCache}, so a chunk is drawn
+ * with a single draw call. Without a graphics context (e.g. in tests), the tiles of the chunk are
+ * drawn with the {@link Painter}.
+ *
+ * <p>Only chunks that are visible from the camera are drawn.
+ *
+ * <p>A chunk is only baked again if one of its tiles changes. The cache registers itself at the
+ * level, see {@link ILevel#onTileChanged}.
+ */
+public final class LevelChunkCache {
+    /** Width and height of a chunk in tiles. */
+    public static final int CHUNK_SIZE = 16;
+
+    private final Painter painter;
+    private final Map<String, PainterConfig> configs = new HashMap<>();
+
+    private ILevel level;
+    private Chunk[] chunks = new Chunk[0];
+    private int chunksX;
+    private SpriteCache spriteCache;
+    private int spriteCacheCapacity;
+    /** Ids of the sprite caches of the visible chunks. */
+    private int[] visible = new int[0];
+
+    /**
+     * Create a new cache.
+     *
+     * @param painter The {@link Painter} to draw the tiles with if there is no graphics context.
+     */
+    public LevelChunkCache(Painter painter) {
+        this.painter = painter;
+    }
+
+    /**
+     * Get the level that is cached.
+     *
+     * @return the cached level, can be null
+     */
+    public ILevel level() {
+        return level;
+    }
+
+    /**
+     * Cache the given level.
+     *
+     * <p>All chunks of the level are baked, the chunks of the previous level are discarded.
+     *
+     * @param level The level to cache.
+     */
+    public void level(ILevel level) {
+        this.level = level;
+        configs.clear();
+        Tile[][] layout = level.layout();
+        int rows = layout.length;
+        int columns = rows == 0 ? 0 : layout[0].length;
+        chunksX = (columns + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int chunksY = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunks = new Chunk[chunksX * chunksY];
+        visible = new int[chunks.length];
+        for (int y = 0; y < chunksY; y++)
+            for (int x = 0; x < chunksX; x++)
+                chunks[y * chunksX + x] = new Chunk(x * CHUNK_SIZE, y * CHUNK_SIZE);
+        for (Chunk chunk : chunks) chunk.bake(layout);
+        if (Gdx.gl != null) bakeSpriteCache(rows * columns);
+        level.onTileChanged(tile -> tileChanged(level, tile));
+    }
+
+    /**
+     * Mark the chunk that contains the given tile as changed.
+     *
+     * <p>The chunk will be baked again the next time it is drawn. Changes of a level that is no
+     * longer cached are ignored.
+     *
+     * @param level The level of the changed tile.
+     * @param tile The changed tile.
+     */
+    private void tileChanged(ILevel level, Tile tile) {
+        if (level != this.level) return;
+        int x = tile.coordinate().x / CHUNK_SIZE;
+        int y = tile.coordinate().y / CHUNK_SIZE;
+        int index = y * chunksX + x;
+        if (x >= 0 && x < chunksX && index >= 0 && index < chunks.length)
+            chunks[index].dirty = true;
+    }
+
+    /** Draw all chunks that are visible from the camera. */
+    public void draw() {
+        int count = 0;
+        for (Chunk chunk : chunks) {
+            if (!chunk.isVisible()) continue;
+            if (chunk.dirty) rebake(chunk);
+            if (chunk.size == 0) continue;
+            if (spriteCache != null) visible[count++] = chunk.cacheId;
+            else chunk.draw();
+        }
+        if (spriteCache != null && count > 0) {
+            spriteCache.setProjectionMatrix(CameraSystem.camera().combined);
+            spriteCache.begin();
+            for (int i = 0; i < count; i++) spriteCache.draw(visible[i]);
+            spriteCache.end();
+        }
+    }
+
+    private void rebake(Chunk chunk) {
+        chunk.bake(level.layout());
+        if (spriteCache == null) return;
+        // a cache can not grow after other caches were created behind it
+        if (chunk.size > chunk.capacity) bakeSpriteCache(spriteCacheCapacity);
+        else {
+            spriteCache.beginCache(chunk.cacheId);
+            chunk.addTo(spriteCache);
+            spriteCache.endCache();
+        }
+    }
+
+    private void bakeSpriteCache(int capacity) {
+        if (spriteCache == null || capacity > spriteCacheCapacity) {
+            if (spriteCache != null) spriteCache.dispose();
+            spriteCacheCapacity = Math.max(capacity, 1);
+            spriteCache = new SpriteCache(spriteCacheCapacity, false);
+        } else spriteCache.clear();
+        for (Chunk chunk : chunks) {
+            spriteCache.beginCache();
+            chunk.addTo(spriteCache);
+            chunk.cacheId = spriteCache.endCache();
+            chunk.capacity = chunk.size;
+        }
+    }
+
+    private PainterConfig config(String texturePath) {
+        PainterConfig config = configs.get(texturePath);
+        if (config == null) {
+            config = new PainterConfig(texturePath);
+            configs.put(texturePath, config);
+        }
+        return config;
+    }
+
+    /** The tiles of a quadratic part of the level. */
+    private final class Chunk {
+        private final int startX;
+        private final int startY;
+        private Point[] positions = new Point[0];
+        private String[] texturePaths = new String[0];
+        private int size;
+        private boolean dirty;
+        private int cacheId = -1;
+        /** Number of sprites the sprite cache of this chunk can hold. */
+        private int capacity;
+
+        private Chunk(int startX, int startY) {
+            this.startX = startX;
+            this.startY = startY;
+        }
+
+        /** Store the position and texture of each tile of this chunk that should be drawn. */
+        private void bake(Tile[][] layout) {
+            int endY = Math.min(startY + CHUNK_SIZE, layout.length);
+            int endX = Math.min(startX + CHUNK_SIZE, layout[0].length);
+            int tiles = (endY - startY) * (endX - startX);
+            if (positions.length < tiles) {
+                positions = new Point[tiles];
+                texturePaths = new String[tiles];
+            }
+            size = 0;
+            for (int y = startY; y < endY; y++) {
+                for (int x = startX; x < endX; x++) {
+                    Tile tile = layout[y][x];
+                    if (tile.levelElement() != LevelElement.SKIP) {
+                        texturePaths[size] = tile.texturePath();
+                        positions[size] = tile.position();
+                        size++;
+                    }
+                }
+            }
+            dirty = false;
+        }
+
+        /**
+         * Check if this chunk is visible.
+         *
+         * <p>The checked area contains the area {@link CameraSystem#isPointInFrustum} checks for
+         * each tile of this chunk.
+         */
+        private boolean isVisible() {
+            float halfSize = (CHUNK_SIZE + 1) / 2f;
+            return CameraSystem.isAreaInFrustum(
+                    startX - 1 + halfSize, startY - 1 + halfSize, halfSize, halfSize);
+        }
+
+        private void draw() {
+            for (int i = 0; i < size; i++)
+                painter.draw(positions[i], texturePaths[i], config(texturePaths[i]));
+        }
+
+        private void addTo(SpriteCache cache) {
+            for (int i = 0; i < size; i++) {
+                PainterConfig config = config(texturePaths[i]);
+                TextureRegion region = TextureMap.instance().regionAt(texturePaths[i]);
+                cache.add(
+                        region,
+                        positions[i].x + config.xOffset,
+                        positions[i].y + config.yOffset,
+                        config.xScaling,
+                        config.yScaling);
+            }
+        }
+    }
+}
@@ -1,34 +1,207 @@
 package core.utils.components.draw;
 
-import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
 
 import core.systems.CameraSystem;
 import core.utils.Point;
 
-/** Uses LibGDX to draw sprites on the various <code>SpriteBatch</code>es. */
+import java.util.Arrays;
+
+/**
+ * Uses LibGDX to draw sprites on the various <code>SpriteBatch</code>es.
+ *
+ * <p>The painter does not draw immediately. Each call of {@link #draw} only queues the texture, and
+ * {@link #flush(boolean)} draws all queued textures inside a single {@code begin()}/{@code end()}
+ * of the batch. The {@link SpriteBatch} has to flush its vertices to the GPU each time the texture
+ * changes, so the queue can be sorted by texture before it is drawn.
+ *
+ * <p>Textures given by their path are drawn as {@link TextureRegion} from the {@link TextureMap}.
+ * If the textures are packed into a texture atlas, all regions on the same atlas page share one
+ * texture and can be drawn without a flush in between.
+ *
+ * <p>The painter counts the queued draw calls and the flushes of the batch. Use {@link
+ * #drawCalls()}, {@link #flushes()} and {@link #resetCounters()} to inspect the rendering of a
+ * frame, e.g. in tests without a graphics context.
+ */
 public class Painter {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int VERTEX_SIZE = 8;
+
     private final SpriteBatch batch;
+    /** Gives each texture a number, so the queue can be sorted by texture. */
+    private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+
+    private Texture[] textures = new Texture[INITIAL_CAPACITY];
+    /** Position, size and texture coordinates of each queued texture. */
+    private float[] vertices = new float[INITIAL_CAPACITY * VERTEX_SIZE];
+    private long[] order = new long[INITIAL_CAPACITY];
+    private int size;
+    private int drawCalls;
+    private int flushes;
 
     /** Uses LibGDX to draw sprites on the various <code>SpriteBatch</code>es. */
     public Painter(SpriteBatch batch) {
         this.batch = batch;
     }
 
+    /**
+     * Queue the texture at the given path to be drawn at the given position.
+     *
+     * <p>The texture will be drawn with the next {@link #flush(boolean)}.
+     *
+     * @param position where to draw the texture
+     * @param texturePath path to the texture
+     * @param config offset and scaling of the texture
+     */
     public void draw(Point position, String texturePath, PainterConfig config) {
-        if (CameraSystem.isPointInFrustum(position.x, position.y)) {
-            Sprite sprite = new Sprite(TextureMap.instance().textureAt(texturePath));
-            // set up scaling of textures
-            sprite.setSize(config.xScaling, config.yScaling);
-            // where to draw the sprite
-            sprite.setPosition(position.x + config.xOffset, position.y + config.yOffset);
-
-            // need to be called before drawing
-            batch.begin();
-            // draw sprite
-            sprite.draw(batch);
-            // need to be called after drawing
-            batch.end();
+        if (CameraSystem.isPointInFrustum(position.x, position.y))
+            queue(TextureMap.instance().regionAt(texturePath), position, config);
+    }
+
+    /**
+     * Queue the given texture to be drawn at the given position.
+     *
+     * <p>The texture will be drawn with the next {@link #flush(boolean)}.
+     *
+     * @param position where to draw the texture
+     * @param texture the texture to draw
+     * @param config offset and scaling of the texture
+     */
+    public void draw(Point position, Texture texture, PainterConfig config) {
+        if (CameraSystem.isPointInFrustum(position.x, position.y))
+            queue(texture, position, config, 0, 1, 1, 0);
+    }
+
+    /**
+     * Queue the given texture region to be drawn at the given position.
+     *
+     * <p>The region will be drawn with the next {@link #flush(boolean)}.
+     *
+     * @param position where to draw the region
+     * @param region the texture region to draw
+     * @param config offset and scaling of the region
+     */
+    public void draw(Point position, TextureRegion region, PainterConfig config) {
+        if (CameraSystem.isPointInFrustum(position.x, position.y)) queue(region, position, config);
+    }
+
+    /**
+     * Draw all queued textures.
+     *
+     * <p>All textures are drawn between one {@code begin()} and {@code end()} of the batch.
+     *
+     * @param sortByTexture if true, the textures are drawn grouped by texture, so the batch only
+     *     has to flush if the texture changes. Textures that were queued with the same texture keep
+     *     their order. If false, the textures are drawn in the order they were queued, which is
+     *     needed if the drawn textures can overlap.
+     */
+    public void flush(boolean sortByTexture) {
+        if (size == 0) return;
+        for (int i = 0; i < size; i++) {
+            long key = sortByTexture ? textureId(textures[i]) : 0;
+            order[i] = key << 32 | i;
+        }
+        if (sortByTexture) Arrays.sort(order, 0, size);
+
+        batch.begin();
+        Texture last = null;
+        for (int k = 0; k < size; k++) {
+            int i = (int) order[k];
+            if (last != null && last != textures[i]) flushes++;
+            last = textures[i];
+            int v = i * VERTEX_SIZE;
+            batch.draw(
+                    textures[i],
+                    vertices[v],
+                    vertices[v + 1],
+                    vertices[v + 2],
+                    vertices[v + 3],
+                    vertices[v + 4],
+                    vertices[v + 5],
+                    vertices[v + 6],
+                    vertices[v + 7]);
+            textures[i] = null;
+        }
+        batch.end();
+        flushes++;
+        size = 0;
+    }
+
+    /**
+     * @return the number of textures that were drawn since the last {@link #resetCounters()}
+     */
+    public int drawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * Get the number of times the batch had to send its vertices to the GPU.
+     *
+     * <p>This happens on each texture change and at the end of each {@link #flush(boolean)}.
+     *
+     * @return the number of flushes since the last {@link #resetCounters()}
+     */
+    public int flushes() {
+        return flushes;
+    }
+
+    /** Set {@link #drawCalls()} and {@link #flushes()} to zero. */
+    public void resetCounters() {
+        drawCalls = 0;
+        flushes = 0;
+    }
+
+    private void queue(TextureRegion region, Point position, PainterConfig config) {
+        // the same texture coordinates SpriteBatch#draw(TextureRegion, ...) uses
+        queue(
+                region.getTexture(),
+                position,
+                config,
+                region.getU(),
+                region.getV2(),
+                region.getU2(),
+                region.getV());
+    }
+
+    private void queue(
+            Texture texture,
+            Point position,
+            PainterConfig config,
+            float u,
+            float v,
+            float u2,
+            float v2) {
+        if (size == textures.length) grow();
+        int i = size * VERTEX_SIZE;
+        textures[size] = texture;
+        vertices[i] = position.x + config.xOffset;
+        vertices[i + 1] = position.y + config.yOffset;
+        vertices[i + 2] = config.xScaling;
+        vertices[i + 3] = config.yScaling;
+        vertices[i + 4] = u;
+        vertices[i + 5] = v;
+        vertices[i + 6] = u2;
+        vertices[i + 7] = v2;
+        size++;
+        drawCalls++;
+    }
+
+    private int textureId(Texture texture) {
+        int id = textureIds.get(texture, -1);
+        if (id == -1) {
+            id = textureIds.size;
+            textureIds.put(texture, id);
         }
+        return id;
+    }
+
+    private void grow() {
+        int capacity = textures.length * 2;
+        textures = Arrays.copyOf(textures, capacity);
+        vertices = Arrays.copyOf(vertices, capacity * VERTEX_SIZE);
+        order = Arrays.copyOf(order, capacity);
     }
 }
@@ -1,6 +1,6 @@
 package core.utils.components.draw;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /** This class serves as a configuration class for the {@link Painter} class. */
 public class PainterConfig {
@@ -16,16 +16,16 @@ public class PainterConfig {
         this.yScaling = yScaling;
     }
 
-    private PainterConfig(float xOffset, float yOffset, float xScaling, Texture texture) {
+    private PainterConfig(float xOffset, float yOffset, float xScaling, TextureRegion region) {
         this(
                 xOffset,
                 yOffset,
                 xScaling,
-                ((float) texture.getHeight() / (float) texture.getWidth()));
+                ((float) region.getRegionHeight() / (float) region.getRegionWidth()));
     }
 
-    private PainterConfig(Texture texture) {
-        this(-0.85f, -0.5f, 1, texture);
+    private PainterConfig(TextureRegion region) {
+        this(-0.85f, -0.5f, 1, region);
     }
 
     /**
@@ -35,7 +35,7 @@ public class PainterConfig {
      * @param texturePath path to the texture
      */
     public PainterConfig(String texturePath) {
-        this(TextureMap.instance().textureAt(texturePath));
+        this(TextureMap.instance().regionAt(texturePath));
     }
 
     /**
@@ -0,0 +1,226 @@
+package core.utils.components.draw;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.PixmapPackerIO;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Packs the textures in the asset directories into a {@link TextureAtlas}.
+ *
+ * <p>Each texture that is drawn from an atlas shares its GPU texture with all the other textures
+ * on the same atlas page, so the {@link Painter} can draw them without a flush of the batch in
+ * between.
+ *
+ * <p>Packing the textures takes a while, so the packed atlas is written to disk and reused on the
+ * next start. Next to the atlas file, a fingerprint of the packed textures (their paths and the
+ * CRC-32 checksums of their contents) is stored. If the textures in the asset directories change,
+ * the atlas is packed again. The cache is stored in the cache directory of the user (see {@link
+ * #cacheFile}), so it does not depend on the working directory and the build output or the
+ * installation of the game is not modified.
+ *
+ * <p>The regions of the atlas are named after the path of the packed texture (e.g.
+ * "character/knight/idle_left/idle_left_knight_1.png"), so they can be looked up with the same path
+ * as {@link TextureMap#textureAt}.
+ *
+ * @see TextureMap#atlas(TextureAtlas)
+ */
+public final class TextureAtlasBuilder {
+    /** Width and height of an atlas page. Textures that are bigger than a page are not packed. */
+    public static final int PAGE_SIZE = 2048;
+
+    /** Transparent pixels between two textures, so the textures do not bleed into each other. */
+    private static final int PADDING = 2;
+
+    private static final String FINGERPRINT_SUFFIX = ".fingerprint";
+    private static final String CACHE_DIRECTORY = "pm-dungeon";
+    private static final Logger LOGGER = Logger.getLogger(TextureAtlasBuilder.class.getName());
+
+    private TextureAtlasBuilder() {}
+
+    /**
+     * Get the file in the cache directory of the atlas.
+     *
+     * <p>The cache directory is "pm-dungeon" in the cache directory of the user ("$XDG_CACHE_HOME"
+     * or "~/.cache"). If that directory can not be created, the temporary directory of the system
+     * is used instead.
+     *
+     * @param path path of the file, relative to the cache directory
+     * @return the file in the cache directory
+     */
+    public static FileHandle cacheFile(String path) {
+        return Gdx.files.absolute(new File(cacheDirectory(), path).getAbsolutePath());
+    }
+
+    private static File cacheDirectory() {
+        String xdgCache = System.getenv("XDG_CACHE_HOME");
+        File userCache =
+                xdgCache != null && !xdgCache.isBlank()
+                        ? new File(xdgCache)
+                        : new File(System.getProperty("user.home"), ".cache");
+        File directory = new File(userCache, CACHE_DIRECTORY);
+        if ((directory.isDirectory() || directory.mkdirs()) && directory.canWrite())
+            return directory;
+        return new File(System.getProperty("java.io.tmpdir"), CACHE_DIRECTORY);
+    }
+
+    /**
+     * Load the cached atlas or pack a new one.
+     *
+     * <p>If the cached atlas was packed from the same textures, it is loaded. Otherwise, all
+     * textures in the given directories are packed into a new atlas, which replaces the cached
+     * atlas.
+     *
+     * @param cache the atlas file on disk, the pages are stored in the same directory
+     * @param directories asset directories to search for textures, e.g. "character"
+     * @return the atlas containing all textures found in the given directories
+     * @throws IOException if the textures can not be read or the atlas can not be written
+     */
+    public static TextureAtlas loadOrPack(FileHandle cache, String... directories)
+            throws IOException {
+        SortedMap<String, Long> textures = new TreeMap<>();
+        for (String directory : directories) textures.putAll(findTextures(directory));
+        String fingerprint = fingerprint(textures);
+
+        FileHandle fingerprintFile = cache.sibling(cache.name() + FINGERPRINT_SUFFIX);
+        if (!cache.exists()
+                || !fingerprintFile.exists()
+                || !fingerprintFile.readString().equals(fingerprint)) {
+            LOGGER.info("Packing " + textures.size() + " textures into " + cache.path());
+            pack(cache, textures.keySet());
+            fingerprintFile.writeString(fingerprint, false);
+        }
+        return new TextureAtlas(cache);
+    }
+
+    /**
+     * Pack the given textures and write the atlas to the given file.
+     *
+     * @param cache the atlas file on disk, the pages are stored in the same directory
+     * @param textures paths of the textures to pack
+     * @throws IOException if the atlas can not be written
+     */
+    static void pack(FileHandle cache, Collection<String> textures) throws IOException {
+        PixmapPacker packer =
+                new PixmapPacker(
+                        PAGE_SIZE,
+                        PAGE_SIZE,
+                        Pixmap.Format.RGBA8888,
+                        PADDING,
+                        false,
+                        new PixmapPacker.SkylineStrategy());
+        try {
+            for (String path : textures) {
+                Pixmap pixmap = new Pixmap(Gdx.files.internal(path));
+                if (pixmap.getWidth() + PADDING <= PAGE_SIZE
+                        && pixmap.getHeight() + PADDING <= PAGE_SIZE) packer.pack(path, pixmap);
+                else LOGGER.warning("Texture " + path + " is too big for the texture atlas.");
+                pixmap.dispose();
+            }
+            // remove the pages of an older atlas, the new atlas may have fewer pages
+            FileHandle directory = cache.parent();
+            if (directory.exists())
+                for (FileHandle page : directory.list(".png"))
+                    if (page.name().startsWith(cache.nameWithoutExtension() + "_")) page.delete();
+            directory.mkdirs();
+            new PixmapPackerIO().save(cache, packer);
+        } finally {
+            packer.dispose();
+        }
+    }
+
+    /**
+     * Find all textures in the given asset directory and its subdirectories.
+     *
+     * <p>Works if the game is started from the IDE and if the game is started from a jar file.
+     *
+     * @param directory the asset directory, e.g. "character"
+     * @return map of the paths of the found textures to the CRC-32 checksum of their contents
+     * @throws IOException if the directory can not be read
+     */
+    static Map<String, Long> findTextures(String directory) throws IOException {
+        File jarFile = codeSource();
+        if (jarFile.isFile()) return findTexturesInJar(directory, jarFile);
+        else return findTexturesInIDE(directory);
+    }
+
+    private static File codeSource() {
+        return new File(
+                TextureAtlasBuilder.class
+                        .getProtectionDomain()
+                        .getCodeSource()
+                        .getLocation()
+                        .getPath());
+    }
+
+    private static Map<String, Long> findTexturesInJar(String directory, File jarFile)
+            throws IOException {
+        Map<String, Long> textures = new HashMap<>();
+        try (JarFile jar = new JarFile(jarFile)) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (entry.getName().startsWith(directory + "/") && isTexture(entry.getName()))
+                    textures.put(entry.getName(), entry.getCrc());
+            }
+        }
+        return textures;
+    }
+
+    private static Map<String, Long> findTexturesInIDE(String directory) throws IOException {
+        Map<String, Long> textures = new HashMap<>();
+        URL url = TextureAtlasBuilder.class.getResource("/" + directory);
+        if (url == null) return textures;
+        try {
+            Path root = Path.of(url.toURI());
+            try (Stream<Path> files = Files.walk(root)) {
+                for (Path file : files.filter(Files::isRegularFile).toList()) {
+                    String relative = root.relativize(file).toString();
+                    String path = directory + "/" + relative.replace(File.separatorChar, '/');
+                    if (isTexture(path)) textures.put(path, checksum(file));
+                }
+            }
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+        return textures;
+    }
+
+    private static long checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(file));
+        return crc.getValue();
+    }
+
+    private static boolean isTexture(String path) {
+        return path.toLowerCase(Locale.ROOT).endsWith(".png");
+    }
+
+    private static String fingerprint(SortedMap<String, Long> textures) {
+        StringBuilder fingerprint = new StringBuilder();
+        textures.forEach(
+                (path, crc) -> fingerprint.append(path).append(':').append(crc).append('\n'));
+        return fingerprint.toString();
+    }
+}
@@ -1,13 +1,28 @@
 package core.utils.components.draw;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Stores the textures of the game, so each texture is only loaded once.
+ *
+ * <p>Use {@link #textureAt} to get a texture as its own {@link Texture}, e.g. for the HUD.
+ *
+ * <p>Use {@link #regionAt} to get a texture as a {@link TextureRegion}. If a {@link TextureAtlas}
+ * was registered with {@link #atlas(TextureAtlas)}, the region is a part of the atlas, so all
+ * regions on the same atlas page can be drawn without switching the texture. Textures that are not
+ * part of the atlas are loaded as their own texture.
+ *
+ * @see TextureAtlasBuilder
+ */
 public class TextureMap {
     private static final TextureMap INSTANCE = new TextureMap();
     private final Map<String, Texture> textureMap = new HashMap<>();
+    private final Map<String, TextureRegion> regionMap = new HashMap<>();
 
     private TextureMap() {}
 
@@ -29,4 +44,34 @@ public class TextureMap {
 
         return textureMap.get(path);
     }
+
+    /**
+     * Searches the HashMap for the matching region and returns it. If the region is not stored in
+     * the HashMap, the texture is loaded with {@link #textureAt} and the region covers the whole
+     * texture.
+     *
+     * @param path to texture
+     * @return the region of the texture
+     */
+    public TextureRegion regionAt(String path) {
+        TextureRegion region = regionMap.get(path);
+        if (region == null) {
+            region = new TextureRegion(textureAt(path));
+            regionMap.put(path, region);
+        }
+        return region;
+    }
+
+    /**
+     * Use the regions of the given atlas for {@link #regionAt}.
+     *
+     * <p>The regions have to be named after the path of their texture, like the atlases of the
+     * {@link TextureAtlasBuilder}. Regions of an older atlas with the same name are replaced.
+     *
+     * @param atlas the atlas to use
+     */
+    public void atlas(TextureAtlas atlas) {
+        for (TextureAtlas.AtlasRegion region : atlas.getRegions())
+            regionMap.put(region.name, region);
+    }
 }
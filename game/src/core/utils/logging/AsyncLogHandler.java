@@ -0,0 +1,283 @@
+package core.utils.logging;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * Writes log records to a file on its own thread.
+ *
+ * <p>{@link #publish} only puts the record in a bounded ring buffer, so the thread that logs (e.g.
+ * the render thread) does not wait for the file. A writer thread takes the records out of the
+ * buffer in batches, formats them and writes each batch with a single flush. If the buffer is full,
+ * the logging thread waits a short time for room for an {@link Level#INFO} record, and drops
+ * records below {@link Level#INFO} at once. The number of dropped records is written to the file
+ * instead. Warnings and errors are never dropped; the logging thread waits until the buffer has
+ * room for them.
+ *
+ * <p>The caller of a log record is not inferred (that would be a walk over the stack of the
+ * logging thread); the default formatter uses the name of the logger as the source of the record.
+ * In this project, the loggers are named after their class.
+ */
+public final class AsyncLogHandler extends Handler {
+    private static final int BATCH_SIZE = 256;
+    // the writer thread checks this often if the handler was closed
+    private static final long POLL_MILLIS = 50;
+    // how long the logging thread waits for room in the buffer for an info record
+    private static final long INFO_WAIT_MILLIS = 10;
+
+    private final BlockingQueue<LogRecord> buffer;
+    private final Writer writer;
+    private final Thread thread;
+    private final AtomicLong published = new AtomicLong();
+    // dropped records, which are not reported in the file yet
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong droppedTotal = new AtomicLong();
+    private final Object progress = new Object();
+    // publish holds the read lock, close the write lock, so no record is put into the buffer
+    // after the handler was closed
+    private final ReadWriteLock closing = new ReentrantReadWriteLock();
+    private long processed;
+    private volatile boolean closed;
+
+    /**
+     * Create a new handler and start the writer thread.
+     *
+     * @param file File to append the records to.
+     * @param capacity Number of records the buffer can hold.
+     * @throws IOException if the file can not be opened
+     */
+    public AsyncLogHandler(final Path file, int capacity) throws IOException {
+        if (capacity <= 0) throw new IllegalArgumentException("The capacity has to be positive.");
+        buffer = new ArrayBlockingQueue<>(capacity);
+        writer =
+                Files.newBufferedWriter(
+                        file,
+                        StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+        setFormatter(new LoggerNameFormatter());
+        thread = new Thread(this::run, "async-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void publish(final LogRecord record) {
+        if (!isLoggable(record)) return;
+        Lock lock = closing.readLock();
+        lock.lock();
+        try {
+            if (closed) return;
+            if (offer(record)) published.incrementAndGet();
+            else {
+                dropped.incrementAndGet();
+                droppedTotal.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean offer(final LogRecord record) {
+        if (buffer.offer(record)) return true;
+        int level = record.getLevel().intValue();
+        if (level >= Level.WARNING.intValue()) return put(record, Long.MAX_VALUE);
+        if (level >= Level.INFO.intValue()) return put(record, INFO_WAIT_MILLIS);
+        return false;
+    }
+
+    /**
+     * Wait until the buffer has room for the record, at most the given time and as long as the
+     * writer thread runs.
+     */
+    private boolean put(final LogRecord record, long millis) {
+        long start = System.nanoTime();
+        boolean interrupted = false;
+        try {
+            do {
+                long left = millis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                try {
+                    if (buffer.offer(record, Math.min(left, POLL_MILLIS), TimeUnit.MILLISECONDS))
+                        return true;
+                } catch (InterruptedException e) {
+                    // the record is written anyway, the interrupt is restored afterwards
+                    interrupted = true;
+                }
+            } while (thread.isAlive()
+                    && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < millis);
+            return false;
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Wait until the writer thread has written all records published so far. */
+    @Override
+    public void flush() {
+        long target = published.get();
+        synchronized (progress) {
+            while (processed < target && thread.isAlive()) {
+                try {
+                    progress.wait(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the buffered records, stop the writer thread and close the file.
+     *
+     * <p>The writer thread is not interrupted, because an interrupt during a write would close the
+     * file channel. It stops by itself, when it sees that the handler was closed.
+     */
+    @Override
+    public void close() {
+        // wait for the records that are published right now
+        Lock lock = closing.writeLock();
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // records that were published while the writer thread stopped, and the number of the
+        // records that were dropped since the last write
+        List<LogRecord> rest = new ArrayList<>();
+        buffer.drainTo(rest);
+        write(rest);
+        try {
+            writer.close();
+        } catch (IOException e) {
+            reportError(null, e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    /**
+     * Get the number of records that were put into the buffer, to be written to the file.
+     *
+     * @return The number of published records.
+     */
+    public long published() {
+        return published.get();
+    }
+
+    /**
+     * Get the number of records that were dropped, because the buffer was full.
+     *
+     * @return The number of dropped records.
+     */
+    public long dropped() {
+        return droppedTotal.get();
+    }
+
+    private void run() {
+        List<LogRecord> batch = new ArrayList<>(BATCH_SIZE);
+        // after close, the rest of the buffer is written before the thread ends
+        while (!closed || !buffer.isEmpty()) {
+            LogRecord record;
+            try {
+                record = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // only close stops the thread
+                continue;
+            }
+            if (record == null) {
+                // report dropped records, even if no other record follows
+                if (dropped.get() > 0) write(batch);
+                continue;
+            }
+            batch.add(record);
+            buffer.drainTo(batch, BATCH_SIZE - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(final List<LogRecord> batch) {
+        try {
+            for (LogRecord record : batch) writer.write(getFormatter().format(record));
+            long lost = dropped.getAndSet(0);
+            if (lost > 0)
+                writer.write(lost + " log records were dropped, the log buffer was full.\n");
+            writer.flush();
+        } catch (Exception e) {
+            reportError(null, e, ErrorManager.WRITE_FAILURE);
+        }
+        synchronized (progress) {
+            processed += batch.size();
+            progress.notifyAll();
+        }
+    }
+
+    /**
+     * Formats a record like the {@link java.util.logging.SimpleFormatter}, but with the name of the
+     * logger as source, so the caller of the record is not inferred on the writer thread.
+     */
+    static final class LoggerNameFormatter extends Formatter {
+        private static final String DEFAULT_FORMAT =
+                "%1$tb %1$td, %1$tY %1$tl:%1$tM:%1$tS %1$Tp %2$s%n%4$s: %5$s%6$s%n";
+        private final String format;
+
+        LoggerNameFormatter() {
+            // the same property as the SimpleFormatter
+            String key = "java.util.logging.SimpleFormatter.format";
+            String property = System.getProperty(key, LogManager.getLogManager().getProperty(key));
+            format = property == null ? DEFAULT_FORMAT : property;
+        }
+
+        @Override
+        public String format(final LogRecord record) {
+            ZonedDateTime time =
+                    ZonedDateTime.ofInstant(record.getInstant(), ZoneId.systemDefault());
+            String thrown = "";
+            if (record.getThrown() != null) {
+                StringWriter stackTrace = new StringWriter();
+                try (PrintWriter printer = new PrintWriter(stackTrace)) {
+                    printer.println();
+                    record.getThrown().printStackTrace(printer);
+                }
+                thrown = stackTrace.toString();
+            }
+            return String.format(
+                    format,
+                    time,
+                    record.getLoggerName(),
+                    record.getLoggerName(),
+                    record.getLevel().getLocalizedName(),
+                    formatMessage(record),
+                    thrown);
+        }
+    }
+}
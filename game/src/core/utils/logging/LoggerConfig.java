@@ -1,19 +1,36 @@
 package core.utils.logging;
 
+import core.configuration.LoggingConfig;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.logging.FileHandler;
+import java.util.List;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
+/**
+ * Configures the logging of the game.
+ *
+ * <p>The log records are written to a file by an {@link AsyncLogHandler}, so logging does not slow
+ * down the game loop. The level of the root logger and of single loggers can be set in the {@link
+ * LoggingConfig} section of the configuration file; records below the level are skipped before
+ * their message is built, if the message is given as supplier (e.g. {@code LOGGER.info(() -> "The
+ * entity " + entity + " was created.")}).
+ */
 public class LoggerConfig {
+    /** Number of log records that can wait to be written to the log file. */
+    private static final int BUFFER_SIZE = 8192;
+
     private static Logger baseLogger;
-    private static FileHandler customFileHandler;
+    private static AsyncLogHandler customFileHandler;
+    // loggers are only weakly referenced by the LogManager, keep the configured ones alive
+    private static final List<Logger> configuredLoggers = new ArrayList<>();
 
     private static void createCustomFileHandler() {
         SimpleDateFormat dateFormat = new SimpleDateFormat("dd-MM-yyyy'T'HH-mm-ss");
@@ -29,8 +46,10 @@ public class LoggerConfig {
                 newLogFile.createNewFile();
                 baseLogger.info("Logfile '" + filepath + "' was created.");
             }
-            customFileHandler = new FileHandler(filepath);
-            customFileHandler.setFormatter(new SimpleFormatter());
+            customFileHandler = new AsyncLogHandler(newLogFile.toPath(), BUFFER_SIZE);
+            // write the buffered records, if the game is closed
+            Runtime.getRuntime()
+                    .addShutdownHook(new Thread(customFileHandler::close, "log-shutdown"));
         } catch (IOException ioE) {
             baseLogger.warning(
                     "Creation of FileHandler in class 'LoggerConfig' failed: " + ioE.getMessage());
@@ -40,10 +59,55 @@ public class LoggerConfig {
     /** Creates a new base logger that records all occurring logs to a file. */
     public static void initBaseLogger() {
         baseLogger = Logger.getLogger("");
-        baseLogger.setLevel(Level.ALL);
         // remove console handler
-        baseLogger.removeHandler(baseLogger.getHandlers()[0]);
+        for (Handler handler : baseLogger.getHandlers()) baseLogger.removeHandler(handler);
         createCustomFileHandler();
-        baseLogger.addHandler(customFileHandler);
+        if (customFileHandler != null) baseLogger.addHandler(customFileHandler);
+        applyLevels();
+    }
+
+    /**
+     * Set the levels of the root logger and of the single loggers from the {@link LoggingConfig}.
+     *
+     * <p>Is called by {@link core.Game#loadConfig}, so the levels of the configuration file are
+     * used after it is loaded. The level of the root logger is only set if the base logger was
+     * initialized with {@link #initBaseLogger()}. Invalid entries are ignored with a warning.
+     */
+    public static void applyLevels() {
+        Logger root = Logger.getLogger("");
+        if (baseLogger != null) root.setLevel(parseLevel(LoggingConfig.LEVEL.value(), Level.ALL));
+        configuredLoggers.forEach(logger -> logger.setLevel(null));
+        configuredLoggers.clear();
+        String levels = LoggingConfig.LOGGER_LEVELS.value();
+        if (levels == null || levels.isBlank()) return;
+        for (String entry : levels.split(",")) {
+            String[] pair = entry.split("=");
+            if (pair.length != 2 || pair[0].isBlank()) {
+                root.warning("Invalid logger level '" + entry.trim() + "' in the configuration.");
+                continue;
+            }
+            Logger logger = Logger.getLogger(pair[0].trim());
+            logger.setLevel(parseLevel(pair[1], logger.getLevel()));
+            configuredLoggers.add(logger);
+        }
+    }
+
+    private static Level parseLevel(final String name, final Level fallback) {
+        String trimmed = name == null ? "" : name.trim().toUpperCase();
+        Level custom =
+                switch (trimmed) {
+                    case "FATAL" -> CustomLogLevel.FATAL;
+                    case "ERROR" -> CustomLogLevel.ERROR;
+                    case "DEBUG" -> CustomLogLevel.DEBUG;
+                    case "TRACE" -> CustomLogLevel.TRACE;
+                    default -> null;
+                };
+        if (custom != null) return custom;
+        try {
+            return Level.parse(trimmed);
+        } catch (IllegalArgumentException e) {
+            Logger.getLogger("").warning("Invalid log level '" + name + "' in the configuration.");
+            return fallback;
+        }
     }
 }
@@ -94,7 +94,8 @@ public class Main {
         Game.loadConfig(
                 "dungeon_config.json",
                 contrib.configuration.KeyboardConfig.class,
-                core.configuration.KeyboardConfig.class);
+                core.configuration.KeyboardConfig.class,
+                core.configuration.LoggingConfig.class);
         Game.frameRate(30);
         Game.disableAudio(true);
         Game.windowTitle("My Dungeon");
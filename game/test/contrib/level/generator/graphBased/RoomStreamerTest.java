@@ -0,0 +1,134 @@
+package contrib.level.generator.graphBased;
+
+import static org.junit.Assert.*;
+
+import contrib.level.generator.GeneratorUtils;
+import contrib.level.generator.graphBased.levelGraph.Direction;
+import contrib.level.generator.graphBased.levelGraph.LevelGraph;
+import contrib.level.generator.graphBased.levelGraph.LevelNode;
+
+import core.Entity;
+import core.Game;
+import core.HeadlessGame;
+import core.components.PositionComponent;
+import core.level.elements.ILevel;
+import core.level.elements.tile.DoorTile;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.level.utils.LevelSize;
+import core.systems.LevelSystem;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class RoomStreamerTest {
+
+    private final List<LevelNode> chain = new ArrayList<>();
+    private RoomStreamer streamer;
+
+    @Before
+    public void setup() {
+        // a graph of five rooms in a row
+        LevelGraph graph = new LevelGraph();
+        graph.add(Set.of(new Entity()));
+        chain.add(graph.root());
+        for (int i = 1; i < 5; i++) {
+            LevelNode node = new LevelNode(graph);
+            assertTrue(chain.get(i - 1).connect(node));
+            graph.addNodesToNodeList(Set.of(node));
+            chain.add(node);
+        }
+        streamer = new RoomStreamer(graph, DesignLabel.DEFAULT, node -> LevelSize.SMALL, 42, 2);
+    }
+
+    @After
+    public void cleanup() {
+        streamer.shutdown();
+        Game.removeAllEntities();
+        Game.removeAllSystems();
+        // reset the level without the level load callback of the headless game
+        Game.add(new LevelSystem(null, null, () -> {}));
+        Game.currentLevel(null);
+        Game.removeAllSystems();
+    }
+
+    @Test
+    public void start_buildsOnlyRootAndNeighbours() {
+        ILevel level = streamer.start();
+        assertSame(level, chain.get(0).level());
+        assertTrue(streamer.materialized(chain.get(0)));
+        assertTrue(streamer.loaded(chain.get(1)));
+        assertFalse(streamer.loaded(chain.get(2)));
+        assertFalse(streamer.loaded(chain.get(4)));
+        assertNull(chain.get(4).level());
+    }
+
+    @Test
+    public void doors_connected() {
+        for (LevelNode node : chain)
+            for (Direction direction : Direction.values()) {
+                LevelNode neighbour = node.neighbours()[direction.value()];
+                if (neighbour == null) assertTrue(node.door(direction).isEmpty());
+                else
+                    assertSame(
+                            neighbour.door(Direction.opposite(direction)).orElseThrow(),
+                            node.door(direction).orElseThrow().getOtherDoor());
+            }
+    }
+
+    @Test
+    public void enter_unloadsFarRooms() {
+        streamer.start();
+        for (int i = 1; i < 5; i++) streamer.enter(chain.get(i));
+        assertTrue(streamer.materialized(chain.get(4)));
+        assertTrue(streamer.materialized(chain.get(3)));
+        assertFalse(streamer.loaded(chain.get(1)));
+        assertFalse(streamer.loaded(chain.get(0)));
+        assertNull(chain.get(0).level());
+        for (Direction direction : Direction.values())
+            chain.get(0).door(direction).ifPresent(door -> assertNull(door.level()));
+    }
+
+    @Test
+    public void enter_restoresUnloadedRoom() {
+        ILevel root = streamer.start();
+        LevelElement[][] layout = GeneratorUtils.parseToElementLayout(root.layout());
+        List<DoorTile> doors = new ArrayList<>(root.doorTiles());
+        for (int i = 1; i < 5; i++) streamer.enter(chain.get(i));
+        for (int i = 3; i >= 0; i--) streamer.enter(chain.get(i));
+
+        ILevel restored = chain.get(0).level();
+        assertNotNull(restored);
+        assertNotSame(root, restored);
+        assertArrayEquals(layout, GeneratorUtils.parseToElementLayout(restored.layout()));
+        assertEquals(doors, restored.doorTiles());
+        for (DoorTile door : restored.doorTiles()) {
+            assertSame(restored, door.level());
+            assertSame(restored, door.getDoorstep().level());
+        }
+    }
+
+    @Test
+    public void enter_restoresEntitiesOfUnloadedRoom() {
+        HeadlessGame.start();
+        // the entity of the root room has no components, so no system processes it
+        Entity entity = chain.get(0).entities().iterator().next();
+        Game.currentLevel(streamer.start());
+        assertTrue(Game.entityStream().anyMatch(e -> e == entity));
+
+        for (int i = 1; i < 5; i++) Game.currentLevel(streamer.enter(chain.get(i)));
+        assertFalse(streamer.loaded(chain.get(0)));
+        assertFalse(Game.entityStream().anyMatch(e -> e == entity));
+        // changes while the room is unloaded are undone
+        entity.addComponent(new PositionComponent());
+
+        for (int i = 3; i >= 0; i--) Game.currentLevel(streamer.enter(chain.get(i)));
+        assertTrue(Game.entityStream().anyMatch(e -> e == entity));
+        assertFalse(entity.isPresent(PositionComponent.class));
+    }
+}
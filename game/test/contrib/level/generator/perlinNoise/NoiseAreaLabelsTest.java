@@ -0,0 +1,62 @@
+package contrib.level.generator.perlinNoise;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class NoiseAreaLabelsTest {
+
+    // 1 is inside the bounds, 0 outside; the first index is x
+    private static final double[][] NOISE = {
+        {1, 0, 1, 1},
+        {1, 0, 0, 1},
+        {1, 1, 1, 1},
+        {0, 0, 0, 0},
+        {1, 0, 1, 0}
+    };
+
+    private static NoiseAreaLabels labels() {
+        return NoiseAreaLabels.of(new NoiseAreaValues(0.5, 1.5, NOISE, false));
+    }
+
+    @Test
+    public void joinsAreasMeetingLater() {
+        NoiseAreaLabels labels = labels();
+        // the U-shape starts as two labels and is joined in (2, 3)
+        assertEquals(3, labels.count());
+        assertEquals(1, labels.label(0, 0));
+        assertEquals(1, labels.label(0, 3));
+        assertEquals(0, labels.label(0, 1));
+        assertEquals(9, labels.size(1));
+    }
+
+    @Test
+    public void labelsInScanOrder() {
+        NoiseAreaLabels labels = labels();
+        assertEquals(2, labels.label(4, 0));
+        assertEquals(3, labels.label(4, 2));
+        assertEquals(1, labels.size(2));
+        assertEquals(1, labels.largest());
+    }
+
+    @Test
+    public void areasMatchLabels() {
+        NoiseArea[] areas = NoiseArea.areas(new NoiseAreaValues(0.5, 1.5, NOISE, false));
+        assertEquals(3, areas.length);
+        assertEquals(9, areas[0].size());
+        assertTrue(areas[0].contains(1, 3));
+        assertFalse(areas[0].contains(4, 0));
+        assertTrue(areas[1].contains(4, 0));
+    }
+
+    @Test
+    public void outerBound() {
+        NoiseAreaLabels labels = NoiseAreaLabels.of(new NoiseAreaValues(0.5, 1.5, NOISE, true));
+        // the zeros: (0, 1) + (1, 1), (1, 2) and the row x = 3 with (4, 1) and (4, 3)
+        assertEquals(2, labels.count());
+        assertEquals(3, labels.size(1));
+        assertEquals(6, labels.size(2));
+    }
+}
@@ -433,6 +433,37 @@ public class CollisionSystemTest {
         cleanUpEnvironment();
     }
 
+    /** Checks that a removed entity starts the same collision again, if it is added again */
+    @Test
+    public void checkUpdateRemovedEntityCollidesAgain() {
+        prepareEnvironment();
+        CollisionSystem cs = new CollisionSystem();
+        Game.add(cs);
+        SimpleCounter onEnter = new SimpleCounter();
+        SimpleCounter onLeave = new SimpleCounter();
+        Entity e1 = prepareEntityWithPosition(new Point(0, 0));
+        e1.addComponent(
+                new CollideComponent(
+                        new Point(0, 0),
+                        new Point(1, 1),
+                        (a, b, c) -> onEnter.inc(),
+                        (a, b, c) -> onLeave.inc()));
+        Entity e2 = prepareEntityWithPosition(new Point(.5f, 0));
+        e2.addComponent(new CollideComponent(new Point(0, 0), new Point(1, 1), null, null));
+        Game.add(e1);
+        Game.add(e2);
+        cs.execute();
+        assertEquals(1, onEnter.getCount());
+
+        Game.remove(e2);
+        cs.execute();
+        Game.add(e2);
+        cs.execute();
+        assertEquals("The collision should begin again", 2, onEnter.getCount());
+        assertEquals("The forgotten collision should not end", 0, onLeave.getCount());
+        cleanUpEnvironment();
+    }
+
     /** Checks that the System is still working when there is no Entity with A hitboxComponent */
     @Test
     public void checkUpdateNoEntitiesWithHitboxComponent() {
@@ -467,6 +498,52 @@ public class CollisionSystemTest {
         cleanUpEnvironment();
     }
 
+    /**
+     * Checks that onEnter and onLeave are only called once per collision over several executions,
+     * and that entities which never touch are not informed.
+     */
+    @Test
+    public void checkUpdateEnterAndLeaveAcrossExecutions() {
+        prepareEnvironment();
+        CollisionSystem cs = new CollisionSystem();
+        Game.add(cs);
+        SimpleCounter sc1OnEnter = new SimpleCounter();
+        SimpleCounter sc1OnLeave = new SimpleCounter();
+        SimpleCounter sc3OnEnter = new SimpleCounter();
+        Entity e1 = prepareEntityWithPosition(new Point(0, 0));
+        e1.addComponent(
+                new CollideComponent(
+                        new Point(0, 0),
+                        new Point(1, 1),
+                        (a, b, c) -> sc1OnEnter.inc(),
+                        (a, b, c) -> sc1OnLeave.inc()));
+        Entity e2 = prepareEntityWithPosition(new Point(0.5f, 0.5f));
+        e2.addComponent(new CollideComponent(new Point(0, 0), new Point(1, 1), null, null));
+        Entity e3 = prepareEntityWithPosition(new Point(5, 0));
+        e3.addComponent(
+                new CollideComponent(
+                        new Point(0, 0),
+                        new Point(1, 1),
+                        (a, b, c) -> sc3OnEnter.inc(),
+                        (a, b, c) -> sc3OnEnter.inc()));
+        Game.add(e1);
+        Game.add(e2);
+        Game.add(e3);
+
+        cs.execute();
+        cs.execute();
+        assertEquals("Only one interaction begins for e1", 1, sc1OnEnter.getCount());
+        assertEquals("No interaction ends for e1", 0, sc1OnLeave.getCount());
+
+        e1.fetch(PositionComponent.class).orElseThrow().position(new Point(2.5f, 0));
+        cs.execute();
+        cs.execute();
+        assertEquals("Only one interaction begins for e1", 1, sc1OnEnter.getCount());
+        assertEquals("One interaction ends for e1", 1, sc1OnLeave.getCount());
+        assertEquals("No interaction for e3", 0, sc3OnEnter.getCount());
+        cleanUpEnvironment();
+    }
+
     /** Checks that there is no call off the collider Methods when there is no Collision */
     @Test
     public void checkUpdateTwoEntitiesWithHitboxComponentNonColliding() {
@@ -0,0 +1,93 @@
+package contrib.utils.components.skill;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import contrib.components.CollideComponent;
+import contrib.components.HealthComponent;
+import contrib.components.ProjectileComponent;
+import contrib.utils.components.health.DamageType;
+
+import core.Entity;
+import core.Game;
+import core.components.PositionComponent;
+import core.level.Tile;
+import core.utils.Point;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DamageProjectileTest {
+
+    private final DamageProjectile skill =
+            new DamageProjectile(
+                    "textures/test_hero",
+                    5f,
+                    3,
+                    DamageType.PHYSICAL,
+                    new Point(1, 1),
+                    () -> new Point(5, 5),
+                    10f) {};
+    private final Entity hero = new Entity();
+
+    @Before
+    public void setup() {
+        hero.addComponent(new PositionComponent(new Point(1, 1)));
+        hero.addComponent(new HealthComponent());
+    }
+
+    @After
+    public void cleanup() {
+        Game.removeAllEntities();
+    }
+
+    private static Entity projectile() {
+        return Game.entityStream()
+                .filter(e -> e.isPresent(ProjectileComponent.class))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    public void accept_recyclesProjectileAndComponents() {
+        skill.accept(hero);
+        Entity projectile = projectile();
+        ProjectileComponent pc = projectile.fetch(ProjectileComponent.class).orElseThrow();
+        PositionComponent position = projectile.fetch(PositionComponent.class).orElseThrow();
+        assertSame(hero, pc.owner());
+        assertEquals(1, position.position().x, 0.001);
+
+        Game.remove(projectile);
+        Game.simulate(1);
+        assertNull(pc.owner());
+
+        hero.fetch(PositionComponent.class).orElseThrow().position(new Point(2, 2));
+        skill.accept(hero);
+        assertSame(projectile, projectile());
+        assertSame(pc, projectile.fetch(ProjectileComponent.class).orElseThrow());
+        assertSame(position, projectile.fetch(PositionComponent.class).orElseThrow());
+        assertSame(hero, pc.owner());
+        assertEquals(2, position.position().x, 0.001);
+        assertEquals(2, pc.startPosition().x, 0.001);
+    }
+
+    @Test
+    public void collide_damagesOtherEntity() {
+        skill.accept(hero);
+        Entity projectile = projectile();
+        CollideComponent collide = projectile.fetch(CollideComponent.class).orElseThrow();
+        Entity monster = new Entity();
+        HealthComponent health = new HealthComponent();
+        monster.addComponent(health);
+
+        HealthComponent heroHealth = hero.fetch(HealthComponent.class).orElseThrow();
+        collide.onEnter(projectile, hero, Tile.Direction.N);
+        assertEquals(0, heroHealth.calculateDamageOf(DamageType.PHYSICAL));
+
+        collide.onEnter(projectile, monster, Tile.Direction.N);
+        assertEquals(3, health.calculateDamageOf(DamageType.PHYSICAL));
+        assertSame(hero, health.lastDamageCause().orElseThrow());
+    }
+}
@@ -0,0 +1,120 @@
+package core;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EntityPoolTest {
+
+    private final Component prefabComponent = Mockito.mock(Component.class);
+    private final EntityPool pool =
+            new EntityPool("Pooled", entity -> entity.addComponent(prefabComponent), 1);
+
+    @After
+    public void cleanup() {
+        Game.removeAllEntities();
+    }
+
+    @Test
+    public void obtain_new() {
+        Entity entity = pool.obtain();
+        assertEquals(prefabComponent, entity.fetch(prefabComponent.getClass()).get());
+        assertEquals(1, pool.created());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void obtain_recycled() {
+        Entity entity = pool.obtain();
+        Game.add(entity);
+        Game.remove(entity);
+        // the entity is given back at the end of the tick
+        assertEquals(0, pool.size());
+        Game.simulate(1);
+        assertEquals(1, pool.size());
+        Entity recycled = pool.obtain();
+        assertSame(entity, recycled);
+        assertEquals(entity.id(), recycled.id());
+        assertEquals(prefabComponent, recycled.fetch(prefabComponent.getClass()).get());
+        assertEquals(1, pool.created());
+    }
+
+    @Test
+    public void remove_twice() {
+        Entity entity = pool.obtain();
+        Game.add(entity);
+        Game.remove(entity);
+        Game.remove(entity);
+        Game.simulate(1);
+        assertEquals(1, pool.size());
+        assertSame(entity, pool.obtain());
+        assertNotSame(entity, pool.obtain());
+    }
+
+    @Test
+    public void remove_staleAfterObtain() {
+        Entity entity = pool.obtain();
+        Game.add(entity);
+        Game.remove(entity);
+        Entity other = pool.obtain();
+        Game.add(other);
+        // a second remove of the old entity in the same tick must not remove the new entity
+        Game.remove(entity);
+        assertNotSame(entity, other);
+        assertTrue(Game.entityStream().anyMatch(e -> e == other));
+        Game.simulate(1);
+        assertTrue(Game.entityStream().anyMatch(e -> e == other));
+        assertSame(entity, pool.obtain());
+    }
+
+    @Test
+    public void remove_addedAgain() {
+        Entity entity = pool.obtain();
+        Game.add(entity);
+        Game.remove(entity);
+        Game.add(entity);
+        Game.simulate(1);
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void remove_overCapacity() {
+        Entity first = pool.obtain();
+        Entity second = pool.obtain();
+        Game.remove(first);
+        Game.remove(second);
+        Game.simulate(1);
+        assertEquals(1, pool.size());
+        assertSame(first, pool.obtain());
+    }
+
+    @Test
+    public void remove_notPooled() {
+        Entity entity = new Entity();
+        Game.add(entity);
+        Game.remove(entity);
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void remove_cleared() {
+        List<Entity> cleared = new ArrayList<>();
+        EntityPool clearing = new EntityPool("Pooled", entity -> {}, cleared::add, 1);
+        Entity entity = clearing.obtain();
+        Game.add(entity);
+        Game.remove(entity);
+        assertTrue(cleared.isEmpty());
+        Game.simulate(1);
+        assertEquals(List.of(entity), cleared);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeCapacity() {
+        new EntityPool("Pooled", entity -> {}, -1);
+    }
+}
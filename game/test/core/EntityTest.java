@@ -30,6 +30,16 @@ public class EntityTest {
         assertEquals(newComponent, entity.fetch(testComponent.getClass()).get());
     }
 
+    @Test
+    public void addComponents() {
+        Entity other = new Entity();
+        Component first = Mockito.mock(Component.class);
+        Component second = new Component() {};
+        other.addComponents(first, second);
+        assertEquals(first, other.fetch(first.getClass()).get());
+        assertEquals(second, other.fetch(second.getClass()).get());
+    }
+
     @Test
     public void removeComponent() {
         entity.removeComponent(testComponent.getClass());
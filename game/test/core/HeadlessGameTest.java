@@ -0,0 +1,95 @@
+package core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import core.systems.DrawSystem;
+import core.systems.LevelSystem;
+import core.systems.PositionSystem;
+import core.systems.VelocitySystem;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class HeadlessGameTest {
+
+    @After
+    public void cleanup() {
+        Game.removeAllEntities();
+        Game.removeAllSystems();
+        // reset the level without the level load callback of the headless game
+        Game.add(new LevelSystem(null, null, () -> {}));
+        Game.currentLevel(null);
+        Game.removeAllSystems();
+    }
+
+    @Test
+    public void startCreatesSystemsAndLoadsLevel() {
+        HeadlessGame.start();
+        assertTrue(Game.systems().containsKey(PositionSystem.class));
+        assertTrue(Game.systems().containsKey(VelocitySystem.class));
+        assertTrue(Game.systems().containsKey(LevelSystem.class));
+        assertFalse(Game.systems().containsKey(DrawSystem.class));
+        assertNotNull(Game.currentLevel());
+    }
+
+    @Test
+    public void simulateExecutesSimulationSystems() {
+        HeadlessGame game = HeadlessGame.start();
+        CountingSystem simulation = new CountingSystem(System.Phase.SIMULATION);
+        Game.add(simulation);
+        long tick = Game.tickCount();
+        game.simulate(10);
+        assertEquals(10, simulation.executions);
+        assertEquals(10, game.ticks());
+        assertEquals(tick + 10, Game.tickCount());
+    }
+
+    @Test
+    public void simulateSkipsPresentationSystems() {
+        HeadlessGame game = HeadlessGame.start();
+        CountingSystem presentation = new CountingSystem(System.Phase.PRESENTATION);
+        Game.add(presentation);
+        game.simulate(10);
+        assertEquals(0, presentation.executions);
+        assertFalse(game.timings().containsKey(CountingSystem.class));
+        // the level system loads the levels
+        assertEquals(10, game.timings().get(LevelSystem.class).executions());
+    }
+
+    @Test
+    public void timings() {
+        HeadlessGame game = HeadlessGame.start();
+        Game.add(new CountingSystem(System.Phase.SIMULATION));
+        game.simulate(5);
+        HeadlessGame.Timing timing = game.timings().get(CountingSystem.class);
+        assertEquals(5, timing.executions());
+        assertTrue(timing.nanos() >= timing.maxNanos());
+        assertTrue(game.report().contains("CountingSystem"));
+
+        game.resetTimings();
+        assertEquals(0, game.ticks());
+        assertTrue(game.timings().isEmpty());
+    }
+
+    private static final class CountingSystem extends System {
+        private final Phase phase;
+        private int executions;
+
+        private CountingSystem(final Phase phase) {
+            this.phase = phase;
+        }
+
+        @Override
+        public void execute() {
+            executions++;
+        }
+
+        @Override
+        public Phase phase() {
+            return phase;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package core.components;
 
 import static org.junit.Assert.*;
 
+import core.utils.components.draw.Animation;
 import core.utils.components.draw.CoreAnimations;
 
 import org.junit.Before;
@@ -65,4 +66,18 @@ public class DrawComponentTest {
         assertTrue(animationComponent.hasAnimation(CoreAnimations.RUN_LEFT));
         assertFalse(animationComponent.hasAnimation(() -> "DUMMY"));
     }
+
+    @Test
+    public void animationFramesShared() throws IOException {
+        DrawComponent other = new DrawComponent(animationPath);
+        Animation animation = animationComponent.getAnimation(CoreAnimations.RUN_LEFT).get();
+        Animation otherAnimation = other.getAnimation(CoreAnimations.RUN_LEFT).get();
+        // the frames are shared, the playback is not
+        assertNotSame(animation, otherAnimation);
+        assertSame(animation.getAnimationFrames(), otherAnimation.getAnimationFrames());
+        animation.update();
+        assertEquals(
+                otherAnimation.getAnimationFrames().get(0),
+                otherAnimation.currentAnimationTexturePath());
+    }
 }
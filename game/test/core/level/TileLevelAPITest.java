@@ -6,6 +6,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxNativesLoader;
 
 import contrib.entities.EntityFactory;
 
@@ -18,6 +20,7 @@ import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
 import core.level.utils.LevelSize;
+import core.systems.CameraSystem;
 import core.systems.LevelSystem;
 import core.utils.IVoidFunction;
 import core.utils.Point;
@@ -27,6 +30,7 @@ import core.utils.components.draw.TextureMap;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -46,6 +50,11 @@ public class TileLevelAPITest {
     private IVoidFunction onLevelLoader;
     private ILevel level;
 
+    @BeforeClass
+    public static void initGDX() {
+        GdxNativesLoader.load(); // load natives for headless testing
+    }
+
     @Before
     public void setup() {
 
@@ -54,6 +63,7 @@ public class TileLevelAPITest {
         PowerMockito.mockStatic(TextureMap.class);
         when(TextureMap.instance()).thenReturn(textureMap);
         when(textureMap.textureAt(anyString())).thenReturn(texture);
+        when(textureMap.regionAt(anyString())).thenReturn(Mockito.mock(TextureRegion.class));
 
         painter = Mockito.mock(Painter.class);
         generator = Mockito.mock(IGenerator.class);
@@ -150,10 +160,13 @@ public class TileLevelAPITest {
 
         when(level.layout()).thenReturn(layout);
 
+        CameraSystem.camera().position.set(0, 0, 0);
+        CameraSystem.camera().update();
         api.loadLevel(level);
         api.execute();
 
         verify(level).layout();
+        verify(level).onTileChanged(any());
         verifyNoMoreInteractions(level);
 
         verify(layout[0][0]).levelElement();
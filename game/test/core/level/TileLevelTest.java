@@ -155,7 +155,9 @@ public class TileLevelTest {
                     {LevelElement.WALL, LevelElement.WALL, LevelElement.WALL, LevelElement.WALL},
                 };
         TileLevel tileLevel = new TileLevel(elementsLayout, DesignLabel.DEFAULT);
-        assertEquals(0, tileLevel.getNodeCount());
+        // each tile is a node, non-accessible tiles just have no connections
+        assertEquals(4, tileLevel.getNodeCount());
+        assertEquals(0, tileLevel.layout()[0][0].connections().size);
     }
 
     @Test
@@ -165,7 +167,8 @@ public class TileLevelTest {
                     {LevelElement.FLOOR, LevelElement.WALL, LevelElement.WALL, LevelElement.WALL},
                 };
         TileLevel tileLevel = new TileLevel(elementsLayout, DesignLabel.DEFAULT);
-        assertEquals(1, tileLevel.getNodeCount());
+        assertEquals(4, tileLevel.getNodeCount());
+        assertEquals(0, tileLevel.layout()[0][0].connections().size);
     }
 
     @Test
@@ -493,7 +496,7 @@ public class TileLevelTest {
         level.addTile(tile);
         assertTrue(
                 "tile needs to be added to specific Tile list", level.floorTiles().contains(tile));
-        assertEquals(level.getNodeCount() - 1, tile.index());
+        assertEquals("the index is the position in the layout", 1, tile.index());
         assertTrue(
                 "All neighbouring tiles need to be informed about the new tile",
                 level.floorTiles().stream()
@@ -531,7 +534,7 @@ public class TileLevelTest {
         level.addTile(tile);
         assertTrue(
                 "tile needs to be added to specific Tile list", level.exitTiles().contains(tile));
-        assertEquals(level.getNodeCount() - 1, tile.index());
+        assertEquals("the index is the position in the layout", 1, tile.index());
         assertTrue(
                 "All neighbouring tiles need to be informed about the new tile",
                 level.floorTiles().stream()
@@ -569,7 +572,7 @@ public class TileLevelTest {
         level.addTile(tile);
         assertTrue(
                 "tile needs to be added to specific Tile list", level.doorTiles().contains(tile));
-        assertEquals(level.getNodeCount() - 1, tile.index());
+        assertEquals("the index is the position in the layout", 1, tile.index());
         assertTrue(
                 "All neighbouring tiles need to be informed about the new tile",
                 level.floorTiles().stream()
@@ -607,7 +610,7 @@ public class TileLevelTest {
         level.addTile(tile);
         assertTrue(
                 "tile needs to be added to specific Tile list", level.skipTiles().contains(tile));
-        assertEquals(0, tile.index());
+        assertEquals("the index is the position in the layout", 1, tile.index());
         assertTrue(
                 "All neighbouring tiles need to be informed about the new tile",
                 level.floorTiles().stream()
@@ -639,7 +642,7 @@ public class TileLevelTest {
         level.addTile(tile);
         assertTrue(
                 "tile needs to be added to specific Tile list", level.wallTiles().contains(tile));
-        assertEquals(0, tile.index());
+        assertEquals("the index is the position in the layout", 1, tile.index());
         assertTrue(
                 "All neighbouring tiles need to be informed about the new tile",
                 level.floorTiles().stream()
@@ -671,7 +674,7 @@ public class TileLevelTest {
         level.addTile(tile);
         assertTrue(
                 "tile needs to be added to specific Tile list", level.holeTiles().contains(tile));
-        assertEquals(0, tile.index());
+        assertEquals("the index is the position in the layout", 1, tile.index());
         assertTrue(
                 "All neighbouring tiles need to be informed about the new tile",
                 level.floorTiles().stream()
@@ -731,14 +734,11 @@ public class TileLevelTest {
                 };
         TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
         level.changeTileElementType(level.tileAt(new Coordinate(0, 0)), LevelElement.WALL);
-        assertEquals(2, level.getNodeCount());
-        AtomicInteger counter = new AtomicInteger();
-        Arrays.stream(level.layout())
-                .flatMap(Arrays::stream)
-                .sorted(Comparator.comparingInt(Tile::index))
-                .filter(Tile::isAccessible)
-                .forEachOrdered(x -> assertEquals(counter.getAndIncrement(), x.index()));
-        assertEquals(2, counter.get());
+        assertEquals(3, level.getNodeCount());
+        // the indices are not renumbered
+        for (Tile tile : level.layout()[0]) assertEquals(tile.coordinate().x, tile.index());
+        assertEquals(0, level.tileAt(new Coordinate(0, 0)).connections().size);
+        assertEquals(1, level.tileAt(new Coordinate(1, 0)).connections().size);
     }
 
     @Test
@@ -1,7 +1,9 @@
 package core.level;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
+import core.level.elements.tile.DoorTile;
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
@@ -469,4 +471,38 @@ public class TileTextureFactoryTest {
                         new TileTextureFactory.LevelPart(
                                 layout[coordinate.y][coordinate.x], design, layout, coordinate)));
     }
+
+    /** Reading only the neighbourhood of a tile has to find the same texture as the whole level. */
+    @Test
+    public void test_findTexturePath_tileInLayout() {
+        TileLevel level = new TileLevel(layout, design);
+        for (Tile[] row : level.layout())
+            for (Tile tile : row)
+                assertEquals(
+                        tile.texturePath(),
+                        TileTextureFactory.findTexturePath(tile, level.layout()));
+    }
+
+    /** Changing a tile has to update the textures of its neighbours. */
+    @Test
+    public void test_changeTileElementType_updatesNeighbours() {
+        TileLevel level = new TileLevel(layout, design);
+        Tile above = level.tileAt(new Coordinate(5, 8));
+        assertEquals(targetTexture + "wall/wall_top.png", above.texturePath());
+        level.changeTileElementType(level.tileAt(new Coordinate(5, 7)), LevelElement.WALL);
+        assertNotEquals(targetTexture + "wall/wall_top.png", above.texturePath());
+        assertEquals(
+                TileTextureFactory.findTexturePath(above, level.layout()), above.texturePath());
+    }
+
+    @Test
+    public void test_changeTileElementType_keepsDoorColor() {
+        layout[8][5] = LevelElement.DOOR;
+        TileLevel level = new TileLevel(layout, design);
+        DoorTile door = (DoorTile) level.tileAt(new Coordinate(5, 8));
+        door.setColor(DoorTile.DoorColor.RED);
+        String texture = door.texturePath();
+        level.changeTileElementType(level.tileAt(new Coordinate(5, 7)), LevelElement.WALL);
+        assertEquals(texture, door.texturePath());
+    }
 }
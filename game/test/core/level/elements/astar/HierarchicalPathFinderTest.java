@@ -0,0 +1,162 @@
+package core.level.elements.astar;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class HierarchicalPathFinderTest {
+
+    private static final int SIZE = 64;
+    private TileLevel level;
+    private HierarchicalPathFinder finder;
+
+    /* A floor with a wall in each fourth column. The walls have a gap at the top or the bottom,
+    so the path has to wind through the level. */
+    @Before
+    public void setup() {
+        LevelElement[][] layout = new LevelElement[SIZE][SIZE];
+        for (int y = 0; y < SIZE; y++)
+            for (int x = 0; x < SIZE; x++) {
+                boolean wall = x % 4 == 3 && (x % 8 == 3 ? y != SIZE - 1 : y != 0);
+                layout[y][x] = wall ? LevelElement.WALL : LevelElement.FLOOR;
+            }
+        level = new TileLevel(layout, DesignLabel.DEFAULT);
+        finder = new HierarchicalPathFinder(level);
+    }
+
+    private Tile tile(int x, int y) {
+        return level.tileAt(new Coordinate(x, y));
+    }
+
+    private GraphPath<Tile> shortestPath(Tile start, Tile goal) {
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+        new IndexedAStarPathFinder<>(level)
+                .searchNodePath(start, goal, level.tileHeuristic(), path);
+        return path;
+    }
+
+    private void assertValid(GraphPath<Tile> path, Tile start, Tile goal) {
+        assertSame(start, path.get(0));
+        assertSame(goal, path.get(path.getCount() - 1));
+        for (int i = 1; i < path.getCount(); i++) {
+            Coordinate a = path.get(i - 1).coordinate();
+            Coordinate b = path.get(i).coordinate();
+            assertTrue(path.get(i).isAccessible());
+            assertEquals(1, Math.abs(a.x - b.x) + Math.abs(a.y - b.y));
+        }
+    }
+
+    @Test
+    public void sameClusterIsNotSearched() {
+        assertNull(finder.findPath(tile(0, 0), tile(2, 15)));
+    }
+
+    @Test
+    public void pathIsValidAndCloseToShortestPath() {
+        Tile start = tile(0, 0);
+        Tile goal = tile(SIZE - 2, SIZE - 1);
+        GraphPath<Tile> path = finder.findPath(start, goal);
+        GraphPath<Tile> shortest = shortestPath(start, goal);
+        assertValid(path, start, goal);
+        assertTrue(path.getCount() >= shortest.getCount());
+        assertTrue(path.getCount() <= shortest.getCount() * 1.2f);
+    }
+
+    @Test
+    public void pathBetweenNeighbourClusters() {
+        Tile start = tile(14, 5);
+        Tile goal = tile(17, 5);
+        GraphPath<Tile> path = finder.findPath(start, goal);
+        assertValid(path, start, goal);
+        assertTrue(path.getCount() >= shortestPath(start, goal).getCount());
+    }
+
+    @Test
+    public void noPath() {
+        // close the gap of the wall at x = 19
+        level.changeTileElementType(tile(19, SIZE - 1), LevelElement.WALL);
+        finder.invalidate();
+        assertEquals(0, finder.findPath(tile(0, 0), tile(SIZE - 1, 0)).getCount());
+    }
+
+    @Test
+    public void invalidateRebuildsGraph() {
+        Tile start = tile(0, 0);
+        Tile goal = tile(SIZE - 1, 0);
+        int before = finder.findPath(start, goal).getCount();
+        // open all walls in the first row
+        for (int x = 3; x < SIZE; x += 8)
+            level.changeTileElementType(tile(x, 0), LevelElement.FLOOR);
+        finder.invalidate();
+        GraphPath<Tile> path = finder.findPath(start, goal);
+        assertValid(path, start, goal);
+        assertEquals(SIZE, path.getCount());
+        assertTrue(path.getCount() < before);
+    }
+
+    @Test
+    public void invalidateTileRebuildsChangedClusters() {
+        Tile start = tile(0, 0);
+        Tile goal = tile(SIZE - 1, 0);
+        int before = finder.findPath(start, goal).getCount();
+        // open all walls in the first row
+        for (int x = 3; x < SIZE; x += 8) {
+            level.changeTileElementType(tile(x, 0), LevelElement.FLOOR);
+            finder.invalidate(tile(x, 0));
+        }
+        GraphPath<Tile> path = finder.findPath(start, goal);
+        assertValid(path, start, goal);
+        assertEquals(SIZE, path.getCount());
+        assertTrue(path.getCount() < before);
+    }
+
+    @Test
+    public void invalidateTileMatchesFullBuild() {
+        Random random = new Random(7);
+        finder.findPath(tile(0, 0), tile(SIZE - 1, SIZE - 1));
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 10; i++) {
+                Tile tile = tile(random.nextInt(SIZE), random.nextInt(SIZE));
+                LevelElement element =
+                        tile.isAccessible() ? LevelElement.WALL : LevelElement.FLOOR;
+                level.changeTileElementType(tile, element);
+                finder.invalidate(tile(tile.coordinate().x, tile.coordinate().y));
+            }
+            HierarchicalPathFinder fresh = new HierarchicalPathFinder(level);
+            for (int i = 0; i < 5; i++) {
+                Tile start = tile(random.nextInt(SIZE), random.nextInt(SIZE));
+                Tile goal = tile(random.nextInt(SIZE), random.nextInt(SIZE));
+                if (!start.isAccessible() || !goal.isAccessible()) continue;
+                GraphPath<Tile> expected = fresh.findPath(start, goal);
+                GraphPath<Tile> path = finder.findPath(start, goal);
+                if (expected == null) {
+                    assertNull(path);
+                    continue;
+                }
+                assertEquals(expected.getCount(), path.getCount());
+                if (path.getCount() > 0) assertValid(path, start, goal);
+            }
+        }
+    }
+
+    @Test
+    public void serviceUsesHierarchicalFinderForLongPaths() {
+        Tile start = tile(0, 0);
+        Tile goal = tile(SIZE - 2, SIZE - 1);
+        GraphPath<Tile> path = level.findPath(start, goal);
+        assertValid(path, start, goal);
+    }
+}
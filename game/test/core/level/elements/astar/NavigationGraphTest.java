@@ -0,0 +1,74 @@
+package core.level.elements.astar;
+
+import static org.junit.Assert.*;
+
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class NavigationGraphTest {
+
+    private TileLevel level;
+    private NavigationGraph graph;
+
+    /* How the level layout looks: (W=Wall, F=Floor)
+    FFF
+    FWF */
+    @Before
+    public void setup() {
+        LevelElement[][] layout = new LevelElement[2][3];
+        for (int x = 0; x < 3; x++)
+            for (int y = 0; y < 2; y++) layout[y][x] = LevelElement.FLOOR;
+        layout[0][1] = LevelElement.WALL;
+        level = new TileLevel(layout, DesignLabel.DEFAULT);
+        graph = level.navigationGraph();
+    }
+
+    private Tile tile(int x, int y) {
+        return level.tileAt(new Coordinate(x, y));
+    }
+
+    @Test
+    public void indexIsPositionInLayout() {
+        assertEquals(6, graph.nodeCount());
+        assertEquals(4, graph.index(new Coordinate(1, 1)));
+        assertEquals(-1, graph.index(new Coordinate(3, 0)));
+        assertSame(tile(1, 1), graph.node(4));
+        assertEquals(4, tile(1, 1).index());
+    }
+
+    @Test
+    public void neighbours() {
+        int top = tile(1, 1).index();
+        assertEquals(2, graph.degree(top));
+        // the order of the neighbours depends on the random exit tile, which is reconnected
+        assertTrue(graph.isConnected(top, tile(0, 1).index()));
+        assertTrue(graph.isConnected(top, tile(2, 1).index()));
+        assertEquals(1f, graph.cost(top, 0), 0.001f);
+        assertEquals(0, graph.degree(tile(1, 0).index()));
+    }
+
+    @Test
+    public void changeToWallRemovesConnections() {
+        level.changeTileElementType(tile(1, 1), LevelElement.WALL);
+        assertEquals(0, graph.degree(tile(1, 1).index()));
+        assertFalse(graph.isConnected(tile(0, 1).index(), tile(1, 1).index()));
+        assertEquals(1, graph.degree(tile(0, 1).index()));
+        assertSame(tile(0, 0), tile(0, 1).connections().first().getToNode());
+    }
+
+    @Test
+    public void changeToFloorAddsConnections() {
+        level.changeTileElementType(tile(1, 0), LevelElement.FLOOR);
+        int bottom = tile(1, 0).index();
+        assertEquals(3, graph.degree(bottom));
+        assertTrue(graph.isConnected(tile(0, 0).index(), bottom));
+        assertTrue(graph.isConnected(bottom, tile(1, 1).index()));
+        assertSame(tile(1, 0), tile(0, 0).connections().get(1).getToNode());
+    }
+}
@@ -0,0 +1,101 @@
+package core.level.elements.astar;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.ai.pfa.GraphPath;
+
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class PathfindingServiceTest {
+
+    private TileLevel level;
+
+    /* How the level layout looks: (W=Wall, F=Floor, E=exit)
+    FWE
+    FWF
+    FFF */
+    @Before
+    public void setup() {
+        LevelElement[][] layout = new LevelElement[3][3];
+        for (int x = 0; x < 3; x++)
+            for (int y = 0; y < 3; y++) layout[y][x] = LevelElement.FLOOR;
+        layout[0][1] = LevelElement.WALL;
+        layout[1][1] = LevelElement.WALL;
+        layout[0][2] = LevelElement.EXIT;
+        level = new TileLevel(layout, DesignLabel.DEFAULT);
+    }
+
+    private Tile tile(int x, int y) {
+        return level.tileAt(new Coordinate(x, y));
+    }
+
+    @Test
+    public void findPathIsCached() {
+        GraphPath<Tile> path = level.findPath(tile(0, 0), tile(2, 0));
+        assertEquals(7, path.getCount());
+        assertSame(path, level.findPath(tile(0, 0), tile(2, 0)));
+    }
+
+    @Test
+    public void tileChangeInvalidatesCache() {
+        GraphPath<Tile> path = level.findPath(tile(0, 0), tile(2, 0));
+        level.changeTileElementType(tile(1, 0), LevelElement.FLOOR);
+        GraphPath<Tile> newPath = level.findPath(tile(0, 0), tile(2, 0));
+        assertNotSame(path, newPath);
+        assertEquals(3, newPath.getCount());
+    }
+
+    @Test
+    public void textureChangeKeepsCache() {
+        GraphPath<Tile> path = level.findPath(tile(0, 0), tile(2, 0));
+        tile(0, 1).texturePath("dungeon/default/floor/floor_2.png");
+        assertSame(path, level.findPath(tile(0, 0), tile(2, 0)));
+    }
+
+    @Test
+    public void accessibilityChangeInvalidatesCache() {
+        GraphPath<Tile> path = level.findPath(tile(0, 0), tile(2, 0));
+        // block the only way around the wall
+        tile(0, 1).levelElement(LevelElement.WALL);
+        GraphPath<Tile> newPath = level.findPath(tile(0, 0), tile(2, 0));
+        assertNotSame(path, newPath);
+        assertEquals(0, newPath.getCount());
+    }
+
+    @Test
+    public void flowFieldPathEqualsShortestPath() {
+        GraphPath<Tile> path = level.findPathWithFlowField(tile(0, 0), tile(2, 0));
+        assertEquals(7, path.getCount());
+        assertSame(tile(0, 0), path.get(0));
+        assertSame(tile(0, 1), path.get(1));
+        assertSame(tile(2, 0), path.get(6));
+    }
+
+    @Test
+    public void flowFieldNextStep() {
+        level.pathfinding().flowField(tile(2, 0));
+        assertSame(tile(2, 1), level.pathfinding().nextStep(tile(2, 2)));
+        assertSame(tile(2, 0), level.pathfinding().nextStep(tile(2, 1)));
+        assertNull(level.pathfinding().nextStep(tile(2, 0)));
+        // walls are not part of the flow field
+        assertNull(level.pathfinding().nextStep(tile(1, 1)));
+    }
+
+    @Test
+    public void flowFieldPathToStart() {
+        GraphPath<Tile> path = level.findPathWithFlowField(tile(2, 2), tile(2, 2));
+        assertEquals(1, path.getCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void flowFieldPathFromWall() {
+        level.findPathWithFlowField(tile(1, 1), tile(2, 0));
+    }
+}
@@ -0,0 +1,107 @@
+package core.level.generator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.generator.postGeneration.WallGenerator;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.LevelElement;
+import core.level.utils.LevelSize;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LevelPregeneratorTest {
+
+    private final IGenerator generator = new WallGenerator(new RandomWalkGenerator());
+    private final List<LevelPregenerator> pregenerators = new ArrayList<>();
+
+    @After
+    public void cleanup() {
+        pregenerators.forEach(LevelPregenerator::shutdown);
+    }
+
+    private LevelPregenerator pregenerator(int count, long seed) {
+        LevelPregenerator pregenerator = new LevelPregenerator(generator, count, seed);
+        pregenerators.add(pregenerator);
+        return pregenerator;
+    }
+
+    private static LevelElement[][] elements(ILevel level) {
+        Tile[][] layout = level.layout();
+        LevelElement[][] elements = new LevelElement[layout.length][layout[0].length];
+        for (int y = 0; y < layout.length; y++)
+            for (int x = 0; x < layout[0].length; x++) {
+                // start and end tile are not part of the seeded layout
+                LevelElement element = layout[y][x].levelElement();
+                elements[y][x] = element == LevelElement.EXIT ? LevelElement.FLOOR : element;
+            }
+        return elements;
+    }
+
+    @Test
+    public void next_generatesLevel() {
+        ILevel level = pregenerator(2, 1).next(LevelSize.SMALL);
+        assertNotNull(level);
+        assertNotNull(level.startTile());
+        assertNotNull(level.endTile());
+    }
+
+    @Test
+    public void next_sameSeedSameLevels() {
+        LevelPregenerator first = pregenerator(1, 42);
+        LevelPregenerator second = pregenerator(3, 42);
+        for (int i = 0; i < 4; i++) {
+            ILevel a = first.next(LevelSize.SMALL);
+            ILevel b = second.next(LevelSize.SMALL);
+            assertArrayEquals(elements(a), elements(b));
+            assertEquals(a.layout()[0][0].designLabel(), b.layout()[0][0].designLabel());
+        }
+    }
+
+    @Test
+    public void next_sizeChanged() {
+        LevelPregenerator pregenerator = pregenerator(2, 7);
+        pregenerator.next(LevelSize.SMALL);
+        ILevel level = pregenerator.next(LevelSize.LARGE);
+        // large levels are at least 100 tiles wide and high, plus the walls
+        assertTrue(level.layout().length >= 100);
+        assertTrue(level.layout()[0].length >= 100);
+    }
+
+    @Test
+    public void pause_notReady() {
+        LevelPregenerator pregenerator = pregenerator(2, 3);
+        pregenerator.next(LevelSize.SMALL);
+        pregenerator.pause();
+        assertTrue(pregenerator.paused());
+        assertFalse(pregenerator.ready(LevelSize.SMALL));
+    }
+
+    @Test
+    public void pause_sameLevels() {
+        LevelPregenerator paused = pregenerator(2, 5);
+        LevelPregenerator unpaused = pregenerator(2, 5);
+        for (int i = 0; i < 3; i++) {
+            paused.pause();
+            ILevel a = paused.next(LevelSize.SMALL);
+            ILevel b = unpaused.next(LevelSize.SMALL);
+            assertFalse(paused.paused());
+            assertArrayEquals(elements(a), elements(b));
+            assertEquals(a.layout()[0][0].designLabel(), b.layout()[0][0].designLabel());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void countHasToBePositive() {
+        new LevelPregenerator(generator, 0, 1);
+    }
+}
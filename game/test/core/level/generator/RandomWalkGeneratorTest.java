@@ -1,9 +1,11 @@
 package core.level.generator;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNotNull;
 
 import core.level.elements.ILevel;
 import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.LevelSize;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -28,4 +30,10 @@ public class RandomWalkGeneratorTest {
         // can be beaten.
         assert ((level.findPath(level.startTile(), level.endTile()).getCount() > 0));
     }
+
+    @Test
+    public void test_layout_sameSeed() {
+        assertArrayEquals(
+                generator.layout(LevelSize.MEDIUM, 42), generator.layout(LevelSize.MEDIUM, 42));
+    }
 }
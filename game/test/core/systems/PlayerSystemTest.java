@@ -0,0 +1,113 @@
+package core.systems;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+import core.Entity;
+import core.Game;
+import core.components.DrawComponent;
+import core.components.PlayerComponent;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.utils.Point;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+
+public class PlayerSystemTest {
+
+    private static final Point START = new Point(2, 4);
+
+    private final ILevel level = Mockito.mock(ILevel.class);
+    private final Tile tile = Mockito.mock(Tile.class);
+    private final Input input = Mockito.mock(Input.class);
+    private PlayerSystem playerSystem;
+    private PositionComponent positionComponent;
+    private VelocityComponent velocityComponent;
+    private PlayerComponent playerComponent;
+
+    @Before
+    public void setup() throws IOException {
+        Gdx.input = input;
+        Game.add(new LevelSystem(null, null, () -> {}));
+        Game.currentLevel(level);
+        Mockito.when(tile.friction()).thenReturn(0.8f);
+        Mockito.when(tile.isAccessible()).thenReturn(true);
+        Mockito.when(level.tileAt((Point) Mockito.any())).thenReturn(tile);
+        Game.add(new PlayerActionSystem());
+        Game.add(new VelocitySystem());
+        playerSystem = new PlayerSystem();
+        Game.add(playerSystem);
+
+        Entity hero = new Entity();
+        velocityComponent = new VelocityComponent(5, 5);
+        positionComponent = new PositionComponent(START);
+        playerComponent = new PlayerComponent();
+        playerComponent.registerCallback(
+                Input.Keys.D,
+                entity -> velocityComponent.currentXVelocity(velocityComponent.xVelocity()));
+        hero.addComponent(velocityComponent);
+        hero.addComponent(positionComponent);
+        hero.addComponent(new DrawComponent("textures/test_hero"));
+        hero.addComponent(playerComponent);
+        Game.add(hero);
+    }
+
+    @After
+    public void cleanup() {
+        Game.removeAllEntities();
+        Game.currentLevel(null);
+        Game.removeAllSystems();
+        Gdx.input = null;
+    }
+
+    private void frame(int ticks) {
+        Game.simulate(ticks);
+        playerSystem.execute();
+    }
+
+    private void reset() {
+        positionComponent.position(START);
+        velocityComponent.currentXVelocity(0);
+        velocityComponent.currentYVelocity(0);
+    }
+
+    @Test
+    public void heldKey_sameDistanceIndependentOfTicksPerFrame() {
+        Mockito.when(input.isKeyPressed(Input.Keys.D)).thenReturn(true);
+        playerSystem.execute();
+        frame(4);
+        float oneFrame = positionComponent.position().x;
+
+        reset();
+        playerSystem.execute();
+        for (int i = 0; i < 4; i++) frame(1);
+        float fourFrames = positionComponent.position().x;
+
+        assertTrue(oneFrame > START.x);
+        assertEquals(fourFrames, oneFrame, 0.0001f);
+    }
+
+    @Test
+    public void justPressedKey_executedOnce() {
+        int[] executions = new int[1];
+        playerComponent.registerCallback(Input.Keys.E, entity -> executions[0]++, false);
+        Mockito.when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        playerSystem.execute();
+        Mockito.when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(false);
+        // a frame without a tick does not lose the key press
+        frame(0);
+        assertEquals(0, executions[0]);
+        frame(3);
+        assertEquals(1, executions[0]);
+    }
+}
@@ -85,8 +85,9 @@ public class VelocitySystemTest {
         velocitySystem.execute();
         Point position = positionComponent.position();
 
-        assertEquals(startXPosition + velocity.x, position.x, 0.001);
-        assertEquals(startYPosition + velocity.y, position.y, 0.001);
+        // the velocity is given in tiles per second, the system moves the entity for one tick
+        assertEquals(startXPosition + velocity.x * Game.timeStep(), position.x, 0.001);
+        assertEquals(startYPosition + velocity.y * Game.timeStep(), position.y, 0.001);
         assertEquals(
                 xVelocity * (1.0f - tile.friction()), velocityComponent.currentXVelocity(), 0.001);
         assertEquals(
@@ -118,8 +119,9 @@ public class VelocitySystemTest {
         System.out.println(tile.friction());
         Point position = positionComponent.position();
 
-        assertEquals(startXPosition + velocity.x, position.x, 0.001);
-        assertEquals(startYPosition + velocity.y, position.y, 0.001);
+        // the velocity is given in tiles per second, the system moves the entity for one tick
+        assertEquals(startXPosition + velocity.x * Game.timeStep(), position.x, 0.001);
+        assertEquals(startYPosition + velocity.y * Game.timeStep(), position.y, 0.001);
         assertEquals(-4 * (1.0f - tile.friction()), velocityComponent.currentXVelocity(), 0.001);
         assertEquals(-8 * (1.0f - tile.friction()), velocityComponent.currentYVelocity(), 0.001);
     }
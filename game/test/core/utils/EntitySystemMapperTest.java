@@ -0,0 +1,129 @@
+package core.utils;
+
+import static org.junit.Assert.*;
+
+import core.Component;
+import core.Entity;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class EntitySystemMapperTest {
+
+    private static final class ComponentA implements Component {}
+
+    private static final class ComponentB implements Component {}
+
+    private EntitySystemMapper mapper;
+
+    @Before
+    public void setup() {
+        mapper = new EntitySystemMapper(Set.of(ComponentA.class, ComponentB.class));
+    }
+
+    private Entity entityWithBoth() {
+        Entity entity = new Entity();
+        entity.addComponent(new ComponentA());
+        entity.addComponent(new ComponentB());
+        return entity;
+    }
+
+    @Test
+    public void addRespectsFilterRules() {
+        Entity match = entityWithBoth();
+        Entity noMatch = new Entity();
+        noMatch.addComponent(new ComponentA());
+        assertTrue(mapper.add(match));
+        assertFalse(mapper.add(noMatch));
+        assertFalse(mapper.add(match));
+        assertEquals(1, mapper.size());
+    }
+
+    @Test
+    public void forEachProvidesComponents() {
+        Entity entity = entityWithBoth();
+        mapper.add(entity);
+        List<Component> seen = new ArrayList<>();
+        mapper.forEach(
+                ComponentA.class,
+                ComponentB.class,
+                (e, a, b) -> {
+                    assertSame(entity, e);
+                    seen.add(a);
+                    seen.add(b);
+                });
+        assertEquals(entity.fetch(ComponentA.class).get(), seen.get(0));
+        assertEquals(entity.fetch(ComponentB.class).get(), seen.get(1));
+    }
+
+    @Test
+    public void updateRefreshesReplacedComponent() {
+        Entity entity = entityWithBoth();
+        mapper.add(entity);
+        ComponentA replacement = new ComponentA();
+        entity.addComponent(replacement);
+        mapper.update(entity);
+        mapper.forEach(ComponentA.class, (e, a) -> assertSame(replacement, a));
+    }
+
+    @Test
+    public void removeKeepsOtherEntities() {
+        Entity first = entityWithBoth();
+        Entity second = entityWithBoth();
+        Entity third = entityWithBoth();
+        mapper.add(first);
+        mapper.add(second);
+        mapper.add(third);
+        mapper.remove(first);
+        List<Entity> seen = new ArrayList<>();
+        mapper.forEach(
+                ComponentA.class,
+                (e, a) -> {
+                    seen.add(e);
+                    assertSame(e.fetch(ComponentA.class).get(), a);
+                });
+        assertEquals(2, seen.size());
+        assertTrue(seen.contains(second));
+        assertTrue(seen.contains(third));
+    }
+
+    @Test
+    public void removeDuringIterationIsDeferred() {
+        Entity first = entityWithBoth();
+        Entity second = entityWithBoth();
+        mapper.add(first);
+        mapper.add(second);
+        List<Entity> seen = new ArrayList<>();
+        mapper.forEach(
+                ComponentA.class,
+                (e, a) -> {
+                    seen.add(e);
+                    mapper.remove(first);
+                    mapper.remove(second);
+                });
+        assertEquals(2, seen.size());
+        assertEquals(0, mapper.size());
+    }
+
+    @Test
+    public void streamIsNotAffectedByLaterChanges() {
+        Entity first = entityWithBoth();
+        Entity second = entityWithBoth();
+        mapper.add(first);
+        Stream<Entity> stream = mapper.stream();
+        mapper.add(second);
+        mapper.remove(first);
+        assertEquals(List.of(first), stream.toList());
+        assertEquals(List.of(second), mapper.stream().toList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void forEachWithUnknownComponent() {
+        new EntitySystemMapper(Set.of(ComponentA.class)).forEach(ComponentB.class, (e, b) -> {});
+    }
+}
@@ -0,0 +1,42 @@
+package core.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class FixedTimestepTest {
+
+    @Test
+    public void ticksIndependentOfFrameTime() {
+        FixedTimestep timestep = new FixedTimestep(20);
+        int ticks = 0;
+        // one second with 60 frames
+        for (int i = 0; i < 60; i++) ticks += timestep.advance(1 / 60f);
+        assertEquals(20, ticks, 1);
+        // one second with 10 frames
+        ticks = 0;
+        for (int i = 0; i < 10; i++) ticks += timestep.advance(1 / 10f);
+        assertEquals(20, ticks, 1);
+    }
+
+    @Test
+    public void restIsKeptForNextFrame() {
+        FixedTimestep timestep = new FixedTimestep(10);
+        assertEquals(1, timestep.advance(0.15f));
+        assertEquals(0.5f, timestep.alpha(), 0.001f);
+        assertEquals(1, timestep.advance(0.05f));
+        assertEquals(0f, timestep.alpha(), 0.001f);
+    }
+
+    @Test
+    public void longFrameIsLimited() {
+        FixedTimestep timestep = new FixedTimestep(10);
+        assertEquals(FixedTimestep.MAX_TICKS_PER_FRAME, timestep.advance(10f));
+        assertEquals(0f, timestep.alpha(), 0.001f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tickRateHasToBePositive() {
+        new FixedTimestep(0);
+    }
+}
@@ -0,0 +1,41 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class AnimationCacheTest {
+
+    @Test
+    public void animations_cached() throws IOException {
+        Map<String, List<String>> animations = AnimationCache.animations("textures/test_hero");
+        assertSame(animations, AnimationCache.animations("textures/test_hero"));
+        assertTrue(animations.containsKey(CoreAnimations.IDLE_LEFT.pathString()));
+    }
+
+    @Test
+    public void animations_sorted() throws IOException {
+        for (List<String> frames : AnimationCache.animations("textures/test_hero").values()) {
+            List<String> sorted = new ArrayList<>(frames);
+            Collections.sort(sorted);
+            assertEquals(sorted, frames);
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void animations_immutable() throws IOException {
+        AnimationCache.animations("textures/test_hero").clear();
+    }
+
+    @Test(expected = FileNotFoundException.class)
+    public void animations_missingPath() throws IOException {
+        AnimationCache.animations("textures/does_not_exist");
+    }
+}
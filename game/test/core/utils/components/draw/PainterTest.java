@@ -0,0 +1,116 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+import core.systems.CameraSystem;
+import core.utils.Point;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class PainterTest {
+
+    private final SpriteBatch batch = mock(SpriteBatch.class);
+    private final Texture floor = mock(Texture.class);
+    private final Texture wall = mock(Texture.class);
+    private final PainterConfig config = new PainterConfig(1, 1);
+    private Painter painter;
+
+    @BeforeClass
+    public static void initGDX() {
+        GdxNativesLoader.load(); // load natives for headless testing
+    }
+
+    @Before
+    public void setup() {
+        CameraSystem.camera().position.set(0, 0, 0);
+        CameraSystem.camera().update();
+        painter = new Painter(batch);
+    }
+
+    private void drawAlternating(int count) {
+        for (int i = 0; i < count; i++)
+            painter.draw(new Point(i % 4, 0), i % 2 == 0 ? floor : wall, config);
+    }
+
+    private static void verifyDraws(SpriteBatch verification, Texture texture) {
+        verification.draw(
+                texture,
+                anyFloat(),
+                anyFloat(),
+                anyFloat(),
+                anyFloat(),
+                anyFloat(),
+                anyFloat(),
+                anyFloat(),
+                anyFloat());
+    }
+
+    @Test
+    public void drawIsQueuedUntilFlush() {
+        drawAlternating(10);
+        verifyNoInteractions(batch);
+        painter.flush(true);
+        verify(batch, times(1)).begin();
+        verifyDraws(verify(batch, times(10)), any(Texture.class));
+        verify(batch, times(1)).end();
+        assertEquals(10, painter.drawCalls());
+    }
+
+    @Test
+    public void sortedFlushOnlyFlushesOnTextureChange() {
+        drawAlternating(100);
+        painter.flush(true);
+        assertEquals(100, painter.drawCalls());
+        assertEquals(2, painter.flushes());
+        InOrder inOrder = inOrder(batch);
+        verifyDraws(inOrder.verify(batch, times(50)), eq(floor));
+        verifyDraws(inOrder.verify(batch, times(50)), eq(wall));
+    }
+
+    @Test
+    public void unsortedFlushKeepsOrder() {
+        drawAlternating(100);
+        painter.flush(false);
+        assertEquals(100, painter.flushes());
+    }
+
+    @Test
+    public void regionsOfOneTextureDoNotFlush() {
+        when(floor.getWidth()).thenReturn(32);
+        when(floor.getHeight()).thenReturn(16);
+        TextureRegion left = new TextureRegion(floor, 0, 0, 16, 16);
+        TextureRegion right = new TextureRegion(floor, 16, 0, 16, 16);
+        for (int i = 0; i < 10; i++)
+            painter.draw(new Point(0, 0), i % 2 == 0 ? left : right, config);
+        painter.flush(false);
+        assertEquals(1, painter.flushes());
+        verify(batch, times(5)).draw(floor, -0.85f, -0.5f, 1, 1, 0.5f, 1, 1, 0);
+    }
+
+    @Test
+    public void emptyFlushDoesNotTouchBatch() {
+        painter.flush(true);
+        verifyNoInteractions(batch);
+        assertEquals(0, painter.flushes());
+    }
+
+    @Test
+    public void resetCounters() {
+        drawAlternating(4);
+        painter.flush(true);
+        painter.resetCounters();
+        assertEquals(0, painter.drawCalls());
+        assertEquals(0, painter.flushes());
+    }
+}
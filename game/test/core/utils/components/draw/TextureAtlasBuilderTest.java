@@ -0,0 +1,114 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Files;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+import core.components.DrawComponent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+public class TextureAtlasBuilderTest {
+
+    private static final String KNIGHT = "character/knight/idle_left/knight_idle_left_1.png";
+
+    private FileHandle directory;
+
+    @BeforeClass
+    public static void initGDX() {
+        GdxNativesLoader.load(); // load natives for headless testing
+    }
+
+    @Before
+    public void setup() throws IOException {
+        Gdx.files = new Lwjgl3Files();
+        directory = new FileHandle(Files.createTempDirectory("atlas").toFile());
+    }
+
+    @After
+    public void cleanup() {
+        directory.deleteDirectory();
+        Gdx.files = null;
+    }
+
+    @Test
+    public void findTextures() throws IOException {
+        Map<String, Long> textures = TextureAtlasBuilder.findTextures("character");
+        assertTrue(textures.containsKey(KNIGHT));
+        CRC32 crc = new CRC32();
+        try (InputStream in = getClass().getResourceAsStream("/" + KNIGHT)) {
+            crc.update(in.readAllBytes());
+        }
+        assertEquals(crc.getValue(), (long) textures.get(KNIGHT));
+        assertTrue(textures.keySet().stream().allMatch(path -> path.startsWith("character/")));
+        assertTrue(textures.keySet().stream().allMatch(path -> path.endsWith(".png")));
+    }
+
+    @Test
+    public void findTexturesInUnknownDirectory() throws IOException {
+        assertTrue(TextureAtlasBuilder.findTextures("does/not/exist").isEmpty());
+    }
+
+    @Test
+    public void cacheFileIsIndependentOfWorkingDirectory() {
+        FileHandle cache = TextureAtlasBuilder.cacheFile("texture-atlas/textures.atlas");
+        assertTrue(cache.file().isAbsolute());
+        assertEquals("textures.atlas", cache.name());
+        assertEquals("texture-atlas", cache.parent().name());
+    }
+
+    @Test
+    public void cacheFileIsNotInBuildOutput() {
+        String cache = TextureAtlasBuilder.cacheFile("texture-atlas/textures.atlas").path();
+        String classes =
+                TextureAtlasBuilder.class
+                        .getProtectionDomain()
+                        .getCodeSource()
+                        .getLocation()
+                        .getPath();
+        assertFalse(cache.startsWith(classes));
+    }
+
+    @Test
+    public void drawComponentFramesAreAtlasRegions() throws IOException {
+        // the regions are named like the regions of a packed atlas, the pages are not needed
+        TextureAtlas atlas = new TextureAtlas();
+        Texture page = Mockito.mock(Texture.class);
+        for (String path : TextureAtlasBuilder.findTextures("character").keySet())
+            atlas.addRegion(path, new TextureRegion(page));
+        TextureMap.instance().atlas(atlas);
+
+        DrawComponent draw = new DrawComponent("character/knight");
+        String frame = draw.currentAnimation().currentAnimationTexturePath();
+        assertTrue(TextureMap.instance().regionAt(frame) instanceof TextureAtlas.AtlasRegion);
+    }
+
+    @Test
+    public void packWritesAtlasWithPathsAsRegionNames() throws IOException {
+        String other = "character/knight/idle_left/knight_idle_left_2.png";
+        FileHandle cache = directory.child("textures.atlas");
+        TextureAtlasBuilder.pack(cache, List.of(KNIGHT, other));
+        assertTrue(cache.exists());
+        assertTrue(directory.child("textures_1.png").exists());
+        String atlas = cache.readString();
+        assertTrue(atlas.contains(KNIGHT));
+        assertTrue(atlas.contains(other));
+    }
+}
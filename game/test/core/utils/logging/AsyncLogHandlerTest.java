@@ -0,0 +1,164 @@
+package core.utils.logging;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+public class AsyncLogHandlerTest {
+
+    private Path file;
+    private AsyncLogHandler handler;
+
+    @Before
+    public void setup() throws IOException {
+        file = Files.createTempFile("async-log", ".log");
+        handler = new AsyncLogHandler(file, 1024);
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        handler.close();
+        Files.deleteIfExists(file);
+    }
+
+    private static LogRecord record(Level level, String message) {
+        LogRecord record = new LogRecord(level, message);
+        record.setLoggerName("test.Logger");
+        return record;
+    }
+
+    @Test
+    public void flush_writesAllRecords() throws IOException {
+        for (int i = 0; i < 500; i++) handler.publish(record(Level.INFO, "message " + i));
+        handler.flush();
+        String log = Files.readString(file);
+        assertTrue(log.contains("message 0"));
+        assertTrue(log.contains("message 499"));
+        // the logger name is used as source
+        assertTrue(log.contains("test.Logger"));
+    }
+
+    @Test
+    public void publish_doesNotChangeRecord() {
+        LogRecord record = record(Level.INFO, "message");
+        handler.publish(record);
+        handler.flush();
+        // the logger name was not set as source of the record
+        assertNotEquals("test.Logger", record.getSourceClassName());
+    }
+
+    @Test
+    public void publish_neverDropsWarnings() throws IOException {
+        handler.close();
+        handler = new AsyncLogHandler(file, 1);
+        for (int i = 0; i < 200; i++) handler.publish(record(Level.WARNING, "warning " + i));
+        handler.close();
+        assertEquals(0, handler.dropped());
+        List<String> lines = Files.readAllLines(file);
+        for (int i = 0; i < 200; i++) assertTrue(lines.contains("WARNING: warning " + i));
+    }
+
+    @Test
+    public void close_writesAllBufferedRecords() throws IOException {
+        for (int i = 0; i < 1000; i++) handler.publish(record(Level.INFO, "message " + i));
+        handler.close();
+        List<String> lines = Files.readAllLines(file);
+        for (int i = 0; i < 1000; i++) assertTrue(lines.contains("INFO: message " + i));
+    }
+
+    @Test
+    public void close_writesBufferedRecords() throws IOException {
+        handler.publish(record(Level.INFO, "last message"));
+        handler.close();
+        assertTrue(Files.readString(file).contains("last message"));
+        // records after close are ignored
+        handler.publish(record(Level.INFO, "after close"));
+        assertFalse(Files.readString(file).contains("after close"));
+    }
+
+    @Test
+    public void publish_belowLevel() throws IOException {
+        handler.setLevel(Level.WARNING);
+        handler.publish(record(Level.INFO, "skipped"));
+        handler.publish(record(Level.WARNING, "written"));
+        handler.flush();
+        List<String> lines = Files.readAllLines(file);
+        assertTrue(lines.stream().anyMatch(line -> line.contains("written")));
+        assertTrue(lines.stream().noneMatch(line -> line.contains("skipped")));
+    }
+
+    @Test
+    public void close_reportsDroppedRecords() throws IOException, InterruptedException {
+        handler.close();
+        handler = new AsyncLogHandler(file, 1);
+        CountDownLatch formatting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Formatter formatter = handler.getFormatter();
+        handler.setFormatter(
+                new Formatter() {
+                    @Override
+                    public String format(LogRecord record) {
+                        // keep the writer thread busy, so the buffer stays full
+                        formatting.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return formatter.format(record);
+                    }
+                });
+        handler.publish(record(Level.INFO, "first"));
+        formatting.await();
+        handler.publish(record(Level.INFO, "buffered"));
+        // the buffer is full, the info record is dropped after a short wait
+        handler.publish(record(Level.INFO, "dropped"));
+        handler.publish(record(Level.FINE, "dropped"));
+        assertEquals(2, handler.dropped());
+        release.countDown();
+        handler.close();
+        List<String> lines = Files.readAllLines(file);
+        assertTrue(lines.contains("INFO: first"));
+        assertTrue(lines.contains("INFO: buffered"));
+        assertTrue(lines.contains("2 log records were dropped, the log buffer was full."));
+    }
+
+    @Test
+    public void close_whilePublishing() throws IOException, InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int id = t;
+            Thread thread =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < 2000; i++)
+                                    handler.publish(record(Level.INFO, id + "-" + i));
+                            });
+            threads.add(thread);
+            thread.start();
+        }
+        handler.close();
+        for (Thread thread : threads) thread.join();
+        // each record that was accepted before the close was written
+        long written =
+                Files.readAllLines(file).stream().filter(line -> line.startsWith("INFO: ")).count();
+        assertEquals(handler.published(), written);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCapacity() throws IOException {
+        new AsyncLogHandler(file, 0);
+    }
+}
@@ -0,0 +1,46 @@
+package core.utils.logging;
+
+import static org.junit.Assert.*;
+
+import core.configuration.LoggingConfig;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class LoggerConfigTest {
+
+    @After
+    public void cleanup() {
+        LoggingConfig.LOGGER_LEVELS.value("");
+        LoggerConfig.applyLevels();
+    }
+
+    @Test
+    public void applyLevels() {
+        LoggingConfig.LOGGER_LEVELS.value("test.a=WARNING, test.b = debug");
+        LoggerConfig.applyLevels();
+        assertEquals(Level.WARNING, Logger.getLogger("test.a").getLevel());
+        assertEquals(CustomLogLevel.DEBUG, Logger.getLogger("test.b").getLevel());
+        assertFalse(Logger.getLogger("test.a").isLoggable(Level.INFO));
+    }
+
+    @Test
+    public void applyLevels_reset() {
+        LoggingConfig.LOGGER_LEVELS.value("test.c=SEVERE");
+        LoggerConfig.applyLevels();
+        LoggingConfig.LOGGER_LEVELS.value("");
+        LoggerConfig.applyLevels();
+        assertNull(Logger.getLogger("test.c").getLevel());
+    }
+
+    @Test
+    public void applyLevels_invalidEntries() {
+        LoggingConfig.LOGGER_LEVELS.value("test.d=NOT_A_LEVEL, broken, test.e=FINE");
+        LoggerConfig.applyLevels();
+        assertNull(Logger.getLogger("test.d").getLevel());
+        assertEquals(Level.FINE, Logger.getLogger("test.e").getLevel());
+    }
+}